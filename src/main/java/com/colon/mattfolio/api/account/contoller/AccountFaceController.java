@@ -0,0 +1,81 @@
+package com.colon.mattfolio.api.account.contoller;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.colon.mattfolio.api.account.dto.AccountFacePhotoResponse;
+import com.colon.mattfolio.api.account.dto.AccountFaceRegisterResponse;
+import com.colon.mattfolio.api.account.service.AccountFaceService;
+import com.colon.mattfolio.common.base.MasterController;
+import com.colon.mattfolio.common.dto.ApiResultDto;
+import com.colon.mattfolio.common.exception.PhotoException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AccountFaceController는 회원의 기준 얼굴 등록과 "내가 나온 사진" 조회를 처리하는 REST 컨트롤러입니다.
+ */
+@RequestMapping("/account/face")
+@RestController
+@RequiredArgsConstructor
+public class AccountFaceController extends MasterController {
+
+    private final AccountFaceService accountFaceService;
+
+    /**
+     * 기준 얼굴 등록 API<br/>
+     * 업로드한 사진에서 가장 큰 얼굴을 로그인한 회원의 기준 얼굴로 등록하고, 이미 업로드된 사진 중 같은 인물이 나온 사진을 태그합니다.<br/>
+     * <br/>
+     *
+     * @param file 본인 얼굴이 나온 사진 (필수)
+     * @return ApiResultDto&lt;AccountFaceRegisterResponse&gt; - 등록 결과
+     * @throws PhotoException 얼굴이 감지되지 않았거나 파일에 문제가 있는 경우 예외 발생
+     */
+    @Operation(summary = "기준 얼굴 등록", description = "본인 얼굴 사진을 기준 얼굴로 등록합니다. 이후 업로드되는 사진에 본인이 나오면 자동으로 태그됩니다.", requestBody = @RequestBody(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)))
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResultDto<AccountFaceRegisterResponse> registerFace( //
+            @Parameter(description = "본인 얼굴이 나온 사진", required = true) @RequestParam("file") MultipartFile file, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<AccountFaceRegisterResponse> apiResultVo = new ApiResultDto<>();
+        try {
+            apiResultVo.setData(accountFaceService.registerFace(Long.valueOf(user.getUsername()), file));
+        } catch (IOException e) {
+            throw new PhotoException(PhotoException.Reason.INVALID_FILE);
+        }
+        return apiResultVo;
+    }
+
+    /**
+     * 내가 나온 사진 조회 API<br/>
+     * 로그인한 회원이 나온 사진을 최근 촬영 순서로 반환합니다.<br/>
+     * 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다. (키셋 페이징)<br/>
+     * <br/>
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return ApiResultDto&lt;AccountFacePhotoResponse&gt; - 사진 목록과 다음 페이지 커서
+     */
+    @Operation(summary = "내가 나온 사진 조회", description = "기준 얼굴과 매칭된 사진을 최근 촬영 순서로 조회합니다. 다음 페이지는 nextCursor로 조회합니다.")
+    @GetMapping("/photos")
+    public ApiResultDto<AccountFacePhotoResponse> findMyPhotos( //
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(value = "cursor", required = false) String cursor, //
+            @Parameter(description = "페이지 크기") @RequestParam(value = "size", defaultValue = "50") int size, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<AccountFacePhotoResponse> apiResultVo = new ApiResultDto<>();
+        apiResultVo.setData(accountFaceService.findMyPhotos(Long.valueOf(user.getUsername()), cursor, size));
+        return apiResultVo;
+    }
+}
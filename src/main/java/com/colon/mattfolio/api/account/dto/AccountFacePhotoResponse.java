@@ -0,0 +1,26 @@
+package com.colon.mattfolio.api.account.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * "내가 나온 사진" 조회 결과 DTO (키셋 페이징)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccountFacePhotoResponse {
+
+    @Schema(description = "최근 촬영 순서의 사진 목록")
+    private List<AccountPhotoResult> photos;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "다음 페이지 조회 시 cursor 파라미터로 전달할 값 (마지막 페이지면 null)")
+    private String nextCursor;
+}
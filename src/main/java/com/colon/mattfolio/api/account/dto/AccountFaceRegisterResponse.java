@@ -0,0 +1,26 @@
+package com.colon.mattfolio.api.account.dto;
+
+import com.colon.mattfolio.common.enumType.AccountStatusType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 기준 얼굴 등록 결과 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccountFaceRegisterResponse {
+
+    @Schema(description = "등록 사진에서 감지된 얼굴 수 (가장 큰 얼굴을 기준 얼굴로 등록)")
+    private int detectedFaceCount;
+
+    @Schema(description = "기존 사진 중 새로 태그된 사진 수")
+    private int taggedPhotoCount;
+
+    @Schema(description = "등록 후 회원 상태")
+    private AccountStatusType status;
+}
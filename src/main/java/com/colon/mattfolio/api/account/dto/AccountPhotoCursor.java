@@ -0,0 +1,44 @@
+package com.colon.mattfolio.api.account.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * "내가 나온 사진" 키셋 페이징 커서 - 이전 페이지 마지막 사진의 (촬영 시각, 사진 ID)<br/>
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달하여 내부 정렬 키를 노출하지 않습니다.
+ *
+ * @param capturedAt 마지막 사진의 촬영 시각
+ * @param photoId 마지막 사진의 ID
+ */
+public record AccountPhotoCursor(LocalDateTime capturedAt, Long photoId) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 커서를 문자열로 변환합니다.
+     */
+    public String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((capturedAt + SEPARATOR + photoId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열을 커서로 변환합니다.
+     *
+     * @param cursor encode()로 만든 문자열
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static AccountPhotoCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder()
+                .decode(cursor), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            return new AccountPhotoCursor(LocalDateTime.parse(value.substring(0, separator)), Long.valueOf(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.colon.mattfolio.api.account.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * "내가 나온 사진" 한 건 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccountPhotoResult {
+
+    @Schema(description = "사진 ID")
+    private Long photoId;
+
+    @Schema(description = "촬영 시각")
+    private LocalDateTime capturedAt;
+
+    @Schema(description = "사진 URL")
+    private String fileUrl;
+
+    @Schema(description = "크기(긴 변 기준 px)별 파생 이미지 URL (예: 320 → 썸네일 URL)")
+    private Map<Integer, String> derivativeUrls;
+
+    @Schema(description = "사진 내 본인 얼굴 순번")
+    private int faceIndex;
+
+    @Schema(description = "기준 얼굴과의 유사도 (0~1)")
+    private float similarity;
+}
@@ -0,0 +1,185 @@
+package com.colon.mattfolio.api.account.service;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.colon.mattfolio.api.account.dto.AccountFacePhotoResponse;
+import com.colon.mattfolio.api.account.dto.AccountFaceRegisterResponse;
+import com.colon.mattfolio.api.account.dto.AccountPhotoCursor;
+import com.colon.mattfolio.api.account.dto.AccountPhotoResult;
+import com.colon.mattfolio.api.account.exception.AccountException;
+import com.colon.mattfolio.common.exception.ErrorCode;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.face.AccountFaceRegistry;
+import com.colon.mattfolio.common.file.FileSpoolService;
+import com.colon.mattfolio.common.file.PhotoHashIndexService;
+import com.colon.mattfolio.common.file.SpooledFile;
+import com.colon.mattfolio.database.account.entity.AccountEntity;
+import com.colon.mattfolio.database.account.entity.AccountPhotoEntity;
+import com.colon.mattfolio.database.account.repository.AccountPhotoRepository;
+import com.colon.mattfolio.database.account.repository.AccountRepository;
+import com.colon.mattfolio.external.faceApi.dto.FaceDetectionResponse;
+import com.colon.mattfolio.external.faceApi.dto.FaceRectangle;
+import com.colon.mattfolio.external.faceApi.service.FaceApiService;
+import com.colon.mattfolio.external.faceApi.service.FaceEmbeddingIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AccountFaceService는 회원의 기준 얼굴을 등록하고, 회원이 태그된 사진("내가 나온 사진")을 조회하는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 기준 얼굴이 등록되면 회원 상태가 FACE_UNIDENTIFIED에서 NORMAL로 바뀌고, 이미 업로드된 사진은 얼굴 임베딩 인덱스 검색으로 태그합니다.<br/>
+ * 이후 업로드되는 사진은 FileService에서 AccountFaceRegistry로 매칭되어 태그와 읽기 모델(MF_ACCOUNT_PHOTO)에 기록되므로, 조회는 읽기 모델의 인덱스만 읽습니다.<br/>
+ * 회원 얼굴 매칭을 사용하지 않으면(얼굴 인식 모델 미설정 등) 등록과 조회 모두 거절하여, 신뢰할 수 없는 태그가 회원에게 노출되지 않도록 합니다.
+ */
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class AccountFaceService {
+
+    private final AccountRepository accountRepository;
+
+    private final FileSpoolService fileSpoolService;
+
+    private final FaceApiService faceApiService;
+
+    private final FaceEmbeddingIndex faceEmbeddingIndex;
+
+    private final AccountFaceRegistry accountFaceRegistry;
+
+    private final AccountPhotoRepository accountPhotoRepository;
+
+    private final PhotoHashIndexService photoHashIndexService;
+
+    // 한 페이지에서 조회할 수 있는 최대 사진 수
+    @Value("${face.account.max-page-size:200}")
+    private int maxPageSize;
+
+    /**
+     * 사진에서 가장 큰 얼굴을 회원의 기준 얼굴로 등록합니다.
+     *
+     * @param accountId 회원 ID
+     * @param file 본인 얼굴이 나온 사진
+     * @return 등록 결과
+     * @throws IOException 파일 입출력 중 발생하는 예외
+     * @throws AccountException 회원이 존재하지 않는 경우
+     * @throws PhotoException 파일이 비어 있거나, 얼굴이 감지되지 않았거나, 얼굴 매칭을 사용하지 않는 경우
+     */
+    @Transactional
+    public AccountFaceRegisterResponse registerFace(Long accountId, MultipartFile file) throws IOException {
+        if (!accountFaceRegistry.isEnabled()) {
+            throw new PhotoException(PhotoException.Reason.FACE_INDEX_DISABLED);
+        }
+        if (file == null || file.isEmpty()) {
+            throw new PhotoException(PhotoException.Reason.EMPTY_FILES);
+        }
+
+        AccountEntity account = accountRepository.findById(accountId)
+            .orElseThrow(() -> new AccountException(ErrorCode.MEMBER_NOT_FOUND));
+
+        SpooledFile spooledFile = fileSpoolService.spool(file);
+        try {
+            List<FaceDetectionResponse> faceDetections = faceApiService.detectFaces(spooledFile.getContentHash(), spooledFile.getPath(), spooledFile.getSize());
+            FaceRectangle face = largestFace(faceDetections);
+            if (face == null) {
+                throw new PhotoException(PhotoException.Reason.FACE_NOT_DETECTED);
+            }
+
+            float[] feature = faceEmbeddingIndex.extract(spooledFile.getPath(), face);
+            if (feature == null) {
+                throw new PhotoException(PhotoException.Reason.UNSUPPORTED_IMAGE);
+            }
+
+            accountFaceRegistry.register(accountId, spooledFile.getContentHash(), feature);
+            account.identifyFace();
+
+            int tagged = accountFaceRegistry.backfill(accountId, feature);
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 기준 얼굴 등록 - accountId: {}, 감지 얼굴 수: {}, 태그된 사진 수: {}", accountId, faceDetections.size(), tagged);
+
+            return AccountFaceRegisterResponse.builder()
+                .detectedFaceCount(faceDetections.size())
+                .taggedPhotoCount(tagged)
+                .status(account.getStatus())
+                .build();
+        } finally {
+            spooledFile.delete();
+        }
+    }
+
+    /**
+     * 회원이 나온 사진을 최근 촬영 순서로 조회합니다. (읽기 모델 MF_ACCOUNT_PHOTO 키셋 페이징)<br/>
+     * OFFSET 없이 이전 페이지 마지막 사진 다음부터 인덱스를 읽으므로, 첫 페이지와 천 번째 페이지의 조회 비용이 같습니다.
+     *
+     * @param accountId 회원 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     * @return 사진 목록과 다음 페이지 커서
+     * @throws AccountException 커서 형식이 올바르지 않은 경우
+     * @throws PhotoException 회원 얼굴 매칭을 사용하지 않는 경우
+     */
+    public AccountFacePhotoResponse findMyPhotos(Long accountId, String cursor, int size) {
+        if (!accountFaceRegistry.isEnabled()) {
+            throw new PhotoException(PhotoException.Reason.FACE_INDEX_DISABLED);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // 다음 페이지 존재 여부를 확인하기 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<AccountPhotoEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = accountPhotoRepository.findByAccountIdOrderByCapturedAtDescPhotoIdDesc(accountId, limit);
+        } else {
+            AccountPhotoCursor after = decodeCursor(cursor);
+            rows = accountPhotoRepository.findNextPage(accountId, after.capturedAt(), after.photoId(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<AccountPhotoEntity> page = hasNext ? rows.subList(0, pageSize) : rows;
+        AccountPhotoEntity last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return AccountFacePhotoResponse.builder()
+            .photos(page.stream()
+                .map(row -> AccountPhotoResult.builder()
+                    .photoId(row.getPhotoId())
+                    .capturedAt(row.getCapturedAt())
+                    .fileUrl(row.getFileUrl())
+                    .derivativeUrls(photoHashIndexService.readDerivativeUrls(row.getPhotoId(), row.getDerivativeUrls()))
+                    .faceIndex(row.getFaceIndex())
+                    .similarity(row.getSimilarity())
+                    .build())
+                .toList())
+            .hasNext(hasNext)
+            .nextCursor(hasNext ? new AccountPhotoCursor(last.getCapturedAt(), last.getPhotoId()).encode() : null)
+            .build();
+    }
+
+    private AccountPhotoCursor decodeCursor(String cursor) {
+        try {
+            return AccountPhotoCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    private FaceRectangle largestFace(List<FaceDetectionResponse> faceDetections) {
+        if (faceDetections == null) {
+            return null;
+        }
+
+        return faceDetections.stream()
+            .map(FaceDetectionResponse::getFaceRectangle)
+            .filter(rectangle -> rectangle != null && rectangle.getWidth() > 0 && rectangle.getHeight() > 0)
+            .max(Comparator.comparingLong(rectangle -> (long) rectangle.getWidth() * rectangle.getHeight()))
+            .orElse(null);
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import com.colon.mattfolio.api.auth.dto.LoginRequest;
 import com.colon.mattfolio.api.auth.dto.LoginResponse;
@@ -17,7 +16,11 @@ import com.colon.mattfolio.common.auth.jwt.TokenProvider;
 import com.colon.mattfolio.common.auth.oauth.dto.GoogleUserInfo;
 import com.colon.mattfolio.common.enumType.AccountRoleType;
 import com.colon.mattfolio.common.enumType.AccountStatusType;
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
 import com.colon.mattfolio.common.enumType.LoginAuthProvider;
+import com.colon.mattfolio.common.http.WebClientRegistry;
+import com.colon.mattfolio.common.resilience.ResilienceRegistry;
 import com.colon.mattfolio.database.account.entity.AccountEntity;
 import com.colon.mattfolio.database.account.repository.AccountRepository;
 
@@ -28,7 +31,8 @@ import lombok.RequiredArgsConstructor;
 public class GoogleRequestService implements RequestService<GoogleUserInfo> {
     private final AccountRepository accountRepository;
     private final TokenProvider tokenProvider;
-    private final WebClient webClient;
+    private final WebClientRegistry webClientRegistry;
+    private final ResilienceRegistry resilienceRegistry;
 
     @Value("${spring.security.oauth2.client.registration.google.authorization-grant-type}")
     private String GRANT_TYPE;
@@ -102,27 +106,25 @@ public class GoogleRequestService implements RequestService<GoogleUserInfo> {
         formData.add("redirect_uri", REDIRECT_URI);
         formData.add("grant_type", GRANT_TYPE);
 
-        return webClient.mutate()
-            .baseUrl(TOKEN_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.GOOGLE, false, () -> webClientRegistry.get(ExternalApiType.GOOGLE)
             .post()
+            .uri(TOKEN_URI)
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
             .body(BodyInserters.fromFormData(formData))
             .retrieve()
             // .onStatus(HttpStatus::is4xxClientError, response -> Mono.just(new BadRequestException()))
-            .bodyToMono(RefreshTokenResponse.class)
+            .bodyToMono(RefreshTokenResponse.class))
             .block();
     }
 
     @Override
     public GoogleUserInfo getUserInfo(String accessToken) {
-        return webClient.mutate()
-            .baseUrl(USER_INFO_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.GOOGLE, true, () -> webClientRegistry.get(ExternalApiType.GOOGLE)
             .get()
+            .uri(USER_INFO_URI)
             .headers(h -> h.setBearerAuth(accessToken))
             .retrieve()
-            .bodyToMono(GoogleUserInfo.class)
+            .bodyToMono(GoogleUserInfo.class))
             .block();
     }
 
@@ -134,15 +136,14 @@ public class GoogleRequestService implements RequestService<GoogleUserInfo> {
         formData.add("client_secret", CLIENT_SECRET);
         formData.add("refresh_token", refreshToken);
 
-        return webClient.mutate()
-            .baseUrl(TOKEN_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.GOOGLE, false, () -> webClientRegistry.get(ExternalApiType.GOOGLE)
             .post()
+            .uri(TOKEN_URI)
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
             .body(BodyInserters.fromFormData(formData))
             .retrieve()
             // .onStatus(HttpStatus::is4xxClientError, response -> Mono.just(new BadRequestException()))
-            .bodyToMono(RefreshTokenResponse.class)
+            .bodyToMono(RefreshTokenResponse.class))
             .block();
     }
 }
@@ -8,7 +8,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import com.colon.mattfolio.api.auth.dto.LoginRequest;
 import com.colon.mattfolio.api.auth.dto.LoginResponse;
@@ -19,7 +18,11 @@ import com.colon.mattfolio.common.auth.oauth.dto.KakaoUserInfo.KakaoAccount;
 import com.colon.mattfolio.common.auth.oauth.dto.KakaoUserInfo.KakaoAccount.Profile;
 import com.colon.mattfolio.common.enumType.AccountRoleType;
 import com.colon.mattfolio.common.enumType.AccountStatusType;
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
 import com.colon.mattfolio.common.enumType.LoginAuthProvider;
+import com.colon.mattfolio.common.http.WebClientRegistry;
+import com.colon.mattfolio.common.resilience.ResilienceRegistry;
 import com.colon.mattfolio.database.account.entity.AccountEntity;
 import com.colon.mattfolio.database.account.repository.AccountRepository;
 
@@ -30,7 +33,8 @@ import lombok.RequiredArgsConstructor;
 public class KakaoRequestService implements RequestService<KakaoUserInfo> {
     private final AccountRepository accountRepository;
     private final TokenProvider tokenProvider;
-    private final WebClient webClient;
+    private final WebClientRegistry webClientRegistry;
+    private final ResilienceRegistry resilienceRegistry;
 
     @Value("${spring.security.oauth2.client.registration.kakao.authorization-grant-type}")
     private String GRANT_TYPE;
@@ -109,29 +113,27 @@ public class KakaoRequestService implements RequestService<KakaoUserInfo> {
         formData.add("client_secret", CLIENT_SECRET);
         formData.add("code", loginRequest.getCode());
 
-        return webClient.mutate()
-            .baseUrl(TOKEN_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.KAKAO, false, () -> webClientRegistry.get(ExternalApiType.KAKAO)
             .post()
+            .uri(TOKEN_URI)
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
             .body(BodyInserters.fromFormData(formData))
             .retrieve()
             // .onStatus(HttpStatus::is4xxClientError, response -> Mono.just(new
             // BadRequestException()))
-            .bodyToMono(RefreshTokenResponse.class)
+            .bodyToMono(RefreshTokenResponse.class))
             .block();
     }
 
     @Override
     public KakaoUserInfo getUserInfo(String accessToken) {
-        return webClient.mutate()
-            .baseUrl(USER_INFO_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.KAKAO, true, () -> webClientRegistry.get(ExternalApiType.KAKAO)
             .get()
+            .uri(USER_INFO_URI)
             // .uri("/v2/user/me")
             .headers(h -> h.setBearerAuth(accessToken))
             .retrieve()
-            .bodyToMono(KakaoUserInfo.class)
+            .bodyToMono(KakaoUserInfo.class))
             .block();
     }
 
@@ -143,17 +145,16 @@ public class KakaoRequestService implements RequestService<KakaoUserInfo> {
         formData.add("client_secret", CLIENT_SECRET);
         formData.add("refresh_token", refreshToken);
 
-        return webClient.mutate()
-            .baseUrl(TOKEN_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.KAKAO, false, () -> webClientRegistry.get(ExternalApiType.KAKAO)
             .post()
+            .uri(TOKEN_URI)
             // .uri("/oauth/token")
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
             .body(BodyInserters.fromFormData(formData))
             .retrieve()
             // .onStatus(HttpStatus::is4xxClientError, response -> Mono.just(new
             // BadRequestException()))
-            .bodyToMono(RefreshTokenResponse.class)
+            .bodyToMono(RefreshTokenResponse.class))
             .block();
     }
 }
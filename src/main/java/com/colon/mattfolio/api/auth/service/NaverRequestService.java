@@ -8,7 +8,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import com.colon.mattfolio.api.auth.dto.LoginRequest;
 import com.colon.mattfolio.api.auth.dto.LoginResponse;
@@ -18,7 +17,11 @@ import com.colon.mattfolio.common.auth.oauth.dto.NaverUserInfo;
 import com.colon.mattfolio.common.auth.oauth.dto.NaverUserInfo.NaverAccount;
 import com.colon.mattfolio.common.enumType.AccountRoleType;
 import com.colon.mattfolio.common.enumType.AccountStatusType;
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
 import com.colon.mattfolio.common.enumType.LoginAuthProvider;
+import com.colon.mattfolio.common.http.WebClientRegistry;
+import com.colon.mattfolio.common.resilience.ResilienceRegistry;
 import com.colon.mattfolio.database.account.entity.AccountEntity;
 import com.colon.mattfolio.database.account.repository.AccountRepository;
 
@@ -29,7 +32,8 @@ import lombok.RequiredArgsConstructor;
 public class NaverRequestService implements RequestService<NaverUserInfo> {
     private final AccountRepository accountRepository;
     private final TokenProvider tokenProvider;
-    private final WebClient webClient;
+    private final WebClientRegistry webClientRegistry;
+    private final ResilienceRegistry resilienceRegistry;
 
     @Value("${spring.security.oauth2.client.registration.naver.authorization-grant-type}")
     private String GRANT_TYPE;
@@ -101,27 +105,25 @@ public class NaverRequestService implements RequestService<NaverUserInfo> {
         formData.add("code", loginRequest.getCode());
         formData.add("state", loginRequest.getState());
 
-        return webClient.mutate()
-            .baseUrl(TOKEN_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.NAVER, false, () -> webClientRegistry.get(ExternalApiType.NAVER)
             .post()
+            .uri(TOKEN_URI)
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
             .body(BodyInserters.fromFormData(formData))
             .retrieve()
             // .onStatus(HttpStatus::is4xxClientError, response -> Mono.just(new BadRequestException()))
-            .bodyToMono(RefreshTokenResponse.class)
+            .bodyToMono(RefreshTokenResponse.class))
             .block();
     }
 
     @Override
     public NaverUserInfo getUserInfo(String accessToken) {
-        return webClient.mutate()
-            .baseUrl(USER_INFO_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.NAVER, true, () -> webClientRegistry.get(ExternalApiType.NAVER)
             .get()
+            .uri(USER_INFO_URI)
             .headers(h -> h.setBearerAuth(accessToken))
             .retrieve()
-            .bodyToMono(NaverUserInfo.class)
+            .bodyToMono(NaverUserInfo.class))
             .block();
     }
 
@@ -132,15 +134,14 @@ public class NaverRequestService implements RequestService<NaverUserInfo> {
         formData.add("client_id", CLIENT_ID);
         formData.add("refresh_token", refreshToken);
 
-        return webClient.mutate()
-            .baseUrl(TOKEN_URI)
-            .build()
+        return resilienceRegistry.decorate(ExternalDependencyType.NAVER, false, () -> webClientRegistry.get(ExternalApiType.NAVER)
             .post()
+            .uri(TOKEN_URI)
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
             .body(BodyInserters.fromFormData(formData))
             .retrieve()
             // .onStatus(HttpStatus::is4xxClientError, response -> Mono.just(new BadRequestException()))
-            .bodyToMono(RefreshTokenResponse.class)
+            .bodyToMono(RefreshTokenResponse.class))
             .block();
     }
 }
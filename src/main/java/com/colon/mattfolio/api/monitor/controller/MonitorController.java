@@ -0,0 +1,42 @@
+package com.colon.mattfolio.api.monitor.controller;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.colon.mattfolio.api.monitor.dto.MonitorSnapshot;
+import com.colon.mattfolio.api.monitor.service.MonitorService;
+import com.colon.mattfolio.common.base.MasterController;
+import com.colon.mattfolio.common.dto.ApiResultDto;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MonitorController는 운영 지표(커넥션 풀 등)를 조회하는 REST 컨트롤러입니다.<br/>
+ * 내부 구성과 부하 상태가 드러나므로 ADMIN 권한이 있는 사용자만 호출할 수 있습니다. (SecurityConfig)
+ */
+@RestController
+@RequestMapping("/monitor")
+@RequiredArgsConstructor
+public class MonitorController extends MasterController {
+
+    private final MonitorService monitorService;
+
+    /**
+     * 운영 지표 스냅샷 조회 API<br/>
+     * 커넥션 풀, 장애 격리, Face API Rate Limiter, 얼굴 감지 캐시, 얼굴 임베딩 인덱스, 얼굴 클러스터링, 회원 얼굴 레지스트리,<br/>
+     * 사진 디스크 캐시, 사진 처리 파이프라인, 업로드 유입 제어, 업로드 멱등 키 상태를 한 번에 반환합니다.
+     *
+     * @return ApiResultDto&lt;MonitorSnapshot&gt; - 운영 지표 스냅샷
+     */
+    @Operation(summary = "운영 지표 스냅샷 조회", description = "구성 요소별 운영 지표를 한 번에 조회합니다. (ADMIN 권한 필요)")
+    @GetMapping
+    public ApiResultDto<MonitorSnapshot> findSnapshot() {
+        ApiResultDto<MonitorSnapshot> apiResultVo = new ApiResultDto<>();
+
+        apiResultVo.setData(monitorService.findSnapshot());
+
+        return apiResultVo;
+    }
+}
@@ -0,0 +1,66 @@
+package com.colon.mattfolio.api.monitor.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.colon.mattfolio.common.admission.UploadAdmissionStats;
+import com.colon.mattfolio.common.face.AccountFaceRegistryStats;
+import com.colon.mattfolio.common.face.FaceClusterStats;
+import com.colon.mattfolio.common.http.HttpClientPoolStats;
+import com.colon.mattfolio.common.idempotency.IdempotencyStats;
+import com.colon.mattfolio.common.pipeline.PipelineStageStats;
+import com.colon.mattfolio.common.resilience.ResilienceStats;
+import com.colon.mattfolio.common.storage.PhotoDiskCacheStats;
+import com.colon.mattfolio.external.faceApi.dto.FaceApiRateLimiterStats;
+import com.colon.mattfolio.external.faceApi.dto.FaceDetectionCacheStats;
+import com.colon.mattfolio.external.faceApi.dto.FaceEmbeddingIndexStats;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 운영 지표 스냅샷 DTO - 구성 요소별 상태를 한 번에 조회
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class MonitorSnapshot {
+
+    @Schema(description = "수집 일시")
+    private LocalDateTime collectedDate;
+
+    @Schema(description = "외부 API 호출 대상별 커넥션 풀 상태")
+    private List<HttpClientPoolStats> httpClientPools;
+
+    @Schema(description = "외부 의존 서비스별 장애 격리(Circuit Breaker, Bulkhead, 재시도) 상태")
+    private List<ResilienceStats> resilience;
+
+    @Schema(description = "Face API Rate Limiter 상태")
+    private FaceApiRateLimiterStats faceApiRateLimiter;
+
+    @Schema(description = "얼굴 감지 결과 캐시 상태")
+    private FaceDetectionCacheStats faceDetectionCache;
+
+    @Schema(description = "얼굴 임베딩 인덱스 상태")
+    private FaceEmbeddingIndexStats faceEmbeddingIndex;
+
+    @Schema(description = "증분 얼굴 클러스터링 상태")
+    private FaceClusterStats faceCluster;
+
+    @Schema(description = "회원 얼굴 레지스트리 상태")
+    private AccountFaceRegistryStats accountFace;
+
+    @Schema(description = "사진 디스크 캐시 상태")
+    private PhotoDiskCacheStats photoDiskCache;
+
+    @Schema(description = "사진 처리 파이프라인 단계별 상태 (단계 순서)")
+    private List<PipelineStageStats> photoPipeline;
+
+    @Schema(description = "업로드 유입 제어(바이트 예산) 상태")
+    private UploadAdmissionStats uploadAdmission;
+
+    @Schema(description = "업로드 멱등 키 저장소 상태")
+    private IdempotencyStats idempotency;
+}
@@ -0,0 +1,72 @@
+package com.colon.mattfolio.api.monitor.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+
+import com.colon.mattfolio.api.monitor.dto.MonitorSnapshot;
+import com.colon.mattfolio.common.admission.UploadAdmissionFilter;
+import com.colon.mattfolio.common.face.AccountFaceRegistry;
+import com.colon.mattfolio.common.face.FaceClusterService;
+import com.colon.mattfolio.common.file.PhotoProcessingStages;
+import com.colon.mattfolio.common.http.WebClientRegistry;
+import com.colon.mattfolio.common.idempotency.IdempotencyStore;
+import com.colon.mattfolio.common.resilience.ResilienceRegistry;
+import com.colon.mattfolio.common.storage.PhotoDiskCache;
+import com.colon.mattfolio.external.faceApi.service.FaceApiRateLimiter;
+import com.colon.mattfolio.external.faceApi.service.FaceDetectionCache;
+import com.colon.mattfolio.external.faceApi.service.FaceEmbeddingIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MonitorService는 운영 중인 구성 요소들의 상태 지표를 수집하는 서비스 클래스입니다.
+ */
+@RequiredArgsConstructor
+@Service
+public class MonitorService {
+
+    private final WebClientRegistry webClientRegistry;
+
+    private final FaceDetectionCache faceDetectionCache;
+
+    private final PhotoDiskCache photoDiskCache;
+
+    private final FaceApiRateLimiter faceApiRateLimiter;
+
+    private final ResilienceRegistry resilienceRegistry;
+
+    private final FaceEmbeddingIndex faceEmbeddingIndex;
+
+    private final FaceClusterService faceClusterService;
+
+    private final AccountFaceRegistry accountFaceRegistry;
+
+    private final PhotoProcessingStages photoProcessingStages;
+
+    private final UploadAdmissionFilter uploadAdmissionFilter;
+
+    private final IdempotencyStore idempotencyStore;
+
+    /**
+     * 구성 요소별 운영 지표를 한 번에 수집합니다.
+     *
+     * @return 운영 지표 스냅샷
+     */
+    public MonitorSnapshot findSnapshot() {
+        return MonitorSnapshot.builder()
+            .collectedDate(LocalDateTime.now())
+            .httpClientPools(webClientRegistry.getPoolStats())
+            .resilience(resilienceRegistry.getStats())
+            .faceApiRateLimiter(faceApiRateLimiter.getStats())
+            .faceDetectionCache(faceDetectionCache.getStats())
+            .faceEmbeddingIndex(faceEmbeddingIndex.getStats())
+            .faceCluster(faceClusterService.getStats())
+            .accountFace(accountFaceRegistry.getStats())
+            .photoDiskCache(photoDiskCache.getStats())
+            .photoPipeline(photoProcessingStages.getStats())
+            .uploadAdmission(uploadAdmissionFilter.getStats())
+            .idempotency(idempotencyStore.getStats())
+            .build();
+    }
+}
@@ -1,24 +1,40 @@
 package com.colon.mattfolio.api.photo.controller;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.colon.mattfolio.api.photo.dto.PhotoUploadJobResponse;
+import com.colon.mattfolio.api.photo.dto.PhotoUploadResponse;
 import com.colon.mattfolio.api.photo.service.PhotoService;
+import com.colon.mattfolio.api.photo.service.PhotoUploadJobService;
+import com.colon.mattfolio.common.admission.AdmissionReservation;
 import com.colon.mattfolio.common.base.MasterController;
 import com.colon.mattfolio.common.dto.ApiResultDto;
 import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.idempotency.IdempotencyStore;
+import com.colon.mattfolio.util.ContentHashUtil;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,21 +43,34 @@ import lombok.extern.slf4j.Slf4j;
  * <br/>
  * 주요 기능:<br/>
  * - 업로드된 파일들을 동기적으로 처리하여 결과를 반환<br/>
- * - 업로드 테스트를 통해 동기 처리 지연을 시뮬레이션함
+ * - 업로드된 파일들을 병렬로 처리하여 파일별 결과를 반환<br/>
+ * - 업로드된 파일들을 비동기 작업으로 접수하고 진행 상태를 조회<br/>
+ * - 업로드 테스트를 통해 동기 처리 지연을 시뮬레이션함<br/>
+ * <br/>
+ * 업로드 API는 Idempotency-Key 헤더를 받으며, 같은 키로 재시도하면 다시 처리하지 않고 처음 요청의 결과를 반환합니다.
  */
 @RestController("/api/photo")
 @RequiredArgsConstructor
 @Slf4j
 public class PhotoController extends MasterController {
 
+    // 재시도 판별용 멱등 키 헤더
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final PhotoService photoService;
 
+    private final PhotoUploadJobService photoUploadJobService;
+
+    private final IdempotencyStore idempotencyStore;
+
     /**
      * 회원 사진 파일 업로드 API<br/>
      * 업로드된 파일들을 동기적으로 처리하여 결과가 완료된 후 응답을 반환합니다.<br/>
+     * 같은 Idempotency-Key로 재시도하면 처리 중인 요청의 완료를 기다리거나 보관된 결과를 반환합니다.<br/>
      * <br/>
      * 
      * @param files 업로드할 MultipartFile 배열 (필수)
+     * @param idempotencyKey 재시도 판별용 멱등 키 (선택, 로그인한 요청에서만 사용 가능)
      * @return ApiResultDto&lt;String&gt; - 업로드 결과에 대한 응답 객체
      * @throws PhotoException 파일 업로드 중 오류 발생 시 예외 발생
      */
@@ -49,17 +78,118 @@ public class PhotoController extends MasterController {
     @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ApiResultDto<String> uploadFiles( //
             @Parameter(description = "업로드할 파일들", required = true) @RequestParam("files") MultipartFile[] files, //
+            @Parameter(description = "재시도 판별용 멱등 키") @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, //
             @AuthenticationPrincipal UserDetails user) {
         ApiResultDto<String> apiResultVo = new ApiResultDto<>();
         try {
             // 동기 방식으로 파일 업로드 및 처리를 수행합니다.
-            photoService.uploadFiles(files);
+            idempotencyStore.execute(idempotencyScope(user, "upload"), idempotencyKey, () -> fingerprint(files), () -> {
+                photoService.uploadFiles(files);
+                return Boolean.TRUE;
+            });
         } catch (IOException e) {
             throw new PhotoException(PhotoException.Reason.INVALID_FILE);
         }
         return apiResultVo;
     }
 
+    /**
+     * 회원 사진 파일 병렬 업로드 API<br/>
+     * 업로드된 파일들을 전용 Executor에서 병렬로 처리하며, 전체 및 요청 단위 동시 처리 수가 제한됩니다.<br/>
+     * 일부 파일이 실패하더라도 나머지 파일은 계속 처리되며, 파일별 결과를 반환합니다.<br/>
+     * 같은 Idempotency-Key로 재시도하면 처음 요청의 파일별 결과를 그대로 반환합니다.<br/>
+     * <br/>
+     *
+     * @param files 업로드할 MultipartFile 배열 (필수)
+     * @param idempotencyKey 재시도 판별용 멱등 키 (선택, 로그인한 요청에서만 사용 가능)
+     * @return ApiResultDto&lt;PhotoUploadResponse&gt; - 파일별 업로드 결과를 포함한 응답 객체
+     * @throws PhotoException 업로드할 파일이 없는 경우 예외 발생
+     */
+    @Operation(summary = "회원 사진 파일 병렬 업로드", description = "회원 사진 파일들을 병렬로 업로드합니다. 파일별 성공/실패 결과를 반환합니다.", requestBody = @RequestBody(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)))
+    @PostMapping(value = "/upload/parallel", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResultDto<PhotoUploadResponse> uploadFilesParallel( //
+            @Parameter(description = "업로드할 파일들", required = true) @RequestParam("files") MultipartFile[] files, //
+            @Parameter(description = "재시도 판별용 멱등 키") @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<PhotoUploadResponse> apiResultVo = new ApiResultDto<>();
+
+        PhotoUploadResponse result;
+        try {
+            // 병렬 방식으로 파일 업로드 및 처리를 수행합니다.
+            result = idempotencyStore.execute(idempotencyScope(user, "upload-parallel"), idempotencyKey, () -> fingerprint(files), () -> photoService.uploadFilesParallel(files));
+        } catch (IOException e) {
+            throw new PhotoException(PhotoException.Reason.INVALID_FILE);
+        }
+        apiResultVo.setData(result);
+
+        return apiResultVo;
+    }
+
+    /**
+     * 회원 사진 파일 비동기 업로드 API<br/>
+     * 업로드된 파일들을 임시 저장한 뒤 작업 ID를 즉시 반환(202 Accepted)하고, 실제 처리는 백그라운드에서 수행합니다.<br/>
+     * 처리 상태는 Location 헤더의 작업 조회 API로 확인할 수 있습니다.<br/>
+     * 인증 없이 접수한 작업은 접수자를 구분할 수 없어 조회할 수 없으므로, 접수 결과만 반환하고 Location 헤더를 내려주지 않습니다.<br/>
+     * 같은 Idempotency-Key로 재시도하면 새 작업을 만들지 않고 처음 접수된 작업의 현재 상태를 반환합니다.<br/>
+     * 업로드 유입 예산은 응답 후에도 작업이 끝날 때까지 유지됩니다.<br/>
+     * <br/>
+     *
+     * @param files 업로드할 MultipartFile 배열 (필수)
+     * @param idempotencyKey 재시도 판별용 멱등 키 (선택, 로그인한 요청에서만 사용 가능)
+     * @return ApiResultDto&lt;PhotoUploadJobResponse&gt; - 접수된 업로드 작업 정보
+     * @throws PhotoException 파일 임시 저장 중 오류 발생 시 예외 발생
+     */
+    @Operation(summary = "회원 사진 파일 비동기 업로드", description = "회원 사진 파일들을 비동기 작업으로 접수하고 작업 ID를 즉시 반환합니다.", requestBody = @RequestBody(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)))
+    @PostMapping(value = "/upload/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResultDto<PhotoUploadJobResponse>> submitUploadJob( //
+            @Parameter(description = "업로드할 파일들", required = true) @RequestParam("files") MultipartFile[] files, //
+            @Parameter(description = "재시도 판별용 멱등 키") @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey, //
+            @AuthenticationPrincipal UserDetails user, HttpServletRequest request) {
+        ApiResultDto<PhotoUploadJobResponse> apiResultVo = new ApiResultDto<>();
+
+        PhotoUploadJobResponse result;
+        try {
+            if (user == null) {
+                // 인증 없는 요청은 작업을 조회할 수 없으므로 접수 결과를 그대로 반환 (멱등 키를 보낸 경우 거절됨)
+                result = idempotencyStore.execute(null, idempotencyKey, () -> fingerprint(files), () -> photoUploadJobService.submit(files, null, AdmissionReservation.handOff(request)));
+            } else {
+                // 파일을 임시 저장하고 비동기 작업으로 접수합니다. (재시도는 처음 접수된 작업 ID를 받음)
+                // 유입 예산 예약은 새 작업을 접수하는 경우에만 작업으로 넘김
+                String jobId = idempotencyStore.execute(idempotencyScope(user, "upload-job"), idempotencyKey, () -> fingerprint(files), () -> photoUploadJobService
+                    .submit(files, requesterId(user), AdmissionReservation.handOff(request))
+                    .getJobId());
+                result = photoUploadJobService.findJob(jobId, requesterId(user));
+            }
+        } catch (IOException e) {
+            throw new PhotoException(PhotoException.Reason.INVALID_FILE);
+        }
+        apiResultVo.setData(result);
+
+        return accepted(result, user).body(apiResultVo);
+    }
+
+    /**
+     * 비동기 업로드 작업 상태 조회 API<br/>
+     * 작업의 전체 진행률과 파일별 처리 상태 및 결과 URL을 반환합니다.<br/>
+     * 작업을 접수한 회원만 조회할 수 있으며, 다른 회원의 작업과 인증 없이 접수된 작업은 없는 작업으로 응답합니다.<br/>
+     * <br/>
+     *
+     * @param jobId 업로드 작업 ID
+     * @return ApiResultDto&lt;PhotoUploadJobResponse&gt; - 업로드 작업 진행 상태
+     * @throws PhotoException 작업이 존재하지 않거나, 만료되었거나, 요청자의 작업이 아닌 경우 예외 발생
+     */
+    @Operation(summary = "비동기 업로드 작업 상태 조회", description = "비동기 업로드 작업의 진행 상태와 파일별 결과를 조회합니다.")
+    @GetMapping(value = "/upload/jobs/{jobId}")
+    public ApiResultDto<PhotoUploadJobResponse> findUploadJob( //
+            @Parameter(description = "업로드 작업 ID", required = true) @PathVariable("jobId") String jobId, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<PhotoUploadJobResponse> apiResultVo = new ApiResultDto<>();
+
+        apiResultVo.setData(photoUploadJobService.findJob(jobId, requesterId(user)));
+
+        return apiResultVo;
+    }
+
     /**
      * 업로드 테스트 API<br/>
      * 동기 방식으로 5초 지연을 시뮬레이션하여 업로드 테스트를 수행합니다.<br/>
@@ -81,4 +211,57 @@ public class PhotoController extends MasterController {
         }
         return apiResultVo;
     }
+
+    /**
+     * 작업 접수 응답(202 Accepted)을 만듭니다. 작업 조회 API의 Location 헤더는 작업을 조회할 수 있는 회원에게만 내려줍니다.
+     */
+    private ResponseEntity.BodyBuilder accepted(PhotoUploadJobResponse result, UserDetails user) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.accepted();
+        if (user != null) {
+            builder.location(URI.create("/upload/jobs/" + result.getJobId()));
+        }
+        return builder;
+    }
+
+    /**
+     * 요청자 회원 ID를 반환합니다. (인증 없는 요청이면 null)
+     */
+    private String requesterId(UserDetails user) {
+        return user == null ? null : user.getUsername();
+    }
+
+    /**
+     * 멱등 키를 구분할 범위를 만듭니다. (요청자별, API별로 구분)<br/>
+     * 인증 없는 요청은 요청자를 구분할 수 없으므로 null을 반환하며, 이 경우 멱등 키를 보낸 요청은 거절됩니다.
+     */
+    private String idempotencyScope(UserDetails user, String operation) {
+        return user == null ? null : user.getUsername() + ":" + operation;
+    }
+
+    /**
+     * 같은 멱등 키로 다른 파일을 올렸는지 판별하기 위한 요청 지문을 만듭니다. (파일 이름, 크기, 형식, 내용 해시)<br/>
+     * 이름과 크기가 같은 다른 파일을 재시도로 오인하지 않도록 내용의 SHA-256 해시를 포함합니다.
+     */
+    private String fingerprint(MultipartFile[] files) throws IOException {
+        if (files == null) {
+            return "";
+        }
+
+        StringBuilder fingerprint = new StringBuilder();
+        for (MultipartFile file : files) {
+            MessageDigest digest = ContentHashUtil.newDigest();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            fingerprint.append(file.getOriginalFilename())
+                .append('|')
+                .append(file.getSize())
+                .append('|')
+                .append(file.getContentType())
+                .append('|')
+                .append(ContentHashUtil.toHex(digest.digest()))
+                .append('\n');
+        }
+        return fingerprint.toString();
+    }
 }
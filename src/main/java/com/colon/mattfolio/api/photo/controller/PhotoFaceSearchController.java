@@ -0,0 +1,58 @@
+package com.colon.mattfolio.api.photo.controller;
+
+import java.io.IOException;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.colon.mattfolio.api.photo.dto.PhotoFaceSearchResponse;
+import com.colon.mattfolio.api.photo.service.PhotoFaceSearchService;
+import com.colon.mattfolio.common.base.MasterController;
+import com.colon.mattfolio.common.dto.ApiResultDto;
+import com.colon.mattfolio.common.exception.PhotoException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PhotoFaceSearchController는 본인 얼굴 사진으로 같은 인물이 나온 사진을 찾는("내 사진 찾기") REST 컨트롤러입니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class PhotoFaceSearchController extends MasterController {
+
+    private final PhotoFaceSearchService photoFaceSearchService;
+
+    /**
+     * 얼굴로 사진 찾기 API<br/>
+     * 업로드한 사진에서 가장 큰 얼굴을 기준으로, 같은 인물로 보이는 얼굴이 있는 사진을 유사도 순으로 반환합니다.<br/>
+     * <br/>
+     *
+     * @param file 본인 얼굴이 나온 사진 (필수)
+     * @param limit 반환할 최대 사진 수
+     * @return ApiResultDto&lt;PhotoFaceSearchResponse&gt; - 유사도 순 사진 목록
+     * @throws PhotoException 얼굴이 감지되지 않았거나 파일에 문제가 있는 경우 예외 발생
+     */
+    @Operation(summary = "얼굴로 사진 찾기", description = "본인 얼굴 사진과 같은 인물이 나온 사진을 얼굴 임베딩 인덱스에서 찾습니다.", requestBody = @RequestBody(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE)))
+    @PostMapping(value = "/search/face", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResultDto<PhotoFaceSearchResponse> searchByFace( //
+            @Parameter(description = "본인 얼굴이 나온 사진", required = true) @RequestParam("file") MultipartFile file, //
+            @Parameter(description = "반환할 최대 사진 수") @RequestParam(value = "limit", defaultValue = "50") int limit, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<PhotoFaceSearchResponse> apiResultVo = new ApiResultDto<>();
+        try {
+            apiResultVo.setData(photoFaceSearchService.search(file, limit));
+        } catch (IOException e) {
+            throw new PhotoException(PhotoException.Reason.INVALID_FILE);
+        }
+        return apiResultVo;
+    }
+}
@@ -0,0 +1,187 @@
+package com.colon.mattfolio.api.photo.controller;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.colon.mattfolio.api.photo.dto.PhotoUploadJobResponse;
+import com.colon.mattfolio.api.photo.dto.PhotoUploadSessionCreateRequest;
+import com.colon.mattfolio.api.photo.dto.PhotoUploadSessionResponse;
+import com.colon.mattfolio.api.photo.service.PhotoUploadSessionService;
+import com.colon.mattfolio.common.base.MasterController;
+import com.colon.mattfolio.common.dto.ApiResultDto;
+import com.colon.mattfolio.common.exception.PhotoException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PhotoUploadSessionController는 대용량 사진의 분할(재개 가능) 업로드를 제공하는 REST 컨트롤러입니다.<br/>
+ * <br/>
+ * 업로드 순서:<br/>
+ * 1. 세션 생성 (POST /upload/sessions) - 파일명, 전체 크기, 전체 해시(선택)<br/>
+ * 2. 청크 전송 (PUT /upload/sessions/{sessionId}/chunks?offset=) - 순서 무관, 체크섬(X-Chunk-Checksum, 선택)<br/>
+ * 3. 연결이 끊긴 경우 수신 구간 조회 (GET /upload/sessions/{sessionId}) 후 누락 구간만 다시 전송<br/>
+ * 4. 완료 (POST /upload/sessions/{sessionId}/complete) - 비동기 업로드 작업으로 접수되며 작업 조회 API로 결과 확인<br/>
+ * <br/>
+ * 모든 API는 로그인이 필요하며(SecurityConfig), 세션을 생성한 회원만 해당 세션을 사용할 수 있습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class PhotoUploadSessionController extends MasterController {
+
+    // 청크 SHA-256 체크섬 헤더
+    private static final String CHUNK_CHECKSUM_HEADER = "X-Chunk-Checksum";
+
+    private final PhotoUploadSessionService photoUploadSessionService;
+
+    /**
+     * 분할 업로드 세션 생성 API<br/>
+     * <br/>
+     *
+     * @param request 세션 생성 요청
+     * @return ApiResultDto&lt;PhotoUploadSessionResponse&gt; - 생성된 세션 정보 (청크 최대 크기 포함)
+     * @throws PhotoException 파일 크기가 허용 범위를 벗어나거나 열린 세션 한도를 넘는 경우 예외 발생
+     */
+    @Operation(summary = "분할 업로드 세션 생성", description = "대용량 사진을 여러 청크로 나누어 업로드하기 위한 세션을 생성합니다.")
+    @PostMapping("/upload/sessions")
+    public ResponseEntity<ApiResultDto<PhotoUploadSessionResponse>> createSession(@RequestBody @Validated PhotoUploadSessionCreateRequest request, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<PhotoUploadSessionResponse> apiResultVo = new ApiResultDto<>();
+
+        PhotoUploadSessionResponse result;
+        try {
+            result = photoUploadSessionService.create(request, requesterId(user));
+        } catch (IOException e) {
+            throw new PhotoException(PhotoException.Reason.INVALID_FILE);
+        }
+        apiResultVo.setData(result);
+
+        return ResponseEntity.created(URI.create("/upload/sessions/" + result.getSessionId()))
+            .body(apiResultVo);
+    }
+
+    /**
+     * 분할 업로드 청크 전송 API<br/>
+     * 요청 본문(application/octet-stream)을 검증한 뒤 offset 위치부터 기록합니다. 이미 수신된 구간과 겹치는 청크는 거절합니다.<br/>
+     * <br/>
+     *
+     * @param sessionId 업로드 세션 ID
+     * @param offset 청크 시작 위치 (byte)
+     * @param checksum 청크의 SHA-256 해시 (16진수, 선택)
+     * @return ApiResultDto&lt;PhotoUploadSessionResponse&gt; - 세션 진행 상태
+     * @throws PhotoException 세션이 없거나 청크가 올바르지 않은 경우 예외 발생
+     */
+    @Operation(summary = "분할 업로드 청크 전송", description = "청크 데이터를 지정한 위치에 기록합니다. X-Chunk-Checksum 헤더로 SHA-256 체크섬을 검증할 수 있으며, 이미 수신된 구간과 겹치는 청크는 거절합니다.")
+    @PutMapping(value = "/upload/sessions/{sessionId}/chunks", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ApiResultDto<PhotoUploadSessionResponse> uploadChunk( //
+            @Parameter(description = "업로드 세션 ID", required = true) @PathVariable("sessionId") String sessionId, //
+            @Parameter(description = "청크 시작 위치 (byte)", required = true) @RequestParam("offset") long offset, //
+            @Parameter(description = "청크의 SHA-256 해시 (16진수)") @RequestHeader(value = CHUNK_CHECKSUM_HEADER, required = false) String checksum, //
+            @AuthenticationPrincipal UserDetails user, HttpServletRequest request) {
+        ApiResultDto<PhotoUploadSessionResponse> apiResultVo = new ApiResultDto<>();
+
+        try {
+            apiResultVo.setData(photoUploadSessionService.writeChunk(sessionId, requesterId(user), offset, request.getInputStream(), checksum));
+        } catch (IOException e) {
+            throw new PhotoException(PhotoException.Reason.INVALID_CHUNK);
+        }
+
+        return apiResultVo;
+    }
+
+    /**
+     * 분할 업로드 세션 상태 조회 API<br/>
+     * 수신이 완료된 구간 목록을 반환하며, 클라이언트는 누락된 구간만 다시 전송합니다.<br/>
+     * <br/>
+     *
+     * @param sessionId 업로드 세션 ID
+     * @return ApiResultDto&lt;PhotoUploadSessionResponse&gt; - 세션 진행 상태
+     * @throws PhotoException 세션이 존재하지 않거나, 만료되었거나, 요청자가 생성한 세션이 아닌 경우 예외 발생
+     */
+    @Operation(summary = "분할 업로드 세션 상태 조회", description = "수신이 완료된 구간 목록을 조회합니다.")
+    @GetMapping("/upload/sessions/{sessionId}")
+    public ApiResultDto<PhotoUploadSessionResponse> findSession( //
+            @Parameter(description = "업로드 세션 ID", required = true) @PathVariable("sessionId") String sessionId, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<PhotoUploadSessionResponse> apiResultVo = new ApiResultDto<>();
+
+        apiResultVo.setData(photoUploadSessionService.findSession(sessionId, requesterId(user)));
+
+        return apiResultVo;
+    }
+
+    /**
+     * 분할 업로드 완료 API<br/>
+     * 조립된 파일을 비동기 업로드 작업으로 접수(202 Accepted)하며, 처리 상태는 Location 헤더의 작업 조회 API로 확인합니다.<br/>
+     * 작업은 세션을 생성한 회원의 작업으로 접수되어, 같은 회원만 조회할 수 있습니다.<br/>
+     * <br/>
+     *
+     * @param sessionId 업로드 세션 ID
+     * @return ApiResultDto&lt;PhotoUploadJobResponse&gt; - 접수된 업로드 작업 정보
+     * @throws PhotoException 요청자의 세션이 아니거나, 수신되지 않은 구간이 있거나, 전체 해시가 일치하지 않는 경우 예외 발생
+     */
+    @Operation(summary = "분할 업로드 완료", description = "모든 청크가 수신된 파일을 비동기 업로드 작업으로 접수합니다.")
+    @PostMapping("/upload/sessions/{sessionId}/complete")
+    public ResponseEntity<ApiResultDto<PhotoUploadJobResponse>> completeSession( //
+            @Parameter(description = "업로드 세션 ID", required = true) @PathVariable("sessionId") String sessionId, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<PhotoUploadJobResponse> apiResultVo = new ApiResultDto<>();
+
+        PhotoUploadJobResponse result;
+        try {
+            result = photoUploadSessionService.complete(sessionId, requesterId(user));
+        } catch (IOException e) {
+            throw new PhotoException(PhotoException.Reason.INVALID_FILE);
+        }
+        apiResultVo.setData(result);
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/upload/jobs/" + result.getJobId()))
+            .body(apiResultVo);
+    }
+
+    /**
+     * 분할 업로드 취소 API<br/>
+     * 세션과 지금까지 수신된 데이터를 삭제합니다.<br/>
+     * <br/>
+     *
+     * @param sessionId 업로드 세션 ID
+     * @return ApiResultDto&lt;String&gt; - 처리 결과
+     * @throws PhotoException 세션이 존재하지 않거나, 만료되었거나, 요청자가 생성한 세션이 아닌 경우 예외 발생
+     */
+    @Operation(summary = "분할 업로드 취소", description = "업로드 세션과 수신된 데이터를 삭제합니다.")
+    @DeleteMapping("/upload/sessions/{sessionId}")
+    public ApiResultDto<String> abortSession( //
+            @Parameter(description = "업로드 세션 ID", required = true) @PathVariable("sessionId") String sessionId, //
+            @AuthenticationPrincipal UserDetails user) {
+        ApiResultDto<String> apiResultVo = new ApiResultDto<>();
+
+        photoUploadSessionService.abort(sessionId, requesterId(user));
+
+        return apiResultVo;
+    }
+
+    /**
+     * 요청자 회원 ID를 반환합니다. (인증 없는 요청이면 null)
+     */
+    private String requesterId(UserDetails user) {
+        return user == null ? null : user.getUsername();
+    }
+}
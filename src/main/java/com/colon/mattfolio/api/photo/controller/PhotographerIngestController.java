@@ -0,0 +1,100 @@
+package com.colon.mattfolio.api.photo.controller;
+
+import java.net.URI;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.colon.mattfolio.api.photo.dto.PhotographerIngestRequest;
+import com.colon.mattfolio.api.photo.dto.PhotographerIngestResponse;
+import com.colon.mattfolio.api.photo.service.PhotographerIngestService;
+import com.colon.mattfolio.common.base.MasterController;
+import com.colon.mattfolio.common.dto.ApiResultDto;
+import com.colon.mattfolio.common.exception.PhotoException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PhotographerIngestController는 작가 사진 일괄 적재 작업을 실행, 조회, 재시작하는 REST 컨트롤러입니다.<br/>
+ * <br/>
+ * 적재할 사진(디렉토리 또는 zip)은 서버의 적재 루트 디렉토리에 미리 올려두고, 요청에는 루트 기준 상대 경로를 전달합니다.<br/>
+ * 적재는 백그라운드 배치 작업으로 실행되며, 진행 상황은 실행 조회 API로 확인합니다.<br/>
+ * 서버 디렉토리의 파일을 작가 컨테이너로 올리는 작업이므로 ADMIN 권한이 있는 사용자만 호출할 수 있습니다. (SecurityConfig)
+ */
+@RestController
+@RequiredArgsConstructor
+public class PhotographerIngestController extends MasterController {
+
+    private final PhotographerIngestService photographerIngestService;
+
+    /**
+     * 작가 사진 일괄 적재 실행 API<br/>
+     * 작업을 접수(202 Accepted)하며, 진행 상황은 Location 헤더의 실행 조회 API로 확인합니다.<br/>
+     * <br/>
+     *
+     * @param request 적재 요청 (대상 디렉토리, 압축 파일)
+     * @return ApiResultDto&lt;PhotographerIngestResponse&gt; - 접수된 적재 실행 정보
+     * @throws PhotoException 대상 경로가 올바르지 않은 경우 예외 발생
+     */
+    @Operation(summary = "작가 사진 일괄 적재 실행", description = "스테이징 디렉토리 또는 zip 파일의 사진을 배치 작업으로 적재합니다. (ADMIN 권한 필요)")
+    @PostMapping("/ingest/photographer")
+    public ResponseEntity<ApiResultDto<PhotographerIngestResponse>> launch(@RequestBody @Validated PhotographerIngestRequest request) {
+        ApiResultDto<PhotographerIngestResponse> apiResultVo = new ApiResultDto<>();
+
+        PhotographerIngestResponse result = photographerIngestService.launch(request);
+        apiResultVo.setData(result);
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/ingest/photographer/" + result.getExecutionId()))
+            .body(apiResultVo);
+    }
+
+    /**
+     * 작가 사진 일괄 적재 실행 조회 API<br/>
+     * <br/>
+     *
+     * @param executionId 적재 실행 ID
+     * @return ApiResultDto&lt;PhotographerIngestResponse&gt; - 파티션별 진행 상황
+     * @throws PhotoException 실행이 존재하지 않는 경우 예외 발생
+     */
+    @Operation(summary = "작가 사진 일괄 적재 실행 조회", description = "적재 실행의 상태와 파티션별 읽기/저장/건너뛴 건수를 조회합니다. (ADMIN 권한 필요)")
+    @GetMapping("/ingest/photographer/{executionId}")
+    public ApiResultDto<PhotographerIngestResponse> findExecution( //
+            @Parameter(description = "적재 실행 ID", required = true) @PathVariable("executionId") long executionId) {
+        ApiResultDto<PhotographerIngestResponse> apiResultVo = new ApiResultDto<>();
+
+        apiResultVo.setData(photographerIngestService.findExecution(executionId));
+
+        return apiResultVo;
+    }
+
+    /**
+     * 작가 사진 일괄 적재 재시작 API<br/>
+     * 실패하거나 중단된 실행을 이어서 처리하며, 이미 처리된 파일은 다시 처리하지 않습니다.<br/>
+     * <br/>
+     *
+     * @param executionId 재시작할 적재 실행 ID
+     * @return ApiResultDto&lt;PhotographerIngestResponse&gt; - 새로 접수된 적재 실행 정보
+     * @throws PhotoException 실행이 존재하지 않거나, 실행 중이거나, 이미 완료된 경우 예외 발생
+     */
+    @Operation(summary = "작가 사진 일괄 적재 재시작", description = "실패하거나 중단된 적재를 마지막으로 커밋된 위치부터 이어서 처리합니다. (ADMIN 권한 필요)")
+    @PostMapping("/ingest/photographer/{executionId}/restart")
+    public ResponseEntity<ApiResultDto<PhotographerIngestResponse>> restart( //
+            @Parameter(description = "재시작할 적재 실행 ID", required = true) @PathVariable("executionId") long executionId) {
+        ApiResultDto<PhotographerIngestResponse> apiResultVo = new ApiResultDto<>();
+
+        PhotographerIngestResponse result = photographerIngestService.restart(executionId);
+        apiResultVo.setData(result);
+
+        return ResponseEntity.accepted()
+            .location(URI.create("/ingest/photographer/" + result.getExecutionId()))
+            .body(apiResultVo);
+    }
+}
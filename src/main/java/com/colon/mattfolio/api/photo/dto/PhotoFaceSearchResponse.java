@@ -0,0 +1,26 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 얼굴 검색("내 사진 찾기") 결과 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotoFaceSearchResponse {
+
+    @Schema(description = "질의 이미지에서 감지된 얼굴 수 (가장 큰 얼굴로 검색)")
+    private int detectedFaceCount;
+
+    @Schema(description = "인덱스 검색 시간 (ms)")
+    private double searchMillis;
+
+    @Schema(description = "유사도가 높은 순서의 사진 목록")
+    private List<PhotoFaceSearchResult> photos;
+}
@@ -0,0 +1,32 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업로드된 파일 한 건에 대한 처리 결과 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotoUploadFileResult {
+
+    @Schema(description = "원본 파일명")
+    private String fileName;
+
+    @Schema(description = "처리 성공 여부")
+    private boolean success;
+
+    @Schema(description = "업로드된 파일 URL (얼굴 미검출 시 null)")
+    private String fileUrl;
+
+    @Schema(description = "크기(긴 변 기준 px)별 파생 이미지 URL (예: 320 → 썸네일 URL)")
+    private Map<Integer, String> derivativeUrls;
+
+    @Schema(description = "실패 사유 메시지")
+    private String message;
+}
@@ -0,0 +1,34 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import java.util.Map;
+
+import com.colon.mattfolio.common.enumType.PhotoUploadFileStatusType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비동기 업로드 작업에 포함된 파일 한 건의 진행 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotoUploadJobFileResult {
+
+    @Schema(description = "원본 파일명")
+    private String fileName;
+
+    @Schema(description = "파일 처리 상태", example = "SUCCESS")
+    private PhotoUploadFileStatusType status;
+
+    @Schema(description = "업로드된 파일 URL (얼굴 미검출 시 null)")
+    private String fileUrl;
+
+    @Schema(description = "크기(긴 변 기준 px)별 파생 이미지 URL (예: 320 → 썸네일 URL)")
+    private Map<Integer, String> derivativeUrls;
+
+    @Schema(description = "실패 사유 메시지")
+    private String message;
+}
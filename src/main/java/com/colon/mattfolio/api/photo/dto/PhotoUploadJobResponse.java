@@ -0,0 +1,47 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.colon.mattfolio.common.enumType.PhotoUploadJobStatusType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 비동기 사진 업로드 작업의 진행 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotoUploadJobResponse {
+
+    @Schema(description = "업로드 작업 ID")
+    private String jobId;
+
+    @Schema(description = "작업 상태", example = "RUNNING")
+    private PhotoUploadJobStatusType status;
+
+    @Schema(description = "전체 파일 수")
+    private int totalCount;
+
+    @Schema(description = "처리가 끝난 파일 수")
+    private int processedCount;
+
+    @Schema(description = "성공한 파일 수")
+    private int successCount;
+
+    @Schema(description = "실패한 파일 수")
+    private int failCount;
+
+    @Schema(description = "작업 접수 일시")
+    private LocalDateTime createdDate;
+
+    @Schema(description = "작업 완료 일시 (진행 중이면 null)")
+    private LocalDateTime completedDate;
+
+    @Schema(description = "파일별 진행 상태 (요청 순서 유지)")
+    private List<PhotoUploadJobFileResult> files;
+}
@@ -0,0 +1,21 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 분할 업로드에서 수신이 완료된 구간 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotoUploadRange {
+
+    @Schema(description = "시작 위치 (byte, 포함)")
+    private long start;
+
+    @Schema(description = "끝 위치 (byte, 포함)")
+    private long end;
+}
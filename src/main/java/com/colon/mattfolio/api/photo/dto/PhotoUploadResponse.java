@@ -0,0 +1,49 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 다건 사진 업로드 요청에 대한 처리 결과 DTO<br/>
+ * 일부 파일이 실패하더라도 전체 결과를 파일 단위로 담아 반환합니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotoUploadResponse {
+
+    @Schema(description = "전체 파일 수")
+    private int totalCount;
+
+    @Schema(description = "성공한 파일 수")
+    private int successCount;
+
+    @Schema(description = "실패한 파일 수")
+    private int failCount;
+
+    @Schema(description = "파일별 처리 결과 (요청 순서 유지)")
+    private List<PhotoUploadFileResult> results;
+
+    /**
+     * 파일별 처리 결과 목록으로부터 응답 객체를 생성합니다.
+     *
+     * @param results 파일별 처리 결과 목록
+     * @return 집계된 PhotoUploadResponse
+     */
+    public static PhotoUploadResponse of(List<PhotoUploadFileResult> results) {
+        int successCount = (int) results.stream()
+            .filter(PhotoUploadFileResult::isSuccess)
+            .count();
+
+        return PhotoUploadResponse.builder()
+            .totalCount(results.size())
+            .successCount(successCount)
+            .failCount(results.size() - successCount)
+            .results(results)
+            .build();
+    }
+}
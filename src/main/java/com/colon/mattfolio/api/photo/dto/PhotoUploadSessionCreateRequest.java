@@ -0,0 +1,17 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 분할(재개 가능) 업로드 세션 생성 요청 DTO
+ */
+public record PhotoUploadSessionCreateRequest( //
+    @Schema(description = "원본 파일명") @NotBlank String fileName, //
+    @Schema(description = "Content-Type") String contentType, //
+    @Schema(description = "전체 파일 크기 (byte)") @Positive long size, //
+    @Schema(description = "전체 파일의 SHA-256 해시 (16진수, 선택) - 완료 시 검증") @Pattern(regexp = "^[0-9a-fA-F]{64}$") String sha256 //
+) {
+}
@@ -0,0 +1,42 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 분할(재개 가능) 업로드 세션의 진행 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotoUploadSessionResponse {
+
+    @Schema(description = "업로드 세션 ID")
+    private String sessionId;
+
+    @Schema(description = "원본 파일명")
+    private String fileName;
+
+    @Schema(description = "전체 파일 크기 (byte)")
+    private long size;
+
+    @Schema(description = "수신된 크기 (byte)")
+    private long receivedBytes;
+
+    @Schema(description = "청크 하나의 최대 크기 (byte)")
+    private long maxChunkSize;
+
+    @Schema(description = "수신이 완료된 구간 목록 (오름차순, 누락 구간만 다시 전송)")
+    private List<PhotoUploadRange> receivedRanges;
+
+    @Schema(description = "모든 구간 수신 여부 (true이면 완료 요청 가능)")
+    private boolean complete;
+
+    @Schema(description = "세션 만료 예정 일시 (마지막 청크 수신 기준)")
+    private LocalDateTime expiresDate;
+}
@@ -0,0 +1,33 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 작가 사진 일괄 적재 파티션별 진행 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotographerIngestPartitionResult {
+
+    @Schema(description = "파티션 이름", example = "photographerIngestWorkerStep:partition0")
+    private String name;
+
+    @Schema(description = "파티션 상태", example = "STARTED")
+    private String status;
+
+    @Schema(description = "읽은 파일 수")
+    private long readCount;
+
+    @Schema(description = "저장된 파일 수")
+    private long writeCount;
+
+    @Schema(description = "얼굴이 감지되지 않아 저장하지 않은 파일 수")
+    private long filterCount;
+
+    @Schema(description = "건너뛴 파일 수")
+    private long skipCount;
+}
@@ -0,0 +1,14 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 작가 사진 일괄 적재 요청 DTO<br/>
+ * 경로는 모두 적재 루트 디렉토리(photo.ingest.staging-root) 기준 상대 경로입니다.
+ */
+public record PhotographerIngestRequest( //
+    @Schema(description = "적재 대상 디렉토리 (압축 파일을 지정한 경우 압축을 풀 디렉토리)", example = "2025-seoul-marathon") @NotBlank String sourceDir, //
+    @Schema(description = "압축 파일 (zip, 선택)", example = "2025-seoul-marathon.zip") String archive //
+) {
+}
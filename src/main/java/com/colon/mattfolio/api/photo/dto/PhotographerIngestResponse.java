@@ -0,0 +1,54 @@
+package com.colon.mattfolio.api.photo.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 작가 사진 일괄 적재 실행의 진행 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotographerIngestResponse {
+
+    @Schema(description = "적재 실행 ID (재시작 시 새 실행 ID 발급)")
+    private Long executionId;
+
+    @Schema(description = "적재 작업 ID (재시작해도 유지)")
+    private Long jobInstanceId;
+
+    @Schema(description = "실행 상태", example = "STARTED")
+    private String status;
+
+    @Schema(description = "종료 코드", example = "COMPLETED")
+    private String exitCode;
+
+    @Schema(description = "적재 대상 디렉토리")
+    private String sourceDir;
+
+    @Schema(description = "읽은 파일 수 (전체 파티션 합계)")
+    private long readCount;
+
+    @Schema(description = "저장된 파일 수 (전체 파티션 합계)")
+    private long writeCount;
+
+    @Schema(description = "얼굴이 감지되지 않아 저장하지 않은 파일 수 (전체 파티션 합계)")
+    private long filterCount;
+
+    @Schema(description = "건너뛴 파일 수 (전체 파티션 합계)")
+    private long skipCount;
+
+    @Schema(description = "시작 일시")
+    private LocalDateTime startDate;
+
+    @Schema(description = "종료 일시 (진행 중이면 null)")
+    private LocalDateTime endDate;
+
+    @Schema(description = "파티션별 진행 상태")
+    private List<PhotographerIngestPartitionResult> partitions;
+}
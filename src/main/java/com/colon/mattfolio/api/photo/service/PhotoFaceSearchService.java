@@ -0,0 +1,144 @@
+package com.colon.mattfolio.api.photo.service;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.colon.mattfolio.api.photo.dto.PhotoFaceSearchResponse;
+import com.colon.mattfolio.api.photo.dto.PhotoFaceSearchResult;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.file.FileSpoolService;
+import com.colon.mattfolio.common.file.PhotoHashIndexService;
+import com.colon.mattfolio.common.file.SpooledFile;
+import com.colon.mattfolio.database.photo.entity.PhotoEntity;
+import com.colon.mattfolio.database.photo.repository.PhotoRepository;
+import com.colon.mattfolio.external.faceApi.dto.FaceDetectionResponse;
+import com.colon.mattfolio.external.faceApi.dto.FaceEmbeddingMatch;
+import com.colon.mattfolio.external.faceApi.dto.FaceRectangle;
+import com.colon.mattfolio.external.faceApi.service.FaceApiService;
+import com.colon.mattfolio.external.faceApi.service.FaceEmbeddingIndex;
+import com.colon.mattfolio.external.faceApi.service.FaceFeatureExtractor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PhotoFaceSearchService는 질의 사진의 얼굴과 같은 인물이 있는 사진을 찾는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 질의 사진의 얼굴 감지에만 Face API를 한 번 호출하고(같은 사진은 감지 캐시 재사용),<br/>
+ * 비교는 프로세스 내 얼굴 임베딩 인덱스(FaceEmbeddingIndex)에서 수행하므로 Group/Identify 호출이 필요 없습니다.<br/>
+ * 유사도만으로 다른 사람의 사진을 돌려줄 수 있으므로, 회원 얼굴 매칭과 같이 얼굴 인식 모델(FaceFeatureExtractor.isIdentityModel)에서만 검색합니다.
+ */
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class PhotoFaceSearchService {
+
+    private final FileSpoolService fileSpoolService;
+
+    private final FaceApiService faceApiService;
+
+    private final FaceEmbeddingIndex faceEmbeddingIndex;
+
+    // 얼굴 특징 추출기 (얼굴 인식 모델인 경우에만 검색 허용)
+    private final FaceFeatureExtractor faceFeatureExtractor;
+
+    private final PhotoRepository photoRepository;
+
+    private final PhotoHashIndexService photoHashIndexService;
+
+    // 요청 하나가 조회할 수 있는 최대 사진 수
+    @Value("${face.index.max-search-limit:200}")
+    private int maxSearchLimit;
+
+    /**
+     * 질의 사진에서 가장 큰 얼굴과 같은 인물로 보이는 사진을 찾습니다.
+     *
+     * @param file 질의 사진 (본인 얼굴이 나온 사진)
+     * @param limit 반환할 최대 사진 수
+     * @return 유사도가 높은 순서의 사진 목록
+     * @throws IOException 파일 입출력 중 발생하는 예외
+     * @throws PhotoException 파일이 비어 있거나, 얼굴이 감지되지 않았거나, 인덱스를 사용하지 않거나, 얼굴 인식 모델이 아닌 경우
+     */
+    public PhotoFaceSearchResponse search(MultipartFile file, int limit) throws IOException {
+        if (!faceEmbeddingIndex.isEnabled() || !faceFeatureExtractor.isIdentityModel()) {
+            throw new PhotoException(PhotoException.Reason.FACE_INDEX_DISABLED);
+        }
+        if (file == null || file.isEmpty()) {
+            throw new PhotoException(PhotoException.Reason.EMPTY_FILES);
+        }
+
+        SpooledFile spooledFile = fileSpoolService.spool(file);
+        try {
+            List<FaceDetectionResponse> faceDetections = faceApiService.detectFaces(spooledFile.getContentHash(), spooledFile.getPath(), spooledFile.getSize());
+            FaceRectangle face = largestFace(faceDetections);
+            if (face == null) {
+                throw new PhotoException(PhotoException.Reason.FACE_NOT_DETECTED);
+            }
+
+            long started = System.nanoTime();
+            float[] query = faceEmbeddingIndex.extract(spooledFile.getPath(), face);
+            if (query == null) {
+                throw new PhotoException(PhotoException.Reason.UNSUPPORTED_IMAGE);
+            }
+
+            List<FaceEmbeddingMatch> matches = faceEmbeddingIndex.findSimilarPhotos(query, Math.max(1, Math.min(limit, maxSearchLimit)));
+            double searchMillis = (System.nanoTime() - started) / 1_000_000.0;
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 검색 - 감지 얼굴 수: {}, 결과 수: {}, 검색 시간: {}ms", faceDetections.size(), matches.size(), searchMillis);
+
+            return PhotoFaceSearchResponse.builder()
+                .detectedFaceCount(faceDetections.size())
+                .searchMillis(searchMillis)
+                .photos(toResults(matches))
+                .build();
+        } finally {
+            spooledFile.delete();
+        }
+    }
+
+    /**
+     * 인덱스 검색 결과에 사진 URL을 붙입니다. (유사도 순서 유지, 삭제된 사진 제외)
+     */
+    private List<PhotoFaceSearchResult> toResults(List<FaceEmbeddingMatch> matches) {
+        Map<Long, PhotoEntity> photos = photoRepository.findAllById(matches.stream()
+            .map(FaceEmbeddingMatch::getPhotoId)
+            .toList())
+            .stream()
+            .collect(Collectors.toMap(PhotoEntity::getPhotoId, Function.identity()));
+
+        return matches.stream()
+            .filter(match -> photos.containsKey(match.getPhotoId()))
+            .map(match -> {
+                PhotoEntity photo = photos.get(match.getPhotoId());
+                return PhotoFaceSearchResult.builder()
+                    .photoId(photo.getPhotoId())
+                    .fileUrl(photo.getFileUrl())
+                    .derivativeUrls(photoHashIndexService.readDerivativeUrls(photo))
+                    .faceIndex(match.getFaceIndex())
+                    .similarity(match.getSimilarity())
+                    .build();
+            })
+            .toList();
+    }
+
+    private FaceRectangle largestFace(List<FaceDetectionResponse> faceDetections) {
+        if (faceDetections == null) {
+            return null;
+        }
+
+        return faceDetections.stream()
+            .map(FaceDetectionResponse::getFaceRectangle)
+            .filter(rectangle -> rectangle != null && rectangle.getWidth() > 0 && rectangle.getHeight() > 0)
+            .max(Comparator.comparingLong(rectangle -> (long) rectangle.getWidth() * rectangle.getHeight()))
+            .orElse(null);
+    }
+}
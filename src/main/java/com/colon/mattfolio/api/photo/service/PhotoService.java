@@ -1,22 +1,39 @@
 package com.colon.mattfolio.api.photo.service;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.colon.mattfolio.api.photo.dto.PhotoUploadFileResult;
+import com.colon.mattfolio.api.photo.dto.PhotoUploadResponse;
+import com.colon.mattfolio.common.exception.MasterException;
 import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.exception.UploadBusyException;
 import com.colon.mattfolio.common.file.FileService;
+import com.colon.mattfolio.common.file.ProcessedPhoto;
+import com.colon.mattfolio.common.property.Message;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * PhotoService는 업로드된 사진 파일에 대해 파일 처리 및 업로드 테스트 기능을 제공하는 서비스 클래스입니다.
- * 
+ *
  * 주요 기능:<br/>
  * - 업로드된 파일 배열을 동기적으로 처리하여 각 파일에 대해 FileService의 processFile 메서드를 호출<br/>
+ * - 업로드된 파일 배열을 전용 Executor에서 병렬로 처리하고 파일별 결과를 수집<br/>
  * - 업로드 테스트를 통해 동기 처리 지연을 시뮬레이션함
  */
 @Transactional(readOnly = true)
@@ -27,14 +44,28 @@ public class PhotoService {
 
     private final FileService fileService;
 
+    // 사진 처리 전용 Executor
+    @Qualifier("photoUploadExecutor")
+    private final ThreadPoolTaskExecutor photoUploadExecutor;
+
+    // 비동기 업로드 작업과 함께 사용하는 전체 동시 처리 허가
+    @Qualifier("photoUploadPermits")
+    private final Semaphore photoUploadPermits;
+
+    // 요청 하나가 동시에 점유할 수 있는 최대 파일 처리 수
+    @Value("${photo.upload.per-request-concurrency:4}")
+    private int perRequestConcurrency;
+
     /**
      * 여러 파일을 동기적으로 처리하는 메서드입니다.<br/>
      * 파일 배열이 null이거나 비어있는 경우 예외를 발생시키며, 각 파일에 대해 FileService.processFile 메서드를 호출합니다.<br/>
-     * 
+     * 처리하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행합니다.
+     *
      * @param files 클라이언트에서 업로드된 파일 배열
      * @throws IOException 파일 입출력 중 발생하는 예외
      * @throws PhotoException 파일 배열이 null이거나 비어있을 때 발생하는 예외
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void uploadFiles(MultipartFile[] files) throws IOException {
         if (files == null || files.length < 1) {
             throw new PhotoException(PhotoException.Reason.EMPTY_FILES);
@@ -42,9 +73,75 @@ public class PhotoService {
 
         // 배열 내의 각 파일을 순차적으로 처리합니다.
         for (MultipartFile file : files) {
-            String fileUrl = fileService.processFile(file);
+            fileService.processFile(file);
+        }
+    }
+
+    /**
+     * 여러 파일을 병렬로 처리하는 메서드입니다.<br/>
+     * 각 파일을 photoUploadExecutor에 분배하되, 요청 단위 세마포어로 동시에 처리되는 파일 수를 제한합니다.<br/>
+     * 파일은 전체 동시 처리 허가(photoUploadPermits)를 얻은 뒤 처리하므로, 비동기 업로드 작업과 합쳐 전체 상한을 넘지 않습니다.<br/>
+     * 한 파일의 실패가 나머지 파일의 처리를 중단시키지 않으며, 모든 결과는 요청 순서대로 수집됩니다.<br/>
+     * Executor 큐가 가득 차 거절된 파일은 요청 스레드에서 처리하지 않고 업로드 혼잡(UPLOAD_BUSY) 실패로 기록합니다.<br/>
+     * 결과를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행합니다.
+     *
+     * @param files 클라이언트에서 업로드된 파일 배열
+     * @return 파일별 처리 결과를 담은 PhotoUploadResponse
+     * @throws PhotoException 파일 배열이 null이거나 비어있을 때 발생하는 예외
+     * @throws UploadBusyException 파일을 넘기는 동안 중단된 경우 발생하는 예외 (이미 넘긴 파일이 끝난 뒤 발생, 중단 상태는 유지)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PhotoUploadResponse uploadFilesParallel(MultipartFile[] files) {
+        if (files == null || files.length < 1) {
+            throw new PhotoException(PhotoException.Reason.EMPTY_FILES);
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, perRequestConcurrency));
+        List<CompletableFuture<PhotoUploadFileResult>> futures = new ArrayList<>(files.length);
+
+        try {
+            for (MultipartFile file : files) {
+                // 요청 단위 동시 처리 수를 초과하면 앞선 파일이 끝날 때까지 대기합니다.
+                permits.acquire();
+
+                CompletableFuture<PhotoUploadFileResult> future;
+                try {
+                    future = CompletableFuture.supplyAsync(() -> processFileWithPermit(file), photoUploadExecutor);
+                } catch (TaskRejectedException e) {
+                    permits.release();
+                    log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 업로드 처리 큐 포화로 거절 - 파일: {}", file.getOriginalFilename());
+                    futures.add(CompletableFuture.completedFuture(failResult(file, new PhotoException(PhotoException.Reason.UPLOAD_BUSY))));
+                    continue;
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                futures.add(future.whenComplete((result, throwable) -> permits.release()));
+            }
+        } catch (InterruptedException e) {
+            // 이미 넘긴 파일(요청 단위 허가로 최대 per-request-concurrency개)은 요청 본문이 정리되기 전에 끝나도록 기다린 뒤 혼잡으로 응답
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                .exceptionally(throwable -> null)
+                .join();
+            Thread.currentThread()
+                .interrupt();
+            throw new UploadBusyException(e);
+        }
 
+        List<PhotoUploadFileResult> results = new ArrayList<>(files.length);
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i)
+                    .join());
+            } catch (CompletionException e) {
+                results.add(failResult(files[i], e.getCause()));
+            }
         }
+
+        PhotoUploadResponse response = PhotoUploadResponse.of(results);
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 병렬 업로드 완료 - 전체: {}, 성공: {}, 실패: {}", response.getTotalCount(), response.getSuccessCount(), response.getFailCount());
+
+        return response;
     }
 
     /**
@@ -61,4 +158,66 @@ public class PhotoService {
                 .interrupt();
         }
     }
+
+    /**
+     * 전체 동시 처리 허가를 얻은 뒤 파일 한 건을 처리합니다.<br/>
+     * 비동기 업로드 작업이 허가를 모두 점유한 경우 photoUploadExecutor 스레드에서 대기합니다.
+     *
+     * @param file 처리할 파일
+     * @return 파일 처리 결과
+     */
+    private PhotoUploadFileResult processFileWithPermit(MultipartFile file) {
+        try {
+            photoUploadPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            return failResult(file, new PhotoException(PhotoException.Reason.UPLOAD_BUSY));
+        }
+
+        try {
+            return processFileSafely(file);
+        } finally {
+            photoUploadPermits.release();
+        }
+    }
+
+    /**
+     * 파일 한 건을 처리하고, 발생한 예외를 실패 결과로 변환합니다.
+     *
+     * @param file 처리할 파일
+     * @return 파일 처리 결과
+     */
+    private PhotoUploadFileResult processFileSafely(MultipartFile file) {
+        try {
+            ProcessedPhoto processed = fileService.processFile(file);
+
+            return PhotoUploadFileResult.builder()
+                .fileName(file.getOriginalFilename())
+                .success(true)
+                .fileUrl(processed.getFileUrl())
+                .derivativeUrls(processed.getDerivativeUrls())
+                .build();
+        } catch (Exception e) {
+            log.error("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 파일 처리 실패 - 파일: {}", file.getOriginalFilename(), e);
+            return failResult(file, e);
+        }
+    }
+
+    /**
+     * 예외 정보로부터 실패 결과를 생성합니다.
+     *
+     * @param file 실패한 파일
+     * @param throwable 발생한 예외
+     * @return 실패 결과
+     */
+    private PhotoUploadFileResult failResult(MultipartFile file, Throwable throwable) {
+        String message = throwable instanceof MasterException ? ((MasterException) throwable).getReasonMessage() : Message.getMessage("photo.invalid.file");
+
+        return PhotoUploadFileResult.builder()
+            .fileName(file.getOriginalFilename())
+            .success(false)
+            .message(message)
+            .build();
+    }
 }
@@ -0,0 +1,189 @@
+package com.colon.mattfolio.api.photo.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.colon.mattfolio.api.photo.dto.PhotoUploadJobFileResult;
+import com.colon.mattfolio.api.photo.dto.PhotoUploadJobResponse;
+import com.colon.mattfolio.common.enumType.PhotoUploadFileStatusType;
+import com.colon.mattfolio.common.enumType.PhotoUploadJobStatusType;
+import com.colon.mattfolio.common.file.ProcessedPhoto;
+
+import lombok.Getter;
+
+/**
+ * 비동기 사진 업로드 작업의 진행 상태를 보관하는 객체<br/>
+ * <br/>
+ * 백그라운드 처리 스레드와 상태 조회 요청이 동시에 접근하므로, 변경 가능한 필드는 volatile 또는 Atomic 타입으로 관리합니다.
+ */
+public class PhotoUploadJob {
+
+    // 업로드 작업 ID
+    @Getter
+    private final String jobId;
+
+    // 작업을 접수한 회원 ID (인증 없이 접수한 경우 null)
+    private final String ownerId;
+
+    // 작업 접수 일시
+    private final LocalDateTime createdDate = LocalDateTime.now();
+
+    // 파일별 진행 상태 (요청 순서 유지)
+    private final List<FileEntry> files;
+
+    private final AtomicInteger successCount = new AtomicInteger();
+
+    private final AtomicInteger failCount = new AtomicInteger();
+
+    @Getter
+    private volatile PhotoUploadJobStatusType status = PhotoUploadJobStatusType.ACCEPTED;
+
+    @Getter
+    private volatile LocalDateTime completedDate;
+
+    public PhotoUploadJob(String jobId, String ownerId, List<String> fileNames) {
+        this.jobId = jobId;
+        this.ownerId = ownerId;
+        this.files = new ArrayList<>(fileNames.size());
+        for (String fileName : fileNames) {
+            this.files.add(new FileEntry(fileName));
+        }
+    }
+
+    /**
+     * 요청자가 작업을 접수한 사람인지 확인합니다.<br/>
+     * 인증 없이 접수한 작업은 접수자를 구분할 수 없으므로 누구의 작업도 아닌 것으로 봅니다. (작업 ID를 알아도 조회 불가)
+     *
+     * @param requesterId 요청자 회원 ID (인증 없는 요청이면 null)
+     * @return 접수한 회원이면 true (작업 또는 요청자의 회원 ID가 없으면 false)
+     */
+    public boolean isOwnedBy(String requesterId) {
+        return ownerId != null && ownerId.equals(requesterId);
+    }
+
+    /**
+     * 작업을 처리중 상태로 변경합니다.
+     */
+    public void start() {
+        this.status = PhotoUploadJobStatusType.RUNNING;
+    }
+
+    /**
+     * 파일 처리를 시작한 것으로 표시합니다.
+     *
+     * @param index 파일 순번
+     */
+    public void markProcessing(int index) {
+        files.get(index).status = PhotoUploadFileStatusType.PROCESSING;
+    }
+
+    /**
+     * 파일 처리에 성공한 것으로 표시합니다.
+     *
+     * @param index 파일 순번
+     * @param processed 원본 및 크기별 파생 이미지 URL
+     */
+    public void markSuccess(int index, ProcessedPhoto processed) {
+        FileEntry entry = files.get(index);
+        entry.fileUrl = processed.getFileUrl();
+        entry.derivativeUrls = processed.getDerivativeUrls();
+        entry.status = PhotoUploadFileStatusType.SUCCESS;
+        successCount.incrementAndGet();
+    }
+
+    /**
+     * 파일 처리에 실패한 것으로 표시합니다.
+     *
+     * @param index 파일 순번
+     * @param message 실패 사유
+     */
+    public void markFailed(int index, String message) {
+        FileEntry entry = files.get(index);
+        entry.message = message;
+        entry.status = PhotoUploadFileStatusType.FAILED;
+        failCount.incrementAndGet();
+    }
+
+    /**
+     * 모든 파일 처리가 끝난 후 작업의 최종 상태를 결정합니다.
+     */
+    public void complete() {
+        int failed = failCount.get();
+
+        if (failed == 0) {
+            this.status = PhotoUploadJobStatusType.COMPLETED;
+        } else if (failed < files.size()) {
+            this.status = PhotoUploadJobStatusType.PARTIALLY_FAILED;
+        } else {
+            this.status = PhotoUploadJobStatusType.FAILED;
+        }
+        this.completedDate = LocalDateTime.now();
+    }
+
+    /**
+     * 작업 처리가 끝났는지 여부를 반환합니다.
+     *
+     * @return 완료(성공/부분 실패/실패) 상태이면 true
+     */
+    public boolean isDone() {
+        return completedDate != null;
+    }
+
+    /**
+     * 현재 진행 상태를 응답 DTO로 변환합니다.
+     *
+     * @return 작업 진행 상태 DTO
+     */
+    public PhotoUploadJobResponse toResponse() {
+        int success = successCount.get();
+        int failed = failCount.get();
+
+        return PhotoUploadJobResponse.builder()
+            .jobId(jobId)
+            .status(status)
+            .totalCount(files.size())
+            .processedCount(success + failed)
+            .successCount(success)
+            .failCount(failed)
+            .createdDate(createdDate)
+            .completedDate(completedDate)
+            .files(files.stream()
+                .map(FileEntry::toResult)
+                .collect(Collectors.toList()))
+            .build();
+    }
+
+    /**
+     * 작업에 포함된 파일 한 건의 진행 상태
+     */
+    private static class FileEntry {
+
+        private final String fileName;
+
+        private volatile PhotoUploadFileStatusType status = PhotoUploadFileStatusType.PENDING;
+
+        private volatile String fileUrl;
+
+        private volatile Map<Integer, String> derivativeUrls;
+
+        private volatile String message;
+
+        private FileEntry(String fileName) {
+            this.fileName = fileName;
+        }
+
+        private PhotoUploadJobFileResult toResult() {
+            return PhotoUploadJobFileResult.builder()
+                .fileName(fileName)
+                .status(status)
+                .fileUrl(fileUrl)
+                .derivativeUrls(derivativeUrls)
+                .message(message)
+                .build();
+        }
+    }
+}
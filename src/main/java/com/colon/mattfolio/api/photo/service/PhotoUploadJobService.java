@@ -0,0 +1,275 @@
+package com.colon.mattfolio.api.photo.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.colon.mattfolio.api.photo.dto.PhotoUploadJobResponse;
+import com.colon.mattfolio.common.admission.AdmissionReservation;
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.common.exception.MasterException;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.exception.UploadBusyException;
+import com.colon.mattfolio.common.file.FileService;
+import com.colon.mattfolio.common.file.FileSpoolService;
+import com.colon.mattfolio.common.file.ProcessedPhoto;
+import com.colon.mattfolio.common.file.SpooledFile;
+import com.colon.mattfolio.common.property.Message;
+import com.colon.mattfolio.util.KeyGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * PhotoUploadJobService는 사진 업로드를 비동기 작업(Job)으로 접수하고 백그라운드에서 처리하는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 주요 기능:<br/>
+ * - 업로드된 파일을 임시 디렉토리에 저장한 뒤 작업 ID를 즉시 반환<br/>
+ * - photoJobExecutor에서 작업을 분배하고, 각 파일은 FileService의 논블로킹 경로(processFileAsync)로 동기 업로드와 같은 단계별 파이프라인에서 처리<br/>
+ * - 파일마다 동기 병렬 업로드와 같은 전체 동시 처리 허가(photoUploadPermits)를 얻은 뒤 처리<br/>
+ * - 작업 ID로 파일별 진행 상태와 결과 URL을 조회 (작업을 접수한 회원만 조회 가능, 인증 없이 접수한 작업은 조회 불가)<br/>
+ * - 업로드 유입 예산 예약을 요청에서 넘겨받아, 응답 후 처리가 끝날 때 반환<br/>
+ * - 보관 기간이 지난 완료 작업을 주기적으로 정리
+ */
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class PhotoUploadJobService {
+
+    private final FileService fileService;
+
+    private final FileSpoolService fileSpoolService;
+
+    // 작업 단위로 파일을 분배하는 Executor
+    @Qualifier("photoJobExecutor")
+    private final ThreadPoolTaskExecutor photoJobExecutor;
+
+    // 동기 병렬 업로드와 함께 사용하는 전체 동시 처리 허가
+    @Qualifier("photoUploadPermits")
+    private final Semaphore photoUploadPermits;
+
+    // 작업 하나가 동시에 처리할 수 있는 최대 파일 수
+    @Value("${photo.upload.per-request-concurrency:4}")
+    private int perJobConcurrency;
+
+    // 완료된 작업을 보관하는 시간 (분)
+    @Value("${photo.job.retention-minutes:60}")
+    private long retentionMinutes;
+
+    // 작업 ID별 진행 상태 저장소
+    private final Map<String, PhotoUploadJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * 업로드된 파일들을 임시 저장하고 비동기 작업으로 접수합니다.<br/>
+     * 파일 처리는 백그라운드에서 수행되므로, 이 메서드는 임시 저장이 끝나는 즉시 반환됩니다.
+     *
+     * @param files 클라이언트에서 업로드된 파일 배열
+     * @param ownerId 작업을 접수한 회원 ID (인증 없는 요청이면 null)
+     * @param reservation 작업이 끝날 때 반환할 업로드 유입 예산 예약 (접수에 실패해도 반환됨)
+     * @return 접수된 작업의 진행 상태
+     * @throws IOException 임시 저장 중 발생하는 예외
+     * @throws PhotoException 파일 배열이 null이거나 비어있을 때 발생하는 예외
+     * @throws UploadBusyException 작업 큐가 가득 차 접수할 수 없는 경우 발생하는 예외
+     */
+    public PhotoUploadJobResponse submit(MultipartFile[] files, String ownerId, AdmissionReservation reservation) throws IOException {
+        List<SpooledFile> spooledFiles = new ArrayList<>();
+        try {
+            if (files == null || files.length < 1) {
+                throw new PhotoException(PhotoException.Reason.EMPTY_FILES);
+            }
+            for (MultipartFile file : files) {
+                spooledFiles.add(fileSpoolService.spool(file));
+            }
+        } catch (IOException | RuntimeException e) {
+            // 일부만 저장된 경우 저장된 임시 파일을 정리합니다.
+            spooledFiles.forEach(SpooledFile::delete);
+            reservation.release();
+            throw e;
+        }
+
+        return submit(spooledFiles, ownerId, reservation);
+    }
+
+    /**
+     * 이미 임시 저장된 파일들을 비동기 작업으로 접수합니다.<br/>
+     * 분할 업로드가 완료된 파일처럼 요청 본문을 다시 읽을 필요가 없는 경우 사용하며, 접수에 실패하면 임시 파일을 삭제합니다.
+     *
+     * @param spooledFiles 임시 저장된 파일 목록 (처리 후 삭제됨)
+     * @param ownerId 작업을 접수한 회원 ID (인증 없는 요청이면 null)
+     * @param reservation 작업이 끝날 때 반환할 업로드 유입 예산 예약 (접수에 실패해도 반환됨)
+     * @return 접수된 작업의 진행 상태
+     * @throws UploadBusyException 작업 큐가 가득 차 접수할 수 없는 경우 발생하는 예외
+     */
+    public PhotoUploadJobResponse submit(List<SpooledFile> spooledFiles, String ownerId, AdmissionReservation reservation) {
+        List<String> fileNames = spooledFiles.stream()
+            .map(SpooledFile::getOriginalFilename)
+            .toList();
+        PhotoUploadJob job = new PhotoUploadJob(KeyGenerator.generateKey(), ownerId, fileNames);
+        jobs.put(job.getJobId(), job);
+
+        try {
+            photoJobExecutor.execute(() -> run(job, spooledFiles, reservation));
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getJobId());
+            spooledFiles.forEach(SpooledFile::delete);
+            reservation.release();
+            throw new UploadBusyException(e);
+        }
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 업로드 작업 접수 - jobId: {}, 파일 수: {}", job.getJobId(), spooledFiles.size());
+
+        return job.toResponse();
+    }
+
+    /**
+     * 작업 ID로 업로드 작업의 진행 상태를 조회합니다.<br/>
+     * 다른 회원의 작업과 인증 없이 접수된 작업은 존재 여부를 드러내지 않도록 없는 작업과 같이 처리합니다.
+     *
+     * @param jobId 업로드 작업 ID
+     * @param requesterId 조회하는 회원 ID (인증 없는 요청이면 null)
+     * @return 작업 진행 상태
+     * @throws PhotoException 작업이 존재하지 않거나, 만료되었거나, 요청자가 접수한 작업이 아닌 경우 발생하는 예외
+     */
+    public PhotoUploadJobResponse findJob(String jobId, String requesterId) {
+        PhotoUploadJob job = jobs.get(jobId);
+        if (job == null || !job.isOwnedBy(requesterId)) {
+            throw new PhotoException(PhotoException.Reason.JOB_NOT_FOUND);
+        }
+
+        return job.toResponse();
+    }
+
+    /**
+     * 보관 기간이 지난 완료 작업을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${photo.job.cleanup-interval-ms:60000}")
+    public void evictExpiredJobs() {
+        LocalDateTime expiredBefore = LocalDateTime.now()
+            .minusMinutes(retentionMinutes);
+
+        jobs.values()
+            .removeIf(job -> job.isDone() && job.getCompletedDate()
+                .isBefore(expiredBefore));
+    }
+
+    /**
+     * 작업에 포함된 파일들을 논블로킹 방식으로 처리하고, 모든 파일이 끝나면 작업을 완료 처리합니다.<br/>
+     * 파일은 사진 처리 파이프라인의 단계에 넘기고 결과를 기다리지 않으므로, 처리 중에 작업 스레드를 점유하지 않습니다.<br/>
+     * 파일을 시작하기 전에 작업 단위 허가와 전체 동시 처리 허가를 작업 스레드에서 얻으므로, 허가를 기다리느라 네트워크 이벤트 루프를 막지 않습니다.
+     *
+     * @param job 처리할 작업
+     * @param spooledFiles 임시 저장된 파일 목록 (작업의 파일 순서와 동일)
+     * @param reservation 작업이 끝나면 반환할 업로드 유입 예산 예약
+     */
+    private void run(PhotoUploadJob job, List<SpooledFile> spooledFiles, AdmissionReservation reservation) {
+        job.start();
+
+        Semaphore jobPermits = new Semaphore(Math.max(1, perJobConcurrency));
+        CountDownLatch finished = new CountDownLatch(spooledFiles.size());
+        int dispatched = 0;
+        try {
+            for (; dispatched < spooledFiles.size(); dispatched++) {
+                acquirePermits(jobPermits);
+                processFile(job, dispatched, spooledFiles.get(dispatched)).doFinally(signal -> {
+                    photoUploadPermits.release();
+                    jobPermits.release();
+                    finished.countDown();
+                })
+                    .subscribe();
+            }
+        } catch (InterruptedException e) {
+            // 종료 중에는 아직 시작하지 않은 파일을 처리하지 않고 실패로 기록합니다.
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 업로드 작업 중단 - jobId: {}, 미처리 파일 수: {}", job.getJobId(), spooledFiles.size() - dispatched);
+            for (int index = dispatched; index < spooledFiles.size(); index++) {
+                job.markFailed(index, Message.getMessage("photo.upload.busy"));
+                spooledFiles.get(index)
+                    .delete();
+                finished.countDown();
+            }
+        }
+
+        try {
+            awaitUninterruptibly(finished);
+        } finally {
+            reservation.release();
+        }
+        job.complete();
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 업로드 작업 완료 - jobId: {}, 상태: {}", job.getJobId(), job.getStatus());
+    }
+
+    /**
+     * 작업 단위 허가와 전체 동시 처리 허가를 차례로 얻습니다. 전체 허가를 기다리다 중단되면 작업 단위 허가를 반환합니다.
+     */
+    private void acquirePermits(Semaphore jobPermits) throws InterruptedException {
+        jobPermits.acquire();
+        try {
+            photoUploadPermits.acquire();
+        } catch (InterruptedException e) {
+            jobPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 이미 시작한 파일이 모두 끝날 때까지 기다립니다. 중단 요청은 대기가 끝난 뒤 다시 설정합니다.
+     */
+    private void awaitUninterruptibly(CountDownLatch finished) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                finished.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+    /**
+     * 임시 저장된 파일 한 건을 처리하고 결과를 작업에 반영합니다.<br/>
+     * 처리 결과와 관계없이 임시 파일은 삭제되며, 실패는 다른 파일의 처리에 영향을 주지 않습니다.
+     *
+     * @param job 파일이 속한 작업
+     * @param index 파일 순번
+     * @param spooledFile 처리할 임시 파일
+     * @return 처리 완료 신호를 발행하는 Mono
+     */
+    private Mono<Void> processFile(PhotoUploadJob job, int index, SpooledFile spooledFile) {
+        return Mono.defer(() -> {
+            job.markProcessing(index);
+            return fileService.processFileAsync(spooledFile, BlobContainerType.PROFILE);
+        })
+            .defaultIfEmpty(ProcessedPhoto.notUploaded())
+            .doOnSuccess(processed -> job.markSuccess(index, processed))
+            .onErrorResume(throwable -> {
+                if (throwable instanceof MasterException) {
+                    job.markFailed(index, ((MasterException) throwable).getReasonMessage());
+                } else {
+                    log.error("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 업로드 작업 파일 처리 실패 - jobId: {}, 파일: {}", job.getJobId(), spooledFile.getOriginalFilename(), throwable);
+                    job.markFailed(index, Message.getMessage("photo.invalid.file"));
+                }
+                return Mono.empty();
+            })
+            .doFinally(signal -> spooledFile.delete())
+            .then();
+    }
+}
@@ -0,0 +1,193 @@
+package com.colon.mattfolio.api.photo.service;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.colon.mattfolio.api.photo.dto.PhotoUploadRange;
+import com.colon.mattfolio.api.photo.dto.PhotoUploadSessionResponse;
+
+import lombok.Getter;
+
+/**
+ * 분할(재개 가능) 업로드 세션의 상태를 보관하는 객체<br/>
+ * <br/>
+ * 파일 하나를 여러 청크로 나누어 임의 순서로 받으며, 수신된 구간을 병합하여 관리합니다.<br/>
+ * 같은 세션의 청크가 동시에 수신될 수 있으므로, 수신 구간은 이 객체로 동기화하여 변경합니다.<br/>
+ * 서비스는 조립 파일 복사와 완료 접수도 이 객체로 동기화하여, 겹침 확인-복사-수신 표시를 한 번에 수행합니다.
+ */
+public class PhotoUploadSession {
+
+    // 업로드 세션 ID
+    @Getter
+    private final String sessionId;
+
+    // 세션을 생성한 회원 ID
+    @Getter
+    private final String ownerId;
+
+    // 원본 파일명
+    @Getter
+    private final String fileName;
+
+    // Content-Type
+    @Getter
+    private final String contentType;
+
+    // 전체 파일 크기 (byte)
+    @Getter
+    private final long size;
+
+    // 클라이언트가 전달한 전체 파일 SHA-256 해시 (없으면 null)
+    @Getter
+    private final String expectedHash;
+
+    // 청크를 조립하는 임시 파일 경로
+    @Getter
+    private final Path path;
+
+    // 마지막 접근 일시 (만료 판단 기준)
+    @Getter
+    private volatile LocalDateTime lastAccessDate = LocalDateTime.now();
+
+    // 수신된 구간 (시작 위치 → 끝 위치(미포함)), 겹치거나 맞닿은 구간은 병합
+    private final TreeMap<Long, Long> receivedRanges = new TreeMap<>();
+
+    private long receivedBytes;
+
+    // 완료 요청이 접수되었는지 여부
+    private boolean completing;
+
+    public PhotoUploadSession(String sessionId, String ownerId, String fileName, String contentType, long size, String expectedHash, Path path) {
+        this.sessionId = sessionId;
+        this.ownerId = ownerId;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.size = size;
+        this.expectedHash = expectedHash;
+        this.path = path;
+    }
+
+    /**
+     * 요청자가 세션을 생성한 회원인지 확인합니다.
+     *
+     * @param requesterId 요청자 회원 ID (인증 없는 요청이면 null)
+     * @return 세션을 생성한 회원이면 true (세션 또는 요청자의 회원 ID가 없으면 false)
+     */
+    public boolean isOwnedBy(String requesterId) {
+        return ownerId != null && ownerId.equals(requesterId);
+    }
+
+    /**
+     * 마지막 접근 일시를 갱신합니다.
+     */
+    public void touch() {
+        this.lastAccessDate = LocalDateTime.now();
+    }
+
+    /**
+     * 구간을 수신 완료로 표시하고, 겹치거나 맞닿은 구간과 병합합니다.
+     *
+     * @param start 시작 위치 (byte, 포함)
+     * @param end 끝 위치 (byte, 미포함)
+     */
+    public synchronized void markReceived(long start, long end) {
+        long mergedStart = start;
+        long mergedEnd = end;
+
+        Map.Entry<Long, Long> floor = receivedRanges.floorEntry(start);
+        if (floor != null && floor.getValue() >= start) {
+            mergedStart = floor.getKey();
+            mergedEnd = Math.max(mergedEnd, floor.getValue());
+        }
+
+        Map.Entry<Long, Long> next;
+        while ((next = receivedRanges.ceilingEntry(mergedStart)) != null && next.getKey() <= mergedEnd) {
+            mergedEnd = Math.max(mergedEnd, next.getValue());
+            receivedRanges.remove(next.getKey());
+        }
+        receivedRanges.put(mergedStart, mergedEnd);
+
+        receivedBytes = receivedRanges.entrySet()
+            .stream()
+            .mapToLong(range -> range.getValue() - range.getKey())
+            .sum();
+    }
+
+    /**
+     * 구간이 이미 수신된 구간과 겹치는지 여부를 반환합니다. (맞닿기만 한 경우는 겹치지 않음)
+     *
+     * @param start 시작 위치 (byte, 포함)
+     * @param end 끝 위치 (byte, 미포함)
+     * @return 겹치는 수신 구간이 있으면 true
+     */
+    public synchronized boolean overlapsReceived(long start, long end) {
+        Map.Entry<Long, Long> floor = receivedRanges.floorEntry(start);
+        if (floor != null && floor.getValue() > start) {
+            return true;
+        }
+
+        Long next = receivedRanges.higherKey(start);
+        return next != null && next < end;
+    }
+
+    /**
+     * 모든 구간이 수신되었는지 여부를 반환합니다.
+     *
+     * @return 전체 파일이 수신되었으면 true
+     */
+    public synchronized boolean isReceived() {
+        return receivedBytes == size;
+    }
+
+    /**
+     * 완료 요청을 접수합니다. 이미 접수된 경우 중복 처리하지 않도록 false를 반환합니다.
+     *
+     * @return 처음 접수된 경우 true
+     */
+    public synchronized boolean beginComplete() {
+        if (completing) {
+            return false;
+        }
+        completing = true;
+        return true;
+    }
+
+    /**
+     * 완료 요청이 접수되어 더 이상 청크를 받지 않는지 여부를 반환합니다.
+     *
+     * @return 완료 요청이 접수되었으면 true
+     */
+    public synchronized boolean isCompleting() {
+        return completing;
+    }
+
+    /**
+     * 현재 진행 상태를 응답 DTO로 변환합니다.
+     *
+     * @param maxChunkSize 청크 하나의 최대 크기 (byte)
+     * @param ttlMinutes 세션 유지 시간 (분)
+     * @return 세션 진행 상태 DTO
+     */
+    public synchronized PhotoUploadSessionResponse toResponse(long maxChunkSize, long ttlMinutes) {
+        List<PhotoUploadRange> ranges = new ArrayList<>(receivedRanges.size());
+        receivedRanges.forEach((start, end) -> ranges.add(PhotoUploadRange.builder()
+            .start(start)
+            .end(end - 1)
+            .build()));
+
+        return PhotoUploadSessionResponse.builder()
+            .sessionId(sessionId)
+            .fileName(fileName)
+            .size(size)
+            .receivedBytes(receivedBytes)
+            .maxChunkSize(maxChunkSize)
+            .receivedRanges(ranges)
+            .complete(receivedBytes == size)
+            .expiresDate(lastAccessDate.plusMinutes(ttlMinutes))
+            .build();
+    }
+}
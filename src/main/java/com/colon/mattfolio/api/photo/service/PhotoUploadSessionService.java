@@ -0,0 +1,373 @@
+package com.colon.mattfolio.api.photo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.colon.mattfolio.api.photo.dto.PhotoUploadJobResponse;
+import com.colon.mattfolio.api.photo.dto.PhotoUploadSessionCreateRequest;
+import com.colon.mattfolio.api.photo.dto.PhotoUploadSessionResponse;
+import com.colon.mattfolio.common.admission.AdmissionReservation;
+import com.colon.mattfolio.common.admission.UploadAdmissionFilter;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.file.FileSpoolService;
+import com.colon.mattfolio.common.file.SpooledFile;
+import com.colon.mattfolio.util.ContentHashUtil;
+import com.colon.mattfolio.util.KeyGenerator;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PhotoUploadSessionService는 대용량 사진을 여러 청크로 나누어 업로드하는 분할(재개 가능) 업로드를 담당하는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 주요 기능:<br/>
+ * - 업로드 세션 생성: 파일 하나당 세션 하나, 청크는 임시 디렉토리의 파일 하나에 위치(offset)별로 조립<br/>
+ * - 청크 수신: 청크를 별도 임시 파일에 받은 뒤 길이와 체크섬(SHA-256, 전달한 경우)을 검증하고, 검증된 청크만 조립 파일에 복사하여 수신 구간으로 반영<br/>
+ * - 수신 구간 조회: 연결이 끊긴 클라이언트는 누락된 구간만 다시 전송<br/>
+ * - 완료: 전체 해시를 계산(전달된 경우 검증)한 뒤 비동기 업로드 작업으로 접수하여, 다른 파일이 업로드되는 동안에도 처리를 시작<br/>
+ * - 일정 시간 청크가 수신되지 않은 세션은 임시 파일과 함께 정리<br/>
+ * <br/>
+ * 세션은 로그인한 회원만 만들 수 있으며(SecurityConfig), 청크 전송/조회/완료/취소는 세션을 만든 회원만 할 수 있습니다. (다른 회원에게는 없는 세션으로 응답)<br/>
+ * 열린 세션 수(전체, 회원별)와 열린 세션이 예약한 파일 크기 합을 제한하여, 완료하지 않은 세션이 임시 디렉토리를 채우지 못하도록 합니다.<br/>
+ * 이미 수신된 구간과 겹치는 청크는 거절하므로, 손상되거나 잘린 재전송이 검증된 데이터를 덮어쓰지 않습니다.<br/>
+ * 조립 파일 복사, 완료 접수, 취소와 만료 정리는 세션 단위로 직렬화되어(세션 객체 잠금), 완료 접수나 정리 후에는 어떤 청크도 조립 파일에 기록되지 않습니다.
+ */
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class PhotoUploadSessionService {
+
+    // 청크 복사 버퍼 크기 (byte)
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileSpoolService fileSpoolService;
+
+    private final PhotoUploadJobService photoUploadJobService;
+
+    // 완료된 파일의 처리에 대한 업로드 유입 예산 예약
+    private final UploadAdmissionFilter uploadAdmissionFilter;
+
+    // 청크 하나의 최대 크기 (byte)
+    @Value("${photo.upload.session.max-chunk-size:16777216}")
+    private long maxChunkSize;
+
+    // 세션 하나로 업로드할 수 있는 최대 파일 크기 (byte)
+    @Value("${photo.upload.session.max-file-size:1073741824}")
+    private long maxFileSize;
+
+    // 마지막 청크 수신 후 세션을 유지하는 시간 (분)
+    @Value("${photo.upload.session.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    // 동시에 열어 둘 수 있는 전체 세션 수
+    @Value("${photo.upload.session.max-sessions:1000}")
+    private int maxSessions;
+
+    // 회원 한 명이 동시에 열어 둘 수 있는 세션 수
+    @Value("${photo.upload.session.max-sessions-per-owner:20}")
+    private int maxSessionsPerOwner;
+
+    // 열린 세션이 예약할 수 있는 파일 크기 합 (byte)
+    @Value("${photo.upload.session.max-reserved-bytes:21474836480}")
+    private long maxReservedBytes;
+
+    // 세션 ID별 상태 저장소
+    private final Map<String, PhotoUploadSession> sessions = new ConcurrentHashMap<>();
+
+    // 열린 세션이 예약한 파일 크기 합 (byte)
+    private final AtomicLong reservedBytes = new AtomicLong();
+
+    // 세션 수/예약 크기 확인과 등록을 직렬화하는 잠금
+    private final Object quotaLock = new Object();
+
+    /**
+     * 분할 업로드 세션을 생성합니다.<br/>
+     * 열린 세션 수나 예약된 파일 크기 합이 한도를 넘으면 거절하며, 기존 세션을 완료하거나 취소한 뒤 다시 생성할 수 있습니다.
+     *
+     * @param request 세션 생성 요청 (파일명, 전체 크기, 전체 해시)
+     * @param ownerId 세션을 생성하는 회원 ID (SecurityConfig에서 인증을 요구하므로 항상 있음)
+     * @return 생성된 세션의 진행 상태
+     * @throws IOException 임시 파일 생성 중 발생하는 예외
+     * @throws PhotoException 파일 크기가 허용 범위를 벗어나거나, 세션 한도를 넘는 경우 발생하는 예외
+     */
+    public PhotoUploadSessionResponse create(PhotoUploadSessionCreateRequest request, String ownerId) throws IOException {
+        if (request.size() < 1 || request.size() > maxFileSize) {
+            throw new PhotoException(PhotoException.Reason.INVALID_FILE);
+        }
+
+        PhotoUploadSession session;
+        synchronized (quotaLock) {
+            long ownerSessions = sessions.values()
+                .stream()
+                .filter(opened -> opened.isOwnedBy(ownerId))
+                .count();
+            if (sessions.size() >= maxSessions || ownerSessions >= maxSessionsPerOwner || reservedBytes.get() + request.size() > maxReservedBytes) {
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 분할 업로드 세션 한도 초과 - 전체: {}, 회원: {}, 예약: {} byte", sessions.size(), ownerSessions, reservedBytes.get());
+                throw new PhotoException(PhotoException.Reason.UPLOAD_SESSION_LIMIT);
+            }
+
+            Path path = fileSpoolService.newSpoolPath();
+            Files.createFile(path);
+
+            session = new PhotoUploadSession(KeyGenerator.generateKey(), ownerId, request.fileName(), request.contentType(), request.size(), //
+                    request.sha256() == null ? null : request.sha256()
+                        .toLowerCase(),
+                    path);
+            sessions.put(session.getSessionId(), session);
+            reservedBytes.addAndGet(session.getSize());
+        }
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 분할 업로드 세션 생성 - sessionId: {}, 파일: {}, 크기: {}", session.getSessionId(), session.getFileName(), session.getSize());
+
+        return session.toResponse(maxChunkSize, ttlMinutes);
+    }
+
+    /**
+     * 세션의 진행 상태(수신된 구간)를 조회합니다.
+     *
+     * @param sessionId 업로드 세션 ID
+     * @param requesterId 조회하는 회원 ID (인증 없는 요청이면 null)
+     * @return 세션 진행 상태
+     * @throws PhotoException 세션이 존재하지 않거나, 만료되었거나, 요청자가 생성한 세션이 아닌 경우 발생하는 예외
+     */
+    public PhotoUploadSessionResponse findSession(String sessionId, String requesterId) {
+        return getSession(sessionId, requesterId).toResponse(maxChunkSize, ttlMinutes);
+    }
+
+    /**
+     * 청크를 수신하여 지정한 위치에 기록합니다.<br/>
+     * 요청 본문을 고정 크기 버퍼로 읽어 청크 전용 임시 파일에 받으므로, 청크 전체를 메모리에 올리지 않습니다.<br/>
+     * 길이와 체크섬을 검증한 뒤에만 조립 파일에 복사하므로, 너무 크거나 체크섬이 일치하지 않는 청크는 조립 파일을 변경하지 않으며 클라이언트는 같은 청크를 다시 전송합니다.<br/>
+     * 이미 수신된 구간과 겹치는 청크는 거절합니다. (누락된 구간은 세션 조회로 확인)
+     *
+     * @param sessionId 업로드 세션 ID
+     * @param requesterId 청크를 전송하는 회원 ID (인증 없는 요청이면 null)
+     * @param offset 청크 시작 위치 (byte)
+     * @param body 청크 데이터 입력 스트림
+     * @param checksum 청크의 SHA-256 해시 (16진수, 없으면 검증 생략)
+     * @return 세션 진행 상태
+     * @throws IOException 청크 기록 중 발생하는 예외
+     * @throws PhotoException 세션이 없거나(요청자가 생성한 세션이 아닌 경우 포함), 위치/크기가 올바르지 않거나, 이미 수신된 구간과 겹치거나, 체크섬이 일치하지 않는 경우 발생하는 예외
+     */
+    public PhotoUploadSessionResponse writeChunk(String sessionId, String requesterId, long offset, InputStream body, String checksum) throws IOException {
+        PhotoUploadSession session = getSession(sessionId, requesterId);
+        if (session.isCompleting() || offset < 0 || offset >= session.getSize()) {
+            throw new PhotoException(PhotoException.Reason.INVALID_CHUNK);
+        }
+        session.touch();
+
+        long limit = Math.min(session.getSize() - offset, maxChunkSize);
+        Path staged = fileSpoolService.newSpoolPath();
+        try {
+            // 네트워크 수신은 세션 잠금 밖에서 청크 전용 임시 파일로 받음
+            MessageDigest digest = ContentHashUtil.newDigest();
+            long length = stage(body, staged, limit, digest);
+
+            if (length == 0) {
+                throw new PhotoException(PhotoException.Reason.INVALID_CHUNK);
+            }
+            if (checksum != null && !checksum.isBlank() && !checksum.equalsIgnoreCase(ContentHashUtil.toHex(digest.digest()))) {
+                throw new PhotoException(PhotoException.Reason.CHECKSUM_MISMATCH);
+            }
+
+            // 검증된 청크만 조립 파일에 복사 (완료 접수와 직렬화)
+            synchronized (session) {
+                if (session.isCompleting()) {
+                    throw new PhotoException(PhotoException.Reason.INVALID_CHUNK);
+                }
+                if (session.overlapsReceived(offset, offset + length)) {
+                    throw new PhotoException(PhotoException.Reason.CHUNK_ALREADY_RECEIVED);
+                }
+
+                copyInto(staged, session.getPath(), offset, length);
+                session.markReceived(offset, offset + length);
+            }
+        } finally {
+            Files.deleteIfExists(staged);
+        }
+        session.touch();
+
+        return session.toResponse(maxChunkSize, ttlMinutes);
+    }
+
+    /**
+     * 모든 구간이 수신된 세션을 완료하고 비동기 업로드 작업으로 접수합니다.<br/>
+     * 조립된 파일의 SHA-256 해시를 계산하여, 세션 생성 시 해시를 전달한 경우 일치 여부를 검증합니다.<br/>
+     * 파일 크기만큼 업로드 유입 예산을 예약하여 작업이 끝날 때까지 유지하며, 예산이 없으면 세션을 그대로 두고 거절하므로 잠시 후 다시 완료할 수 있습니다.
+     *
+     * @param sessionId 업로드 세션 ID
+     * @param ownerId 업로드 작업을 접수하는 회원 ID (세션을 생성한 회원, 인증 없는 요청이면 null)
+     * @return 접수된 업로드 작업의 진행 상태
+     * @throws IOException 해시 계산 중 발생하는 예외
+     * @throws PhotoException 세션이 없거나(요청자가 생성한 세션이 아닌 경우 포함), 수신되지 않은 구간이 있거나, 전체 해시가 일치하지 않거나, 유입 예산이 부족한 경우 발생하는 예외
+     */
+    public PhotoUploadJobResponse complete(String sessionId, String ownerId) throws IOException {
+        PhotoUploadSession session = getSession(sessionId, ownerId);
+        AdmissionReservation reservation = uploadAdmissionFilter.reserve(session.getSize());
+
+        // 청크 복사와 직렬화하여, 접수 이후에는 조립 파일이 바뀌지 않도록 함
+        synchronized (session) {
+            if (!session.isReceived()) {
+                reservation.release();
+                throw new PhotoException(PhotoException.Reason.UPLOAD_INCOMPLETE);
+            }
+            if (!session.beginComplete()) {
+                // 이미 다른 요청이 완료 처리 중인 경우
+                reservation.release();
+                throw new PhotoException(PhotoException.Reason.UPLOAD_SESSION_NOT_FOUND);
+            }
+        }
+
+        String contentHash;
+        try {
+            contentHash = ContentHashUtil.hash(session.getPath());
+        } catch (IOException | RuntimeException e) {
+            reservation.release();
+            discard(session);
+            throw e;
+        }
+
+        if (session.getExpectedHash() != null && !session.getExpectedHash()
+            .equals(contentHash)) {
+            reservation.release();
+            discard(session);
+            throw new PhotoException(PhotoException.Reason.CHECKSUM_MISMATCH);
+        }
+
+        // 조립 파일은 업로드 작업으로 넘어가므로 세션 예약에서 제외 (작업의 유입 예산 예약이 이어받음)
+        remove(session);
+        SpooledFile spooledFile = new SpooledFile(session.getPath(), session.getFileName(), session.getContentType(), session.getSize(), contentHash);
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 분할 업로드 완료 - sessionId: {}, 파일: {}", sessionId, session.getFileName());
+
+        // 처리 후 임시 파일은 업로드 작업에서 삭제
+        return photoUploadJobService.submit(List.of(spooledFile), ownerId, reservation);
+    }
+
+    /**
+     * 세션을 취소하고 임시 파일을 삭제합니다.
+     *
+     * @param sessionId 업로드 세션 ID
+     * @param requesterId 취소하는 회원 ID (인증 없는 요청이면 null)
+     * @throws PhotoException 세션이 존재하지 않거나, 만료되었거나, 요청자가 생성한 세션이 아닌 경우 발생하는 예외
+     */
+    public void abort(String sessionId, String requesterId) {
+        PhotoUploadSession session = getSession(sessionId, requesterId);
+        synchronized (session) {
+            // 완료 접수와 같은 방식으로 표시하여, 이후 청크가 기록되지 않도록 함
+            if (!session.beginComplete()) {
+                throw new PhotoException(PhotoException.Reason.UPLOAD_SESSION_NOT_FOUND);
+            }
+            discard(session);
+        }
+    }
+
+    /**
+     * 유지 시간 동안 청크가 수신되지 않은 세션을 정리합니다.<br/>
+     * 청크 복사와 같은 세션 잠금 안에서 만료 여부를 다시 확인하고 완료 접수와 같은 방식으로 표시한 뒤 삭제하므로,<br/>
+     * 정리 직전에 도착한 청크는 삭제된 조립 파일에 기록되지 않고 거절됩니다.
+     */
+    @Scheduled(fixedDelayString = "${photo.upload.session.cleanup-interval-ms:600000}")
+    public void evictExpiredSessions() {
+        LocalDateTime expiredBefore = LocalDateTime.now()
+            .minusMinutes(ttlMinutes);
+
+        for (PhotoUploadSession session : sessions.values()) {
+            synchronized (session) {
+                if (session.getLastAccessDate()
+                    .isBefore(expiredBefore) && session.beginComplete()) {
+                    log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 만료된 분할 업로드 세션 정리 - sessionId: {}", session.getSessionId());
+                    discard(session);
+                }
+            }
+        }
+    }
+
+    /**
+     * 청크 데이터를 임시 파일로 받으면서 해시를 계산합니다.
+     *
+     * @return 받은 데이터 크기 (byte)
+     * @throws PhotoException 데이터가 limit를 넘는 경우 (파일 끝 또는 최대 청크 크기 초과)
+     */
+    private long stage(InputStream body, Path staged, long limit, MessageDigest digest) throws IOException {
+        long length = 0;
+        try (OutputStream out = Files.newOutputStream(staged)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                if (length + read > limit) {
+                    throw new PhotoException(PhotoException.Reason.INVALID_CHUNK);
+                }
+
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+                length += read;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 검증된 청크 임시 파일을 조립 파일의 지정한 위치에 복사합니다.
+     */
+    private void copyInto(Path staged, Path target, long offset, long length) throws IOException {
+        try (FileChannel source = FileChannel.open(staged, StandardOpenOption.READ); FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            long copied = 0;
+            while (copied < length) {
+                long transferred = channel.transferFrom(source, offset + copied, length - copied);
+                if (transferred <= 0) {
+                    throw new IOException("chunk copy stalled: " + staged);
+                }
+                copied += transferred;
+            }
+        }
+    }
+
+    /**
+     * 요청자가 생성한 세션을 조회합니다. 다른 회원의 세션은 존재 여부를 드러내지 않도록 없는 세션과 같이 처리합니다.
+     */
+    private PhotoUploadSession getSession(String sessionId, String requesterId) {
+        PhotoUploadSession session = sessions.get(sessionId);
+        if (session == null || !session.isOwnedBy(requesterId)) {
+            throw new PhotoException(PhotoException.Reason.UPLOAD_SESSION_NOT_FOUND);
+        }
+        return session;
+    }
+
+    /**
+     * 세션을 저장소에서 제거하고 예약한 파일 크기를 반환합니다. (이미 제거된 경우 무시)
+     */
+    private void remove(PhotoUploadSession session) {
+        if (sessions.remove(session.getSessionId(), session)) {
+            reservedBytes.addAndGet(-session.getSize());
+        }
+    }
+
+    /**
+     * 세션을 제거하고 임시 파일을 삭제합니다.
+     */
+    private void discard(PhotoUploadSession session) {
+        remove(session);
+        try {
+            Files.deleteIfExists(session.getPath());
+        } catch (IOException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 분할 업로드 임시 파일 삭제 실패: {}", session.getPath(), e);
+        }
+    }
+
+}
@@ -0,0 +1,208 @@
+package com.colon.mattfolio.api.photo.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.colon.mattfolio.api.photo.dto.PhotographerIngestPartitionResult;
+import com.colon.mattfolio.api.photo.dto.PhotographerIngestRequest;
+import com.colon.mattfolio.api.photo.dto.PhotographerIngestResponse;
+import com.colon.mattfolio.common.batch.PhotographerIngestJobConfig;
+import com.colon.mattfolio.common.exception.PhotoException;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PhotographerIngestService는 작가 사진 일괄 적재(Spring Batch) 작업의 실행, 조회, 재시작을 담당하는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 주요 기능:<br/>
+ * - 실행: 적재 루트 디렉토리 기준 경로를 검증한 뒤 photoIngestLaunchExecutor에서 작업을 실행하고 실행 ID를 즉시 반환<br/>
+ * - 조회: 작업 저장소에 기록된 파티션별 진행 상황 반환<br/>
+ * - 재시작: 실패/중단된 실행을 같은 파라미터로 다시 실행하여, 완료되지 않은 파티션의 마지막 커밋 위치부터 이어서 처리
+ */
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class PhotographerIngestService {
+
+    private final JobRepository jobRepository;
+
+    private final JobExplorer jobExplorer;
+
+    @Qualifier(PhotographerIngestJobConfig.JOB_NAME)
+    private final Job photographerIngestJob;
+
+    // 작업 실행 전용 Executor (요청 스레드는 접수만 하고 반환)
+    @Qualifier("photoIngestLaunchExecutor")
+    private final ThreadPoolTaskExecutor photoIngestLaunchExecutor;
+
+    // 적재 대상 디렉토리/압축 파일을 두는 루트 디렉토리
+    @Value("${photo.ingest.staging-root:${java.io.tmpdir}/mattfolio/ingest}")
+    private String stagingRoot;
+
+    private Path stagingRootPath;
+
+    private TaskExecutorJobLauncher jobLauncher;
+
+    @PostConstruct
+    public void init() throws Exception {
+        stagingRootPath = Path.of(stagingRoot)
+            .toAbsolutePath()
+            .normalize();
+        Files.createDirectories(stagingRootPath);
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(photoIngestLaunchExecutor);
+        jobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 작가 사진 일괄 적재 작업을 실행합니다.
+     *
+     * @param request 적재 요청 (대상 디렉토리, 압축 파일)
+     * @return 접수된 실행의 진행 상태
+     * @throws PhotoException 경로가 적재 루트 디렉토리를 벗어나거나 존재하지 않는 경우 발생하는 예외
+     */
+    public PhotographerIngestResponse launch(PhotographerIngestRequest request) {
+        Path sourceDir = resolve(request.sourceDir());
+        Path archive = request.archive() == null || request.archive()
+            .isBlank() ? null : resolve(request.archive());
+
+        if (archive != null ? !Files.isRegularFile(archive) : !Files.isDirectory(sourceDir)) {
+            throw new PhotoException(PhotoException.Reason.INVALID_INGEST_SOURCE);
+        }
+
+        JobParametersBuilder builder = new JobParametersBuilder().addString(PhotographerIngestJobConfig.SOURCE_DIR_PARAMETER, sourceDir.toString())
+            .addLong(PhotographerIngestJobConfig.REQUESTED_AT_PARAMETER, System.currentTimeMillis());
+        if (archive != null) {
+            builder.addString(PhotographerIngestJobConfig.ARCHIVE_PARAMETER, archive.toString());
+        }
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 작가 일괄 적재 접수 - 디렉토리: {}, 압축 파일: {}", sourceDir, archive);
+
+        return run(builder.toJobParameters());
+    }
+
+    /**
+     * 적재 실행의 진행 상태를 조회합니다.
+     *
+     * @param executionId 적재 실행 ID
+     * @return 실행의 진행 상태
+     * @throws PhotoException 실행이 존재하지 않는 경우 발생하는 예외
+     */
+    public PhotographerIngestResponse findExecution(long executionId) {
+        return toResponse(getExecution(executionId));
+    }
+
+    /**
+     * 실패하거나 중단된 적재 실행을 재시작합니다.
+     *
+     * @param executionId 재시작할 적재 실행 ID
+     * @return 새로 접수된 실행의 진행 상태
+     * @throws PhotoException 실행이 존재하지 않거나, 실행 중이거나, 이미 완료된 경우 발생하는 예외
+     */
+    public PhotographerIngestResponse restart(long executionId) {
+        JobExecution execution = getExecution(executionId);
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 작가 일괄 적재 재시작 - 이전 실행 ID: {}, 상태: {}", executionId, execution.getStatus());
+
+        return run(execution.getJobParameters());
+    }
+
+    private PhotographerIngestResponse run(JobParameters parameters) {
+        try {
+            return toResponse(jobLauncher.run(photographerIngestJob, parameters));
+        } catch (JobExecutionAlreadyRunningException | JobRestartException | JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+            throw new PhotoException(PhotoException.Reason.INGEST_NOT_RESTARTABLE);
+        }
+    }
+
+    private JobExecution getExecution(long executionId) {
+        JobExecution execution = jobExplorer.getJobExecution(executionId);
+        if (execution == null || !PhotographerIngestJobConfig.JOB_NAME.equals(execution.getJobInstance()
+            .getJobName())) {
+            throw new PhotoException(PhotoException.Reason.INGEST_NOT_FOUND);
+        }
+        return execution;
+    }
+
+    /**
+     * 적재 루트 디렉토리 기준 상대 경로를 절대 경로로 변환합니다.
+     *
+     * @throws PhotoException 경로가 적재 루트 디렉토리를 벗어나는 경우 발생하는 예외
+     */
+    private Path resolve(String relativePath) {
+        Path path = stagingRootPath.resolve(relativePath)
+            .normalize();
+        if (!path.startsWith(stagingRootPath) || path.equals(stagingRootPath)) {
+            throw new PhotoException(PhotoException.Reason.INVALID_INGEST_SOURCE);
+        }
+        return path;
+    }
+
+    private PhotographerIngestResponse toResponse(JobExecution execution) {
+        List<PhotographerIngestPartitionResult> partitions = execution.getStepExecutions()
+            .stream()
+            .filter(step -> step.getStepName()
+                .startsWith(PhotographerIngestJobConfig.WORKER_STEP_NAME + ":"))
+            .sorted(Comparator.comparing(StepExecution::getStepName))
+            .map(step -> PhotographerIngestPartitionResult.builder()
+                .name(step.getStepName())
+                .status(step.getStatus()
+                    .name())
+                .readCount(step.getReadCount())
+                .writeCount(step.getWriteCount())
+                .filterCount(step.getFilterCount())
+                .skipCount(step.getSkipCount())
+                .build())
+            .toList();
+
+        return PhotographerIngestResponse.builder()
+            .executionId(execution.getId())
+            .jobInstanceId(execution.getJobInstance()
+                .getInstanceId())
+            .status(execution.getStatus()
+                .name())
+            .exitCode(execution.getExitStatus()
+                .getExitCode())
+            .sourceDir(execution.getJobParameters()
+                .getString(PhotographerIngestJobConfig.SOURCE_DIR_PARAMETER))
+            .readCount(partitions.stream()
+                .mapToLong(PhotographerIngestPartitionResult::getReadCount)
+                .sum())
+            .writeCount(partitions.stream()
+                .mapToLong(PhotographerIngestPartitionResult::getWriteCount)
+                .sum())
+            .filterCount(partitions.stream()
+                .mapToLong(PhotographerIngestPartitionResult::getFilterCount)
+                .sum())
+            .skipCount(partitions.stream()
+                .mapToLong(PhotographerIngestPartitionResult::getSkipCount)
+                .sum())
+            .startDate(execution.getStartTime())
+            .endDate(execution.getEndTime())
+            .partitions(partitions)
+            .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.colon.mattfolio.api.storage.controller;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.colon.mattfolio.api.storage.service.StorageService;
+import com.colon.mattfolio.common.base.MasterController;
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.storage.StoredFileHandle;
+import com.colon.mattfolio.common.storage.StoredFileMetadata;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * StorageController는 사진 저장소에 저장된 파일을 내려받는 REST 컨트롤러입니다.<br/>
+ * <br/>
+ * 주요 기능:<br/>
+ * - HTTP Range 요청(단일 구간)에 대한 부분 응답(206 Partial Content)<br/>
+ * - ETag / If-None-Match 기반 조건부 응답(304 Not Modified), If-Range 지원<br/>
+ * - 파일 전체를 메모리에 올리지 않는 스트리밍 전송 (로컬 저장소는 웹 서버 sendfile 사용)
+ */
+@RestController
+@RequiredArgsConstructor
+public class StorageController extends MasterController {
+
+    // Tomcat sendfile 지원 여부 / 파일 경로 / 시작 위치 / 종료 위치(미포함) 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final StorageService storageService;
+
+    // 브라우저/CDN 캐시 유지 시간 (초), 파일 키는 고유하고 덮어쓰지 않으므로 길게 설정 가능
+    @Value("${storage.download.max-age-seconds:86400}")
+    private long maxAgeSeconds;
+
+    /**
+     * 저장된 파일 다운로드 API<br/>
+     * Range 헤더가 있으면 해당 구간만 전송(206)하고, If-None-Match가 현재 ETag와 일치하면 본문 없이 304를 반환합니다.<br/>
+     * 여러 구간을 요청한 경우 전체 파일을 전송(200)합니다.<br/>
+     * 304 및 HEAD 응답은 메타데이터 조회만 하고, 본문을 보낼 때만 파일(원격 저장소는 디스크 캐시)을 엽니다.<br/>
+     * <br/>
+     *
+     * @param container 컨테이너 이름 (profile, photographer)
+     * @param key 파일 키
+     * @throws PhotoException 파일이 존재하지 않는 경우 예외 발생
+     */
+    @Operation(summary = "저장된 파일 다운로드", description = "저장소의 파일을 스트리밍으로 내려받습니다. Range, ETag(If-None-Match, If-Range)를 지원합니다.")
+    @GetMapping("/storage/{container}/{key}")
+    public void download( //
+            @Parameter(description = "컨테이너 이름", required = true) @PathVariable("container") String container, //
+            @Parameter(description = "파일 키", required = true) @PathVariable("key") String key, //
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        BlobContainerType containerType = storageService.findContainerType(container);
+        // 조건부 요청(304)과 HEAD 요청은 메타데이터만으로 응답하므로 본문(디스크 캐시 채우기)은 아직 열지 않음
+        StoredFileMetadata metadata = storageService.stat(containerType, key);
+        long size = metadata.getSize();
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.ETAG, metadata.getETag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, metadata.getLastModified());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=" + maxAgeSeconds);
+
+        // 클라이언트가 가진 버전과 같으면 본문 없이 응답
+        if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), metadata.getETag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long start = 0;
+        long end = size - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && size > 0 && isRangeApplicable(request, metadata)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                // 형식이 올바르지 않은 Range는 무시하고 전체를 전송
+                ranges = List.of();
+            }
+
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0)
+                        .getRangeStart(size);
+                    end = ranges.get(0)
+                        .getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentType(metadata.getContentType() != null ? metadata.getContentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length <= 0) {
+            return;
+        }
+
+        StoredFileHandle handle = storageService.open(containerType, key, metadata);
+
+        // 로컬 파일(로컬 저장소 또는 디스크 캐시)이고 웹 서버가 sendfile을 지원하면 커널 내 전송(zero-copy)을 위임
+        Path localPath = handle.getLocalPath();
+        if (localPath != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, localPath.toAbsolutePath()
+                .toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        storageService.write(containerType, key, handle, start, length, response.getOutputStream());
+    }
+
+    /**
+     * If-Range 조건을 확인합니다. 조건이 없거나 현재 버전과 일치하는 경우에만 Range를 적용합니다.
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, StoredFileMetadata metadata) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(metadata.getETag());
+        }
+
+        long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+        return ifRangeDate != -1 && metadata.getLastModified() / 1000 <= ifRangeDate / 1000;
+    }
+
+    /**
+     * If-None-Match 헤더에 현재 ETag(약한 비교)가 포함되어 있는지 확인합니다.
+     */
+    private boolean matchesETag(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+
+        String current = stripWeak(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || stripWeak(value).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String stripWeak(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+}
@@ -0,0 +1,116 @@
+package com.colon.mattfolio.api.storage.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import org.springframework.stereotype.Service;
+
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.storage.PhotoDiskCache;
+import com.colon.mattfolio.common.storage.PhotoStorage;
+import com.colon.mattfolio.common.storage.StoredFileHandle;
+import com.colon.mattfolio.common.storage.StoredFileMetadata;
+import com.colon.mattfolio.util.FileUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * StorageService는 사진 저장소(PhotoStorage)에 저장된 파일의 조회/전송을 담당하는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 주요 기능:<br/>
+ * - 컨테이너 이름을 컨테이너 구분으로 변환<br/>
+ * - 저장된 파일의 메타데이터(크기, ETag, Content-Type) 조회<br/>
+ * - 본문 전송용 로컬 경로 조회 (원격 저장소는 디스크 캐시 사용)<br/>
+ * - 저장된 파일의 지정 구간을 스트리밍 전송
+ */
+@RequiredArgsConstructor
+@Service
+public class StorageService {
+
+    private final PhotoStorage photoStorage;
+
+    // 원격 저장소 앞단의 로컬 디스크 캐시
+    private final PhotoDiskCache photoDiskCache;
+
+    /**
+     * 컨테이너 이름에 해당하는 컨테이너 구분을 반환합니다.
+     *
+     * @param container 컨테이너 이름 (예: profile, photographer)
+     * @return 컨테이너 구분
+     * @throws PhotoException 존재하지 않는 컨테이너인 경우 발생하는 예외
+     */
+    public BlobContainerType findContainerType(String container) {
+        BlobContainerType containerType = BlobContainerType.findByKey(container);
+        if (containerType == null) {
+            throw new PhotoException(PhotoException.Reason.FILE_NOT_FOUND);
+        }
+        return containerType;
+    }
+
+    /**
+     * 다운로드할 파일의 메타데이터를 조회합니다.<br/>
+     * 디스크 캐시에 있는 파일은 캐시된 메타데이터를 반환하고, 없으면 저장소에 메타데이터만 조회합니다. (본문은 내려받지 않음)
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @return 파일 메타데이터
+     * @throws PhotoException 파일이 존재하지 않는 경우 발생하는 예외
+     */
+    public StoredFileMetadata stat(BlobContainerType containerType, String key) {
+        if (photoDiskCache.isEnabled()) {
+            StoredFileMetadata cached = photoDiskCache.peek(containerType, key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return photoStorage.stat(containerType, key);
+    }
+
+    /**
+     * 본문을 전송할 파일의 로컬 경로를 조회합니다.<br/>
+     * 원격 저장소인 경우 디스크 캐시(설정 시)를 거치며, 캐시되지 않은 파일은 내려받아 캐시에 채웁니다.
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @param metadata stat으로 조회한 파일 메타데이터
+     * @return 파일 메타데이터와 로컬 경로 (로컬 경로가 없으면 저장소에서 직접 전송)
+     * @throws IOException 디스크 캐시 채우기 중 발생하는 예외
+     */
+    public StoredFileHandle open(BlobContainerType containerType, String key, StoredFileMetadata metadata) throws IOException {
+        Path localPath = photoStorage.getLocalPath(containerType, key);
+        if (localPath != null) {
+            return new StoredFileHandle(metadata, localPath);
+        }
+
+        if (photoDiskCache.isEnabled()) {
+            StoredFileHandle cached = photoDiskCache.get(containerType, key, metadata, photoStorage);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        return new StoredFileHandle(metadata, null);
+    }
+
+    /**
+     * 파일의 지정 구간을 출력 스트림으로 전송합니다.<br/>
+     * 로컬 경로가 있으면 파일에서, 없으면 저장소에서 직접 전송합니다.
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @param handle open으로 조회한 파일 정보
+     * @param offset 시작 위치 (byte)
+     * @param length 전송할 길이 (byte)
+     * @param out 출력 스트림
+     * @throws IOException 전송 중 발생하는 예외
+     */
+    public void write(BlobContainerType containerType, String key, StoredFileHandle handle, long offset, long length, OutputStream out) throws IOException {
+        if (handle.getLocalPath() != null) {
+            FileUtil.transferTo(handle.getLocalPath(), offset, length, out);
+            return;
+        }
+        photoStorage.read(containerType, key, offset, length, out);
+    }
+}
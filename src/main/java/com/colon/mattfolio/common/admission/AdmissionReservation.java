@@ -0,0 +1,72 @@
+package com.colon.mattfolio.common.admission;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 업로드 유입 예산 예약<br/>
+ * <br/>
+ * UploadAdmissionFilter가 요청마다 만들어 요청 속성으로 전달하며, 기본적으로 요청 처리가 끝나면(응답 후) 반환됩니다.<br/>
+ * 응답(202) 후에도 처리가 계속되는 비동기 작업은 handOff로 예약을 넘겨받아, 작업이 끝날 때 release를 호출합니다.<br/>
+ * release는 여러 번 호출해도 한 번만 반영됩니다.
+ */
+public class AdmissionReservation {
+
+    // 요청 속성 이름
+    static final String ATTRIBUTE = AdmissionReservation.class.getName();
+
+    // 유입 제어를 적용하지 않은 경우의 빈 예약 (반환할 예산 없음)
+    private static final AdmissionReservation NONE = new AdmissionReservation(null, 0);
+
+    private final ByteBudget budget;
+
+    private final long bytes;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    // 비동기 작업이 예약을 넘겨받았는지 여부 (넘겨받은 경우 필터는 반환하지 않음)
+    private volatile boolean handedOff;
+
+    AdmissionReservation(ByteBudget budget, long bytes) {
+        this.budget = budget;
+        this.bytes = bytes;
+    }
+
+    /**
+     * 요청의 예약을 비동기 작업으로 넘겨받습니다. 넘겨받은 쪽은 작업이 끝나면(실패 포함) 반드시 release를 호출해야 합니다.
+     *
+     * @param request 유입 제어를 거친 요청
+     * @return 요청의 예약 (유입 제어를 적용하지 않은 요청이면 빈 예약)
+     */
+    public static AdmissionReservation handOff(HttpServletRequest request) {
+        Object attribute = request.getAttribute(ATTRIBUTE);
+        if (!(attribute instanceof AdmissionReservation reservation)) {
+            return NONE;
+        }
+        reservation.handedOff = true;
+        return reservation;
+    }
+
+    /**
+     * 반환할 예산이 없는 빈 예약을 반환합니다.
+     *
+     * @return 빈 예약
+     */
+    public static AdmissionReservation none() {
+        return NONE;
+    }
+
+    /**
+     * 예약한 예산을 반환합니다.
+     */
+    public void release() {
+        if (budget != null && released.compareAndSet(false, true)) {
+            budget.release(bytes);
+        }
+    }
+
+    boolean isHandedOff() {
+        return handedOff;
+    }
+}
@@ -0,0 +1,105 @@
+package com.colon.mattfolio.common.admission;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * 동시에 처리 중인 바이트 수를 예산 이내로 제한하는 카운터<br/>
+ * <br/>
+ * 예산은 KiB 단위 허가(permit)로 나누어 공정(fair) 세마포어로 관리하므로, 먼저 기다린 요청이 먼저 허가를 받습니다.<br/>
+ * 예산보다 큰 요청은 예산 전체를 사용하도록 잘라서 계산하므로, 다른 요청이 모두 끝나면 혼자 처리될 수 있습니다.
+ */
+public class ByteBudget {
+
+    // 허가 하나에 해당하는 바이트 수
+    private static final int UNIT_BYTES = 1024;
+
+    @Getter
+    private final long budgetBytes;
+
+    private final int totalUnits;
+
+    private final Semaphore semaphore;
+
+    private final AtomicLong inFlightBytes = new AtomicLong();
+
+    private final AtomicLong peakInFlightBytes = new AtomicLong();
+
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+    private final AtomicInteger waitingRequests = new AtomicInteger();
+
+    public ByteBudget(long budgetBytes) {
+        this.totalUnits = (int) Math.min(Integer.MAX_VALUE, Math.max(1, budgetBytes / UNIT_BYTES));
+        this.budgetBytes = (long) totalUnits * UNIT_BYTES;
+        this.semaphore = new Semaphore(totalUnits, true);
+    }
+
+    /**
+     * 예산을 얻을 때까지 최대 timeoutMillis 동안 기다립니다.
+     *
+     * @param bytes 처리할 바이트 수
+     * @param timeoutMillis 최대 대기 시간 (ms, 0이면 기다리지 않음)
+     * @return 예산을 얻으면 true (true를 받은 경우 처리가 끝나면 반드시 같은 bytes로 release 호출)
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    public boolean tryAcquire(long bytes, long timeoutMillis) throws InterruptedException {
+        int units = units(bytes);
+
+        boolean acquired;
+        // 시간 제한 없는 tryAcquire는 대기 순서를 무시하므로, 0ms 대기로 공정성을 유지
+        if (semaphore.tryAcquire(units, 0, TimeUnit.MILLISECONDS)) {
+            acquired = true;
+        } else {
+            waitingRequests.incrementAndGet();
+            try {
+                acquired = timeoutMillis > 0 && semaphore.tryAcquire(units, timeoutMillis, TimeUnit.MILLISECONDS);
+            } finally {
+                waitingRequests.decrementAndGet();
+            }
+        }
+
+        if (acquired) {
+            inFlightRequests.incrementAndGet();
+            peakInFlightBytes.accumulateAndGet(inFlightBytes.addAndGet((long) units * UNIT_BYTES), Math::max);
+        }
+        return acquired;
+    }
+
+    /**
+     * 얻은 예산을 반환합니다.
+     *
+     * @param bytes tryAcquire에 전달한 바이트 수
+     */
+    public void release(long bytes) {
+        int units = units(bytes);
+        inFlightBytes.addAndGet(-(long) units * UNIT_BYTES);
+        inFlightRequests.decrementAndGet();
+        semaphore.release(units);
+    }
+
+    public long getInFlightBytes() {
+        return inFlightBytes.get();
+    }
+
+    public long getPeakInFlightBytes() {
+        return peakInFlightBytes.get();
+    }
+
+    public int getInFlightRequests() {
+        return inFlightRequests.get();
+    }
+
+    public int getWaitingRequests() {
+        return waitingRequests.get();
+    }
+
+    private int units(long bytes) {
+        long units = (Math.max(0, bytes) + UNIT_BYTES - 1) / UNIT_BYTES;
+        return (int) Math.max(1, Math.min(units, totalUnits));
+    }
+}
@@ -0,0 +1,236 @@
+package com.colon.mattfolio.common.admission;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.colon.mattfolio.common.dto.ApiResultDto;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.exception.UploadBusyException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 요청의 유입을 바이트 예산으로 제한하는 필터<br/>
+ * <br/>
+ * 업로드 경로(paths)의 POST/PUT 요청은 본문을 읽기(multipart 파싱) 전에 Content-Length만큼 예산을 얻어야 처리됩니다.<br/>
+ * - 예산이 남아 있으면 바로 처리하고, 요청 처리가 끝나면(응답 후) 예산을 반환<br/>
+ * - 응답(202) 후에도 처리가 계속되는 비동기 작업은 예약(AdmissionReservation)을 넘겨받아 작업이 끝날 때 반환<br/>
+ * - 예산이 부족하면 최대 max-wait-ms 동안 순서대로 기다림 (대기 요청이 max-waiting-requests 이상이면 기다리지 않음)<br/>
+ * - 시간 안에 예산을 얻지 못하면 503과 Retry-After 헤더로 거절<br/>
+ * 최대 요청 크기가 크고(1GB) 업로드 파트를 모두 임시 파일로 저장하므로(file-size-threshold: 0), 동시에 처리되는 바이트 총량을 제한하여<br/>
+ * 최대 부하 시에도 디스크와 메모리가 고갈되기 전에 일부 요청을 미루도록 합니다.<br/>
+ * <br/>
+ * Content-Length가 없는 요청(chunked)은 unknown-length-bytes 크기로 계산합니다.<br/>
+ * 필터는 보안 필터 이후에 실행되므로, 인증되지 않은 요청은 예산을 사용하지 않습니다.
+ */
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class UploadAdmissionFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    // 애플리케이션 공용 ObjectMapper (거절 응답 본문 직렬화)
+    private final ObjectMapper objectMapper;
+
+    // 유입 제어 사용 여부
+    @Value("${photo.admission.enabled:true}")
+    private boolean enabled;
+
+    // 동시에 처리할 수 있는 업로드 요청 본문의 총 바이트 수
+    @Value("${photo.admission.budget-bytes:2147483648}")
+    private long budgetBytes;
+
+    // 예산이 부족할 때 기다리는 최대 시간 (ms)
+    @Value("${photo.admission.max-wait-ms:5000}")
+    private long maxWaitMillis;
+
+    // 동시에 기다릴 수 있는 최대 요청 수 (초과 시 기다리지 않고 거절)
+    @Value("${photo.admission.max-waiting-requests:100}")
+    private int maxWaitingRequests;
+
+    // 거절 응답의 Retry-After 값 (초)
+    @Value("${photo.admission.retry-after-seconds:10}")
+    private int retryAfterSeconds;
+
+    // Content-Length가 없는 요청의 예상 크기 (byte)
+    @Value("${photo.admission.unknown-length-bytes:104857600}")
+    private long unknownLengthBytes;
+
+    // 유입 제어를 적용할 경로 (Ant 패턴)
+    @Value("${photo.admission.paths:/upload,/upload/**,/search/face,/account/face}")
+    private String[] paths;
+
+    private ByteBudget budget;
+
+    private List<String> pathPatterns;
+
+    private final AtomicLong admittedCount = new AtomicLong();
+
+    private final AtomicLong queuedCount = new AtomicLong();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        budget = new ByteBudget(budgetBytes);
+        pathPatterns = Arrays.stream(paths)
+            .map(String::trim)
+            .filter(path -> !path.isEmpty())
+            .toList();
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 업로드 유입 제어 준비 - 사용: {}, 예산: {} byte, 경로: {}", enabled, budget.getBudgetBytes(), pathPatterns);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled) {
+            return true;
+        }
+
+        String method = request.getMethod();
+        if (!"POST".equals(method) && !"PUT".equals(method)) {
+            return true;
+        }
+
+        String path = request.getRequestURI()
+            .substring(request.getContextPath()
+                .length());
+        return pathPatterns.stream()
+            .noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+        long bytes = contentLength < 0 ? unknownLengthBytes : contentLength;
+
+        if (!acquire(bytes)) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 업로드 유입 거절 - 경로: {}, 요청 크기: {} byte, 처리 중: {} / {} byte", request.getRequestURI(), bytes, budget.getInFlightBytes(), budget.getBudgetBytes());
+            reject(response);
+            return;
+        }
+
+        AdmissionReservation reservation = new AdmissionReservation(budget, bytes);
+        request.setAttribute(AdmissionReservation.ATTRIBUTE, reservation);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // 비동기 작업이 넘겨받은 예약은 작업이 끝날 때 반환
+            if (!reservation.isHandedOff()) {
+                reservation.release();
+            }
+        }
+    }
+
+    /**
+     * 요청 본문 외의 처리(예: 분할 업로드 완료 후 조립된 파일)에 대한 예산을 예약합니다.<br/>
+     * 필터와 같은 기준으로 기다리며, 예약한 쪽은 처리가 끝나면 반드시 release를 호출해야 합니다.
+     *
+     * @param bytes 처리할 바이트 수
+     * @return 예약 (유입 제어를 사용하지 않으면 빈 예약)
+     * @throws UploadBusyException 시간 안에 예산을 얻지 못한 경우 발생하는 예외 (UPLOAD_BUSY, 503)
+     */
+    public AdmissionReservation reserve(long bytes) {
+        if (!enabled) {
+            return AdmissionReservation.none();
+        }
+        if (!acquire(bytes)) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 업로드 유입 거절 - 예약 크기: {} byte, 처리 중: {} / {} byte", bytes, budget.getInFlightBytes(), budget.getBudgetBytes());
+            throw new UploadBusyException();
+        }
+        return new AdmissionReservation(budget, bytes);
+    }
+
+    /**
+     * 유입 제어 상태를 반환합니다.
+     *
+     * @return 유입 제어 상태
+     */
+    public UploadAdmissionStats getStats() {
+        long admitted = admittedCount.get();
+        long inFlightBytes = budget.getInFlightBytes();
+
+        return UploadAdmissionStats.builder()
+            .enabled(enabled)
+            .budgetBytes(budget.getBudgetBytes())
+            .inFlightBytes(inFlightBytes)
+            .utilization(inFlightBytes * 100.0 / budget.getBudgetBytes())
+            .peakInFlightBytes(budget.getPeakInFlightBytes())
+            .inFlightRequests(budget.getInFlightRequests())
+            .waitingRequests(budget.getWaitingRequests())
+            .admittedCount(admitted)
+            .queuedCount(queuedCount.get())
+            .rejectedCount(rejectedCount.get())
+            .averageWaitMillis(admitted == 0 ? 0 : waitNanos.get() / 1_000_000.0 / admitted)
+            .build();
+    }
+
+    /**
+     * 예산을 얻을 때까지 기다리고 결과를 집계합니다. (대기 요청이 많으면 기다리지 않고 남은 예산만 확인)
+     */
+    private boolean acquire(long bytes) {
+        long started = System.nanoTime();
+        boolean admitted;
+        try {
+            long timeoutMillis = budget.getWaitingRequests() >= maxWaitingRequests ? 0 : maxWaitMillis;
+            admitted = budget.tryAcquire(bytes, timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            admitted = false;
+        }
+
+        if (!admitted) {
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+
+        long waited = System.nanoTime() - started;
+        admittedCount.incrementAndGet();
+        waitNanos.addAndGet(waited);
+        if (waited > 1_000_000) {
+            queuedCount.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * 503 Service Unavailable과 Retry-After 헤더로 거절 응답을 작성합니다. (본문은 다른 API와 같은 ApiResultDto 형식)
+     */
+    private void reject(HttpServletResponse response) throws IOException {
+        ApiResultDto<Void> result = new ApiResultDto<>();
+        result.setResultCode(PhotoException.Reason.UPLOAD_BUSY.getCode());
+        result.setResultMessage(PhotoException.Reason.UPLOAD_BUSY.getMessage());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        // 본문을 읽지 않고 응답하므로 연결을 재사용하지 않도록 함
+        response.setHeader(HttpHeaders.CONNECTION, "close");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8");
+        response.setCharacterEncoding("UTF-8");
+
+        PrintWriter writer = response.getWriter();
+        writer.write(objectMapper.writeValueAsString(result));
+        writer.flush();
+    }
+}
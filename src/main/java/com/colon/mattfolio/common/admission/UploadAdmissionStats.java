@@ -0,0 +1,48 @@
+package com.colon.mattfolio.common.admission;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 업로드 유입 제어(바이트 예산) 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class UploadAdmissionStats {
+
+    @Schema(description = "유입 제어 사용 여부")
+    private boolean enabled;
+
+    @Schema(description = "동시에 처리할 수 있는 최대 바이트 수")
+    private long budgetBytes;
+
+    @Schema(description = "처리 중인 요청의 바이트 수")
+    private long inFlightBytes;
+
+    @Schema(description = "예산 사용률 (%)")
+    private double utilization;
+
+    @Schema(description = "최대 처리 중 바이트 수 (서버 시작 이후)")
+    private long peakInFlightBytes;
+
+    @Schema(description = "처리 중인 요청 수")
+    private int inFlightRequests;
+
+    @Schema(description = "예산을 기다리는 요청 수")
+    private int waitingRequests;
+
+    @Schema(description = "허용된 요청 수")
+    private long admittedCount;
+
+    @Schema(description = "예산을 기다린 뒤 허용된 요청 수")
+    private long queuedCount;
+
+    @Schema(description = "예산 초과로 거절(503)된 요청 수")
+    private long rejectedCount;
+
+    @Schema(description = "허용된 요청의 평균 대기 시간 (ms)")
+    private double averageWaitMillis;
+}
@@ -37,6 +37,7 @@ import lombok.RequiredArgsConstructor;
  * TokenProvider 클래스는 JWT 토큰을 생성, 검증, 파싱하는 역할을 수행합니다. <br/>
  * - Access Token 및 Refresh Token 생성 기능 <br/>
  * - JWT 토큰으로부터 인증 정보를 추출하여 Spring Security Authentication 객체 생성 <br/>
+ * - 회원 역할(AccountRoleType)을 role 클레임으로 담아, 인증 시 권한(ROLE_USER, ROLE_ADMIN)으로 복원 <br/>
  * - 토큰 재발급 로직 포함 <br/>
  * 
  * 기존 AuthUtil에서 제공하던 사용자 ID, 공급자 정보를 기반으로 한 토큰 생성 기능을 createAccessToken()과 createRefreshToken() 메서드로 통합하였습니다.
@@ -55,6 +56,9 @@ public class TokenProvider {
     // Refresh Token 만료 시간 (7일)
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60L * 24 * 7;
 
+    // 회원 역할 클레임 이름 (값: AccountRoleType.key)
+    private static final String ROLE_CLAIM = "role";
+
     private final TokenService tokenService;
 
     @PostConstruct
@@ -103,6 +107,8 @@ public class TokenProvider {
             .claim("email", account.getEmail())
             .claim("provider", account.getLoginAuthProvider())
             .claim("providerId", account.getLoginAuthProviderId())
+            .claim(ROLE_CLAIM, account.getRole() == null ? null : account.getRole()
+                .getKey())
             .issuedAt(now)
             .expiration(expiredDate)
             .signWith(secretKey)
@@ -110,15 +116,18 @@ public class TokenProvider {
     }
 
     /**
-     * JWT 토큰을 파싱하여 Authentication 객체를 생성합니다.
+     * JWT 토큰을 파싱하여 Authentication 객체를 생성합니다.<br/>
+     * role 클레임이 없는 토큰(역할 클레임 추가 이전 발급)은 권한 없이 인증됩니다.
      *
      * @param token JWT 토큰 문자열
      * @return 생성된 Authentication 객체
      */
     public Authentication getAuthentication(String token) {
         Claims claims = parseClaims(token);
-        User principal = new User(claims.getSubject(), "", List.of());
-        return new UsernamePasswordAuthenticationToken(principal, token, List.of());
+        String role = claims.get(ROLE_CLAIM, String.class);
+        List<GrantedAuthority> authorities = StringUtils.hasText(role) ? List.of(new SimpleGrantedAuthority(role)) : List.of();
+        User principal = new User(claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
     /**
@@ -7,6 +7,8 @@ import java.util.Enumeration;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.AuthenticationException;
@@ -23,6 +25,7 @@ import org.springframework.web.util.ContentCachingRequestWrapper;
 
 import com.colon.mattfolio.common.dto.ApiResultDto;
 import com.colon.mattfolio.common.exception.MasterException;
+import com.colon.mattfolio.common.exception.UploadBusyException;
 import com.colon.mattfolio.common.property.Message;
 
 import jakarta.servlet.http.Cookie;
@@ -43,6 +46,10 @@ public class HandleExceptionController {
 
     // private final HistoryLogService historyLogService;
 
+    // 업로드 혼잡 응답의 Retry-After (초, 유입 제어 필터와 같은 값)
+    @Value("${photo.admission.retry-after-seconds:10}")
+    private long retryAfterSeconds;
+
     /**
      * 파일업로드 용량 초과 오류 handler
      * 
@@ -189,6 +196,30 @@ public class HandleExceptionController {
         return new ResponseEntity<>(result, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * 업로드 처리 자원(유입 예산, 작업 큐, 처리 파이프라인 큐)이 포화되어 거절된 경우에 대한 공통 로직<br/>
+     * 요청 스레드에서 대신 처리하지 않고 503과 Retry-After(photo.admission.retry-after-seconds)로 잠시 후 재시도하도록 응답합니다.<br/>
+     * 업로드와 관계없는 Executor 거절(RejectedExecutionException)은 여기서 처리하지 않습니다.
+     * 
+     * 에러코드 1034 (UPLOAD_BUSY)
+     * 
+     * @return 503 응답 데이터
+     */
+    @ExceptionHandler(UploadBusyException.class)
+    public ResponseEntity<ApiResultDto<Void>> handleUploadBusyException(HttpServletRequest request, UploadBusyException exception) {
+
+        ApiResultDto<Void> result = new ApiResultDto<>();
+        result.setResultCode(exception.getReasonCode());
+        result.setRawResultMessage(exception.getReasonMessage());
+
+        String logContent = getRequestInfo(request, exception);
+        log.warn(logContent);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(result);
+    }
+
     /**
      * 커스텀 익셉션에 대한 핸들러
      * 
@@ -0,0 +1,133 @@
+package com.colon.mattfolio.common.batch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import com.colon.mattfolio.common.exception.PhotoException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작가 일괄 적재 압축 파일(zip)을 적재 대상 디렉토리에 푸는 Tasklet<br/>
+ * <br/>
+ * 압축 파일을 지정하지 않은 경우 아무 작업도 하지 않습니다.<br/>
+ * 압축 해제가 끝나면 완료 표시 파일을 남기므로, 작업을 재시작해도 다시 풀지 않습니다.<br/>
+ * 대상 디렉토리 밖으로 벗어나는 항목(../ 등)은 건너뜁니다.<br/>
+ * 항목 수와 풀린 전체 크기는 설정된 한도(photo.ingest.archive.*) 이내로 제한하며, 압축 헤더의 크기 정보를 믿지 않고 실제로 쓴 바이트 수로 확인합니다.<br/>
+ * 한도를 넘으면 쓰던 파일을 지우고 Step을 실패시킵니다. (압축 폭탄 방지)
+ */
+@Slf4j
+public class PhotographerIngestArchiveTasklet implements Tasklet {
+
+    // 압축 해제 완료 표시 파일명
+    private static final String UNPACKED_MARKER = ".unpacked";
+
+    // 적재 대상 디렉토리
+    private final Path sourceDir;
+
+    // 압축 파일 경로 (없으면 null)
+    private final Path archive;
+
+    // 압축 파일 하나에 허용하는 최대 항목 수 (디렉토리 포함)
+    private final int maxEntries;
+
+    // 압축 파일 하나에서 풀 수 있는 최대 전체 크기 (byte)
+    private final long maxBytes;
+
+    public PhotographerIngestArchiveTasklet(String sourceDir, String archive, int maxEntries, long maxBytes) {
+        this.sourceDir = Path.of(sourceDir);
+        this.archive = archive == null || archive.isBlank() ? null : Path.of(archive);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.maxBytes = Math.max(1, maxBytes);
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws IOException {
+        Path marker = sourceDir.resolve(UNPACKED_MARKER);
+        if (archive == null || Files.exists(marker)) {
+            return RepeatStatus.FINISHED;
+        }
+
+        Files.createDirectories(sourceDir);
+        Path root = sourceDir.toAbsolutePath()
+            .normalize();
+        int count = 0;
+        int entries = 0;
+        long totalBytes = 0;
+
+        try (InputStream in = Files.newInputStream(archive); ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (++entries > maxEntries) {
+                    log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 압축 항목 수 한도 초과 - 압축 파일: {}, 한도: {}", archive, maxEntries);
+                    throw new PhotoException(PhotoException.Reason.INGEST_ARCHIVE_TOO_LARGE);
+                }
+
+                Path target = root.resolve(entry.getName())
+                    .normalize();
+                if (!target.startsWith(root)) {
+                    log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 대상 디렉토리를 벗어나는 압축 항목 - 건너뜁니다: {}", entry.getName());
+                    continue;
+                }
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                } else {
+                    Files.createDirectories(target.getParent());
+                    // 중단 후 재시작한 경우 일부만 풀린 파일을 덮어씀
+                    totalBytes += copy(zip, target, maxBytes - totalBytes);
+                    count++;
+                }
+            }
+        }
+
+        Files.createFile(marker);
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 작가 일괄 적재 압축 해제 완료 - 압축 파일: {}, 파일 수: {}", archive, count);
+
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 현재 압축 항목을 대상 파일로 풉니다. 남은 한도를 넘으면 쓰던 파일을 지우고 예외를 던집니다.
+     *
+     * @param zip 현재 항목 위치의 압축 입력 스트림
+     * @param target 대상 파일 (있으면 덮어씀)
+     * @param remainingBytes 이 항목에 쓸 수 있는 최대 바이트 수
+     * @return 쓴 바이트 수
+     * @throws PhotoException 한도를 넘는 경우 발생하는 예외 (INGEST_ARCHIVE_TOO_LARGE)
+     */
+    private long copy(ZipInputStream zip, Path target, long remainingBytes) throws IOException {
+        byte[] buffer = new byte[8192];
+        long written = 0;
+        boolean exceeded = false;
+
+        try (OutputStream out = Files.newOutputStream(target)) {
+            int read;
+            while ((read = zip.read(buffer)) != -1) {
+                written += read;
+                if (written > remainingBytes) {
+                    exceeded = true;
+                    break;
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+
+        if (exceeded) {
+            Files.deleteIfExists(target);
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 압축 해제 크기 한도 초과 - 압축 파일: {}, 한도: {} byte", archive, maxBytes);
+            throw new PhotoException(PhotoException.Reason.INGEST_ARCHIVE_TOO_LARGE);
+        }
+        return written;
+    }
+}
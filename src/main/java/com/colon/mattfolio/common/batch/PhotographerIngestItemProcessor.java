@@ -0,0 +1,47 @@
+package com.colon.mattfolio.common.batch;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.common.file.FileService;
+import com.colon.mattfolio.common.file.ProcessedPhoto;
+import com.colon.mattfolio.common.file.SpooledFile;
+import com.colon.mattfolio.util.ContentHashUtil;
+import com.colon.mattfolio.util.FileUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작가 일괄 적재 파일 한 건의 얼굴 감지, 저장, 인덱스 등록을 수행하는 ItemProcessor<br/>
+ * <br/>
+ * 적재 대상 파일은 이미 로컬 디스크에 있으므로 임시 파일로 복사하지 않고 그대로 FileService에 전달하며, 원본은 작가 컨테이너(PHOTOGRAPHER)에 저장합니다.<br/>
+ * 내용 해시로 처리 결과를 등록하므로, 재시작이나 재시도로 같은 파일을 다시 처리하면 Face API 호출과 업로드 없이 기존 결과를 재사용합니다.<br/>
+ * 얼굴이 감지되지 않은 파일은 null을 반환하여 Writer로 전달하지 않습니다. (필터 건수로 집계)
+ */
+@RequiredArgsConstructor
+@Component
+public class PhotographerIngestItemProcessor implements ItemProcessor<Path, PhotographerIngestResult> {
+
+    private final FileService fileService;
+
+    @Override
+    public PhotographerIngestResult process(Path source) throws Exception {
+        String fileName = source.getFileName()
+            .toString();
+        String contentHash = ContentHashUtil.hash(source);
+
+        SpooledFile file = new SpooledFile(source, fileName, FileUtil.determineMediaType(fileName)
+            .toString(), Files.size(source), contentHash);
+
+        ProcessedPhoto processed = fileService.processFile(file, BlobContainerType.PHOTOGRAPHER);
+        if (processed.getFileUrl() == null) {
+            return null;
+        }
+
+        return new PhotographerIngestResult(source, contentHash, processed);
+    }
+}
@@ -0,0 +1,103 @@
+package com.colon.mattfolio.common.batch;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.util.StringUtils;
+
+import com.colon.mattfolio.util.FileUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작가 일괄 적재 파티션 하나가 처리할 이미지 파일을 읽는 ItemReader<br/>
+ * <br/>
+ * 대상 디렉토리(하위 디렉토리 포함)의 이미지 파일을 상대 경로 순으로 나열하고, 상대 경로 해시가 자기 파티션 번호인 파일만 반환합니다.<br/>
+ * 읽은 건수는 청크가 커밋될 때마다 작업 저장소에 기록되므로, 재시작 시 마지막으로 커밋된 위치 다음 파일부터 다시 읽습니다.<br/>
+ * 적재 중에는 대상 디렉토리의 파일을 추가/삭제하지 않는 것을 전제로 합니다.
+ */
+@Slf4j
+public class PhotographerIngestItemReader extends AbstractItemCountingItemStreamItemReader<Path> {
+
+    // 파티션 실행 컨텍스트 키 - 적재 대상 디렉토리
+    public static final String SOURCE_DIR_KEY = "sourceDir";
+
+    // 파티션 실행 컨텍스트 키 - 파티션 번호
+    public static final String PARTITION_INDEX_KEY = "partitionIndex";
+
+    // 파티션 실행 컨텍스트 키 - 전체 파티션 수
+    public static final String PARTITION_COUNT_KEY = "partitionCount";
+
+    private final Path sourceDir;
+
+    private final int partitionIndex;
+
+    private final int partitionCount;
+
+    // 이 파티션이 처리할 파일 목록 (open 시점에 나열)
+    private List<Path> files = List.of();
+
+    private int cursor;
+
+    public PhotographerIngestItemReader(String sourceDir, int partitionIndex, int partitionCount) {
+        this.sourceDir = Path.of(sourceDir);
+        this.partitionIndex = partitionIndex;
+        this.partitionCount = partitionCount;
+        setName(PhotographerIngestItemReader.class.getSimpleName());
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        try (Stream<Path> paths = Files.walk(sourceDir)) {
+            files = paths.filter(Files::isRegularFile)
+                .filter(this::isImage)
+                .map(sourceDir::relativize)
+                .filter(relative -> Math.floorMod(relative.toString()
+                    .hashCode(), partitionCount) == partitionIndex)
+                .sorted(Comparator.comparing(Path::toString))
+                .map(sourceDir::resolve)
+                .toList();
+        } catch (IOException e) {
+            throw new ItemStreamException("적재 대상 디렉토리를 읽을 수 없습니다: " + sourceDir, e);
+        }
+        cursor = 0;
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 작가 일괄 적재 파티션 {}/{} - 대상 파일 수: {}", partitionIndex + 1, partitionCount, files.size());
+    }
+
+    @Override
+    protected Path doRead() {
+        if (cursor >= files.size()) {
+            return null;
+        }
+        return files.get(cursor++);
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) {
+        // 재시작 시 이미 커밋된 파일은 다시 읽지 않고 위치만 이동
+        cursor = Math.min(itemIndex, files.size());
+    }
+
+    @Override
+    protected void doClose() {
+        files = List.of();
+        cursor = 0;
+    }
+
+    private boolean isImage(Path path) {
+        String fileName = path.getFileName()
+            .toString();
+        if (StringUtils.getFilenameExtension(fileName) == null) {
+            return false;
+        }
+        return "image".equals(FileUtil.determineMediaType(fileName)
+            .getType());
+    }
+}
@@ -0,0 +1,28 @@
+package com.colon.mattfolio.common.batch;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작가 일괄 적재 청크의 처리 결과를 기록하는 ItemWriter<br/>
+ * <br/>
+ * 저장과 인덱스 등록은 Processor에서 파일 단위로 완료되며(인덱스는 별도 트랜잭션으로 즉시 커밋), Writer는 청크 단위 결과만 기록합니다.<br/>
+ * 청크가 끝나면 작업 저장소의 읽기/쓰기 건수와 읽기 위치가 갱신되어 재시작 위치가 됩니다. (청크 자체는 DB 트랜잭션을 열지 않음)
+ */
+@Component
+@Slf4j
+public class PhotographerIngestItemWriter implements ItemWriter<PhotographerIngestResult> {
+
+    @Override
+    public void write(Chunk<? extends PhotographerIngestResult> chunk) {
+        for (PhotographerIngestResult result : chunk) {
+            log.debug("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 작가 사진 적재 - 파일: {}, URL: {}", result.getSource(), result.getProcessed()
+                .getFileUrl());
+        }
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 작가 사진 적재 청크 완료 - 저장 파일 수: {}", chunk.size());
+    }
+}
@@ -0,0 +1,169 @@
+package com.colon.mattfolio.common.batch;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.colon.mattfolio.common.exception.PhotoException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작가 사진 일괄 적재(Spring Batch) 작업 설정 클래스<br/>
+ * <br/>
+ * 마라톤 등 대규모 행사 사진(수만 장)을 대화형 업로드 API를 거치지 않고 스테이징 디렉토리 또는 압축 파일에서 적재합니다.<br/>
+ * <br/>
+ * 작업 구성:<br/>
+ * 1. photographerIngestUnpackStep - 압축 파일을 지정한 경우 대상 디렉토리에 압축 해제<br/>
+ * 2. photographerIngestManagerStep - 대상 파일을 grid-size개의 파티션으로 나누어 photoIngestExecutor에서 동시에 처리<br/>
+ * 3. photographerIngestWorkerStep - 파티션별로 chunk-size개씩 얼굴 감지/저장/인덱스 등록 후 커밋<br/>
+ * <br/>
+ * 진행 상황(파티션별 읽기/쓰기/건너뛴 건수와 위치)은 작업 저장소(BATCH_* 테이블)에 청크마다 기록되므로,<br/>
+ * 실패하거나 중단된 작업은 같은 파라미터로 재시작하여 완료되지 않은 파티션의 마지막 커밋 위치부터 이어서 처리합니다.<br/>
+ * Face API의 일시적 오류(429/503, 연결 실패)와 일시적 DB 오류는 재시도하고, 처리할 수 없는 파일은 건너뜁니다.<br/>
+ * <br/>
+ * 파일 처리(Face API, Blob 업로드)는 청크 트랜잭션 밖에서 실행합니다.<br/>
+ * 처리 결과는 파일 단위로 각 처리 단계의 짧은 트랜잭션에서 커밋되므로, 청크는 DB 커넥션을 잡지 않는 ResourcelessTransactionManager로 묶고<br/>
+ * 진행 상황(작업 저장소) 기록만 작업 저장소 자체의 트랜잭션으로 커밋합니다. 파티션이 청크 동안 커넥션을 점유하지 않으므로, 처리 단계가 커넥션을 얻지 못해 멈추지 않습니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PhotographerIngestJobConfig {
+
+    // 작업 이름
+    public static final String JOB_NAME = "photographerIngestJob";
+
+    // 작업 파라미터 - 적재 대상 디렉토리
+    public static final String SOURCE_DIR_PARAMETER = "sourceDir";
+
+    // 작업 파라미터 - 압축 파일 (선택)
+    public static final String ARCHIVE_PARAMETER = "archive";
+
+    // 작업 파라미터 - 접수 일시 (같은 디렉토리를 새 작업으로 다시 적재할 수 있도록 구분)
+    public static final String REQUESTED_AT_PARAMETER = "requestedAt";
+
+    // 파티션 처리 Step 이름
+    public static final String WORKER_STEP_NAME = "photographerIngestWorkerStep";
+
+    private final JobRepository jobRepository;
+
+    private final PlatformTransactionManager transactionManager;
+
+    // 파티션 처리 청크용 트랜잭션 매니저 (DB 커넥션을 잡지 않음)
+    private final PlatformTransactionManager chunkTransactionManager = new ResourcelessTransactionManager();
+
+    // 파티션 처리 전용 Executor
+    @Qualifier("photoIngestExecutor")
+    private final ThreadPoolTaskExecutor photoIngestExecutor;
+
+    private final PhotographerIngestItemProcessor photographerIngestItemProcessor;
+
+    private final PhotographerIngestItemWriter photographerIngestItemWriter;
+
+    // 적재 작업 하나를 나누어 동시에 처리하는 파티션 수
+    @Value("${photo.ingest.grid-size:4}")
+    private int gridSize;
+
+    // 한 청크에서 처리하는 파일 수 (청크마다 진행 위치를 기록)
+    @Value("${photo.ingest.chunk-size:20}")
+    private int chunkSize;
+
+    // 일시적 오류 재시도 횟수
+    @Value("${photo.ingest.retry-limit:3}")
+    private int retryLimit;
+
+    // 파티션 하나에서 건너뛸 수 있는 파일 수
+    @Value("${photo.ingest.skip-limit:1000}")
+    private int skipLimit;
+
+    // 압축 파일 하나에 허용하는 최대 항목 수
+    @Value("${photo.ingest.archive.max-entries:100000}")
+    private int archiveMaxEntries;
+
+    // 압축 파일 하나에서 풀 수 있는 최대 전체 크기 (byte)
+    @Value("${photo.ingest.archive.max-bytes:53687091200}")
+    private long archiveMaxBytes;
+
+    @Bean(name = JOB_NAME)
+    public Job photographerIngestJob(@Qualifier("photographerIngestUnpackStep") Step unpackStep, @Qualifier("photographerIngestManagerStep") Step managerStep) {
+        return new JobBuilder(JOB_NAME, jobRepository).start(unpackStep)
+            .next(managerStep)
+            .build();
+    }
+
+    @Bean
+    public Step photographerIngestUnpackStep(PhotographerIngestArchiveTasklet photographerIngestArchiveTasklet) {
+        return new StepBuilder("photographerIngestUnpackStep", jobRepository).tasklet(photographerIngestArchiveTasklet, transactionManager)
+            .build();
+    }
+
+    @Bean
+    public Step photographerIngestManagerStep(PhotographerIngestPartitioner photographerIngestPartitioner, @Qualifier(WORKER_STEP_NAME) Step workerStep) {
+        return new StepBuilder("photographerIngestManagerStep", jobRepository).partitioner(WORKER_STEP_NAME, photographerIngestPartitioner)
+            .step(workerStep)
+            .gridSize(gridSize)
+            .taskExecutor(photoIngestExecutor)
+            .build();
+    }
+
+    @Bean(name = WORKER_STEP_NAME)
+    public Step photographerIngestWorkerStep(PhotographerIngestItemReader photographerIngestItemReader) {
+        return new StepBuilder(WORKER_STEP_NAME, jobRepository).<Path, PhotographerIngestResult>chunk(chunkSize, chunkTransactionManager)
+            .reader(photographerIngestItemReader)
+            .processor(photographerIngestItemProcessor)
+            .writer(photographerIngestItemWriter)
+            .faultTolerant()
+            // 처리 결과는 이미 파일 단위로 커밋되었으므로, 청크 재시도 시 Processor를 다시 실행하지 않음
+            .processorNonTransactional()
+            // 일시적 오류는 재시도 (재시도 후에도 실패하면 Step 실패 → 재시작 대상)
+            .retryLimit(retryLimit)
+            .retry(WebClientRequestException.class)
+            .retry(WebClientResponseException.TooManyRequests.class)
+            .retry(WebClientResponseException.ServiceUnavailable.class)
+            .retry(TransientDataAccessException.class)
+            // 손상되었거나 처리할 수 없는 파일은 건너뜀
+            .skipLimit(skipLimit)
+            .skip(PhotoException.class)
+            .skip(IOException.class)
+            .build();
+    }
+
+    @Bean
+    @StepScope
+    public PhotographerIngestArchiveTasklet photographerIngestArchiveTasklet( //
+            @Value("#{jobParameters['" + SOURCE_DIR_PARAMETER + "']}") String sourceDir, //
+            @Value("#{jobParameters['" + ARCHIVE_PARAMETER + "']}") String archive) {
+        return new PhotographerIngestArchiveTasklet(sourceDir, archive, archiveMaxEntries, archiveMaxBytes);
+    }
+
+    @Bean
+    @StepScope
+    public PhotographerIngestPartitioner photographerIngestPartitioner(@Value("#{jobParameters['" + SOURCE_DIR_PARAMETER + "']}") String sourceDir) {
+        return new PhotographerIngestPartitioner(sourceDir);
+    }
+
+    @Bean
+    @StepScope
+    public PhotographerIngestItemReader photographerIngestItemReader( //
+            @Value("#{stepExecutionContext['" + PhotographerIngestItemReader.SOURCE_DIR_KEY + "']}") String sourceDir, //
+            @Value("#{stepExecutionContext['" + PhotographerIngestItemReader.PARTITION_INDEX_KEY + "']}") Integer partitionIndex, //
+            @Value("#{stepExecutionContext['" + PhotographerIngestItemReader.PARTITION_COUNT_KEY + "']}") Integer partitionCount) {
+        return new PhotographerIngestItemReader(sourceDir, partitionIndex, partitionCount);
+    }
+}
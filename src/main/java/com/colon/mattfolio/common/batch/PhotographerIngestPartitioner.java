@@ -0,0 +1,42 @@
+package com.colon.mattfolio.common.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 작가 일괄 적재 대상 디렉토리를 파티션으로 나누는 Partitioner<br/>
+ * <br/>
+ * 파일 목록을 실행 컨텍스트에 담지 않고, 파티션 번호와 파티션 수만 저장합니다.<br/>
+ * 각 파티션의 Reader는 디렉토리를 같은 순서로 나열한 뒤 상대 경로 해시로 자기 몫의 파일만 읽으므로,<br/>
+ * 2만 장 규모의 적재에서도 작업 저장소에 기록되는 컨텍스트가 작고, 재시작 시에도 같은 파일이 같은 파티션에 배정됩니다.
+ */
+@RequiredArgsConstructor
+public class PhotographerIngestPartitioner implements Partitioner {
+
+    // 파티션 이름 접두사
+    private static final String PARTITION_PREFIX = "partition";
+
+    // 적재 대상 디렉토리
+    private final String sourceDir;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitionCount = Math.max(1, gridSize);
+        Map<String, ExecutionContext> partitions = new HashMap<>(partitionCount);
+
+        for (int index = 0; index < partitionCount; index++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(PhotographerIngestItemReader.SOURCE_DIR_KEY, sourceDir);
+            context.putInt(PhotographerIngestItemReader.PARTITION_INDEX_KEY, index);
+            context.putInt(PhotographerIngestItemReader.PARTITION_COUNT_KEY, partitionCount);
+            partitions.put(PARTITION_PREFIX + index, context);
+        }
+
+        return partitions;
+    }
+}
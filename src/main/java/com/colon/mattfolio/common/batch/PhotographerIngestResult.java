@@ -0,0 +1,25 @@
+package com.colon.mattfolio.common.batch;
+
+import java.nio.file.Path;
+
+import com.colon.mattfolio.common.file.ProcessedPhoto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 작가 일괄 적재에서 파일 한 건의 처리 결과
+ */
+@Getter
+@AllArgsConstructor
+public class PhotographerIngestResult {
+
+    // 적재 대상 파일 경로
+    private final Path source;
+
+    // 파일 내용의 SHA-256 해시
+    private final String contentHash;
+
+    // 원본 및 크기별 파생 이미지 URL
+    private final ProcessedPhoto processed;
+}
@@ -5,14 +5,29 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+import com.colon.mattfolio.common.http.WebClientRegistry;
+import com.colon.mattfolio.common.property.HttpClientProperties;
+
 @Configuration
 public class BeanConfiguration {
 
+    /**
+     * 외부 API 호출 대상별 WebClient 레지스트리<br/>
+     * 호출 대상마다 커넥션 풀과 타임아웃이 적용된 WebClient를 한 번만 생성하여 공유합니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public WebClientRegistry webClientRegistry(HttpClientProperties httpClientProperties) {
+        return new WebClientRegistry(httpClientProperties);
+    }
+
+    /**
+     * 특정 호출 대상에 속하지 않는 요청에 사용하는 기본 WebClient
+     */
     @Bean
     @ConditionalOnMissingBean
-    public WebClient webClient() {
-        return WebClient.builder()
-            .build();
+    public WebClient webClient(WebClientRegistry webClientRegistry) {
+        return webClientRegistry.get(ExternalApiType.DEFAULT);
     }
 
 }
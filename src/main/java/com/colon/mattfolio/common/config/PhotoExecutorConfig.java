@@ -0,0 +1,133 @@
+package com.colon.mattfolio.common.config;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 사진 처리 전용 Executor 설정 클래스<br/>
+ * <br/>
+ * 공용 Async Executor와 분리된 전용 스레드 풀을 사용하여, 대량 업로드가 다른 비동기 작업을 잠식하지 않도록 합니다.<br/>
+ * 전체(global) 동시 처리 상한은 photoUploadPermits 세마포어가 정하며, 동기 병렬 업로드(photoUploadExecutor)와 비동기 업로드 작업(photoJobExecutor)이 함께 사용합니다.<br/>
+ * 요청/작업 단위 상한은 PhotoService와 PhotoUploadJobService에서 별도로 제한합니다.
+ */
+@Configuration
+public class PhotoExecutorConfig {
+
+    // 전체 요청을 통틀어 동시에 처리할 수 있는 최대 파일 수
+    @Value("${photo.upload.max-concurrency:16}")
+    private int maxConcurrency;
+
+    // 처리 대기 중인 파일을 보관할 큐의 크기
+    @Value("${photo.upload.queue-capacity:500}")
+    private int queueCapacity;
+
+    // 동시에 진행할 수 있는 비동기 업로드 작업 수
+    @Value("${photo.job.max-concurrency:4}")
+    private int jobConcurrency;
+
+    // 접수 후 대기할 수 있는 비동기 업로드 작업 수
+    @Value("${photo.job.queue-capacity:100}")
+    private int jobQueueCapacity;
+
+    // 작가 일괄 적재 작업 하나를 나누어 동시에 처리하는 파티션 수
+    @Value("${photo.ingest.grid-size:4}")
+    private int ingestGridSize;
+
+    // 동시에 실행할 수 있는 작가 일괄 적재 작업 수
+    @Value("${photo.ingest.max-concurrent-jobs:1}")
+    private int ingestConcurrentJobs;
+
+    /**
+     * 사진 업로드 전체 동시 처리 수를 제한하는 세마포어 빈<br/>
+     * 파일 하나를 처리하는 동안 허가 하나를 점유합니다. 동기 병렬 업로드는 photoUploadExecutor 스레드에서,<br/>
+     * 비동기 업로드 작업은 논블로킹 처리를 시작하기 전에 작업 스레드에서 획득하므로, 두 경로를 합친 동시 처리 수가 max-concurrency를 넘지 않습니다.
+     *
+     * @return 전체 동시 처리 수만큼 허가를 가진 공정(fair) 세마포어
+     */
+    @Bean(name = "photoUploadPermits")
+    public Semaphore photoUploadPermits() {
+        return new Semaphore(Math.max(1, maxConcurrency), true);
+    }
+
+    /**
+     * 사진 업로드 처리용 Executor 빈<br/>
+     * 큐가 가득 찬 경우 작업을 거절(AbortPolicy)합니다. 요청 스레드(Tomcat)가 처리를 떠안으면 풀 크기(전체 동시 처리 상한)를 넘게 되므로,<br/>
+     * 거절된 파일은 처리하지 않고 업로드 혼잡(UPLOAD_BUSY)으로 응답합니다.
+     *
+     * @return 사진 업로드 처리용 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "photoUploadExecutor")
+    public ThreadPoolTaskExecutor photoUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Photo-upload-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 업로드 작업 분배용 Executor 빈<br/>
+     * 작업 단위로 photoUploadPermits를 얻어 파일을 논블로킹 처리에 분배하는 역할만 하므로 작은 풀로 구성합니다.<br/>
+     * 요청 스레드가 처리를 떠안지 않도록 큐가 가득 찬 경우 작업 접수를 거절합니다.
+     *
+     * @return 업로드 작업 분배용 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "photoJobExecutor")
+    public ThreadPoolTaskExecutor photoJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobConcurrency);
+        executor.setMaxPoolSize(jobConcurrency);
+        executor.setQueueCapacity(jobQueueCapacity);
+        executor.setThreadNamePrefix("Photo-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작가 일괄 적재 파티션 처리용 Executor 빈<br/>
+     * 파티션 하나가 스레드 하나를 사용하며, 동시에 실행되는 적재 작업의 파티션은 큐에서 순서대로 대기합니다.<br/>
+     * 대화형 업로드의 photoUploadExecutor와 분리하여, 대량 적재가 사용자 업로드를 잠식하지 않도록 합니다.
+     *
+     * @return 일괄 적재 파티션 처리용 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "photoIngestExecutor")
+    public ThreadPoolTaskExecutor photoIngestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ingestGridSize);
+        executor.setMaxPoolSize(ingestGridSize);
+        executor.setThreadNamePrefix("Photo-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 작가 일괄 적재 작업 실행(launch)용 Executor 빈<br/>
+     * 요청 스레드는 작업을 접수만 하고 바로 응답하며, 동시 실행 수를 넘는 작업은 짧은 큐에서 대기하고 큐가 가득 차면 거절합니다.
+     *
+     * @return 일괄 적재 작업 실행용 ThreadPoolTaskExecutor
+     */
+    @Bean(name = "photoIngestLaunchExecutor")
+    public ThreadPoolTaskExecutor photoIngestLaunchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(ingestConcurrentJobs);
+        executor.setMaxPoolSize(ingestConcurrentJobs);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("Photo-ingest-launch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
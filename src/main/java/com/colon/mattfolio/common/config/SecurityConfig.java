@@ -26,7 +26,7 @@ import lombok.RequiredArgsConstructor;
  * - 세션 관리를 STATELESS 모드로 설정하여 토큰 기반 인증을 사용 <br/>
  * - TokenAuthenticationFilter를 UsernamePasswordAuthenticationFilter보다 먼저 실행하여 토큰 인증 처리 <br/>
  * - TokenExceptionFilter를 추가해 토큰 관련 예외를 처리 <br/>
- * - URL별 접근 권한 설정: 일부 URL은 인증 없이 접근 허용, "/api/**"는 인증된 사용자만 접근 <br/>
+ * - URL별 접근 권한 설정: 일부 URL은 인증 없이 접근 허용, "/monitor/**"는 ADMIN 권한 필요, "/api/**"는 인증된 사용자만 접근 <br/>
  * - OAuth2 로그인 관련 엔드포인트 및 핸들러 구성 <br/>
  * - 로그아웃 후 리다이렉트 및 인증 실패 시 커스텀 에러 응답(CustomAuthenticationEntryPoint) 반환
  *
@@ -61,10 +61,10 @@ public class SecurityConfig {
      * - 세션 관리: STATELESS 모드 (토큰 기반 인증 사용) <br/>
      * - 커스텀 토큰 인증 필터(TokenAuthenticationFilter)를 UsernamePasswordAuthenticationFilter 앞에 추가 <br/>
      * - TokenExceptionFilter를 추가하여 토큰 인증 과정 중 발생하는 예외를 처리 <br/>
-     * - URL별 접근 권한 설정: 특정 URL은 permitAll, "/api/**"는 인증 필요 <br/>
+     * - URL별 접근 권한 설정: 특정 URL은 permitAll, "/monitor/**"와 "/ingest/**"는 ADMIN 권한 필요, "/upload/sessions/**"와 "/api/**"는 인증 필요 <br/>
      * - OAuth2 로그인 설정: 로그인 페이지, OAuth2 엔드포인트, 인증 성공 핸들러, 사용자 정보 서비스 설정 <br/>
      * - 로그아웃 후 리다이렉트 URL 설정 <br/>
-     * - 예외 처리: "/api/**" 경로에 대해 인증 실패 시 CustomAuthenticationEntryPoint를 실행하여 커스텀 JSON 에러 응답 반환
+     * - 예외 처리: "/api/**", "/monitor/**", "/ingest/**", "/upload/sessions/**" 경로에 대해 인증 실패 시 CustomAuthenticationEntryPoint를 실행하여 커스텀 JSON 에러 응답 반환
      *
      * @param http HttpSecurity 객체
      * @return 구성된 SecurityFilterChain
@@ -93,14 +93,23 @@ public class SecurityConfig {
         http.authorizeHttpRequests(authorize -> //
         authorize.requestMatchers("/auth/**")
             .permitAll() // 로그인, OAuth2, H2 콘솔 관련 URL은 인증 없이 접근
+            .requestMatchers("/monitor/**")
+            .hasRole("ADMIN") // 운영 지표는 내부 구성과 부하 상태가 드러나므로 관리자만 접근 가능
+            .requestMatchers("/ingest/**")
+            .hasRole("ADMIN") // 작가 일괄 적재는 서버 디렉토리의 파일을 작가 컨테이너로 올리는 작업이므로 관리자만 실행/조회 가능
+            .requestMatchers("/upload/sessions/**")
+            .authenticated() // 분할 업로드 세션은 생성한 회원만 이어서 업로드할 수 있으므로 인증 필요
             // .requestMatchers("/api/**")
             // .authenticated() // "/api/**"는 인증된 사용자만 접근 가능
             .anyRequest()
             .permitAll() // 그 외의 모든 요청은 접근 허용
         );
 
-        // 예외 처리 설정: "/api/**" 경로에 대해 인증 실패 시 CustomAuthenticationEntryPoint를 실행하여 커스텀 JSON 에러 응답 반환
-        http.exceptionHandling(exceptionHandling -> exceptionHandling.defaultAuthenticationEntryPointFor(new SecurityAuthenticationFailEntryPoint(), new AntPathRequestMatcher("/api/**")));
+        // 예외 처리 설정: "/api/**", "/monitor/**", "/ingest/**", "/upload/sessions/**" 경로에 대해 인증 실패 시 CustomAuthenticationEntryPoint를 실행하여 커스텀 JSON 에러 응답 반환
+        http.exceptionHandling(exceptionHandling -> exceptionHandling.defaultAuthenticationEntryPointFor(new SecurityAuthenticationFailEntryPoint(), new AntPathRequestMatcher("/api/**"))
+            .defaultAuthenticationEntryPointFor(new SecurityAuthenticationFailEntryPoint(), new AntPathRequestMatcher("/monitor/**"))
+            .defaultAuthenticationEntryPointFor(new SecurityAuthenticationFailEntryPoint(), new AntPathRequestMatcher("/ingest/**"))
+            .defaultAuthenticationEntryPointFor(new SecurityAuthenticationFailEntryPoint(), new AntPathRequestMatcher("/upload/sessions/**")));
 
         // 최종적으로 구성된 SecurityFilterChain을 반환
         return http.build();
@@ -0,0 +1,28 @@
+package com.colon.mattfolio.common.enumType;
+
+import java.util.Arrays;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Blob Storage 컨테이너 구분<br/>
+ * key는 azure.blob.container 하위의 설정 키로 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BlobContainerType {
+    PROFILE("profile"), // 회원 프로필/업로드 사진
+    PHOTOGRAPHER("photographer") // 작가 업로드 사진
+    ;
+
+    private final String key;
+
+    public static BlobContainerType findByKey(String key) {
+        return Arrays.stream(BlobContainerType.values())
+            .filter(type -> type.getKey()
+                .equals(key))
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.colon.mattfolio.common.enumType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CircuitBreakerStateType {
+    CLOSED("정상"), //
+    OPEN("차단"), //
+    HALF_OPEN("시험 호출") //
+    ;
+
+    private final String key;
+}
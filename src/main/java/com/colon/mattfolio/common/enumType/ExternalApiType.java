@@ -0,0 +1,22 @@
+package com.colon.mattfolio.common.enumType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 API 호출 대상 구분<br/>
+ * key는 http-client.clients 하위의 설정 키 및 커넥션 풀 이름으로 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExternalApiType {
+    DEFAULT("default"), //
+    AZURE_FACE("azure-face"), //
+    KAKAO("kakao"), //
+    NAVER("naver"), //
+    GOOGLE("google"), //
+    FACE_EMBEDDING("face-embedding") //
+    ;
+
+    private final String key;
+}
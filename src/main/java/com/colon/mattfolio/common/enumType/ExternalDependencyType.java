@@ -0,0 +1,22 @@
+package com.colon.mattfolio.common.enumType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장애 격리(Bulkhead, Circuit Breaker, 재시도) 단위가 되는 외부 의존 서비스 구분<br/>
+ * key는 resilience.dependencies 하위의 설정 키로 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExternalDependencyType {
+    AZURE_FACE("azure-face"), //
+    AZURE_BLOB("azure-blob"), //
+    KAKAO("kakao"), //
+    NAVER("naver"), //
+    GOOGLE("google"), //
+    FACE_EMBEDDING("face-embedding") //
+    ;
+
+    private final String key;
+}
@@ -0,0 +1,16 @@
+package com.colon.mattfolio.common.enumType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PhotoUploadFileStatusType {
+    PENDING("대기"), //
+    PROCESSING("처리중"), //
+    SUCCESS("성공"), //
+    FAILED("실패") //
+    ;
+
+    private final String key;
+}
@@ -0,0 +1,17 @@
+package com.colon.mattfolio.common.enumType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PhotoUploadJobStatusType {
+    ACCEPTED("접수"), //
+    RUNNING("처리중"), //
+    COMPLETED("완료"), //
+    PARTIALLY_FAILED("부분 실패"), //
+    FAILED("실패") //
+    ;
+
+    private final String key;
+}
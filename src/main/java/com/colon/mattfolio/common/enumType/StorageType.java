@@ -0,0 +1,18 @@
+package com.colon.mattfolio.common.enumType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사진 저장소 구분<br/>
+ * key는 storage.type 설정 값으로 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StorageType {
+    AZURE("azure"), // Azure Blob Storage
+    LOCAL("local") // 로컬 파일 시스템
+    ;
+
+    private final String key;
+}
@@ -0,0 +1,45 @@
+package com.colon.mattfolio.common.exception;
+
+import com.colon.mattfolio.common.base.BaseReason;
+import com.colon.mattfolio.common.property.Message;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 외부 API 호출의 예외 처리 클래스
+ * 
+ * 외부 의존 서비스 장애로 호출이 차단되거나 거절된 상황을 정의하며, 각 예외는 `MasterException`을 상속받아 공통적인 예외 처리 방식을 유지합니다.
+ */
+public class ExternalApiException extends MasterException {
+
+    /**
+     * 외부 API 호출 예외 사유를 정의하는 열거형
+     * 
+     * 
+     * 이 열거형은 `BaseReason` 인터페이스를 구현하며, 예외 코드와 메시지를 포함합니다.
+     * 
+     * 각 상수는 특정 예외 상황에 대한 설명과 해당 메시지를 제공합니다.
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Reason implements BaseReason {
+        CIRCUIT_OPEN(1040, Message.getMessage("external.circuit.open")), // 장애로 호출 차단 중
+        BULKHEAD_FULL(1041, Message.getMessage("external.bulkhead.full")), // 동시 호출 수 초과
+        RATE_LIMIT_QUEUE_FULL(1042, Message.getMessage("external.rate.limit.queue.full")), // 호출 속도 제한 대기열 초과
+        RATE_LIMIT_TIMEOUT(1043, Message.getMessage("external.rate.limit.timeout")), // 호출 속도 제한 대기 시간 초과
+        ;
+
+        private final Integer code; // 예외 코드
+        private final String message; // 예외 메시지
+    }
+
+    /**
+     * 생성자: 주어진 `Reason`을 기반으로 예외를 생성합니다.
+     * 
+     * @param reason 예외의 원인을 설명하는 `Reason` 객체
+     */
+    public ExternalApiException(Reason reason) {
+        super(reason);
+    }
+}
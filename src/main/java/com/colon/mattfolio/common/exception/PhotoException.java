@@ -26,6 +26,27 @@ public class PhotoException extends MasterException {
     public enum Reason implements BaseReason {
         EMPTY_FILES(1020, Message.getMessage("photo.empty.files")), // 요청 파라미터 이상
         INVALID_FILE(1021, Message.getMessage("photo.invalid.file")), // 요청 파일 이상
+        JOB_NOT_FOUND(1022, Message.getMessage("photo.job.not.found")), // 업로드 작업 없음
+        UNSUPPORTED_IMAGE(1023, Message.getMessage("photo.unsupported.image")), // 처리할 수 없는 이미지
+        FILE_NOT_FOUND(1024, Message.getMessage("photo.file.not.found")), // 저장된 파일 없음
+        UPLOAD_SESSION_NOT_FOUND(1025, Message.getMessage("photo.upload.session.not.found")), // 분할 업로드 세션 없음
+        INVALID_CHUNK(1026, Message.getMessage("photo.invalid.chunk")), // 분할 업로드 청크 위치/크기 이상
+        CHECKSUM_MISMATCH(1027, Message.getMessage("photo.checksum.mismatch")), // 업로드 데이터 체크섬 불일치
+        UPLOAD_INCOMPLETE(1028, Message.getMessage("photo.upload.incomplete")), // 수신되지 않은 구간 존재
+        INGEST_NOT_FOUND(1029, Message.getMessage("photo.ingest.not.found")), // 일괄 적재 실행 없음
+        INVALID_INGEST_SOURCE(1030, Message.getMessage("photo.invalid.ingest.source")), // 일괄 적재 대상 경로 이상
+        INGEST_NOT_RESTARTABLE(1031, Message.getMessage("photo.ingest.not.restartable")), // 실행 중이거나 이미 완료된 일괄 적재
+        FACE_NOT_DETECTED(1032, Message.getMessage("photo.face.not.detected")), // 질의 사진에서 얼굴 미검출
+        FACE_INDEX_DISABLED(1033, Message.getMessage("photo.face.index.disabled")), // 얼굴 임베딩 인덱스 미사용
+        UPLOAD_BUSY(1034, Message.getMessage("photo.upload.busy")), // 업로드 유입 예산 초과
+        INVALID_IDEMPOTENCY_KEY(1035, Message.getMessage("photo.idempotency.invalid.key")), // 멱등 키 형식 이상
+        IDEMPOTENCY_KEY_MISMATCH(1036, Message.getMessage("photo.idempotency.key.mismatch")), // 같은 멱등 키로 다른 요청
+        IDEMPOTENCY_IN_PROGRESS(1037, Message.getMessage("photo.idempotency.in.progress")), // 같은 멱등 키의 요청이 아직 처리 중
+        PROCESSING_TIMEOUT(1038, Message.getMessage("photo.processing.timeout")), // 사진 처리 대기 시간 초과
+        CHUNK_ALREADY_RECEIVED(1039, Message.getMessage("photo.chunk.already.received")), // 이미 수신된 구간과 겹치는 청크
+        IDEMPOTENCY_KEY_UNAUTHENTICATED(1044, Message.getMessage("photo.idempotency.unauthenticated")), // 인증 없는 요청의 멱등 키
+        INGEST_ARCHIVE_TOO_LARGE(1045, Message.getMessage("photo.ingest.archive.too.large")), // 일괄 적재 압축 파일의 항목 수/크기 한도 초과
+        UPLOAD_SESSION_LIMIT(1046, Message.getMessage("photo.upload.session.limit")), // 열린 분할 업로드 세션 수/예약 크기 한도 초과
         ;
 
         private final Integer code; // 예외 코드
@@ -0,0 +1,29 @@
+package com.colon.mattfolio.common.exception;
+
+/**
+ * 업로드 처리 자원(유입 예산, 작업 큐, 처리 파이프라인 큐)이 포화되어 요청을 받을 수 없는 경우의 예외
+ * 
+ * 일시적인 상태이므로 HandleExceptionController에서 503과 Retry-After로 응답하여, 클라이언트가 잠시 후 같은 요청을 재시도하도록 합니다. <br>
+ * 예외 코드와 메시지는 `PhotoException.Reason.UPLOAD_BUSY`를 사용합니다.
+ */
+public class UploadBusyException extends PhotoException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 생성자: 업로드 혼잡(UPLOAD_BUSY) 예외를 생성합니다.
+     */
+    public UploadBusyException() {
+        super(Reason.UPLOAD_BUSY);
+    }
+
+    /**
+     * 생성자: 거절 원인(큐 포화, 대기 중단 등)을 포함한 업로드 혼잡(UPLOAD_BUSY) 예외를 생성합니다.
+     * 
+     * @param cause 거절 원인
+     */
+    public UploadBusyException(Throwable cause) {
+        this();
+        initCause(cause);
+    }
+}
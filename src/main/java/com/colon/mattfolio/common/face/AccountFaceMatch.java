@@ -0,0 +1,23 @@
+package com.colon.mattfolio.common.face;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사진의 얼굴과 회원 기준 얼굴의 매칭 결과
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccountFaceMatch {
+
+    // 회원 ID
+    private Long accountId;
+
+    // 매칭된 사진 내 얼굴 순번
+    private int faceIndex;
+
+    // 기준 얼굴과의 코사인 유사도
+    private float similarity;
+}
@@ -0,0 +1,393 @@
+package com.colon.mattfolio.common.face;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.colon.mattfolio.database.account.entity.AccountPhotoEntity;
+import com.colon.mattfolio.database.account.repository.AccountPhotoRepository;
+import com.colon.mattfolio.database.face.entity.AccountFaceEntity;
+import com.colon.mattfolio.database.face.repository.AccountFaceRepository;
+import com.colon.mattfolio.database.photo.entity.PhotoAccountTagEntity;
+import com.colon.mattfolio.database.photo.entity.PhotoEntity;
+import com.colon.mattfolio.database.photo.repository.PhotoAccountTagRepository;
+import com.colon.mattfolio.database.photo.repository.PhotoRepository;
+import com.colon.mattfolio.external.faceApi.dto.FaceEmbeddingMatch;
+import com.colon.mattfolio.external.faceApi.service.FaceEmbeddingIndex;
+import com.colon.mattfolio.external.faceApi.service.FaceFeatureExtractor;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원이 등록한 기준 얼굴을 보관하고, 사진의 얼굴을 회원과 매칭하는 레지스트리<br/>
+ * <br/>
+ * 기준 얼굴은 MF_ACCOUNT_FACE 테이블에 저장되며, 메모리에는 정규화된 특징 벡터를 한 배열에 이어 붙인 행렬로 보관합니다.<br/>
+ * 사진이 등록되면 얼굴 임베딩 인덱스의 벡터를 가져와 행렬을 한 번만 순회하며 모든 얼굴과 내적을 계산하고,<br/>
+ * match-similarity 이상인 회원을 MF_PHOTO_ACCOUNT_TAG 테이블에 기록합니다.<br/>
+ * 같은 트랜잭션에서 "내가 나온 사진" 읽기 모델(MF_ACCOUNT_PHOTO)에도 사진 정보를 복사하므로, 조회는 읽기 모델의 인덱스만 읽습니다.<br/>
+ * <br/>
+ * 기준 얼굴 수는 회원 수 수준이므로 근사 검색 대신 정확한 전수 비교를 사용합니다.<br/>
+ * 행렬은 등록 시 새 배열로 교체(copy-on-write)하므로 매칭은 잠금 없이 수행됩니다.<br/>
+ * <br/>
+ * 유사도만으로 회원을 사진에 태그하므로, 얼굴 인식 모델(FaceFeatureExtractor.isIdentityModel)이 설정된 경우에만 동작합니다.<br/>
+ * 기본 특징 추출기(pixel-hog-v1)는 다른 사람의 얼굴도 높은 유사도로 계산하여 다른 사람의 사진이 태그되므로, 설정이 켜져 있어도 사용하지 않습니다.<br/>
+ * 외부 얼굴 인식 모델(RemoteFaceFeatureExtractor, face.embedding.remote.enabled)을 켜면 매칭합니다.
+ */
+@Component
+@Slf4j
+public class AccountFaceRegistry {
+
+    private final FaceEmbeddingIndex faceEmbeddingIndex;
+
+    private final FaceFeatureExtractor faceFeatureExtractor;
+
+    private final AccountFaceRepository accountFaceRepository;
+
+    private final PhotoAccountTagRepository photoAccountTagRepository;
+
+    private final AccountPhotoRepository accountPhotoRepository;
+
+    private final PhotoRepository photoRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 회원 얼굴 매칭 사용 여부 (얼굴 임베딩 인덱스와 얼굴 인식 모델이 필요)
+    @Value("${face.account.enabled:false}")
+    private boolean enabled;
+
+    // 회원 얼굴로 판단하는 최소 유사도
+    @Value("${face.account.match-similarity:0.85}")
+    private float matchSimilarity;
+
+    // 기준 얼굴 등록 시 기존 사진에서 태그할 최대 얼굴 수
+    @Value("${face.account.backfill-limit:500}")
+    private int backfillLimit;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final AtomicLong matchCount = new AtomicLong();
+
+    private final AtomicLong matchNanos = new AtomicLong();
+
+    private final AtomicLong taggedCount = new AtomicLong();
+
+    public AccountFaceRegistry(FaceEmbeddingIndex faceEmbeddingIndex, FaceFeatureExtractor faceFeatureExtractor, AccountFaceRepository accountFaceRepository,
+            PhotoAccountTagRepository photoAccountTagRepository, AccountPhotoRepository accountPhotoRepository, PhotoRepository photoRepository, PlatformTransactionManager transactionManager) {
+        this.faceEmbeddingIndex = faceEmbeddingIndex;
+        this.faceFeatureExtractor = faceFeatureExtractor;
+        this.accountFaceRepository = accountFaceRepository;
+        this.photoAccountTagRepository = photoAccountTagRepository;
+        this.accountPhotoRepository = accountPhotoRepository;
+        this.photoRepository = photoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 현재 특징 추출 모델로 등록된 기준 얼굴을 불러옵니다. (다른 모델의 기준 얼굴은 비교할 수 없으므로 제외)
+     */
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        if (!faceFeatureExtractor.isIdentityModel()) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 회원 얼굴 매칭 사용 안 함 - 얼굴 인식 모델이 아닌 특징 추출기: {} (face.embedding.remote.enabled 필요)", faceFeatureExtractor.getModel());
+            return;
+        }
+
+        List<AccountFaceEntity> faces = accountFaceRepository.findByModel(faceFeatureExtractor.getModel());
+        int dimension = faceFeatureExtractor.getDimension();
+
+        long[] accountIds = new long[faces.size()];
+        float[] matrix = new float[faces.size() * dimension];
+        int rows = 0;
+        for (AccountFaceEntity face : faces) {
+            if (face.getDimension() != dimension) {
+                continue;
+            }
+            accountIds[rows] = face.getAccountId();
+            System.arraycopy(normalize(decode(face.getFeature())), 0, matrix, rows * dimension, dimension);
+            rows++;
+        }
+
+        snapshot = new Snapshot(Arrays.copyOf(accountIds, rows), Arrays.copyOf(matrix, rows * dimension), dimension);
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 회원 얼굴 레지스트리 준비 - 모델: {}, 기준 얼굴 수: {}", faceFeatureExtractor.getModel(), rows);
+
+        // 읽기 모델 도입 이전에 기록된 태그가 있으면 읽기 모델로 이관
+        if (accountPhotoRepository.findFirstTagIdMissingFromReadModel() != null) {
+            Integer copied = transactionTemplate.execute(status -> accountPhotoRepository.copyMissingFromTags());
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 내가 나온 사진 읽기 모델 이관 - 복사된 행 수: {}", copied);
+        }
+    }
+
+    /**
+     * 회원 얼굴 매칭 사용 여부 (설정이 켜져 있고, 얼굴 인식 모델과 얼굴 임베딩 인덱스를 사용하는 경우)
+     */
+    public boolean isEnabled() {
+        return enabled && faceFeatureExtractor.isIdentityModel() && faceEmbeddingIndex.isEnabled();
+    }
+
+    /**
+     * 회원의 기준 얼굴을 등록합니다. 저장이 커밋된 뒤 메모리 행렬에 추가합니다.
+     *
+     * @param accountId 회원 ID
+     * @param contentHash 기준 얼굴 사진의 해시
+     * @param feature 기준 얼굴의 특징 벡터
+     */
+    public void register(Long accountId, String contentHash, float[] feature) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        float[] normalized = normalize(feature);
+
+        transactionTemplate.executeWithoutResult(status -> accountFaceRepository.save(AccountFaceEntity.builder()
+            .accountId(accountId)
+            .contentHash(contentHash)
+            .model(faceFeatureExtractor.getModel())
+            .dimension(normalized.length)
+            .feature(encode(normalized))
+            .build()));
+
+        synchronized (this) {
+            snapshot = snapshot.append(accountId, normalized);
+        }
+    }
+
+    /**
+     * 특징 벡터와 같은 인물로 보이는 회원을 찾습니다.
+     *
+     * @param vector 질의 특징 벡터
+     * @return 유사도가 높은 순서의 회원 목록 (회원마다 가장 유사한 기준 얼굴 기준)
+     */
+    public List<AccountFaceMatch> match(float[] vector) {
+        Map<Long, AccountFaceMatch> matches = matchAll(List.of(normalize(vector)));
+        List<AccountFaceMatch> result = new ArrayList<>(matches.values());
+        result.sort((a, b) -> Float.compare(b.getSimilarity(), a.getSimilarity()));
+        return result;
+    }
+
+    /**
+     * 사진에서 감지된 얼굴을 회원과 매칭하여 태그합니다. 얼굴 벡터는 얼굴 임베딩 인덱스에 먼저 등록되어 있어야 합니다.<br/>
+     * 한 사진에 같은 회원이 여러 번 매칭되면 가장 유사한 얼굴 하나로 태그합니다.
+     *
+     * @param photoId 사진 ID
+     * @param faceCount 사진에서 감지된 얼굴 수
+     * @return 새로 태그된 회원 수
+     */
+    public int tagPhoto(Long photoId, int faceCount) {
+        if (!isEnabled() || photoId == null || faceCount < 1 || snapshot.size() == 0) {
+            return 0;
+        }
+
+        List<float[]> vectors = new ArrayList<>();
+        for (int faceIndex = 0; faceIndex < faceCount; faceIndex++) {
+            vectors.add(faceEmbeddingIndex.getVector(photoId, faceIndex));
+        }
+
+        Map<Long, AccountFaceMatch> matches = matchAll(vectors);
+        if (matches.isEmpty()) {
+            return 0;
+        }
+
+        return saveTags(photoId, matches.values());
+    }
+
+    /**
+     * 새로 등록한 기준 얼굴로 이미 업로드된 사진을 태그합니다. (얼굴 임베딩 인덱스 검색, 최대 backfill-limit개 얼굴)
+     *
+     * @param accountId 회원 ID
+     * @param feature 기준 얼굴의 특징 벡터
+     * @return 새로 태그된 사진 수
+     */
+    public int backfill(Long accountId, float[] feature) {
+        if (!isEnabled()) {
+            return 0;
+        }
+
+        Map<Long, FaceEmbeddingMatch> photos = new LinkedHashMap<>();
+        for (FaceEmbeddingMatch match : faceEmbeddingIndex.findSimilarFaces(normalize(feature), backfillLimit)) {
+            if (match.getSimilarity() >= matchSimilarity) {
+                photos.putIfAbsent(match.getPhotoId(), match);
+            }
+        }
+
+        int tagged = 0;
+        for (FaceEmbeddingMatch match : photos.values()) {
+            tagged += saveTags(match.getPhotoId(), List.of(new AccountFaceMatch(accountId, match.getFaceIndex(), match.getSimilarity())));
+        }
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 회원 얼굴 기존 사진 태그 - accountId: {}, 후보 사진 수: {}, 태그 수: {}", accountId, photos.size(), tagged);
+        return tagged;
+    }
+
+    /**
+     * 회원 얼굴 레지스트리 상태를 반환합니다.
+     *
+     * @return 레지스트리 상태
+     */
+    public AccountFaceRegistryStats getStats() {
+        Snapshot current = snapshot;
+        long matches = matchCount.get();
+
+        return AccountFaceRegistryStats.builder()
+            .enabled(isEnabled())
+            .model(faceFeatureExtractor.getModel())
+            .identityModel(faceFeatureExtractor.isIdentityModel())
+            .faceCount(current.size())
+            .accountCount(Arrays.stream(current.accountIds)
+                .distinct()
+                .count())
+            .matchCount(matches)
+            .averageMatchMillis(matches == 0 ? 0 : matchNanos.get() / 1_000_000.0 / matches)
+            .taggedCount(taggedCount.get())
+            .build();
+    }
+
+    /**
+     * 기준 얼굴 행렬을 한 번 순회하며 모든 질의 벡터와 비교합니다.
+     *
+     * @param vectors 정규화된 질의 벡터 목록 (순번이 얼굴 순번, 없는 얼굴은 null)
+     * @return 회원별 가장 유사한 매칭 (최소 유사도 이상)
+     */
+    private Map<Long, AccountFaceMatch> matchAll(List<float[]> vectors) {
+        long started = System.nanoTime();
+        Snapshot current = snapshot;
+        int dimension = current.dimension;
+        Map<Long, AccountFaceMatch> best = new HashMap<>();
+
+        for (int row = 0; row < current.size(); row++) {
+            int offset = row * dimension;
+            for (int faceIndex = 0; faceIndex < vectors.size(); faceIndex++) {
+                float[] vector = vectors.get(faceIndex);
+                if (vector == null || vector.length != dimension) {
+                    continue;
+                }
+
+                float dot = 0;
+                for (int i = 0; i < dimension; i++) {
+                    dot += current.matrix[offset + i] * vector[i];
+                }
+
+                if (dot >= matchSimilarity) {
+                    long accountId = current.accountIds[row];
+                    AccountFaceMatch previous = best.get(accountId);
+                    if (previous == null || previous.getSimilarity() < dot) {
+                        best.put(accountId, new AccountFaceMatch(accountId, faceIndex, dot));
+                    }
+                }
+            }
+        }
+
+        matchCount.incrementAndGet();
+        matchNanos.addAndGet(System.nanoTime() - started);
+        return best;
+    }
+
+    /**
+     * 회원 얼굴 태그와 읽기 모델 행을 한 트랜잭션으로 기록합니다. (이미 태그된 회원은 제외)
+     */
+    private int saveTags(Long photoId, Iterable<AccountFaceMatch> matches) {
+        Integer saved = transactionTemplate.execute(status -> {
+            PhotoEntity photo = photoRepository.findById(photoId)
+                .orElse(null);
+            if (photo == null) {
+                return 0;
+            }
+
+            int count = 0;
+            for (AccountFaceMatch match : matches) {
+                if (photoAccountTagRepository.existsByPhotoIdAndAccountId(photoId, match.getAccountId())) {
+                    continue;
+                }
+                photoAccountTagRepository.save(PhotoAccountTagEntity.builder()
+                    .photoId(photoId)
+                    .accountId(match.getAccountId())
+                    .faceIndex(match.getFaceIndex())
+                    .similarity(match.getSimilarity())
+                    .build());
+                accountPhotoRepository.save(AccountPhotoEntity.builder()
+                    .accountId(match.getAccountId())
+                    .photoId(photoId)
+                    .capturedAt(photo.getCreatedDate() == null ? LocalDateTime.now() : photo.getCreatedDate())
+                    .fileUrl(photo.getFileUrl())
+                    .derivativeUrls(photo.getDerivativeUrls())
+                    .faceIndex(match.getFaceIndex())
+                    .similarity(match.getSimilarity())
+                    .build());
+                count++;
+            }
+            return count;
+        });
+
+        int tagged = saved == null ? 0 : saved;
+        taggedCount.addAndGet(tagged);
+        return tagged;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+
+        float[] normalized = new float[vector.length];
+        if (norm > 0) {
+            for (int i = 0; i < vector.length; i++) {
+                normalized[i] = (float) (vector[i] / norm);
+            }
+        }
+        return normalized;
+    }
+
+    private static byte[] encode(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES);
+        buffer.asFloatBuffer()
+            .put(vector);
+        return buffer.array();
+    }
+
+    private static float[] decode(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes)
+            .asFloatBuffer()
+            .get(vector);
+        return vector;
+    }
+
+    /**
+     * 기준 얼굴 행렬 (불변, 등록 시 새 인스턴스로 교체)
+     */
+    private record Snapshot(long[] accountIds, float[] matrix, int dimension) {
+
+        static final Snapshot EMPTY = new Snapshot(new long[0], new float[0], 0);
+
+        int size() {
+            return accountIds.length;
+        }
+
+        Snapshot append(long accountId, float[] vector) {
+            int rows = size();
+            long[] nextIds = Arrays.copyOf(accountIds, rows + 1);
+            nextIds[rows] = accountId;
+
+            float[] nextMatrix = Arrays.copyOf(matrix, (rows + 1) * vector.length);
+            System.arraycopy(vector, 0, nextMatrix, rows * vector.length, vector.length);
+            return new Snapshot(nextIds, nextMatrix, vector.length);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.colon.mattfolio.common.face;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 회원 얼굴 레지스트리 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccountFaceRegistryStats {
+
+    @Schema(description = "회원 얼굴 매칭 사용 여부")
+    private boolean enabled;
+
+    @Schema(description = "특징 추출 모델 이름")
+    private String model;
+
+    @Schema(description = "얼굴 인식 모델 여부 (false이면 회원 태그를 하지 않음)")
+    private boolean identityModel;
+
+    @Schema(description = "메모리에 올라간 기준 얼굴 수")
+    private int faceCount;
+
+    @Schema(description = "기준 얼굴을 등록한 회원 수")
+    private long accountCount;
+
+    @Schema(description = "매칭 횟수 (서버 시작 이후)")
+    private long matchCount;
+
+    @Schema(description = "평균 매칭 시간(ms)")
+    private double averageMatchMillis;
+
+    @Schema(description = "새로 기록한 사진-회원 태그 수 (서버 시작 이후)")
+    private long taggedCount;
+}
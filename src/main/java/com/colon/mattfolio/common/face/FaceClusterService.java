@@ -0,0 +1,399 @@
+package com.colon.mattfolio.common.face;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.colon.mattfolio.database.face.entity.FaceClusterEntity;
+import com.colon.mattfolio.database.face.entity.FaceClusterMemberEntity;
+import com.colon.mattfolio.database.face.repository.FaceClusterMemberRepository;
+import com.colon.mattfolio.database.face.repository.FaceClusterRepository;
+import com.colon.mattfolio.external.faceApi.dto.FaceEmbeddingMatch;
+import com.colon.mattfolio.external.faceApi.service.FaceEmbeddingIndex;
+import com.colon.mattfolio.external.faceApi.service.FaceFeatureExtractor;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * FaceClusterService는 새로 등록된 사진의 얼굴을 같은 인물 클러스터에 증분 배정하는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 배정 (업로드마다):<br/>
+ * 1. 얼굴 임베딩 인덱스에서 다른 사진의 유사한 얼굴(neighbors개)을 조회<br/>
+ * 2. assign-similarity 이상인 이웃이 속한 클러스터별로 유사도를 합산하여 가장 높은 클러스터에 배정<br/>
+ * 3. 배정할 클러스터가 없으면 이 얼굴을 대표로 하는 새 클러스터를 생성<br/>
+ * 이웃 수가 고정되어 있으므로 업로드당 비용은 전체 얼굴 수와 관계없이 일정합니다. (Group API 재호출 없음)<br/>
+ * <br/>
+ * 검토 (백그라운드, review-interval-ms마다 review-batch-size개):<br/>
+ * - 분할: 대표 얼굴과의 유사도가 split-similarity 미만인 얼굴을 다시 투표하여, 다른 클러스터가 우세하면 옮기고 근거가 없으면 새 클러스터로 분리<br/>
+ * - 병합: 대표 얼굴과 merge-similarity 이상인 얼굴이 있는 다른 클러스터를 큰 클러스터 쪽으로 병합<br/>
+ * 동시에 업로드된 같은 인물의 얼굴이 서로 다른 클러스터로 생성되거나 유사도 사슬로 잘못 묶인 경우를 바로잡습니다.<br/>
+ * <br/>
+ * 배정과 검토는 호출한 쪽의 트랜잭션과 분리된 새 트랜잭션으로 커밋합니다.<br/>
+ * <br/>
+ * 유사도 기준(assign/merge/split-similarity)은 얼굴 인식 모델의 코사인 유사도 분포를 전제로 하므로, 얼굴 인식 모델(FaceFeatureExtractor.isIdentityModel)에서만 클러스터링합니다.<br/>
+ * 기본 특징 추출기(pixel-hog-v1)의 벡터는 모든 성분이 0 이상이어서 다른 사람끼리도 유사도가 0.8을 넘기 쉽고, 클러스터가 몇 개의 거대한 클러스터로 합쳐지기 때문입니다.<br/>
+ * 외부 얼굴 인식 모델(RemoteFaceFeatureExtractor, face.embedding.remote.enabled)을 켜면 클러스터링합니다.
+ */
+@Service
+@Slf4j
+public class FaceClusterService {
+
+    private final FaceEmbeddingIndex faceEmbeddingIndex;
+
+    private final FaceFeatureExtractor faceFeatureExtractor;
+
+    private final FaceClusterRepository faceClusterRepository;
+
+    private final FaceClusterMemberRepository faceClusterMemberRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    // 클러스터링 사용 여부 (얼굴 임베딩 인덱스와 얼굴 인식 모델이 필요)
+    @Value("${face.cluster.enabled:false}")
+    private boolean enabled;
+
+    // 배정 시 조회할 이웃 얼굴 수
+    @Value("${face.cluster.neighbors:10}")
+    private int neighbors;
+
+    // 기존 클러스터에 배정하는 최소 유사도
+    @Value("${face.cluster.assign-similarity:0.8}")
+    private float assignSimilarity;
+
+    // 두 클러스터를 병합하는 최소 유사도 (대표 얼굴 기준)
+    @Value("${face.cluster.merge-similarity:0.85}")
+    private float mergeSimilarity;
+
+    // 대표 얼굴과 이 유사도 미만인 얼굴은 분할 검토 대상
+    @Value("${face.cluster.split-similarity:0.6}")
+    private float splitSimilarity;
+
+    // 검토 한 번에 처리할 클러스터 수
+    @Value("${face.cluster.review-batch-size:100}")
+    private int reviewBatchSize;
+
+    // 분할 검토할 최대 클러스터 크기 (초과 시 병합만 검토)
+    @Value("${face.cluster.max-split-members:500}")
+    private int maxSplitMembers;
+
+    private final AtomicLong assignedCount = new AtomicLong();
+
+    private final AtomicLong createdCount = new AtomicLong();
+
+    private final AtomicLong mergedCount = new AtomicLong();
+
+    private final AtomicLong splitCount = new AtomicLong();
+
+    private volatile LocalDateTime lastReviewAt;
+
+    public FaceClusterService(FaceEmbeddingIndex faceEmbeddingIndex, FaceFeatureExtractor faceFeatureExtractor, FaceClusterRepository faceClusterRepository,
+            FaceClusterMemberRepository faceClusterMemberRepository, PlatformTransactionManager transactionManager) {
+        this.faceEmbeddingIndex = faceEmbeddingIndex;
+        this.faceFeatureExtractor = faceFeatureExtractor;
+        this.faceClusterRepository = faceClusterRepository;
+        this.faceClusterMemberRepository = faceClusterMemberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 설정과 함께 얼굴 인식 모델을 사용하는 경우에만 클러스터링을 켭니다.
+     */
+    @PostConstruct
+    public void init() {
+        if (enabled && !faceFeatureExtractor.isIdentityModel()) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 클러스터링 사용 안 함 - 얼굴 인식 모델이 아닌 특징 추출기: {} (face.embedding.remote.enabled 필요)", faceFeatureExtractor.getModel());
+        }
+    }
+
+    /**
+     * 클러스터링 사용 여부 (설정이 켜져 있고, 얼굴 인식 모델과 얼굴 임베딩 인덱스를 사용하는 경우)
+     */
+    public boolean isEnabled() {
+        return enabled && faceFeatureExtractor.isIdentityModel() && faceEmbeddingIndex.isEnabled();
+    }
+
+    /**
+     * 사진의 얼굴을 클러스터에 배정합니다. 이미 배정되었거나 인덱스에 없는 얼굴은 건너뜁니다.
+     *
+     * @param photoId 사진 ID
+     * @param faceCount 사진에서 감지된 얼굴 수
+     * @return 배정된 얼굴 수
+     */
+    public int assign(Long photoId, int faceCount) {
+        if (!isEnabled() || photoId == null || faceCount < 1) {
+            return 0;
+        }
+
+        return transactionTemplate.execute(status -> {
+            int assigned = 0;
+            for (int faceIndex = 0; faceIndex < faceCount; faceIndex++) {
+                if (assignFace(photoId, faceIndex)) {
+                    assigned++;
+                }
+            }
+            return assigned;
+        });
+    }
+
+    /**
+     * 검토가 필요한 클러스터의 분할/병합을 수행합니다. 클러스터마다 별도 트랜잭션으로 처리하며, 실패한 클러스터는 다음 검토에서 다시 처리합니다.
+     */
+    @Scheduled(fixedDelayString = "${face.cluster.review-interval-ms:60000}", initialDelayString = "${face.cluster.review-interval-ms:60000}")
+    public void review() {
+        if (!isEnabled()) {
+            return;
+        }
+
+        List<FaceClusterEntity> clusters = faceClusterRepository.findByNeedsReviewTrueOrderByClusterIdAsc(PageRequest.of(0, reviewBatchSize));
+        for (FaceClusterEntity cluster : clusters) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> reviewCluster(cluster.getClusterId()));
+            } catch (RuntimeException e) {
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 클러스터 검토 실패 - clusterId: {}", cluster.getClusterId(), e);
+            }
+        }
+
+        lastReviewAt = LocalDateTime.now();
+        if (!clusters.isEmpty()) {
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 클러스터 검토 완료 - 클러스터 수: {}, 누적 병합: {}, 누적 분할: {}", clusters.size(), mergedCount.get(), splitCount.get());
+        }
+    }
+
+    /**
+     * 증분 얼굴 클러스터링 상태를 반환합니다.
+     *
+     * @return 클러스터링 상태
+     */
+    public FaceClusterStats getStats() {
+        return FaceClusterStats.builder()
+            .enabled(isEnabled())
+            .clusterCount(faceClusterRepository.count())
+            .pendingReviewCount(faceClusterRepository.countByNeedsReviewTrue())
+            .assignedCount(assignedCount.get())
+            .createdCount(createdCount.get())
+            .mergedCount(mergedCount.get())
+            .splitCount(splitCount.get())
+            .lastReviewAt(lastReviewAt)
+            .build();
+    }
+
+    /**
+     * 얼굴 하나를 이웃 투표로 기존 클러스터에 배정하거나 새 클러스터를 만듭니다.
+     *
+     * @return 배정했으면 true (이미 배정되었거나 인덱스에 없으면 false)
+     */
+    private boolean assignFace(Long photoId, int faceIndex) {
+        if (!faceEmbeddingIndex.contains(photoId, faceIndex) || faceClusterMemberRepository.existsByPhotoIdAndFaceIndex(photoId, faceIndex)) {
+            return false;
+        }
+
+        ClusterVote vote = vote(faceEmbeddingIndex.findSimilarFaces(photoId, faceIndex, neighbors));
+        if (vote != null) {
+            faceClusterMemberRepository.save(FaceClusterMemberEntity.builder()
+                .clusterId(vote.clusterId())
+                .photoId(photoId)
+                .faceIndex(faceIndex)
+                .similarity(vote.similarity())
+                .build());
+            faceClusterRepository.addFaceCount(vote.clusterId(), 1);
+            assignedCount.incrementAndGet();
+        } else {
+            Long clusterId = createCluster(photoId, faceIndex);
+            faceClusterMemberRepository.save(FaceClusterMemberEntity.builder()
+                .clusterId(clusterId)
+                .photoId(photoId)
+                .faceIndex(faceIndex)
+                .build());
+        }
+        return true;
+    }
+
+    /**
+     * 클러스터 하나의 분할과 병합을 검토합니다.
+     */
+    private void reviewCluster(Long clusterId) {
+        FaceClusterEntity cluster = faceClusterRepository.findById(clusterId)
+            .orElse(null);
+        if (cluster == null || !Boolean.TRUE.equals(cluster.getNeedsReview())) {
+            return;
+        }
+
+        Long representativePhotoId = cluster.getRepresentativePhotoId();
+        int representativeFaceIndex = cluster.getRepresentativeFaceIndex();
+
+        split(clusterId, representativePhotoId, representativeFaceIndex);
+        if (merge(clusterId, representativePhotoId, representativeFaceIndex)) {
+            faceClusterRepository.markReviewed(clusterId);
+        }
+    }
+
+    /**
+     * 대표 얼굴과 유사도가 낮은 얼굴을 다시 투표하여, 다른 클러스터가 우세하면 옮기고 근거가 없으면 새 클러스터로 분리합니다.
+     */
+    private void split(Long clusterId, Long representativePhotoId, int representativeFaceIndex) {
+        if (faceClusterMemberRepository.countByClusterId(clusterId) > maxSplitMembers) {
+            return;
+        }
+
+        for (FaceClusterMemberEntity member : faceClusterMemberRepository.findByClusterId(clusterId)) {
+            if (member.getPhotoId()
+                .equals(representativePhotoId) && member.getFaceIndex() == representativeFaceIndex) {
+                continue;
+            }
+
+            float similarity = faceEmbeddingIndex.similarity(member.getPhotoId(), member.getFaceIndex(), representativePhotoId, representativeFaceIndex);
+            if (Float.isNaN(similarity) || similarity >= splitSimilarity) {
+                continue;
+            }
+
+            ClusterVote vote = vote(faceEmbeddingIndex.findSimilarFaces(member.getPhotoId(), member.getFaceIndex(), neighbors));
+            if (vote != null && vote.clusterId()
+                .equals(clusterId)) {
+                continue;
+            }
+
+            Long targetClusterId;
+            if (vote != null) {
+                targetClusterId = vote.clusterId();
+                member.moveTo(targetClusterId, vote.similarity());
+                faceClusterRepository.addFaceCount(targetClusterId, 1);
+            } else {
+                targetClusterId = createCluster(member.getPhotoId(), member.getFaceIndex());
+                member.moveTo(targetClusterId, null);
+            }
+            faceClusterRepository.addFaceCount(clusterId, -1);
+            splitCount.incrementAndGet();
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 클러스터 분할 - photoId: {}, 얼굴: {}, {} → {}", member.getPhotoId(), member.getFaceIndex(), clusterId, targetClusterId);
+        }
+    }
+
+    /**
+     * 대표 얼굴과 매우 유사한 얼굴이 있는 다른 클러스터를 병합합니다. 큰 클러스터가 작은 클러스터를 흡수합니다.
+     *
+     * @return 이 클러스터가 남아 있으면 true (더 큰 클러스터에 흡수되었으면 false)
+     */
+    private boolean merge(Long clusterId, Long representativePhotoId, int representativeFaceIndex) {
+        Set<Long> candidates = new LinkedHashSet<>();
+        for (Map.Entry<FaceKey, Long> entry : findClusters(faceEmbeddingIndex.findSimilarFaces(representativePhotoId, representativeFaceIndex, neighbors), mergeSimilarity).entrySet()) {
+            if (!entry.getValue()
+                .equals(clusterId)) {
+                candidates.add(entry.getValue());
+            }
+        }
+
+        for (Long otherClusterId : candidates) {
+            long size = faceClusterMemberRepository.countByClusterId(clusterId);
+            long otherSize = faceClusterMemberRepository.countByClusterId(otherClusterId);
+            if (otherSize == 0) {
+                continue;
+            }
+
+            if (otherSize > size) {
+                absorb(clusterId, otherClusterId);
+                return false;
+            }
+            absorb(otherClusterId, clusterId);
+        }
+        return true;
+    }
+
+    /**
+     * 클러스터의 얼굴을 모두 다른 클러스터로 옮기고 삭제합니다.
+     */
+    private void absorb(Long sourceClusterId, Long targetClusterId) {
+        int moved = faceClusterMemberRepository.moveCluster(sourceClusterId, targetClusterId);
+        faceClusterRepository.addFaceCount(targetClusterId, moved);
+        faceClusterRepository.deleteById(sourceClusterId);
+        mergedCount.incrementAndGet();
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 클러스터 병합 - {} → {} (얼굴 수: {})", sourceClusterId, targetClusterId, moved);
+    }
+
+    private Long createCluster(Long photoId, int faceIndex) {
+        FaceClusterEntity cluster = faceClusterRepository.save(FaceClusterEntity.builder()
+            .representativePhotoId(photoId)
+            .representativeFaceIndex(faceIndex)
+            .faceCount(1)
+            .needsReview(true)
+            .build());
+        createdCount.incrementAndGet();
+        return cluster.getClusterId();
+    }
+
+    /**
+     * 이웃 얼굴이 속한 클러스터별로 유사도를 합산하여 가장 우세한 클러스터를 고릅니다.
+     *
+     * @return 우세한 클러스터와 그 클러스터 이웃 중 최고 유사도 (assign-similarity 이상인 이웃이 없으면 null)
+     */
+    private ClusterVote vote(List<FaceEmbeddingMatch> neighbours) {
+        Map<FaceKey, Long> clusters = findClusters(neighbours, assignSimilarity);
+        if (clusters.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Float> scores = new HashMap<>();
+        Map<Long, Float> best = new HashMap<>();
+        for (FaceEmbeddingMatch neighbour : neighbours) {
+            Long clusterId = clusters.get(new FaceKey(neighbour.getPhotoId(), neighbour.getFaceIndex()));
+            if (clusterId == null) {
+                continue;
+            }
+            scores.merge(clusterId, neighbour.getSimilarity(), Float::sum);
+            best.merge(clusterId, neighbour.getSimilarity(), Math::max);
+        }
+
+        Long winner = scores.entrySet()
+            .stream()
+            .max(Map.Entry.comparingByValue())
+            .map(Map.Entry::getKey)
+            .orElseThrow();
+        return new ClusterVote(winner, best.get(winner));
+    }
+
+    /**
+     * 최소 유사도 이상인 이웃 얼굴이 속한 클러스터를 한 번의 조회로 찾습니다.
+     *
+     * @return 얼굴별 클러스터 ID (클러스터에 배정되지 않은 얼굴은 제외)
+     */
+    private Map<FaceKey, Long> findClusters(List<FaceEmbeddingMatch> neighbours, float minSimilarity) {
+        Set<FaceKey> faces = new LinkedHashSet<>();
+        for (FaceEmbeddingMatch neighbour : neighbours) {
+            if (neighbour.getSimilarity() >= minSimilarity) {
+                faces.add(new FaceKey(neighbour.getPhotoId(), neighbour.getFaceIndex()));
+            }
+        }
+        if (faces.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<FaceKey, Long> clusters = new HashMap<>();
+        for (FaceClusterMemberEntity member : faceClusterMemberRepository.findByPhotoIdIn(faces.stream()
+            .map(FaceKey::photoId)
+            .toList())) {
+            FaceKey key = new FaceKey(member.getPhotoId(), member.getFaceIndex());
+            if (faces.contains(key)) {
+                clusters.put(key, member.getClusterId());
+            }
+        }
+        return clusters;
+    }
+
+    private record FaceKey(Long photoId, int faceIndex) {
+    }
+
+    private record ClusterVote(Long clusterId, float similarity) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.colon.mattfolio.common.face;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 증분 얼굴 클러스터링 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FaceClusterStats {
+
+    @Schema(description = "클러스터링 사용 여부")
+    private boolean enabled;
+
+    @Schema(description = "전체 클러스터 수")
+    private long clusterCount;
+
+    @Schema(description = "병합/분할 검토 대기 클러스터 수")
+    private long pendingReviewCount;
+
+    @Schema(description = "기존 클러스터에 배정된 얼굴 수 (서버 시작 이후)")
+    private long assignedCount;
+
+    @Schema(description = "새로 만든 클러스터 수 (서버 시작 이후)")
+    private long createdCount;
+
+    @Schema(description = "병합으로 흡수된 클러스터 수 (서버 시작 이후)")
+    private long mergedCount;
+
+    @Schema(description = "분할로 다른 클러스터로 옮겨진 얼굴 수 (서버 시작 이후)")
+    private long splitCount;
+
+    @Schema(description = "마지막 검토 완료 시각")
+    private LocalDateTime lastReviewAt;
+}
@@ -1,37 +1,61 @@
 package com.colon.mattfolio.common.file;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.colon.mattfolio.common.enumType.BlobContainerType;
 import com.colon.mattfolio.common.exception.PhotoException;
-import com.colon.mattfolio.external.blobStorage.service.BlobStorageService;
+import com.colon.mattfolio.common.face.AccountFaceRegistry;
+import com.colon.mattfolio.common.face.FaceClusterService;
+import com.colon.mattfolio.common.storage.PhotoStorage;
+import com.colon.mattfolio.common.storage.StoredFile;
+import com.colon.mattfolio.database.photo.entity.PhotoEntity;
 import com.colon.mattfolio.external.faceApi.dto.FaceDetectionResponse;
 import com.colon.mattfolio.external.faceApi.dto.GroupResponse;
 import com.colon.mattfolio.external.faceApi.service.FaceApiService;
+import com.colon.mattfolio.external.faceApi.service.FaceEmbeddingIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
- * FileService 클래스는 Azure Face API와 Azure Blob Storage를 이용하여 업로드된 이미지 파일을 처리하는 역할을 수행합니다.
+ * FileService 클래스는 Azure Face API와 사진 저장소(PhotoStorage, 기본값 Azure Blob Storage)를 이용하여 업로드된 이미지 파일을 처리하는 역할을 수행합니다.
  * 
  * 주요 기능은 다음과 같습니다:<br/>
  * - 업로드된 이미지 파일로부터 얼굴을 감지하고, 해당 얼굴의 ID를 추출<br/>
  * - 감지된 얼굴 ID들을 그룹화하여 동일 인물 매칭 등의 처리를 수행<br/>
- * - 처리된 이미지를 Azure Blob Storage에 업로드하고, 업로드된 파일의 URL을 반환<br/>
+ * - 처리된 이미지를 사진 저장소에 업로드하고, 업로드된 파일의 URL을 반환<br/>
+ * - 업로드된 원본으로 크기별 파생 이미지(썸네일 등)를 생성하고, 크기별 URL을 함께 반환<br/>
+ * - 업로드된 사진의 얼굴 특징 벡터를 얼굴 임베딩 인덱스에 등록 ("내 사진 찾기" 검색용)하고, 같은 인물 클러스터에 배정<br/>
  * 
- * 이 클래스는 동기 방식으로 이미지 파일 처리 작업을 수행합니다.<br/>
+ * 이 클래스는 기본적으로 동기 방식으로 이미지 파일 처리 작업을 수행합니다.<br/>
+ * 동기 처리와 논블로킹 처리(processFileAsync) 모두 단계(lookup → detect → store → derive → register)마다 크기가 정해진 스레드 풀과 큐(PhotoProcessingStages)에서 실행되어,<br/>
+ * CPU 단계(파생 이미지 생성)와 입출력 단계(Face API, Blob 업로드)가 같은 스레드를 두고 경쟁하지 않습니다.<br/>
+ * 
+ * MultipartFile 외에도 임시 저장된 SpooledFile을 처리할 수 있어, 요청 스레드와 분리된 백그라운드 처리에 사용할 수 있습니다.<br/>
+ * SpooledFile은 결과를 기다리지 않는 논블로킹 방식(processFileAsync)으로도 처리할 수 있으며, 이 경우에도 같은 단계별 스레드 풀을 사용합니다.<br/>
+ * 
+ * 파일을 읽는 동안 내용 해시(SHA-256)를 계산하며, 이미 처리된 파일과 내용이 같으면 얼굴 감지와 업로드를 생략하고 기존 URL을 재사용합니다.<br/>
+ * 업로드 파트는 임시 파일로 저장하면서 한 번만 읽고(해시 계산 포함), 얼굴 감지 전처리와 Blob 업로드는 임시 파일을 사용하므로<br/>
+ * 대용량 파일도 전체를 힙 메모리에 올리지 않습니다.<br/>
  * 
  * 사용 예:<br/>
  * MultipartFile file = ...; // 클라이언트에서 업로드된 파일<br/>
- * fileService.processFile(file);
+ * fileService.processFile(file);<br/>
+ * <br/>
+ * 단계 사이에 DB 커넥션을 잡고 있지 않도록 클래스에 트랜잭션을 두지 않으며, DB 작업은 각 단계에서 PhotoHashIndexService 등의 트랜잭션으로만 수행합니다.<br/>
+ * (호출 스레드가 트랜잭션을 연 채 단계 결과를 기다리면, 단계 스레드가 커넥션을 얻지 못해 커넥션 풀이 고갈될 수 있음)
  */
-@Transactional(readOnly = true)
 @RequiredArgsConstructor
 @Service
 @Slf4j
@@ -40,40 +64,156 @@ public class FileService {
     // Azure Face API를 호출하여 얼굴 감지 및 그룹화를 수행하는 서비스
     private final FaceApiService faceApiService;
 
-    // Azure Blob Storage에 파일을 업로드하는 서비스를 담당
-    private final BlobStorageService blobStorageService;
+    // 사진 파일 저장소 (storage.type에 따라 Azure Blob Storage 또는 로컬 파일 시스템)
+    private final PhotoStorage photoStorage;
+
+    // 파일 내용 해시 기반으로 처리 결과를 조회/등록하는 서비스
+    private final PhotoHashIndexService photoHashIndexService;
+
+    // 업로드 파일을 임시 파일로 저장하는 서비스
+    private final FileSpoolService fileSpoolService;
+
+    // 썸네일 등 크기별 파생 이미지를 생성하는 서비스
+    private final PhotoDerivativeService photoDerivativeService;
+
+    // 업로드된 사진의 얼굴 특징 벡터를 보관하는 인덱스
+    private final FaceEmbeddingIndex faceEmbeddingIndex;
+
+    // 얼굴을 같은 인물 클러스터에 증분 배정하는 서비스
+    private final FaceClusterService faceClusterService;
+
+    // 사진의 얼굴을 기준 얼굴을 등록한 회원과 매칭하는 레지스트리
+    private final AccountFaceRegistry accountFaceRegistry;
+
+    // 동기 처리 경로의 단계별 스레드 풀 (lookup → detect → store → derive → register)
+    private final PhotoProcessingStages photoProcessingStages;
 
     /**
      * 업로드된 이미지 파일을 처리하는 메서드입니다.
      * 
      * 이 메서드는 다음 단계를 수행합니다:<br/>
      * 1. 파일 유효성 검증: 파일이 null이거나 비어있는 경우 예외 발생<br/>
-     * 2. 파일을 바이트 배열로 읽어 Azure Face API를 통해 얼굴 감지 수행<br/>
+     * 2. 파일을 임시 파일로 저장(내용 해시 계산)한 뒤 축소된 이미지로 Azure Face API를 통해 얼굴 감지 수행<br/>
      * 3. 감지된 얼굴 목록에서 얼굴 ID를 추출<br/>
      * 4. 추출된 얼굴 ID들을 그룹화하여 동일 인물 매칭 결과 확인<br/>
-     * 5. 그룹화된 결과가 존재하면 Azure Blob Storage에 파일 업로드 후 URL 획득<br/>
+     * 5. 그룹화된 결과가 존재하면 사진 저장소에 파일 업로드 후 URL 획득<br/>
+     * 6. 업로드한 원본으로 크기별 파생 이미지(썸네일 등)를 생성하여 원본 옆에 저장<br/>
+     * <br/>
+     * 임시 파일은 마지막 단계가 끝난 뒤 삭제합니다. 대기 시간이 초과되어 예외가 발생해도 진행 중인 단계는 임시 파일을 계속 읽으므로, 호출 스레드에서 먼저 삭제하지 않습니다.
      * 
      * @param file 클라이언트에서 업로드한 이미지 파일
+     * @return 원본 및 크기별 파생 이미지 URL (얼굴이 감지되지 않은 경우 URL 없음)
      * @throws IOException 파일 입출력 중 발생하는 예외
      * @throws PhotoException 파일이 null이거나 비어있는 경우 발생하는 예외
      */
-    public String processFile(MultipartFile file) throws IOException {
+    public ProcessedPhoto processFile(MultipartFile file) throws IOException {
         // 파일 유효성 검사: 파일이 null이거나 비어있으면 예외 발생
         if (file == null || file.isEmpty()) {
             throw new PhotoException(PhotoException.Reason.EMPTY_FILES);
         }
 
-        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 처리 시작 - 파일: {}", file.getOriginalFilename());
+        // 업로드 파트의 임시 파일을 스풀 디렉토리로 옮기고, 마지막 단계가 끝나면 삭제합니다.
+        SpooledFile spooledFile = fileSpoolService.spool(file);
+        CompletableFuture<ProcessedPhoto> result;
+        try {
+            result = processSpooledFile(spooledFile, BlobContainerType.PROFILE);
+        } catch (RuntimeException e) {
+            spooledFile.delete();
+            throw e;
+        }
+
+        return photoProcessingStages.await(result.whenComplete((processed, throwable) -> spooledFile.delete()));
+    }
+
+    /**
+     * 임시 저장된 이미지 파일을 처리하여 지정한 컨테이너에 저장하는 메서드입니다.<br/>
+     * 작가 일괄 적재처럼 프로필 이외의 컨테이너에 저장하는 경우 사용합니다.<br/>
+     * 파일은 호출한 쪽이 관리하며, 대기 시간이 초과된 경우에도 진행 중인 단계가 파일을 읽을 수 있으므로 바로 삭제하거나 옮기지 않아야 합니다.
+     *
+     * @param file 임시 저장된 이미지 파일
+     * @param containerType 원본과 파생 이미지를 저장할 컨테이너
+     * @return 원본 및 크기별 파생 이미지 URL (얼굴이 감지되지 않은 경우 URL 없음)
+     * @throws IOException 파일 입출력 중 발생하는 예외
+     * @throws PhotoException 파일이 null이거나 비어있는 경우 발생하는 예외
+     */
+    public ProcessedPhoto processFile(SpooledFile file, BlobContainerType containerType) throws IOException {
+        if (file == null || file.getSize() < 1) {
+            throw new PhotoException(PhotoException.Reason.EMPTY_FILES);
+        }
+
+        return photoProcessingStages.await(processSpooledFile(file, containerType));
+    }
+
+    /**
+     * 임시 저장된 이미지 파일을 논블로킹 방식으로 처리하는 메서드입니다.<br/>
+     * 동기 처리와 같은 단계별 스레드 풀(PhotoProcessingStages)에서 처리되며, 호출 스레드는 결과를 기다리지 않습니다.<br/>
+     * 반환된 Mono는 마지막 단계가 끝난 뒤에만 완료되므로, 완료 이후(doFinally 등)에 임시 파일을 삭제할 수 있습니다.
+     *
+     * @param file 임시 저장된 이미지 파일
+     * @param containerType 원본과 파생 이미지를 저장할 컨테이너
+     * @return 원본 및 크기별 파생 이미지 URL을 발행하는 Mono (얼굴이 감지되지 않은 경우 URL 없음)
+     */
+    public Mono<ProcessedPhoto> processFileAsync(SpooledFile file, BlobContainerType containerType) {
+        if (file == null || file.getSize() < 1) {
+            return Mono.error(new PhotoException(PhotoException.Reason.EMPTY_FILES));
+        }
+
+        // 구독 취소로 결과를 먼저 완료시키면 진행 중인 단계가 읽는 임시 파일이 삭제될 수 있으므로, 취소를 단계에 전달하지 않습니다.
+        return Mono.fromFuture(() -> processSpooledFile(file, containerType), true)
+            .onErrorMap(photoProcessingStages::translate);
+    }
+
+    /**
+     * 임시 저장된 이미지 파일을 기반으로 얼굴 감지 및 업로드를 수행하는 공통 메서드입니다.<br/>
+     * 내용 해시는 임시 저장 시 계산된 값을 사용하며, 얼굴 감지와 업로드는 임시 파일을 직접 읽습니다.<br/>
+     * 각 단계는 PhotoProcessingStages의 단계별 스레드 풀에서 실행되며, 반환된 CompletableFuture는 마지막 단계가 끝나야 완료됩니다.
+     *
+     * @param file 임시 저장된 이미지 파일
+     * @param containerType 파일을 저장할 컨테이너
+     * @return 원본 및 크기별 파생 이미지 URL을 발행하는 CompletableFuture (얼굴이 감지되지 않은 경우 URL 없음)
+     */
+    private CompletableFuture<ProcessedPhoto> processSpooledFile(SpooledFile file, BlobContainerType containerType) {
+        String originalFilename = file.getOriginalFilename();
+        String contentHash = file.getContentHash();
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 처리 시작 - 파일: {}", originalFilename);
+
+        // lookup: 동일한 내용의 파일이 이미 처리된 경우 기존 결과를 재사용
+        return photoProcessingStages.getLookup()
+            .submit(() -> photoHashIndexService.findByContentHash(contentHash))
+            .thenCompose(indexed -> {
+                if (indexed.isPresent()) {
+                    return CompletableFuture.completedFuture(reuseIndexed(originalFilename, indexed.get()));
+                }
+
+                // detect: Azure Face API를 사용하여 이미지 내 얼굴 감지 수행 (같은 내용의 감지 결과가 캐시되어 있으면 재사용)
+                return photoProcessingStages.getDetect()
+                    .submit(() -> faceApiService.detectFaces(contentHash, file.getPath(), file.getSize()))
+                    .thenCompose(faceDetections -> uploadAndRegister(file, containerType, contentHash, faceDetections));
+            });
+    }
 
-        // 파일을 바이트 배열로 변환 (Azure Face API 호출에 사용)
-        byte[] imageBytes = file.getBytes();
+    /**
+     * 얼굴 감지 결과에 따라 파일을 업로드하고, 처리 결과를 내용 해시와 함께 등록합니다. (store → derive → register 단계)<br/>
+     * 얼굴이 감지되지 않은 파일도 등록하여, 같은 파일이 다시 업로드될 때 Face API를 호출하지 않도록 합니다.
+     *
+     * @param file 임시 저장된 이미지 파일
+     * @param containerType 파일을 저장할 컨테이너
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @param faceDetections Face API 얼굴 감지 결과
+     * @return 원본 및 크기별 파생 이미지 URL을 발행하는 CompletableFuture (얼굴이 감지되지 않은 경우 URL 없음)
+     */
+    private CompletableFuture<ProcessedPhoto> uploadAndRegister(SpooledFile file, BlobContainerType containerType, String contentHash, List<FaceDetectionResponse> faceDetections) {
+        String originalFilename = file.getOriginalFilename();
+        long size = file.getSize();
 
-        // Azure Face API를 사용하여 이미지 내 얼굴 감지 수행
-        List<FaceDetectionResponse> faceDetections = faceApiService.detectFaces(imageBytes);
         if (faceDetections == null || faceDetections.isEmpty()) {
-            // 얼굴이 감지되지 않은 경우 로그 출력 후 메서드 종료
-            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Face Api 얼굴이 감지되지 않았습니다: {}", file.getOriginalFilename());
-            return null;
+            // 얼굴이 감지되지 않은 경우 로그 출력 후 등록만 수행
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Face Api 얼굴이 감지되지 않았습니다: {}", originalFilename);
+            return photoProcessingStages.getRegister()
+                .submit(() -> {
+                    registerSafely(contentHash, originalFilename, size, null, null, faceDetections);
+                    return ProcessedPhoto.notUploaded();
+                });
         }
 
         // 감지된 얼굴 목록에서 각 얼굴의 고유 Face ID를 추출
@@ -85,18 +225,118 @@ public class FileService {
         // // 추출한 Face ID를 기반으로 Azure Face API의 그룹화 기능 호출하여 동일 인물 매칭 수행
         // GroupResponse groupResponse = faceApiService.groupFaces(faceIds);
         // if (groupResponse != null) {
-        // log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Face Api 그룹화 결과 ({}): {}", file.getOriginalFilename(), groupResponse.toString());
+        // log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Face Api 그룹화 결과 ({}): {}", originalFilename, groupResponse.toString());
         // } else {
         // // 그룹화 결과가 없는 경우 로그 출력 후 메서드 종료
-        // log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Face Ids가 존재하지 않습니다: {}", file.getOriginalFilename());
+        // log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Face Ids가 존재하지 않습니다: {}", originalFilename);
         // return null;
         // }
 
-        // Azure Blob Storage에 파일 업로드 및 업로드된 파일 URL 획득
-        // BlobStorageService.uploadImage 메서드의 첫번째 매개변수는 추가적인 옵션(예: 폴더 경로)로 사용될 수 있음
-        String fileUrl = blobStorageService.uploadImage("", file);
-        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Blob URL: {}", fileUrl);
+        // store: 저장소에 파일 업로드 및 업로드된 파일 URL 획득
+        // PhotoStorage.store 메서드의 두번째 매개변수(faceId)는 파일 키 접두사로 사용될 수 있음
+        return photoProcessingStages.getStore()
+            .submit(() -> {
+                StoredFile stored = photoStorage.store(containerType, "", originalFilename, file.getPath(), file.getContentType());
+                log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Blob URL: {}", stored.getUrl());
+                return stored;
+            })
+            // derive: 목록 화면용 크기별 파생 이미지(썸네일 등)를 생성하여 원본 옆에 저장
+            .thenCompose(stored -> derive(stored, file.getPath()))
+            // register: 처리 결과 등록 후 얼굴 인덱스/클러스터/회원 태그 반영
+            .thenCompose(processed -> photoProcessingStages.getRegister()
+                .submit(() -> {
+                    PhotoEntity photo = registerSafely(contentHash, originalFilename, size, processed.getFileUrl(), processed.getDerivativeUrls(), faceDetections);
+                    indexFaces(photo, file, faceDetections);
+                    return processed;
+                }));
+    }
+
+    /**
+     * 크기별 파생 이미지를 생성하여 원본 옆에 저장합니다.<br/>
+     * 디코딩/축소/인코딩은 derive 단계 스레드에서 직접 실행하고(CPU), 인코딩된 파일의 업로드는 store 단계에서 수행합니다(입출력).<br/>
+     * 파생 이미지를 만들지 못해도(단계 거절 포함) 원본 처리 결과에는 영향을 주지 않도록 파생 이미지 없이 계속 진행합니다.
+     *
+     * @param stored 저장된 원본 파일 정보
+     * @param source 원본 이미지 로컬 파일 경로
+     * @return 원본 및 크기별 파생 이미지 URL을 발행하는 CompletableFuture
+     */
+    private CompletableFuture<ProcessedPhoto> derive(StoredFile stored, Path source) {
+        return photoProcessingStages.getDerive()
+            .submit(() -> photoDerivativeService.render(source))
+            .thenCompose(rendered -> photoProcessingStages.getStore()
+                .submit(() -> photoDerivativeService.store(stored, source, rendered))
+                .whenComplete((derivativeUrls, throwable) -> {
+                    // store 단계에 넘기지 못한 경우 인코딩된 임시 파일을 정리
+                    if (throwable != null) {
+                        photoDerivativeService.discard(source, rendered);
+                    }
+                }))
+            .exceptionally(throwable -> {
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 파생 이미지 생성 생략 - 키: {}", stored.getKey(), throwable);
+                return Collections.emptyMap();
+            })
+            .thenApply(derivativeUrls -> ProcessedPhoto.builder()
+                .fileUrl(stored.getUrl())
+                .derivativeUrls(derivativeUrls)
+                .build());
+    }
+
+    /**
+     * 이미 처리된 사진의 결과를 재사용합니다.
+     *
+     * @param originalFilename 원본 파일명 (로그용)
+     * @param indexed 동일한 내용으로 등록된 사진
+     * @return 기존에 업로드된 원본 및 파생 이미지 URL (얼굴이 감지되지 않았던 경우 URL 없음)
+     */
+    private ProcessedPhoto reuseIndexed(String originalFilename, PhotoEntity indexed) {
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 중복 파일 - 기존 처리 결과 재사용: {} (photoId: {}, 얼굴 수: {})", originalFilename, indexed.getPhotoId(), indexed.getFaceCount());
+
+        return ProcessedPhoto.builder()
+            .fileUrl(indexed.getFileUrl())
+            .derivativeUrls(photoHashIndexService.readDerivativeUrls(indexed))
+            .build();
+    }
+
+    /**
+     * 처리 결과를 등록합니다.<br/>
+     * 같은 파일이 동시에 처리되어 먼저 등록된 경우(UNIQUE 제약 위반)에는 먼저 등록된 결과를 유지하고, 업로드 결과는 그대로 반환되도록 예외를 전파하지 않습니다.
+     *
+     * @return 등록된 PhotoEntity (이미 등록되어 있던 경우 null)
+     */
+    private PhotoEntity registerSafely(String contentHash, String originalFilename, long size, String fileUrl, Map<Integer, String> derivativeUrls, List<FaceDetectionResponse> faceDetections) {
+        try {
+            return photoHashIndexService.register(contentHash, originalFilename, size, fileUrl, derivativeUrls, faceDetections);
+        } catch (DataIntegrityViolationException e) {
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 이미 등록된 파일 해시 - 파일: {}, 해시: {}", originalFilename, contentHash);
+            return null;
+        }
+    }
 
-        return fileUrl;
+    /**
+     * 새로 등록된 사진의 얼굴을 얼굴 임베딩 인덱스에 추가하고 클러스터에 배정한 뒤, 기준 얼굴을 등록한 회원을 태그합니다. (업로드되지 않은 사진이나 먼저 등록된 사진은 제외)<br/>
+     * 업로드 결과에 영향을 주지 않도록 클러스터 배정 실패는 전파하지 않으며, 배정되지 않은 얼굴은 다음 업로드의 이웃 투표나 검토에 포함되지 않습니다.
+     */
+    private void indexFaces(PhotoEntity photo, SpooledFile file, List<FaceDetectionResponse> faceDetections) {
+        if (photo == null || photo.getFileUrl() == null) {
+            return;
+        }
+
+        int added = faceEmbeddingIndex.addFaces(photo.getPhotoId(), file.getPath(), faceDetections);
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 임베딩 인덱스 등록 - photoId: {}, 얼굴 수: {}", photo.getPhotoId(), added);
+
+        try {
+            faceClusterService.assign(photo.getPhotoId(), faceDetections.size());
+        } catch (RuntimeException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 클러스터 배정 실패 - photoId: {}", photo.getPhotoId(), e);
+        }
+
+        try {
+            int tagged = accountFaceRegistry.tagPhoto(photo.getPhotoId(), faceDetections.size());
+            if (tagged > 0) {
+                log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 회원 얼굴 태그 - photoId: {}, 회원 수: {}", photo.getPhotoId(), tagged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 회원 얼굴 태그 실패 - photoId: {}", photo.getPhotoId(), e);
+        }
     }
 }
@@ -0,0 +1,73 @@
+package com.colon.mattfolio.common.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.util.ContentHashUtil;
+import com.colon.mattfolio.util.KeyGenerator;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드된 파일을 로컬 임시 디렉토리에 저장(spool)하는 서비스<br/>
+ * <br/>
+ * 비동기 처리처럼 요청 스레드 이후에도 파일이 필요한 경우 사용합니다.<br/>
+ * 업로드 파트는 디스크 임시 파일을 그대로 옮겨 한 번만 디스크에 기록하며, 옮긴 파일을 한 번 읽어 내용 해시를 계산합니다.<br/>
+ * 이후의 얼굴 감지 전처리와 Blob 업로드는 임시 파일을 사용하므로 파일 전체를 힙 메모리에 올리지 않습니다.
+ */
+@Service
+@Slf4j
+public class FileSpoolService {
+
+    // 임시 파일 저장 디렉토리
+    @Value("${photo.spool.dir:${java.io.tmpdir}/mattfolio/spool}")
+    private String spoolDir;
+
+    /**
+     * MultipartFile을 임시 디렉토리로 옮겨 SpooledFile로 반환합니다.<br/>
+     * 업로드 파트가 이미 디스크 임시 파일(file-size-threshold: 0)이므로 다시 복사하지 않고 transferTo(File)로 이동하며,<br/>
+     * 같은 파일 시스템이면 이름 변경만으로 끝납니다. 내용 해시는 이동한 파일을 한 번 읽어 계산합니다.<br/>
+     * 이동한 뒤에는 업로드 파트를 다시 읽을 수 없습니다.
+     *
+     * @param file 클라이언트에서 업로드된 파일
+     * @return 임시 저장된 파일 정보
+     * @throws IOException 파일 저장 중 발생하는 예외
+     * @throws PhotoException 파일이 null이거나 비어있는 경우 발생하는 예외
+     */
+    public SpooledFile spool(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new PhotoException(PhotoException.Reason.EMPTY_FILES);
+        }
+
+        Path target = newSpoolPath();
+        try {
+            // transferTo(Path)는 스트림 복사이므로, Part.write로 임시 파일을 이동하는 transferTo(File)를 사용
+            file.transferTo(target.toFile());
+            return new SpooledFile(target, file.getOriginalFilename(), file.getContentType(), Files.size(target), ContentHashUtil.hash(target));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
+    /**
+     * 임시 디렉토리 하위에 새로운 임시 파일 경로를 생성합니다.
+     *
+     * @return 생성할 임시 파일 경로
+     * @throws IOException 디렉토리 생성 중 발생하는 예외
+     */
+    public Path newSpoolPath() throws IOException {
+        Path directory = Paths.get(spoolDir);
+        Files.createDirectories(directory);
+
+        return directory.resolve(KeyGenerator.generateKey() + ".tmp")
+            .toAbsolutePath();
+    }
+}
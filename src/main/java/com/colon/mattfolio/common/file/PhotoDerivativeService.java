@@ -0,0 +1,197 @@
+package com.colon.mattfolio.common.file;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import com.colon.mattfolio.common.storage.PhotoStorage;
+import com.colon.mattfolio.common.storage.StoredFile;
+import com.colon.mattfolio.util.ImageUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PhotoDerivativeService는 저장된 원본 사진으로부터 썸네일 등 크기별 파생 이미지를 생성하는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 주요 기능:<br/>
+ * - 원본을 한 번만 디코딩(가장 큰 파생 크기 기준 서브샘플링)한 뒤, 설정된 크기(긴 변 기준, 예: 320/1080px)별로 축소하여 JPEG 임시 파일로 인코딩 (render, CPU)<br/>
+ * - 인코딩된 파생 이미지를 원본 키 뒤에 크기를 붙인 키(예: {원본 키}_w320.jpg)로 원본과 같은 컨테이너에 저장 (store, 입출력)<br/>
+ * <br/>
+ * render는 호출 스레드에서 그대로 실행되므로, 사진 처리 파이프라인의 derive 단계 스레드 수와 큐 크기가 CPU 작업의 동시성을 정합니다.<br/>
+ * 저장은 store 단계에서 크기별로 동시에 업로드하므로, derive 단계 스레드가 네트워크 응답을 기다리지 않습니다.<br/>
+ * <br/>
+ * 목록 화면은 원본 대신 작은 파생 이미지를 내려받도록 크기별 URL을 반환합니다.<br/>
+ * 원본이 파생 크기보다 작으면 해당 크기에는 원본 URL을 사용하며, 생성에 실패해도 원본 처리 결과에는 영향을 주지 않습니다.<br/>
+ * 크기별 실패는 해당 크기만 제외하므로, 이미 저장된 다른 크기의 URL은 결과에 남아 저장소에 고아 파일로 남지 않습니다.
+ */
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class PhotoDerivativeService {
+
+    private final PhotoStorage photoStorage;
+
+    // 파생 이미지 생성 사용 여부
+    @Value("${photo.derivative.enabled:true}")
+    private boolean enabled;
+
+    // 생성할 크기 목록 (긴 변 기준 px)
+    @Value("${photo.derivative.sizes:320,1080}")
+    private int[] sizes;
+
+    // 파생 이미지 JPEG 품질 (0~1)
+    @Value("${photo.derivative.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @PostConstruct
+    public void init() {
+        sizes = Arrays.stream(sizes)
+            .filter(size -> size > 0)
+            .distinct()
+            .sorted()
+            .toArray();
+    }
+
+    /**
+     * 원본 이미지를 크기별로 축소하여 JPEG 임시 파일로 인코딩합니다. 호출 스레드에서 실행됩니다. (CPU)<br/>
+     * 원본이 해당 크기 이하인 크기는 임시 파일을 만들지 않고 원본 경로(source)를 값으로 넣어, 저장 시 원본 URL을 사용하도록 합니다.
+     *
+     * @param source 원본 이미지 로컬 파일 경로
+     * @return 크기(px)별 인코딩된 임시 파일 경로 (인코딩에 실패한 크기는 제외, 사용하지 않거나 디코딩에 실패한 경우 빈 Map)
+     */
+    public Map<Integer, Path> render(Path source) {
+        if (!enabled || sizes.length == 0) {
+            return Collections.emptyMap();
+        }
+
+        BufferedImage image;
+        try {
+            image = decode(source);
+        } catch (IOException | RuntimeException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 파생 이미지 생성 실패 - 원본: {}", source, e);
+            return Collections.emptyMap();
+        }
+        if (image == null) {
+            return Collections.emptyMap();
+        }
+
+        Map<Integer, Path> rendered = new TreeMap<>();
+        for (int size : sizes) {
+            if (Math.max(image.getWidth(), image.getHeight()) <= size) {
+                rendered.put(size, source);
+                continue;
+            }
+            try {
+                rendered.put(size, encode(image, size));
+            } catch (IOException | RuntimeException e) {
+                // 한 크기의 실패가 다른 크기의 결과를 버리지 않도록 해당 크기만 제외
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 파생 이미지 생성 실패 - 원본: {}, 크기: {}", source, size, e);
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * 인코딩된 파생 이미지를 원본 옆에 저장하고 임시 파일을 삭제합니다. (입출력)<br/>
+     * 크기별 업로드는 저장소의 논블로킹 경로로 동시에 진행하며, 호출 스레드는 모든 업로드가 끝날 때까지 기다립니다.
+     *
+     * @param original 저장된 원본 파일 정보
+     * @param source 원본 이미지 로컬 파일 경로 (render에 전달한 경로)
+     * @param rendered render가 반환한 크기별 임시 파일 경로
+     * @return 크기(px)별 파생 이미지 URL (저장에 실패한 크기는 제외)
+     */
+    public Map<Integer, String> store(StoredFile original, Path source, Map<Integer, Path> rendered) {
+        if (rendered.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return Flux.fromIterable(rendered.entrySet())
+            .flatMap(entry -> upload(original, source, entry.getKey(), entry.getValue()).map(url -> Map.entry(entry.getKey(), url)))
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue, () -> new TreeMap<Integer, String>())
+            .block();
+    }
+
+    /**
+     * 저장하지 않을 파생 이미지 임시 파일을 삭제합니다. (다음 단계에 넘기지 못한 경우)
+     *
+     * @param source 원본 이미지 로컬 파일 경로 (삭제하지 않음)
+     * @param rendered render가 반환한 크기별 임시 파일 경로
+     */
+    public void discard(Path source, Map<Integer, Path> rendered) {
+        rendered.values()
+            .stream()
+            .filter(path -> !path.equals(source))
+            .forEach(this::deleteQuietly);
+    }
+
+    /**
+     * 크기 하나의 파생 이미지를 저장합니다. 저장 결과와 관계없이 임시 파일은 삭제합니다.
+     *
+     * @return 파생 이미지 URL을 발행하는 Mono (원본이 해당 크기 이하인 경우 원본 URL, 실패한 경우 빈 Mono)
+     */
+    private Mono<String> upload(StoredFile original, Path source, int size, Path temp) {
+        if (temp.equals(source)) {
+            return Mono.just(original.getUrl());
+        }
+
+        return photoStorage.storeAtAsync(original.getContainerType(), original.getKey() + "_w" + size + ".jpg", temp, MediaType.IMAGE_JPEG_VALUE)
+            .map(StoredFile::getUrl)
+            .onErrorResume(throwable -> {
+                // 한 크기의 실패가 이미 저장된 다른 크기의 결과를 버리지 않도록 해당 크기만 제외
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 파생 이미지 저장 실패 - 키: {}, 크기: {}", original.getKey(), size, throwable);
+                return Mono.empty();
+            })
+            .doFinally(signal -> deleteQuietly(temp));
+    }
+
+    /**
+     * 원본 이미지를 디코딩합니다.<br/>
+     * 가장 큰 파생 크기 이상이 되도록 정수 배율로 서브샘플링하여 원본 전체 픽셀을 메모리에 올리지 않습니다.
+     *
+     * @return 디코딩된 이미지 (디코딩할 수 없는 형식인 경우 null)
+     */
+    private BufferedImage decode(Path source) throws IOException {
+        ImageUtil.SubsampledImage decoded = ImageUtil.readSubsampled(source, sizes[sizes.length - 1]);
+        if (decoded == null) {
+            log.debug("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 디코딩할 수 없는 이미지 형식 - 파생 이미지를 생성하지 않습니다: {}", source);
+            return null;
+        }
+        return decoded.image();
+    }
+
+    /**
+     * 지정한 크기로 축소하여 임시 JPEG 파일로 인코딩합니다.
+     */
+    private Path encode(BufferedImage image, int size) throws IOException {
+        Path temp = Files.createTempFile("derivative-", ".jpg");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            ImageUtil.writeJpeg(ImageUtil.resize(image, size), jpegQuality, out);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+        return temp;
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 파생 이미지 임시 파일 삭제 실패 - 경로: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.colon.mattfolio.common.file;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.colon.mattfolio.database.photo.entity.PhotoEntity;
+import com.colon.mattfolio.database.photo.repository.PhotoRepository;
+import com.colon.mattfolio.external.faceApi.dto.FaceDetectionResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PhotoHashIndexService는 파일 내용 해시(SHA-256)를 기준으로 이미 처리된 사진을 조회하고 등록하는 서비스 클래스입니다.<br/>
+ * <br/>
+ * 주요 기능:<br/>
+ * - 내용 해시로 기존 처리 결과(업로드 URL, 파생 이미지 URL, 얼굴 감지 결과)를 조회<br/>
+ * - 새로 처리된 사진의 해시와 처리 결과를 MF_PHOTO 테이블에 등록<br/>
+ * <br/>
+ * 동일한 파일이 다시 업로드되면 Face API 호출과 Blob 업로드를 생략하고 기존 결과를 재사용할 수 있습니다.<br/>
+ * <br/>
+ * 조회와 등록은 각각 짧은 트랜잭션 하나(커넥션 하나)로 끝나며, 호출하는 쪽(FileService의 처리 단계)은 트랜잭션 없이 호출합니다.<br/>
+ * 바깥 트랜잭션 안에서 호출하면 업로드 한 건이 커넥션을 두 개 점유하게 되므로, 새 호출 경로를 추가할 때도 트랜잭션 밖에서 호출해야 합니다.
+ */
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+@Slf4j
+public class PhotoHashIndexService {
+
+    private final PhotoRepository photoRepository;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내용 해시로 이미 처리된 사진을 조회합니다.
+     *
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @return 동일한 내용의 사진이 존재하면 Optional로 반환
+     */
+    public Optional<PhotoEntity> findByContentHash(String contentHash) {
+        return photoRepository.findByContentHash(contentHash);
+    }
+
+    /**
+     * 처리된 사진의 해시와 처리 결과를 등록합니다.<br/>
+     * 트랜잭션 없이 호출되는 것을 전제로, 이 메서드의 트랜잭션에서 바로 커밋합니다.<br/>
+     * 동일한 해시가 동시에 등록되는 경우 UNIQUE 제약 위반(DataIntegrityViolationException)이 발생하며, 호출한 쪽에서 처리합니다.
+     *
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @param originalFileName 원본 파일명
+     * @param fileSize 파일 크기 (byte)
+     * @param fileUrl 업로드된 파일 URL (업로드하지 않은 경우 null)
+     * @param derivativeUrls 크기(px)별 파생 이미지 URL (없으면 null 또는 빈 Map)
+     * @param faceDetections Face API 얼굴 감지 결과
+     * @return 등록된 PhotoEntity
+     */
+    @Transactional
+    public PhotoEntity register(String contentHash, String originalFileName, long fileSize, String fileUrl, Map<Integer, String> derivativeUrls, List<FaceDetectionResponse> faceDetections) {
+        List<FaceDetectionResponse> detections = faceDetections == null ? Collections.emptyList() : faceDetections;
+
+        PhotoEntity photo = PhotoEntity.builder()
+            .contentHash(contentHash)
+            .originalFileName(originalFileName)
+            .fileSize(fileSize)
+            .fileUrl(fileUrl)
+            .faceCount(detections.size())
+            .detectionResult(writeDetections(detections))
+            .derivativeUrls(derivativeUrls == null || derivativeUrls.isEmpty() ? null : writeJson(derivativeUrls))
+            .build();
+
+        return photoRepository.save(photo);
+    }
+
+    /**
+     * 저장된 얼굴 감지 결과(JSON)를 객체로 변환합니다.
+     *
+     * @param photo 조회된 PhotoEntity
+     * @return 얼굴 감지 결과 목록 (저장된 결과가 없거나 변환할 수 없는 경우 빈 목록)
+     */
+    public List<FaceDetectionResponse> readDetections(PhotoEntity photo) {
+        if (photo.getDetectionResult() == null) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return objectMapper.readValue(photo.getDetectionResult(), new TypeReference<List<FaceDetectionResponse>>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 감지 결과 변환 실패 - photoId: {}", photo.getPhotoId(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 저장된 파생 이미지 URL(JSON)을 객체로 변환합니다.
+     *
+     * @param photo 조회된 PhotoEntity
+     * @return 크기(px)별 파생 이미지 URL (저장된 결과가 없거나 변환할 수 없는 경우 빈 Map)
+     */
+    public Map<Integer, String> readDerivativeUrls(PhotoEntity photo) {
+        return readDerivativeUrls(photo.getPhotoId(), photo.getDerivativeUrls());
+    }
+
+    /**
+     * 파생 이미지 URL(JSON)을 객체로 변환합니다. (MF_PHOTO 외에 복사해 둔 JSON을 변환할 때 사용)
+     *
+     * @param photoId 사진 ID (로그용)
+     * @param derivativeUrls 파생 이미지 URL JSON
+     * @return 크기(px)별 파생 이미지 URL (JSON이 없거나 변환할 수 없는 경우 빈 Map)
+     */
+    public Map<Integer, String> readDerivativeUrls(Long photoId, String derivativeUrls) {
+        if (derivativeUrls == null) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return objectMapper.readValue(derivativeUrls, new TypeReference<TreeMap<Integer, String>>() {
+            });
+        } catch (JsonProcessingException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 파생 이미지 URL 변환 실패 - photoId: {}", photoId, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * 얼굴 감지 결과를 JSON 문자열로 변환합니다.
+     *
+     * @param faceDetections 얼굴 감지 결과 목록
+     * @return JSON 문자열 (변환할 수 없는 경우 null)
+     */
+    private String writeDetections(List<FaceDetectionResponse> faceDetections) {
+        return writeJson(faceDetections);
+    }
+
+    private String writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 처리 결과 직렬화 실패", e);
+            return null;
+        }
+    }
+}
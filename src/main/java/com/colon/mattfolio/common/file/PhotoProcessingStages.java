@@ -0,0 +1,192 @@
+package com.colon.mattfolio.common.file;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.exception.UploadBusyException;
+import com.colon.mattfolio.common.pipeline.PipelineStage;
+import com.colon.mattfolio.common.pipeline.PipelineStageStats;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사진 처리(FileService.processFile) 파이프라인의 단계 구성<br/>
+ * <br/>
+ * 단계 그래프: lookup → detect → store → derive → register<br/>
+ * - lookup: 내용 해시로 이미 처리된 사진 조회 (DB, 입출력) - 중복이면 여기서 종료<br/>
+ * - detect: Face API 얼굴 감지 (전처리 축소 + 외부 호출, 입출력 위주) - 얼굴이 없으면 register로 바로 이동<br/>
+ * - store: 원본을 사진 저장소에 업로드 (Blob, 입출력)<br/>
+ * - derive: 크기별 파생 이미지 생성 (디코딩/축소/인코딩, CPU)<br/>
+ * - register: 처리 결과 등록, 얼굴 특징 추출과 인덱스/클러스터/회원 태그 반영 (DB + CPU)<br/>
+ * <br/>
+ * 단계마다 스레드 수와 큐 크기를 따로 설정하므로(photo.pipeline.*), 입출력 단계는 넉넉하게, CPU 단계는 코어 수 이내로 잡을 수 있습니다.<br/>
+ * 뒤 단계의 큐가 가득 차면 앞 단계 스레드가 기다리므로, 느린 단계가 생겨도 대기 작업은 큐 크기 합 이내로 제한됩니다.
+ */
+@Component
+@Slf4j
+public class PhotoProcessingStages {
+
+    // 큐가 가득 찼을 때 자리가 나기를 기다리는 최대 시간 (ms)
+    @Value("${photo.pipeline.offer-timeout-ms:30000}")
+    private long offerTimeoutMillis;
+
+    // 호출 스레드가 파이프라인 결과를 기다리는 최대 시간 (ms)
+    @Value("${photo.pipeline.await-timeout-ms:300000}")
+    private long awaitTimeoutMillis;
+
+    @Value("${photo.pipeline.lookup.threads:4}")
+    private int lookupThreads;
+
+    @Value("${photo.pipeline.lookup.queue-capacity:200}")
+    private int lookupQueueCapacity;
+
+    @Value("${photo.pipeline.detect.threads:16}")
+    private int detectThreads;
+
+    @Value("${photo.pipeline.detect.queue-capacity:200}")
+    private int detectQueueCapacity;
+
+    @Value("${photo.pipeline.store.threads:16}")
+    private int storeThreads;
+
+    @Value("${photo.pipeline.store.queue-capacity:100}")
+    private int storeQueueCapacity;
+
+    // 0 이하이면 CPU 코어 수
+    @Value("${photo.pipeline.derive.threads:0}")
+    private int deriveThreads;
+
+    @Value("${photo.pipeline.derive.queue-capacity:100}")
+    private int deriveQueueCapacity;
+
+    @Value("${photo.pipeline.register.threads:4}")
+    private int registerThreads;
+
+    @Value("${photo.pipeline.register.queue-capacity:200}")
+    private int registerQueueCapacity;
+
+    @Getter
+    private PipelineStage lookup;
+
+    @Getter
+    private PipelineStage detect;
+
+    @Getter
+    private PipelineStage store;
+
+    @Getter
+    private PipelineStage derive;
+
+    @Getter
+    private PipelineStage register;
+
+    @PostConstruct
+    public void init() {
+        lookup = new PipelineStage("lookup", lookupThreads, lookupQueueCapacity, offerTimeoutMillis);
+        detect = new PipelineStage("detect", detectThreads, detectQueueCapacity, offerTimeoutMillis);
+        store = new PipelineStage("store", storeThreads, storeQueueCapacity, offerTimeoutMillis);
+        derive = new PipelineStage("derive", deriveThreads > 0 ? deriveThreads
+                : Runtime.getRuntime()
+                    .availableProcessors(),
+                deriveQueueCapacity, offerTimeoutMillis);
+        register = new PipelineStage("register", registerThreads, registerQueueCapacity, offerTimeoutMillis);
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 사진 처리 파이프라인 준비 - lookup: {}, detect: {}, store: {}, derive: {}, register: {}", lookup.getThreads(), detect.getThreads(), store.getThreads(), derive.getThreads(),
+                register.getThreads());
+    }
+
+    /**
+     * 앞 단계부터 차례로 종료하여, 진행 중인 사진이 뒤 단계까지 처리되도록 합니다.
+     */
+    @PreDestroy
+    public void destroy() {
+        for (PipelineStage stage : stages()) {
+            stage.shutdown(offerTimeoutMillis);
+        }
+    }
+
+    /**
+     * 파이프라인 결과를 기다립니다. 단계에서 발생한 예외는 감싸지 않고 그대로 던지며, 단계의 큐 포화로 거절된 경우만 업로드 혼잡으로 변환합니다.<br/>
+     * 최대 await-timeout-ms 동안만 기다리며, 시간이 지나면 호출 스레드는 결과를 기다리지 않고 예외를 던집니다.<br/>
+     * 진행 중인 단계는 계속 처리되므로, 단계가 읽는 입력 파일은 호출 스레드가 아니라 마지막 단계가 끝난 뒤(whenComplete) 정리해야 합니다.
+     *
+     * @param result 마지막 단계의 결과
+     * @return 처리 결과
+     * @throws IOException 단계에서 발생한 입출력 예외 (기다리는 중 중단된 경우 InterruptedIOException, 중단 상태는 유지)
+     * @throws UploadBusyException 단계의 큐가 가득 차 거절된 경우
+     * @throws PhotoException 제한 시간 안에 처리가 끝나지 않은 경우
+     */
+    public <T> T await(CompletableFuture<T> result) throws IOException {
+        try {
+            return result.get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 사진 처리 파이프라인 대기 시간 초과 - {} ms", awaitTimeoutMillis);
+            throw new PhotoException(PhotoException.Reason.PROCESSING_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("photo pipeline wait interrupted");
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    /**
+     * 단계별 상태를 반환합니다. (단계 순서)
+     *
+     * @return 단계별 상태 목록
+     */
+    public List<PipelineStageStats> getStats() {
+        return stages().stream()
+            .map(PipelineStage::getStats)
+            .toList();
+    }
+
+    private List<PipelineStage> stages() {
+        return List.of(lookup, detect, store, derive, register);
+    }
+
+    /**
+     * 단계의 큐 포화 거절(RejectedExecutionException)을 업로드 혼잡 예외로 변환합니다. 그 외의 예외는 그대로 반환합니다.<br/>
+     * 결과를 기다리지 않는 논블로킹 경로에서도 동기 경로(await)와 같은 예외를 받도록 사용합니다.
+     *
+     * @param throwable 단계에서 발생한 예외
+     * @return 변환된 예외
+     */
+    public Throwable translate(Throwable throwable) {
+        return throwable instanceof RejectedExecutionException ? new UploadBusyException(throwable) : throwable;
+    }
+
+    private RuntimeException unwrap(Throwable cause) throws IOException {
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        cause = translate(cause);
+        if (cause instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new CompletionException(cause);
+    }
+}
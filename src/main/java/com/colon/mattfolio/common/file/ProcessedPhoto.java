@@ -0,0 +1,34 @@
+package com.colon.mattfolio.common.file;
+
+import java.util.Collections;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사진 한 건의 처리 결과 (원본 URL과 크기별 파생 이미지 URL)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ProcessedPhoto {
+
+    // 업로드된 원본 파일 URL (얼굴이 감지되지 않아 업로드하지 않은 경우 null)
+    private final String fileUrl;
+
+    // 크기(긴 변 기준 px)별 파생 이미지 URL (생성하지 않은 경우 빈 Map)
+    @Builder.Default
+    private final Map<Integer, String> derivativeUrls = Collections.emptyMap();
+
+    /**
+     * 업로드하지 않은 사진의 처리 결과를 생성합니다.
+     *
+     * @return 원본 URL과 파생 이미지가 없는 처리 결과
+     */
+    public static ProcessedPhoto notUploaded() {
+        return ProcessedPhoto.builder()
+            .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.colon.mattfolio.common.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.core.io.InputStreamSource;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 처리 이후에도 사용할 수 있도록 로컬 디스크에 임시 저장(spool)된 업로드 파일<br/>
+ * <br/>
+ * MultipartFile은 요청이 끝나면 정리되므로, 백그라운드 처리가 필요한 경우 이 객체로 옮겨 담아 사용합니다.<br/>
+ * InputStreamSource를 구현하므로 MultipartFile과 동일한 방식으로 FileService에 전달할 수 있습니다.<br/>
+ * 저장 시 함께 계산된 내용 해시(SHA-256)를 보관하므로, 이후 단계에서 해시 계산을 위해 파일을 다시 읽지 않습니다.
+ */
+@Slf4j
+@Getter
+@AllArgsConstructor
+public class SpooledFile implements InputStreamSource {
+
+    // 임시 저장된 파일 경로
+    private final Path path;
+
+    // 클라이언트가 업로드한 원본 파일명
+    private final String originalFilename;
+
+    // 클라이언트가 전달한 Content-Type
+    private final String contentType;
+
+    // 파일 크기 (byte)
+    private final long size;
+
+    // 파일 내용의 SHA-256 해시 (16진수)
+    private final String contentHash;
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return Files.newInputStream(path);
+    }
+
+    /**
+     * 임시 저장된 파일을 삭제합니다.<br/>
+     * 삭제 실패는 처리 흐름에 영향을 주지 않도록 로그만 남깁니다.
+     */
+    public void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.colon.mattfolio.common.http;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 외부 API 커넥션 풀의 현재 상태 DTO<br/>
+ * 커넥션 풀은 원격 주소별로 생성되므로, 호출 대상 하나에 여러 건이 존재할 수 있습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class HttpClientPoolStats {
+
+    @Schema(description = "커넥션 풀 이름 (호출 대상)", example = "azure-face")
+    private String poolName;
+
+    @Schema(description = "원격 주소")
+    private String remoteAddress;
+
+    @Schema(description = "사용 중인 커넥션 수")
+    private int acquiredSize;
+
+    @Schema(description = "생성된 전체 커넥션 수")
+    private int allocatedSize;
+
+    @Schema(description = "유휴 커넥션 수")
+    private int idleSize;
+
+    @Schema(description = "커넥션 획득 대기 건수")
+    private int pendingAcquireSize;
+
+    @Schema(description = "최대 커넥션 수")
+    private int maxAllocatedSize;
+
+    @Schema(description = "최대 커넥션 획득 대기 건수")
+    private int maxPendingAcquireSize;
+}
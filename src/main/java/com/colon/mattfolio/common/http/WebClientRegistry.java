@@ -0,0 +1,169 @@
+package com.colon.mattfolio.common.http;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+import com.colon.mattfolio.common.property.HttpClientProperties;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 외부 API 호출 대상별로 미리 생성된 WebClient를 보관하는 레지스트리<br/>
+ * <br/>
+ * 호출 대상(ExternalApiType)마다 전용 커넥션 풀과 타임아웃이 적용된 WebClient를 애플리케이션 시작 시 한 번만 생성하여 재사용합니다.<br/>
+ * 요청마다 WebClient를 새로 만들지 않으므로 커넥션(TLS 세션 포함)이 재사용되며, 커넥션 풀 상태는 getPoolStats로 조회할 수 있습니다.
+ */
+@Slf4j
+public class WebClientRegistry {
+
+    // 호출 대상별 WebClient
+    private final Map<ExternalApiType, WebClient> webClients = new EnumMap<>(ExternalApiType.class);
+
+    // 호출 대상별 커넥션 풀 (종료 시 정리 용도)
+    private final Map<ExternalApiType, ConnectionProvider> connectionProviders = new EnumMap<>(ExternalApiType.class);
+
+    // "풀 이름|원격 주소|풀 ID" 별 커넥션 풀 지표
+    private final Map<String, PoolMetricsEntry> poolMetrics = new ConcurrentHashMap<>();
+
+    public WebClientRegistry(HttpClientProperties properties) {
+        for (ExternalApiType type : ExternalApiType.values()) {
+            HttpClientProperties.Pool pool = properties.getPool(type);
+            ConnectionProvider connectionProvider = createConnectionProvider(type, pool);
+
+            connectionProviders.put(type, connectionProvider);
+            webClients.put(type, createWebClient(connectionProvider, pool));
+
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ WebClient 생성 - 대상: {}, 설정: {}", type.getKey(), pool);
+        }
+    }
+
+    /**
+     * 호출 대상에 해당하는 WebClient를 반환합니다.
+     *
+     * @param type 호출 대상
+     * @return 미리 생성된 WebClient
+     */
+    public WebClient get(ExternalApiType type) {
+        return webClients.get(type);
+    }
+
+    /**
+     * 모든 커넥션 풀의 현재 상태를 반환합니다.
+     *
+     * @return 커넥션 풀 상태 목록 (풀 이름, 원격 주소 순 정렬)
+     */
+    public List<HttpClientPoolStats> getPoolStats() {
+        return poolMetrics.values()
+            .stream()
+            .map(PoolMetricsEntry::toStats)
+            .sorted(Comparator.comparing(HttpClientPoolStats::getPoolName)
+                .thenComparing(HttpClientPoolStats::getRemoteAddress))
+            .toList();
+    }
+
+    /**
+     * 모든 커넥션 풀을 정리합니다. (빈 소멸 시 호출)
+     */
+    public void dispose() {
+        connectionProviders.values()
+            .forEach(ConnectionProvider::dispose);
+    }
+
+    /**
+     * 호출 대상 전용 커넥션 풀을 생성합니다.
+     *
+     * @param type 호출 대상
+     * @param pool 커넥션 풀 설정
+     * @return 커넥션 풀
+     */
+    private ConnectionProvider createConnectionProvider(ExternalApiType type, HttpClientProperties.Pool pool) {
+        return ConnectionProvider.builder(type.getKey())
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+            .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMs()))
+            .maxIdleTime(Duration.ofMillis(pool.getMaxIdleTimeMs()))
+            .maxLifeTime(Duration.ofMillis(pool.getMaxLifeTimeMs()))
+            .evictInBackground(Duration.ofMillis(pool.getEvictInBackgroundMs()))
+            .metrics(true, () -> new PoolMetricsRegistrar())
+            .build();
+    }
+
+    /**
+     * 커넥션 풀과 타임아웃 설정이 적용된 WebClient를 생성합니다.
+     *
+     * @param connectionProvider 커넥션 풀
+     * @param pool 타임아웃 설정
+     * @return WebClient
+     */
+    private WebClient createWebClient(ConnectionProvider connectionProvider, HttpClientProperties.Pool pool) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, pool.getConnectTimeoutMs())
+            .option(ChannelOption.SO_KEEPALIVE, true)
+            .keepAlive(true)
+            .responseTimeout(Duration.ofMillis(pool.getResponseTimeoutMs()))
+            .doOnConnected(connection -> connection.addHandlerLast(new ReadTimeoutHandler(pool.getReadTimeoutMs(), TimeUnit.MILLISECONDS))
+                .addHandlerLast(new WriteTimeoutHandler(pool.getWriteTimeoutMs(), TimeUnit.MILLISECONDS)));
+
+        return WebClient.builder()
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .codecs(configurer -> configurer.defaultCodecs()
+                .maxInMemorySize(pool.getMaxInMemorySize()))
+            .build();
+    }
+
+    /**
+     * 커넥션 풀이 생성/제거될 때 지표 객체를 등록/해제하는 Registrar<br/>
+     * Micrometer 없이 커넥션 풀 지표를 직접 보관하기 위해 사용합니다.
+     */
+    private class PoolMetricsRegistrar implements ConnectionProvider.MeterRegistrar {
+
+        @Override
+        public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+            poolMetrics.put(metricsKey(poolName, id, remoteAddress), new PoolMetricsEntry(poolName, String.valueOf(remoteAddress), metrics));
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            poolMetrics.remove(metricsKey(poolName, id, remoteAddress));
+        }
+
+        private String metricsKey(String poolName, String id, SocketAddress remoteAddress) {
+            return poolName + "|" + remoteAddress + "|" + id;
+        }
+    }
+
+    /**
+     * 원격 주소별 커넥션 풀 지표
+     */
+    private record PoolMetricsEntry(String poolName, String remoteAddress, ConnectionPoolMetrics metrics) {
+
+        private HttpClientPoolStats toStats() {
+            return HttpClientPoolStats.builder()
+                .poolName(poolName)
+                .remoteAddress(remoteAddress)
+                .acquiredSize(metrics.acquiredSize())
+                .allocatedSize(metrics.allocatedSize())
+                .idleSize(metrics.idleSize())
+                .pendingAcquireSize(metrics.pendingAcquireSize())
+                .maxAllocatedSize(metrics.maxAllocatedSize())
+                .maxPendingAcquireSize(metrics.maxPendingAcquireSize())
+                .build();
+        }
+    }
+}
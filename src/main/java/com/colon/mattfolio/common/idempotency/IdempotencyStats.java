@@ -0,0 +1,42 @@
+package com.colon.mattfolio.common.idempotency;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 멱등 키 저장소 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class IdempotencyStats {
+
+    @Schema(description = "멱등 키 사용 여부")
+    private boolean enabled;
+
+    @Schema(description = "완료된 결과의 보관 시간 (분)")
+    private long ttlMinutes;
+
+    @Schema(description = "보관 중인 키 수")
+    private int entryCount;
+
+    @Schema(description = "처리 중인 키 수")
+    private long inProgressCount;
+
+    @Schema(description = "새로 실행된 요청 수")
+    private long executedCount;
+
+    @Schema(description = "보관된 결과로 응답한 재시도 수")
+    private long replayedCount;
+
+    @Schema(description = "처리 중인 요청에 합류하여 결과를 기다린 재시도 수")
+    private long joinedCount;
+
+    @Schema(description = "같은 키에 다른 요청이 들어와 거절된 수")
+    private long conflictCount;
+
+    @Schema(description = "보관 한도 초과로 키 없이 처리된 요청 수")
+    private long bypassedCount;
+}
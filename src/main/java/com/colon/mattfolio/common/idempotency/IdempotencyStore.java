@@ -0,0 +1,263 @@
+package com.colon.mattfolio.common.idempotency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.util.ContentHashUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등 키(Idempotency-Key) 저장소<br/>
+ * <br/>
+ * 클라이언트가 타임아웃 후 같은 요청을 같은 키로 재시도하면, 작업을 다시 실행하지 않고 처음 요청의 결과를 돌려줍니다.<br/>
+ * - 처음 요청: 작업을 실행하고 결과를 ttl-minutes 동안 보관<br/>
+ * - 처리 중에 들어온 재시도: 처음 요청의 작업에 합류하여 같은 결과를 기다림 (최대 wait-timeout-ms)<br/>
+ * - 완료 후 들어온 재시도: 보관된 결과를 그대로 반환<br/>
+ * - 같은 키에 다른 요청(요청 지문 불일치): 거절<br/>
+ * 작업이 실패하면 결과를 보관하지 않고 키를 지우므로, 실패한 요청은 같은 키로 다시 시도할 수 있습니다.<br/>
+ * <br/>
+ * 키는 요청자와 작업 범위(scope)별로 구분하며, 서버 메모리에 보관하므로 인스턴스 간에는 공유되지 않습니다.<br/>
+ * 요청자를 구분할 수 없는(인증 없는) 요청은 다른 클라이언트와 키가 섞일 수 있으므로 멱등 키를 받지 않습니다.<br/>
+ * 요청 지문은 멱등 키가 있을 때만 계산하므로, 파일 내용 해시처럼 비용이 드는 지문도 키 없는 요청에는 부담을 주지 않습니다.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    // 멱등 키 사용 여부
+    @Value("${photo.idempotency.enabled:true}")
+    private boolean enabled;
+
+    // 완료된 결과의 보관 시간 (분)
+    @Value("${photo.idempotency.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    // 처리 중인 요청의 결과를 기다리는 최대 시간 (ms)
+    @Value("${photo.idempotency.wait-timeout-ms:120000}")
+    private long waitTimeoutMillis;
+
+    // 보관할 수 있는 최대 키 수 (초과 시 키 없이 처리)
+    @Value("${photo.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    // 멱등 키의 최대 길이
+    @Value("${photo.idempotency.max-key-length:255}")
+    private int maxKeyLength;
+
+    private final ConcurrentHashMap<String, IdempotencyEntry> entries = new ConcurrentHashMap<>();
+
+    private final AtomicLong executedCount = new AtomicLong();
+
+    private final AtomicLong replayedCount = new AtomicLong();
+
+    private final AtomicLong joinedCount = new AtomicLong();
+
+    private final AtomicLong conflictCount = new AtomicLong();
+
+    private final AtomicLong bypassedCount = new AtomicLong();
+
+    /**
+     * 멱등 키로 보호하여 작업을 실행합니다.<br/>
+     * 키가 없거나 멱등 키를 사용하지 않으면 작업을 그대로 실행합니다.
+     *
+     * @param scope 키를 구분할 범위 (요청자와 작업 종류, 요청자를 알 수 없으면 null)
+     * @param idempotencyKey 클라이언트가 보낸 멱등 키 (없으면 null)
+     * @param fingerprint 요청 지문을 만드는 작업 (같은 키로 다른 요청이 들어왔는지 판별, 키가 있을 때만 실행)
+     * @param task 실행할 작업
+     * @return 작업 결과 (재시도인 경우 처음 요청의 결과)
+     * @throws IOException 지문 계산 또는 작업 실행 중 발생하는 예외 (처리 중인 요청에 합류한 경우 처음 요청의 예외)
+     * @throws PhotoException 요청자를 알 수 없거나, 키 형식이 올바르지 않거나, 같은 키로 다른 요청이 들어왔거나, 처음 요청이 제한 시간 안에 끝나지 않은 경우
+     */
+    public <T> T execute(String scope, String idempotencyKey, IdempotentTask<String> fingerprint, IdempotentTask<T> task) throws IOException {
+        if (!enabled || idempotencyKey == null || idempotencyKey.isBlank()) {
+            return task.run();
+        }
+        if (scope == null) {
+            throw new PhotoException(PhotoException.Reason.IDEMPOTENCY_KEY_UNAUTHENTICATED);
+        }
+
+        String key = scope + ":" + validateKey(idempotencyKey.trim());
+        String requestHash = hash(fingerprint.run());
+
+        IdempotencyEntry created = new IdempotencyEntry(requestHash);
+        IdempotencyEntry existing = putIfAbsentOrExpired(key, created);
+
+        if (existing == null) {
+            if (entries.size() > maxEntries) {
+                // 보관 한도를 넘으면 키를 보관하지 않고 처리 (재시도는 내용 해시 중복 검사로만 걸러짐)
+                entries.remove(key, created);
+                bypassedCount.incrementAndGet();
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 멱등 키 보관 한도 초과 - 보관 중: {}, 한도: {}", entries.size(), maxEntries);
+                return task.run();
+            }
+            return run(key, created, task);
+        }
+
+        if (!existing.requestHash.equals(requestHash)) {
+            conflictCount.incrementAndGet();
+            throw new PhotoException(PhotoException.Reason.IDEMPOTENCY_KEY_MISMATCH);
+        }
+
+        if (existing.result.isDone()) {
+            replayedCount.incrementAndGet();
+        } else {
+            joinedCount.incrementAndGet();
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 처리 중인 요청에 합류 - 범위: {}", scope);
+        }
+        return await(existing);
+    }
+
+    /**
+     * 보관 기간이 지난 완료 결과를 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${photo.idempotency.cleanup-interval-ms:60000}")
+    public void evictExpiredEntries() {
+        long now = System.currentTimeMillis();
+        entries.values()
+            .removeIf(entry -> entry.isExpired(now, ttlMillis()));
+    }
+
+    /**
+     * 멱등 키 저장소 상태를 반환합니다.
+     *
+     * @return 멱등 키 저장소 상태
+     */
+    public IdempotencyStats getStats() {
+        long inProgress = entries.values()
+            .stream()
+            .filter(entry -> !entry.result.isDone())
+            .count();
+
+        return IdempotencyStats.builder()
+            .enabled(enabled)
+            .ttlMinutes(ttlMinutes)
+            .entryCount(entries.size())
+            .inProgressCount(inProgress)
+            .executedCount(executedCount.get())
+            .replayedCount(replayedCount.get())
+            .joinedCount(joinedCount.get())
+            .conflictCount(conflictCount.get())
+            .bypassedCount(bypassedCount.get())
+            .build();
+    }
+
+    /**
+     * 처음 요청으로 작업을 실행하고 결과를 보관합니다. 실패하면 키를 지우고, 합류한 재시도에도 같은 예외를 전달합니다.
+     */
+    private <T> T run(String key, IdempotencyEntry entry, IdempotentTask<T> task) throws IOException {
+        executedCount.incrementAndGet();
+        try {
+            T result = task.run();
+            entry.complete(result);
+            return result;
+        } catch (Throwable e) {
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 키가 없거나 보관 기간이 지났으면 새 항목을 등록하고 null을, 유효한 항목이 있으면 그 항목을 반환합니다.
+     */
+    private IdempotencyEntry putIfAbsentOrExpired(String key, IdempotencyEntry created) {
+        long now = System.currentTimeMillis();
+        while (true) {
+            IdempotencyEntry existing = entries.putIfAbsent(key, created);
+            if (existing == null) {
+                return null;
+            }
+            if (!existing.isExpired(now, ttlMillis())) {
+                return existing;
+            }
+            if (entries.replace(key, existing, created)) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 처음 요청의 결과를 기다립니다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T await(IdempotencyEntry entry) throws IOException {
+        try {
+            return (T) entry.result.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            throw new PhotoException(PhotoException.Reason.IDEMPOTENCY_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new PhotoException(PhotoException.Reason.IDEMPOTENCY_IN_PROGRESS);
+        }
+    }
+
+    private String validateKey(String idempotencyKey) {
+        if (idempotencyKey.length() > maxKeyLength || !StandardCharsets.US_ASCII.newEncoder()
+            .canEncode(idempotencyKey)) {
+            throw new PhotoException(PhotoException.Reason.INVALID_IDEMPOTENCY_KEY);
+        }
+        return idempotencyKey;
+    }
+
+    private String hash(String fingerprint) {
+        return ContentHashUtil.toHex(ContentHashUtil.newDigest()
+            .digest(fingerprint.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private long ttlMillis() {
+        return TimeUnit.MINUTES.toMillis(ttlMinutes);
+    }
+
+    /**
+     * 멱등 키 하나의 처리 상태와 결과
+     */
+    private static final class IdempotencyEntry {
+
+        private final String requestHash;
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private volatile long completedAt;
+
+        private IdempotencyEntry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private void complete(Object value) {
+            completedAt = System.currentTimeMillis();
+            result.complete(value);
+        }
+
+        /**
+         * 성공한 결과만 보관 기간이 지나면 만료됩니다. (처리 중인 항목은 만료되지 않음)
+         */
+        private boolean isExpired(long now, long ttlMillis) {
+            return result.isDone() && !result.isCompletedExceptionally() && now - completedAt >= ttlMillis;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.colon.mattfolio.common.idempotency;
+
+import java.io.IOException;
+
+/**
+ * 멱등 키로 보호할 작업<br/>
+ * 업로드 처리와 같이 IOException을 던지는 작업을 그대로 전달할 수 있도록 Supplier 대신 사용합니다.
+ *
+ * @param <T> 작업 결과 타입
+ */
+@FunctionalInterface
+public interface IdempotentTask<T> {
+
+    T run() throws IOException;
+}
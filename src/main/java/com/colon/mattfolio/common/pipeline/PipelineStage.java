@@ -0,0 +1,170 @@
+package com.colon.mattfolio.common.pipeline;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * 처리 파이프라인의 한 단계 (SEDA Stage)<br/>
+ * <br/>
+ * 단계마다 고정 크기 스레드 풀과 제한된 크기의 큐를 가지므로, CPU 단계와 입출력 단계의 동시성을 따로 정할 수 있습니다.<br/>
+ * 큐가 가득 차면 작업을 넘기는 쪽(이전 단계의 스레드 또는 호출 스레드)이 자리가 날 때까지 최대 offer-timeout 동안 기다리므로,<br/>
+ * 느린 단계의 압력이 앞 단계로 전달되어(backpressure) 앞 단계가 큐를 무한히 채우지 않습니다. 시간 안에 자리가 나지 않으면 거절합니다.<br/>
+ * <br/>
+ * 단계별로 큐 대기 시간과 처리 시간을 따로 집계하여, 어느 단계가 병목인지 확인할 수 있습니다.
+ */
+public class PipelineStage {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final int threads;
+
+    @Getter
+    private final int queueCapacity;
+
+    // 큐가 가득 찼을 때 자리가 나기를 기다리는 최대 시간 (ms)
+    private final long offerTimeoutMillis;
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong submittedCount = new AtomicLong();
+
+    private final AtomicLong completedCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    // 큐가 가득 차서 넘기는 쪽이 기다린 횟수
+    private final AtomicLong blockedCount = new AtomicLong();
+
+    private final AtomicLong queueNanos = new AtomicLong();
+
+    private final AtomicLong serviceNanos = new AtomicLong();
+
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+
+    public PipelineStage(String name, int threads, int queueCapacity, long offerTimeoutMillis) {
+        this.name = name;
+        this.threads = Math.max(1, threads);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.offerTimeoutMillis = Math.max(0, offerTimeoutMillis);
+        this.executor = new ThreadPoolExecutor(this.threads, this.threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(this.queueCapacity), threadFactory(name), this::waitForQueue);
+    }
+
+    /**
+     * 작업을 이 단계의 큐에 넣습니다. 큐가 가득 차면 자리가 날 때까지 호출 스레드가 기다립니다.
+     *
+     * @param task 이 단계에서 실행할 작업
+     * @return 작업 결과를 발행하는 CompletableFuture (작업 예외 또는 거절 시 예외로 완료)
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long enqueuedAt = System.nanoTime();
+        submittedCount.incrementAndGet();
+
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                queueNanos.addAndGet(startedAt - enqueuedAt);
+                try {
+                    T result = task.call();
+                    completedCount.incrementAndGet();
+                    future.complete(result);
+                } catch (Throwable e) {
+                    failedCount.incrementAndGet();
+                    future.completeExceptionally(e);
+                } finally {
+                    serviceNanos.addAndGet(System.nanoTime() - startedAt);
+                }
+            });
+            peakQueueDepth.accumulateAndGet(executor.getQueue()
+                .size(), Math::max);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 단계를 종료합니다. 큐에 남은 작업은 끝까지 처리합니다.
+     *
+     * @param timeoutMillis 남은 작업을 기다릴 최대 시간 (ms)
+     */
+    public void shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+
+    /**
+     * 단계 상태를 반환합니다.
+     *
+     * @return 단계 상태
+     */
+    public PipelineStageStats getStats() {
+        long completed = completedCount.get();
+        long finished = completed + failedCount.get();
+
+        return PipelineStageStats.builder()
+            .name(name)
+            .threads(threads)
+            .activeThreads(executor.getActiveCount())
+            .queueCapacity(queueCapacity)
+            .queueDepth(executor.getQueue()
+                .size())
+            .peakQueueDepth(peakQueueDepth.get())
+            .submittedCount(submittedCount.get())
+            .completedCount(completed)
+            .failedCount(failedCount.get())
+            .rejectedCount(rejectedCount.get())
+            .blockedCount(blockedCount.get())
+            .averageQueueMillis(finished == 0 ? 0 : queueNanos.get() / 1_000_000.0 / finished)
+            .averageServiceMillis(finished == 0 ? 0 : serviceNanos.get() / 1_000_000.0 / finished)
+            .build();
+    }
+
+    /**
+     * 큐가 가득 찼을 때 호출됩니다. 넘기는 쪽 스레드가 큐에 자리가 날 때까지 기다립니다. (backpressure)
+     */
+    private void waitForQueue(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException(name + " stage is shut down");
+        }
+
+        blockedCount.incrementAndGet();
+        try {
+            if (!executor.getQueue()
+                .offer(task, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException(name + " stage queue is full");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new RejectedExecutionException(name + " stage submit interrupted", e);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> new Thread(runnable, "Pipeline-" + name + "-" + sequence.incrementAndGet());
+    }
+}
@@ -0,0 +1,54 @@
+package com.colon.mattfolio.common.pipeline;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 처리 파이프라인 단계별 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PipelineStageStats {
+
+    @Schema(description = "단계 이름", example = "detect")
+    private String name;
+
+    @Schema(description = "스레드 수")
+    private int threads;
+
+    @Schema(description = "작업 중인 스레드 수")
+    private int activeThreads;
+
+    @Schema(description = "큐 크기")
+    private int queueCapacity;
+
+    @Schema(description = "현재 큐에서 대기 중인 작업 수")
+    private int queueDepth;
+
+    @Schema(description = "최대 큐 대기 작업 수 (서버 시작 이후)")
+    private int peakQueueDepth;
+
+    @Schema(description = "접수된 작업 수")
+    private long submittedCount;
+
+    @Schema(description = "완료된 작업 수")
+    private long completedCount;
+
+    @Schema(description = "실패한 작업 수")
+    private long failedCount;
+
+    @Schema(description = "큐가 가득 차 거절된 작업 수")
+    private long rejectedCount;
+
+    @Schema(description = "큐가 가득 차 넘기는 쪽이 기다린 횟수 (backpressure)")
+    private long blockedCount;
+
+    @Schema(description = "평균 큐 대기 시간 (ms)")
+    private double averageQueueMillis;
+
+    @Schema(description = "평균 처리 시간 (ms)")
+    private double averageServiceMillis;
+}
@@ -0,0 +1,76 @@
+package com.colon.mattfolio.common.property;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 설정<br/>
+ * 호출 대상(ExternalApiType)별로 커넥션 풀과 타임아웃을 개별 설정할 수 있으며, 설정이 없는 대상은 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("http-client")
+public class HttpClientProperties {
+
+    // 호출 대상 키(ExternalApiType.key)별 설정
+    private Map<String, Pool> clients = new HashMap<>();
+
+    /**
+     * 호출 대상에 해당하는 설정을 반환합니다.
+     *
+     * @param type 호출 대상
+     * @return 호출 대상의 설정 (없으면 기본값)
+     */
+    public Pool getPool(ExternalApiType type) {
+        return clients.getOrDefault(type.getKey(), new Pool());
+    }
+
+    @Getter
+    @Setter
+    @ToString
+    public static class Pool {
+
+        // 최대 커넥션 수 (원격 주소별)
+        private int maxConnections = 50;
+
+        // 커넥션 획득 대기 최대 건수
+        private int pendingAcquireMaxCount = 500;
+
+        // 커넥션 획득 대기 시간 (ms)
+        private long pendingAcquireTimeoutMs = 5000;
+
+        // 유휴 커넥션 유지 시간 (ms)
+        private long maxIdleTimeMs = 30000;
+
+        // 커넥션 최대 수명 (ms)
+        private long maxLifeTimeMs = 300000;
+
+        // 유휴/만료 커넥션 백그라운드 정리 주기 (ms)
+        private long evictInBackgroundMs = 30000;
+
+        // 연결 타임아웃 (ms)
+        private int connectTimeoutMs = 3000;
+
+        // 응답 타임아웃 (ms) - 요청 전송 후 응답 헤더 수신까지
+        private long responseTimeoutMs = 10000;
+
+        // 읽기 타임아웃 (ms) - 데이터 수신 간격
+        private long readTimeoutMs = 10000;
+
+        // 쓰기 타임아웃 (ms) - 데이터 송신 간격
+        private long writeTimeoutMs = 10000;
+
+        // 응답 본문 메모리 버퍼 최대 크기 (byte)
+        private int maxInMemorySize = 2 * 1024 * 1024;
+    }
+}
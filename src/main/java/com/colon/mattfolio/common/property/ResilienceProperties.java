@@ -0,0 +1,76 @@
+package com.colon.mattfolio.common.property;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 외부 의존 서비스 장애 격리 설정<br/>
+ * 의존 서비스(ExternalDependencyType)별로 Bulkhead, Circuit Breaker, 재시도를 개별 설정할 수 있으며, 설정이 없는 서비스는 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties("resilience")
+public class ResilienceProperties {
+
+    // 의존 서비스 키(ExternalDependencyType.key)별 설정
+    private Map<String, Policy> dependencies = new HashMap<>();
+
+    /**
+     * 의존 서비스에 해당하는 설정을 반환합니다.
+     *
+     * @param type 의존 서비스
+     * @return 의존 서비스의 설정 (없으면 기본값)
+     */
+    public Policy getPolicy(ExternalDependencyType type) {
+        return dependencies.getOrDefault(type.getKey(), new Policy());
+    }
+
+    @Getter
+    @Setter
+    @ToString
+    public static class Policy {
+
+        // Bulkhead - 동시에 진행할 수 있는 최대 호출 수 (초과 시 즉시 거절)
+        private int maxConcurrentCalls = 50;
+
+        // Circuit Breaker - 차단 기준 실패율 (%)
+        private int failureRateThreshold = 50;
+
+        // Circuit Breaker - 실패율을 계산하는 최근 호출 수
+        private int slidingWindowSize = 20;
+
+        // Circuit Breaker - 실패율을 계산하기 위한 최소 호출 수
+        private int minimumCalls = 10;
+
+        // Circuit Breaker - 차단 유지 시간 (ms), 경과 후 시험 호출 허용
+        private long openDurationMs = 30000;
+
+        // Circuit Breaker - 시험 호출 수 (모두 성공하면 차단 해제)
+        private int halfOpenCalls = 3;
+
+        // 재시도 - 최대 시도 횟수 (최초 호출 포함, 멱등 호출에만 적용)
+        private int maxAttempts = 3;
+
+        // 재시도 - 첫 재시도 대기 시간 (ms), 이후 2배씩 증가
+        private long initialBackoffMs = 200;
+
+        // 재시도 - 최대 대기 시간 (ms)
+        private long maxBackoffMs = 2000;
+
+        // 재시도 - 대기 시간 무작위 편차 비율 (0~1)
+        private double jitter = 0.5;
+
+        // 호출 하나의 최대 소요 시간 (ms, 0 이하이면 제한 없음)
+        private long timeoutMs = 0;
+    }
+}
@@ -0,0 +1,54 @@
+package com.colon.mattfolio.common.resilience;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+
+/**
+ * 외부 의존 서비스 하나의 동시 호출 수를 제한하는 Bulkhead<br/>
+ * <br/>
+ * 상한에 도달하면 기다리지 않고 즉시 거절하므로, 느려진 의존 서비스 하나가 요청 스레드와 커넥션을 모두 점유하지 못합니다.
+ */
+public class Bulkhead {
+
+    @Getter
+    private final int maxConcurrentCalls;
+
+    private final Semaphore semaphore;
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public Bulkhead(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = Math.max(1, maxConcurrentCalls);
+        this.semaphore = new Semaphore(this.maxConcurrentCalls);
+    }
+
+    /**
+     * 호출 슬롯을 얻습니다.
+     *
+     * @return 슬롯을 얻으면 true (true를 받은 경우 호출이 끝나면 반드시 release 호출)
+     */
+    public boolean tryAcquire() {
+        if (semaphore.tryAcquire()) {
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * 호출 슬롯을 반환합니다.
+     */
+    public void release() {
+        semaphore.release();
+    }
+
+    public int getActiveCalls() {
+        return maxConcurrentCalls - semaphore.availablePermits();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+}
@@ -0,0 +1,179 @@
+package com.colon.mattfolio.common.resilience;
+
+import java.util.concurrent.TimeUnit;
+
+import com.colon.mattfolio.common.enumType.CircuitBreakerStateType;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 의존 서비스 하나의 Circuit Breaker<br/>
+ * <br/>
+ * - CLOSED: 최근 sliding-window-size개 호출의 실패율이 기준 이상이면 OPEN으로 전환 (최소 호출 수 이상인 경우)<br/>
+ * - OPEN: open-duration 동안 호출을 보내지 않고 즉시 거절하여, 느린 의존 서비스가 요청 스레드를 붙잡지 않도록 함<br/>
+ * - HALF_OPEN: open-duration 경과 후 half-open-calls개의 시험 호출만 허용하며, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN<br/>
+ * <br/>
+ * 상태 변경은 모두 이 객체로 동기화하며, 호출 결과를 알 수 없는 경우(취소, 의존 서비스와 무관한 오류)는 onIgnored로 허가만 반환합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    private final String name;
+
+    private final int failureRateThreshold;
+
+    private final int minimumCalls;
+
+    private final long openDurationNanos;
+
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (true: 실패), 원형 버퍼
+    private final boolean[] window;
+
+    private int windowIndex;
+
+    private int bufferedCalls;
+
+    private int failedCalls;
+
+    @Getter
+    private CircuitBreakerStateType state = CircuitBreakerStateType.CLOSED;
+
+    private long openedAtNanos;
+
+    private int halfOpenInFlight;
+
+    private int halfOpenSucceeded;
+
+    @Getter
+    private long notPermittedCount;
+
+    @Getter
+    private long openedCount;
+
+    public CircuitBreaker(String name, int failureRateThreshold, int slidingWindowSize, int minimumCalls, long openDurationMs, int halfOpenCalls) {
+        this.name = name;
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[Math.max(1, slidingWindowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+    }
+
+    /**
+     * 호출 허가를 요청합니다.
+     *
+     * @return 호출할 수 있으면 true (true를 받은 경우 반드시 onSuccess/onError/onIgnored 중 하나를 호출)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == CircuitBreakerStateType.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            transition(CircuitBreakerStateType.HALF_OPEN);
+        }
+
+        switch (state) {
+        case CLOSED:
+            return true;
+        case HALF_OPEN:
+            if (halfOpenInFlight < halfOpenCalls - halfOpenSucceeded) {
+                halfOpenInFlight++;
+                return true;
+            }
+            break;
+        default:
+            break;
+        }
+
+        notPermittedCount++;
+        return false;
+    }
+
+    /**
+     * 호출 성공을 기록합니다.
+     */
+    public synchronized void onSuccess() {
+        if (state == CircuitBreakerStateType.HALF_OPEN) {
+            halfOpenInFlight--;
+            if (++halfOpenSucceeded >= halfOpenCalls) {
+                transition(CircuitBreakerStateType.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    /**
+     * 의존 서비스 장애로 인한 호출 실패를 기록합니다.
+     */
+    public synchronized void onError() {
+        if (state == CircuitBreakerStateType.HALF_OPEN) {
+            transition(CircuitBreakerStateType.OPEN);
+            return;
+        }
+        record(true);
+        if (state == CircuitBreakerStateType.CLOSED && bufferedCalls >= minimumCalls && getFailureRate() >= failureRateThreshold) {
+            transition(CircuitBreakerStateType.OPEN);
+        }
+    }
+
+    /**
+     * 결과를 기록하지 않고 허가만 반환합니다. (취소되었거나 의존 서비스와 무관한 오류)
+     */
+    public synchronized void onIgnored() {
+        if (state == CircuitBreakerStateType.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    /**
+     * 최근 호출의 실패율(%)을 반환합니다.
+     *
+     * @return 실패율 (기록된 호출이 없으면 0)
+     */
+    public synchronized double getFailureRate() {
+        return bufferedCalls == 0 ? 0 : failedCalls * 100.0 / bufferedCalls;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    public synchronized int getFailedCalls() {
+        return failedCalls;
+    }
+
+    private void record(boolean failed) {
+        if (bufferedCalls == window.length) {
+            if (window[windowIndex]) {
+                failedCalls--;
+            }
+        } else {
+            bufferedCalls++;
+        }
+
+        window[windowIndex] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transition(CircuitBreakerStateType next) {
+        log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Circuit Breaker 상태 변경 - 대상: {}, {} → {} (실패율: {}%)", name, state, next, String.format("%.1f", getFailureRate()));
+
+        state = next;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+
+        if (next == CircuitBreakerStateType.OPEN) {
+            openedAtNanos = System.nanoTime();
+            openedCount++;
+        } else if (next == CircuitBreakerStateType.CLOSED) {
+            // 차단 해제 시 이전 실패 기록으로 다시 차단되지 않도록 초기화
+            bufferedCalls = 0;
+            failedCalls = 0;
+            windowIndex = 0;
+        }
+    }
+}
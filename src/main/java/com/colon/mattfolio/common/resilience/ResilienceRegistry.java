@@ -0,0 +1,281 @@
+package com.colon.mattfolio.common.resilience;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.azure.core.exception.HttpResponseException;
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
+import com.colon.mattfolio.common.exception.ExternalApiException;
+import com.colon.mattfolio.common.property.ResilienceProperties;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * 외부 의존 서비스 호출을 장애로부터 격리하는 레지스트리<br/>
+ * <br/>
+ * 의존 서비스(ExternalDependencyType)마다 Bulkhead와 Circuit Breaker를 하나씩 두며, 호출은 다음 순서로 보호됩니다.<br/>
+ * 1. Circuit Breaker - 장애로 차단 중이면 호출하지 않고 즉시 거절 (ExternalApiException.CIRCUIT_OPEN)<br/>
+ * 2. Bulkhead - 동시 호출 수가 상한이면 즉시 거절 (ExternalApiException.BULKHEAD_FULL)<br/>
+ * 3. 호출 시간 제한 (timeout-ms 설정 시)<br/>
+ * 4. 멱등 호출에 한해 일시적 장애(연결 실패, 시간 초과, 5xx)를 지수 백오프 + 무작위 편차(jitter)로 재시도 - 매 시도마다 1~3을 다시 거침<br/>
+ * 호출 속도 제한(Rate Limiter)처럼 시도마다 다시 얻어야 하는 허가는 admission으로 넘기며, 재시도도 허가를 새로 얻은 뒤 전송됩니다.<br/>
+ * <br/>
+ * 4xx 응답처럼 의존 서비스가 정상 응답한 오류는 장애로 집계하지 않으며, 재시도하지도 않습니다.<br/>
+ * 의존 서비스별로 격리되므로 Azure 지역 장애가 로그인(OAuth)이나 피드 조회에 영향을 주지 않습니다.
+ */
+@Component
+@Slf4j
+public class ResilienceRegistry {
+
+    // 의존 서비스별 보호 구성
+    private final Map<ExternalDependencyType, Guard> guards = new EnumMap<>(ExternalDependencyType.class);
+
+    public ResilienceRegistry(ResilienceProperties properties) {
+        for (ExternalDependencyType type : ExternalDependencyType.values()) {
+            ResilienceProperties.Policy policy = properties.getPolicy(type);
+            guards.put(type, new Guard(type, policy));
+
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 장애 격리 설정 - 대상: {}, 설정: {}", type.getKey(), policy);
+        }
+    }
+
+    /**
+     * 논블로킹 호출을 보호합니다.
+     *
+     * @param type 의존 서비스
+     * @param idempotent 멱등 호출 여부 (true인 경우에만 재시도)
+     * @param call 보호할 호출 (구독할 때마다 새로 전송되어야 함)
+     * @return 보호된 호출 결과를 발행하는 Mono
+     */
+    public <T> Mono<T> decorate(ExternalDependencyType type, boolean idempotent, Supplier<Mono<T>> call) {
+        return decorate(type, idempotent, UnaryOperator.identity(), call);
+    }
+
+    /**
+     * 시도마다 허가(예: Rate Limiter 토큰)를 얻은 뒤 논블로킹 호출을 보호합니다.<br/>
+     * 허가를 기다리는 동안에는 Bulkhead 슬롯과 호출 시간 제한이 적용되지 않으며, 재시도도 허가를 다시 얻습니다.
+     *
+     * @param type 의존 서비스
+     * @param idempotent 멱등 호출 여부 (true인 경우에만 재시도)
+     * @param admission 한 번의 시도를 감싸 허가를 얻은 뒤 구독하도록 하는 함수 (구독할 때마다 허가를 새로 얻어야 함)
+     * @param call 보호할 호출 (구독할 때마다 새로 전송되어야 함)
+     * @return 보호된 호출 결과를 발행하는 Mono
+     */
+    public <T> Mono<T> decorate(ExternalDependencyType type, boolean idempotent, UnaryOperator<Mono<T>> admission, Supplier<Mono<T>> call) {
+        Guard guard = guards.get(type);
+        ResilienceProperties.Policy policy = guard.policy;
+
+        Mono<T> guarded = Mono.defer(() -> {
+            guard.acquire();
+
+            Mono<T> source = Mono.defer(call);
+            if (policy.getTimeoutMs() > 0) {
+                source = source.timeout(Duration.ofMillis(policy.getTimeoutMs()));
+            }
+
+            return source.doOnSuccess(value -> guard.onSuccess())
+                .doOnError(guard::onError)
+                .doOnCancel(guard.circuitBreaker::onIgnored)
+                .doFinally(signal -> guard.bulkhead.release());
+        });
+        Mono<T> attempt = admission.apply(guarded);
+
+        if (!idempotent || policy.getMaxAttempts() <= 1) {
+            return attempt;
+        }
+
+        return attempt.retryWhen(Retry.backoff(policy.getMaxAttempts() - 1, Duration.ofMillis(policy.getInitialBackoffMs()))
+            .maxBackoff(Duration.ofMillis(policy.getMaxBackoffMs()))
+            .jitter(policy.getJitter())
+            .filter(ResilienceRegistry::isFailure)
+            .doBeforeRetry(signal -> {
+                guard.retryCount.incrementAndGet();
+                log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 외부 호출 재시도 - 대상: {}, 시도: {}, 원인: {}", type.getKey(), signal.totalRetries() + 2, signal.failure()
+                    .toString());
+            })
+            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * 블로킹 호출을 보호합니다. 재시도 대기는 호출 스레드에서 수행합니다.
+     *
+     * @param type 의존 서비스
+     * @param idempotent 멱등 호출 여부 (true인 경우에만 재시도)
+     * @param call 보호할 호출
+     * @return 호출 결과
+     */
+    public <T> T execute(ExternalDependencyType type, boolean idempotent, Supplier<T> call) {
+        Guard guard = guards.get(type);
+        ResilienceProperties.Policy policy = guard.policy;
+        int maxAttempts = idempotent ? Math.max(1, policy.getMaxAttempts()) : 1;
+
+        for (int attempt = 1;; attempt++) {
+            RuntimeException failure;
+
+            guard.acquire();
+            try {
+                T result = call.get();
+                guard.onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                guard.onError(e);
+                if (attempt >= maxAttempts || !isFailure(e)) {
+                    throw e;
+                }
+                failure = e;
+            } finally {
+                guard.bulkhead.release();
+            }
+
+            // 대기하는 동안 Bulkhead 슬롯을 점유하지 않도록 반환한 뒤 재시도
+            guard.retryCount.incrementAndGet();
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 외부 호출 재시도 - 대상: {}, 시도: {}, 원인: {}", type.getKey(), attempt + 1, failure.toString());
+            sleep(backoff(policy, attempt));
+        }
+    }
+
+    /**
+     * 의존 서비스별 장애 격리 상태를 반환합니다.
+     *
+     * @return 의존 서비스별 상태 목록
+     */
+    public List<ResilienceStats> getStats() {
+        return Arrays.stream(ExternalDependencyType.values())
+            .map(type -> guards.get(type)
+                .toStats())
+            .toList();
+    }
+
+    /**
+     * 의존 서비스 장애로 볼 수 있는 오류인지 판단합니다. (Circuit Breaker 실패 집계 및 재시도 대상)<br/>
+     * 연결 실패, 시간 초과, 5xx 응답이 해당하며, 4xx 응답이나 애플리케이션 오류는 해당하지 않습니다.
+     */
+    static boolean isFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof WebClientResponseException e) {
+                return e.getStatusCode()
+                    .is5xxServerError();
+            }
+            if (cause instanceof HttpResponseException e) {
+                return e.getResponse() != null && e.getResponse()
+                    .getStatusCode() >= 500;
+            }
+            if (cause instanceof WebClientRequestException || cause instanceof TimeoutException || cause instanceof ConnectException || cause instanceof SocketTimeoutException
+                    || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 재시도 대기 시간을 계산합니다. (지수 백오프, 최대 대기 시간 제한, 무작위 편차 적용)
+     */
+    private static long backoff(ResilienceProperties.Policy policy, int attempt) {
+        long base = Math.min(policy.getMaxBackoffMs(), policy.getInitialBackoffMs() << Math.min(attempt - 1, 20));
+        double jitter = Math.max(0, Math.min(1, policy.getJitter()));
+        double factor = 1 + jitter * (ThreadLocalRandom.current()
+            .nextDouble() * 2 - 1);
+        return Math.max(0, (long) (base * factor));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new IllegalStateException("재시도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 의존 서비스 하나의 Bulkhead, Circuit Breaker 및 호출 지표
+     */
+    private static class Guard {
+
+        private final ExternalDependencyType type;
+
+        private final ResilienceProperties.Policy policy;
+
+        private final CircuitBreaker circuitBreaker;
+
+        private final Bulkhead bulkhead;
+
+        private final AtomicLong successCount = new AtomicLong();
+
+        private final AtomicLong failureCount = new AtomicLong();
+
+        private final AtomicLong retryCount = new AtomicLong();
+
+        private Guard(ExternalDependencyType type, ResilienceProperties.Policy policy) {
+            this.type = type;
+            this.policy = policy;
+            this.circuitBreaker = new CircuitBreaker(type.getKey(), policy.getFailureRateThreshold(), policy.getSlidingWindowSize(), policy.getMinimumCalls(), policy.getOpenDurationMs(),
+                    policy.getHalfOpenCalls());
+            this.bulkhead = new Bulkhead(policy.getMaxConcurrentCalls());
+        }
+
+        /**
+         * Circuit Breaker 허가와 Bulkhead 슬롯을 얻습니다. 얻지 못하면 예외를 발생시키며, 이 경우 release를 호출하지 않습니다.
+         */
+        private void acquire() {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new ExternalApiException(ExternalApiException.Reason.CIRCUIT_OPEN);
+            }
+            if (!bulkhead.tryAcquire()) {
+                circuitBreaker.onIgnored();
+                throw new ExternalApiException(ExternalApiException.Reason.BULKHEAD_FULL);
+            }
+        }
+
+        private void onSuccess() {
+            successCount.incrementAndGet();
+            circuitBreaker.onSuccess();
+        }
+
+        private void onError(Throwable throwable) {
+            if (isFailure(throwable)) {
+                failureCount.incrementAndGet();
+                circuitBreaker.onError();
+            } else {
+                circuitBreaker.onIgnored();
+            }
+        }
+
+        private ResilienceStats toStats() {
+            return ResilienceStats.builder()
+                .dependency(type.getKey())
+                .state(circuitBreaker.getState())
+                .failureRate(circuitBreaker.getFailureRate())
+                .bufferedCalls(circuitBreaker.getBufferedCalls())
+                .failedCalls(circuitBreaker.getFailedCalls())
+                .openedCount(circuitBreaker.getOpenedCount())
+                .notPermittedCount(circuitBreaker.getNotPermittedCount())
+                .activeCalls(bulkhead.getActiveCalls())
+                .maxConcurrentCalls(bulkhead.getMaxConcurrentCalls())
+                .bulkheadRejectedCount(bulkhead.getRejectedCount())
+                .successCount(successCount.get())
+                .failureCount(failureCount.get())
+                .retryCount(retryCount.get())
+                .build();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.colon.mattfolio.common.resilience;
+
+import com.colon.mattfolio.common.enumType.CircuitBreakerStateType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 외부 의존 서비스별 장애 격리 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ResilienceStats {
+
+    @Schema(description = "의존 서비스", example = "azure-face")
+    private String dependency;
+
+    @Schema(description = "Circuit Breaker 상태", example = "CLOSED")
+    private CircuitBreakerStateType state;
+
+    @Schema(description = "최근 호출 실패율 (%)")
+    private double failureRate;
+
+    @Schema(description = "실패율 계산에 사용된 최근 호출 수")
+    private int bufferedCalls;
+
+    @Schema(description = "최근 호출 중 실패 수")
+    private int failedCalls;
+
+    @Schema(description = "차단(OPEN) 전환 횟수")
+    private long openedCount;
+
+    @Schema(description = "차단 중이어서 거절된 호출 수")
+    private long notPermittedCount;
+
+    @Schema(description = "진행 중인 호출 수")
+    private int activeCalls;
+
+    @Schema(description = "최대 동시 호출 수")
+    private int maxConcurrentCalls;
+
+    @Schema(description = "동시 호출 수 초과로 거절된 호출 수")
+    private long bulkheadRejectedCount;
+
+    @Schema(description = "성공한 호출 수")
+    private long successCount;
+
+    @Schema(description = "실패한 호출 수 (재시도 후 최종 실패 포함)")
+    private long failureCount;
+
+    @Schema(description = "재시도 횟수")
+    private long retryCount;
+}
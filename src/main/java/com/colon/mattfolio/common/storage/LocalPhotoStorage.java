@@ -0,0 +1,272 @@
+package com.colon.mattfolio.common.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.UserDefinedFileAttributeView;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.common.enumType.StorageType;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.util.ContentHashUtil;
+import com.colon.mattfolio.util.FileUtil;
+import com.colon.mattfolio.util.KeyGenerator;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 로컬 파일 시스템 사진 저장소 (storage.type=local)<br/>
+ * <br/>
+ * 저장 구조: {root-dir}/{컨테이너}/{샤드1}/{샤드2}/{파일 키}<br/>
+ * - 샤드는 파일 키 해시의 앞 4자리(2자리씩 2단계)로, 한 디렉토리에 파일이 과도하게 몰리지 않도록 합니다.<br/>
+ * - 파일은 같은 디렉토리에 고유한 이름으로 만든 임시 파일(.part)에 FileChannel.transferTo로 복사(커널 내 복사)한 뒤 원자적 이름 변경(ATOMIC_MOVE)으로 완료하므로,<br/>
+ * &nbsp;&nbsp;읽는 쪽에서 쓰기 중인 파일을 보는 일이 없고, 같은 키를 동시에 쓰거나 이전 실패로 남은 임시 파일이 있어도 쓰기가 실패하지 않습니다.<br/>
+ * - Content-Type은 파일의 사용자 정의 속성(user.mattfolio.content-type)에 보관하며, 파일 시스템이 지원하지 않으면 파일 키의 확장자로 판단합니다.<br/>
+ * - 파일 키는 컨테이너의 샤드 디렉토리 안으로만 해석되므로, 다른 컨테이너나 루트 밖의 파일을 가리킬 수 없습니다.
+ */
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Component
+@Slf4j
+public class LocalPhotoStorage implements PhotoStorage {
+
+    // 저장소 루트 디렉토리
+    @Value("${storage.local.root-dir:${java.io.tmpdir}/mattfolio/storage}")
+    private String rootDir;
+
+    // 저장된 파일 URL 접두사
+    @Value("${storage.local.base-url:/storage}")
+    private String baseUrl;
+
+    // 완료 전 디스크 동기화(fsync) 여부
+    @Value("${storage.local.fsync:false}")
+    private boolean fsync;
+
+    // Content-Type을 보관하는 사용자 정의 파일 속성명
+    private static final String CONTENT_TYPE_ATTRIBUTE = "mattfolio.content-type";
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(rootDir)
+            .toAbsolutePath()
+            .normalize();
+        Files.createDirectories(root);
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 로컬 사진 저장소 사용 - 경로: {}", root);
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.LOCAL;
+    }
+
+    @Override
+    public Mono<StoredFile> storeAsync(BlobContainerType containerType, String faceId, String originalFilename, Path source, String contentType) {
+        // 파일 복사는 블로킹 입출력이므로 블로킹 전용 스케줄러에서 수행
+        return Mono.fromCallable(() -> write(containerType, createKey(faceId, originalFilename), source, contentType))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<StoredFile> storeAtAsync(BlobContainerType containerType, String key, Path source, String contentType) {
+        return Mono.fromCallable(() -> write(containerType, key, source, contentType))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public StoredFileMetadata stat(BlobContainerType containerType, String key) {
+        Path path = resolveExisting(containerType, key);
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            long lastModified = attributes.lastModifiedTime()
+                .toMillis();
+
+            return StoredFileMetadata.builder()
+                .size(attributes.size())
+                // 파일 키는 고유하고 덮어쓰지 않으므로 수정 일시와 크기로 버전을 식별
+                .eTag("\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(attributes.size()) + "\"")
+                .contentType(readContentType(path, key))
+                .lastModified(lastModified)
+                .build();
+        } catch (NoSuchFileException e) {
+            throw new PhotoException(PhotoException.Reason.FILE_NOT_FOUND);
+        } catch (IOException e) {
+            throw new PhotoException(PhotoException.Reason.INVALID_FILE);
+        }
+    }
+
+    /**
+     * 지정한 구간을 FileChannel.transferTo로 전송합니다.<br/>
+     * 대상이 소켓/파일 채널인 경우 커널 내 복사가 사용되며, 그 외에는 JDK 내부 버퍼로 나누어 전송하므로 파일 전체를 힙에 올리지 않습니다.
+     */
+    @Override
+    public void read(BlobContainerType containerType, String key, long offset, long length, OutputStream out) throws IOException {
+        FileUtil.transferTo(resolveExisting(containerType, key), offset, length, out);
+    }
+
+    @Override
+    public Path getLocalPath(BlobContainerType containerType, String key) {
+        return resolveExisting(containerType, key);
+    }
+
+    /**
+     * 컨테이너와 파일 키에 해당하는 저장 경로를 반환합니다.
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @return 저장 경로 (컨테이너의 샤드 디렉토리를 벗어나는 키인 경우 예외 발생)
+     */
+    public Path resolve(BlobContainerType containerType, String key) {
+        String shard = ContentHashUtil.toHex(ContentHashUtil.newDigest()
+            .digest(key.getBytes(StandardCharsets.UTF_8)));
+
+        Path containerRoot = root.resolve(containerType.getKey())
+            .normalize();
+        Path shardDir = containerRoot.resolve(shard.substring(0, 2))
+            .resolve(shard.substring(2, 4));
+        Path path = shardDir.resolve(key)
+            .normalize();
+
+        // 경로 구분자나 ../ 가 포함된 키로 다른 컨테이너나 다른 샤드의 파일을 가리키지 못하도록 샤드 디렉토리 바로 아래로 제한
+        if (!path.startsWith(containerRoot) || !shardDir.equals(path.getParent())) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+
+    /**
+     * 존재하는 파일의 저장 경로를 반환합니다.
+     *
+     * @throws PhotoException 키가 올바르지 않거나 파일이 존재하지 않는 경우 발생하는 예외
+     */
+    private Path resolveExisting(BlobContainerType containerType, String key) {
+        Path path;
+        try {
+            path = resolve(containerType, key);
+        } catch (IllegalArgumentException e) {
+            throw new PhotoException(PhotoException.Reason.FILE_NOT_FOUND);
+        }
+
+        if (!Files.isRegularFile(path)) {
+            throw new PhotoException(PhotoException.Reason.FILE_NOT_FOUND);
+        }
+        return path;
+    }
+
+    /**
+     * 원본 파일을 같은 디렉토리의 고유한 임시 파일로 복사하고 Content-Type을 기록한 뒤 최종 경로로 원자적으로 이동합니다.
+     */
+    private StoredFile write(BlobContainerType containerType, String key, Path source, String contentType) throws IOException {
+        Path target = resolve(containerType, key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName()
+            .toString(), ".part");
+
+        long size;
+        try {
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ); //
+                    FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                size = in.size();
+                long position = 0;
+                while (position < size) {
+                    position += in.transferTo(position, size - position, out);
+                }
+                if (fsync) {
+                    out.force(true);
+                }
+            }
+            writeContentType(temp, contentType);
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        return StoredFile.builder()
+            .containerType(containerType)
+            .key(key)
+            .url(baseUrl + "/" + containerType.getKey() + "/" + key)
+            .size(size)
+            .build();
+    }
+
+    /**
+     * Content-Type을 파일의 사용자 정의 속성으로 기록합니다. 파일 시스템이 지원하지 않으면 기록하지 않습니다. (조회 시 확장자로 판단)
+     */
+    private void writeContentType(Path path, String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return;
+        }
+
+        UserDefinedFileAttributeView view = Files.getFileAttributeView(path, UserDefinedFileAttributeView.class);
+        if (view == null) {
+            return;
+        }
+        try {
+            view.write(CONTENT_TYPE_ATTRIBUTE, StandardCharsets.UTF_8.encode(contentType));
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Content-Type 속성 기록 미지원 - 확장자로 판단합니다: {}", path, e);
+        }
+    }
+
+    /**
+     * 파일에 기록된 Content-Type을 반환합니다. 기록되지 않았으면 파일 키의 확장자로 판단합니다.
+     */
+    private String readContentType(Path path, String key) {
+        UserDefinedFileAttributeView view = Files.getFileAttributeView(path, UserDefinedFileAttributeView.class);
+        if (view != null) {
+            try {
+                if (view.list()
+                    .contains(CONTENT_TYPE_ATTRIBUTE)) {
+                    ByteBuffer buffer = ByteBuffer.allocate(view.size(CONTENT_TYPE_ATTRIBUTE));
+                    view.read(CONTENT_TYPE_ATTRIBUTE, buffer);
+                    buffer.flip();
+                    return StandardCharsets.UTF_8.decode(buffer)
+                        .toString();
+                }
+            } catch (IOException | UnsupportedOperationException e) {
+                log.debug("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Content-Type 속성 조회 실패 - 확장자로 판단합니다: {}", path, e);
+            }
+        }
+
+        return MediaTypeFactory.getMediaType(key)
+            .map(Object::toString)
+            .orElse(null);
+    }
+
+    /**
+     * 파일 키를 생성합니다. (예: faceId_고유키_원본 파일명)<br/>
+     * 원본 파일명은 경로 구분자 등 파일 시스템에 안전하지 않은 문자를 '_'로 치환합니다.
+     */
+    private String createKey(String faceId, String originalFilename) {
+        String safeName = originalFilename == null ? "" : originalFilename.replaceAll("[^A-Za-z0-9._-]", "_");
+        String key = KeyGenerator.generateKey() + "_" + safeName;
+
+        return faceId == null || faceId.isEmpty() ? key : faceId.replaceAll("[^A-Za-z0-9._-]", "_") + "_" + key;
+    }
+}
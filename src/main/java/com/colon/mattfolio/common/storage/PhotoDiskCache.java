@@ -0,0 +1,420 @@
+package com.colon.mattfolio.common.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.util.ContentHashUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원격 사진 저장소(Azure Blob Storage) 앞단의 로컬 디스크 캐시<br/>
+ * <br/>
+ * 자주 조회되는 사진을 로컬 디스크(SSD)에 보관하여, 다운로드 시 원격 저장소 호출(egress 비용과 지연)을 줄입니다.<br/>
+ * - 전체 크기(byte) 기준 LRU로 제거하며, 설정보다 큰 파일은 캐시하지 않고 원격 저장소에서 직접 전송합니다.<br/>
+ * - 같은 파일을 동시에 요청하면 원격 저장소에서 한 번만 내려받고, 나머지 요청은 그 결과를 함께 사용합니다.<br/>
+ * - 파일은 임시 파일(.part)에 내려받은 뒤 원자적 이름 변경으로 완료하므로, 쓰기 중인 파일이 전송되는 일이 없습니다.<br/>
+ * - 제거된 파일은 바로 지우지 않고 eviction-grace-ms 뒤에 지웁니다. 웹 서버(sendfile)에 경로를 넘긴 직후 제거되더라도 전송이 끊기지 않습니다.<br/>
+ *   채울 때마다 새 파일명을 사용하므로, 삭제 대기 중인 파일이 다시 채운 파일과 겹치지 않습니다.<br/>
+ * <br/>
+ * 저장소의 파일 키는 고유하고 덮어쓰지 않으므로 별도의 유효 시간 없이 메타데이터(ETag 등)도 함께 캐시합니다.<br/>
+ * 색인은 메모리에만 보관하므로, 서버 시작 시 캐시 디렉토리를 비우고 시작합니다.
+ */
+@Component
+@Slf4j
+public class PhotoDiskCache {
+
+    // 디스크 캐시 사용 여부
+    @Value("${storage.cache.enabled:true}")
+    private boolean enabled;
+
+    // 캐시 디렉토리
+    @Value("${storage.cache.dir:${java.io.tmpdir}/mattfolio/storage-cache}")
+    private String cacheDir;
+
+    // 최대 캐시 크기 (byte)
+    @Value("${storage.cache.max-size-bytes:10737418240}")
+    private long maxSizeBytes;
+
+    // 캐시할 수 있는 파일 하나의 최대 크기 (byte)
+    @Value("${storage.cache.max-file-size-bytes:52428800}")
+    private long maxFileSizeBytes;
+
+    // 제거된 캐시 파일을 실제로 지우기까지의 유예 시간 (ms), 진행 중인 sendfile 전송이 파일을 연 뒤에 지워지도록 함
+    @Value("${storage.cache.eviction-grace-ms:60000}")
+    private long evictionGraceMillis;
+
+    private Path root;
+
+    // 접근 순서(access-order)를 유지하는 LRU 색인, 모든 접근은 store 객체로 동기화
+    private final Map<String, CacheEntry> store = new LinkedHashMap<>(256, 0.75f, true);
+
+    // 캐시된 파일 전체 크기 (byte), store 객체로 동기화
+    private long usedBytes;
+
+    // 진행 중인 캐시 채우기 (동일 파일의 동시 요청은 원격 저장소를 한 번만 호출)
+    private final Map<String, CompletableFuture<StoredFileHandle>> inFlightFills = new ConcurrentHashMap<>();
+
+    // 유예 시간이 지나면 지울 제거된 캐시 파일 (제거된 순서)
+    private final Queue<PendingDeletion> pendingDeletions = new ConcurrentLinkedQueue<>();
+
+    // 캐시 파일명 일련번호 (같은 키를 다시 채워도 삭제 대기 중인 파일과 경로가 겹치지 않도록 함)
+    private final AtomicLong fileSequence = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong fillCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private final AtomicLong bypassCount = new AtomicLong();
+
+    private final AtomicLong fillFailureCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        root = Paths.get(cacheDir)
+            .toAbsolutePath()
+            .normalize();
+        // 이전 실행의 캐시 파일은 색인이 없으므로 비우고 시작
+        FileSystemUtils.deleteRecursively(root);
+        Files.createDirectories(root);
+
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 사진 디스크 캐시 사용 - 경로: {}, 최대 크기: {} byte", root, maxSizeBytes);
+    }
+
+    /**
+     * 디스크 캐시 사용 여부를 반환합니다.
+     *
+     * @return 디스크 캐시를 사용하면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 파일을 반환하고, 없으면 저장소에서 내려받아 캐시에 채운 뒤 반환합니다.<br/>
+     * 같은 파일을 이미 채우는 중이면 완료될 때까지 기다린 뒤 그 결과를 반환합니다.
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @param metadata 저장소에서 조회한 파일 메타데이터 (채우기 시 다시 조회하지 않음)
+     * @param storage 원본 저장소
+     * @return 캐시된 파일 (캐시 최대 크기를 넘는 파일인 경우 null)
+     * @throws IOException 내려받기 중 발생하는 예외
+     */
+    public StoredFileHandle get(BlobContainerType containerType, String key, StoredFileMetadata metadata, PhotoStorage storage) throws IOException {
+        String cacheKey = containerType.getKey() + "/" + key;
+
+        StoredFileHandle cached = lookup(cacheKey);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+        missCount.incrementAndGet();
+
+        CompletableFuture<StoredFileHandle> created = new CompletableFuture<>();
+        CompletableFuture<StoredFileHandle> inFlight = inFlightFills.putIfAbsent(cacheKey, created);
+        if (inFlight != null) {
+            coalescedCount.incrementAndGet();
+            return await(inFlight);
+        }
+
+        try {
+            // 조회와 등록 사이에 다른 요청이 채우기를 끝낸 경우 다시 내려받지 않음
+            StoredFileHandle filled = lookup(cacheKey);
+            if (filled == null) {
+                filled = fill(cacheKey, containerType, key, metadata, storage);
+            }
+            created.complete(filled);
+            return filled;
+        } catch (IOException | RuntimeException e) {
+            fillFailureCount.incrementAndGet();
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFills.remove(cacheKey);
+        }
+    }
+
+    /**
+     * 캐시된 파일의 메타데이터를 반환합니다. 캐시에 없어도 채우지 않습니다.<br/>
+     * 조건부 요청(304)이나 HEAD 요청처럼 본문이 필요 없는 응답에서 원격 저장소 호출 없이 사용합니다.
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @return 캐시된 파일의 메타데이터 (캐시에 없으면 null)
+     */
+    public StoredFileMetadata peek(BlobContainerType containerType, String key) {
+        StoredFileHandle cached = lookup(containerType.getKey() + "/" + key);
+        return cached != null ? cached.getMetadata() : null;
+    }
+
+    /**
+     * 캐시를 모두 비웁니다. 파일은 유예 시간이 지난 뒤 지웁니다.
+     */
+    public void invalidateAll() {
+        List<Path> removed = new ArrayList<>();
+        synchronized (store) {
+            store.values()
+                .forEach(entry -> removed.add(entry.handle.getLocalPath()));
+            store.clear();
+            usedBytes = 0;
+        }
+        removed.forEach(this::scheduleDeletion);
+    }
+
+    /**
+     * 유예 시간이 지난 제거된 캐시 파일을 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${storage.cache.sweep-interval-ms:30000}")
+    public void sweepEvictedFiles() {
+        long now = System.currentTimeMillis();
+        PendingDeletion pending;
+        while ((pending = pendingDeletions.peek()) != null && pending.deleteAfter <= now) {
+            if (pendingDeletions.remove(pending)) {
+                deleteQuietly(pending.path);
+            }
+        }
+    }
+
+    /**
+     * 캐시의 현재 상태를 반환합니다.
+     *
+     * @return 캐시 상태 DTO
+     */
+    public PhotoDiskCacheStats getStats() {
+        int size;
+        long used;
+        synchronized (store) {
+            size = store.size();
+            used = usedBytes;
+        }
+
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+
+        return PhotoDiskCacheStats.builder()
+            .enabled(enabled)
+            .size(size)
+            .usedBytes(used)
+            .maxBytes(maxSizeBytes)
+            .hitCount(hits)
+            .missCount(missCount.get())
+            .fillCount(fillCount.get())
+            .coalescedCount(coalescedCount.get())
+            .bypassCount(bypassCount.get())
+            .fillFailureCount(fillFailureCount.get())
+            .evictionCount(evictionCount.get())
+            .pendingDeletionCount(pendingDeletions.size())
+            .hitRate(lookups == 0 ? 0 : (double) hits / lookups)
+            .build();
+    }
+
+    /**
+     * 색인에서 캐시된 파일을 조회합니다. 파일이 외부 요인으로 삭제된 경우 색인에서도 제거합니다.
+     */
+    private StoredFileHandle lookup(String cacheKey) {
+        CacheEntry entry;
+        synchronized (store) {
+            entry = store.get(cacheKey);
+        }
+        if (entry == null) {
+            return null;
+        }
+
+        if (!Files.isRegularFile(entry.handle.getLocalPath())) {
+            synchronized (store) {
+                if (store.remove(cacheKey, entry)) {
+                    usedBytes -= entry.size;
+                }
+            }
+            return null;
+        }
+        return entry.handle;
+    }
+
+    /**
+     * 저장소에서 파일을 내려받아 캐시에 등록합니다.
+     */
+    private StoredFileHandle fill(String cacheKey, BlobContainerType containerType, String key, StoredFileMetadata metadata, PhotoStorage storage) throws IOException {
+        long size = metadata.getSize();
+        if (size > maxFileSizeBytes || size > maxSizeBytes) {
+            bypassCount.incrementAndGet();
+            return null;
+        }
+
+        Path target = resolve(cacheKey, fileSequence.incrementAndGet());
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName()
+            .toString(), ".part");
+
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                if (size > 0) {
+                    storage.read(containerType, key, 0, size, out);
+                }
+            }
+            if (Files.size(temp) != size) {
+                throw new IOException("Incomplete cache fill: " + cacheKey);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        fillCount.incrementAndGet();
+
+        StoredFileHandle handle = new StoredFileHandle(metadata, target);
+        admit(cacheKey, new CacheEntry(handle, size));
+        return handle;
+    }
+
+    /**
+     * 색인에 등록하고, 최대 크기를 넘으면 가장 오래 사용하지 않은 파일부터 제거합니다.<br/>
+     * 제거된 파일은 이미 전송 중일 수 있으므로 유예 시간 뒤에 지웁니다.
+     */
+    private void admit(String cacheKey, CacheEntry entry) {
+        List<Path> evicted = new ArrayList<>();
+
+        synchronized (store) {
+            CacheEntry previous = store.put(cacheKey, entry);
+            if (previous != null) {
+                usedBytes -= previous.size;
+                evicted.add(previous.handle.getLocalPath());
+            }
+            usedBytes += entry.size;
+
+            Iterator<Map.Entry<String, CacheEntry>> iterator = store.entrySet()
+                .iterator();
+            while (usedBytes > maxSizeBytes && iterator.hasNext()) {
+                Map.Entry<String, CacheEntry> eldest = iterator.next();
+                if (eldest.getKey()
+                    .equals(cacheKey)) {
+                    continue;
+                }
+                iterator.remove();
+                usedBytes -= eldest.getValue().size;
+                evicted.add(eldest.getValue().handle.getLocalPath());
+                evictionCount.incrementAndGet();
+            }
+        }
+
+        evicted.forEach(this::scheduleDeletion);
+    }
+
+    /**
+     * 제거된 캐시 파일을 유예 시간 뒤에 지우도록 예약합니다.
+     */
+    private void scheduleDeletion(Path path) {
+        pendingDeletions.add(new PendingDeletion(path, System.currentTimeMillis() + evictionGraceMillis));
+    }
+
+    /**
+     * 캐시 키에 해당하는 캐시 파일 경로를 반환합니다. (키 해시로 파일명을 만들어 경로 문자를 다루지 않음)<br/>
+     * 일련번호를 붙여 채울 때마다 다른 파일명을 사용합니다.
+     */
+    private Path resolve(String cacheKey, long sequence) {
+        String hash = ContentHashUtil.toHex(ContentHashUtil.newDigest()
+            .digest(cacheKey.getBytes(StandardCharsets.UTF_8)));
+
+        return root.resolve(hash.substring(0, 2))
+            .resolve(hash + "." + sequence);
+    }
+
+    private StoredFileHandle await(CompletableFuture<StoredFileHandle> inFlight) throws IOException {
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for cache fill");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 디스크 캐시 파일 삭제 실패 - 경로: {}", path, e);
+        }
+    }
+
+    /**
+     * 캐시 항목 (파일 정보와 크기)
+     */
+    private static class CacheEntry {
+
+        private final StoredFileHandle handle;
+
+        private final long size;
+
+        private CacheEntry(StoredFileHandle handle, long size) {
+            this.handle = handle;
+            this.size = size;
+        }
+    }
+
+    /**
+     * 삭제 대기 중인 캐시 파일 (경로와 삭제 가능 시각)
+     */
+    private static class PendingDeletion {
+
+        private final Path path;
+
+        private final long deleteAfter;
+
+        private PendingDeletion(Path path, long deleteAfter) {
+            this.path = path;
+            this.deleteAfter = deleteAfter;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.colon.mattfolio.common.storage;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사진 디스크 캐시의 현재 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PhotoDiskCacheStats {
+
+    @Schema(description = "디스크 캐시 사용 여부")
+    private boolean enabled;
+
+    @Schema(description = "캐시된 파일 수")
+    private int size;
+
+    @Schema(description = "캐시된 파일 전체 크기 (byte)")
+    private long usedBytes;
+
+    @Schema(description = "최대 캐시 크기 (byte)")
+    private long maxBytes;
+
+    @Schema(description = "적중 건수")
+    private long hitCount;
+
+    @Schema(description = "미적중 건수")
+    private long missCount;
+
+    @Schema(description = "저장소에서 내려받아 캐시에 채운 건수")
+    private long fillCount;
+
+    @Schema(description = "진행 중인 동일 파일 채우기에 합류한 건수")
+    private long coalescedCount;
+
+    @Schema(description = "크기 제한으로 캐시하지 않은 건수")
+    private long bypassCount;
+
+    @Schema(description = "캐시 채우기 실패 건수")
+    private long fillFailureCount;
+
+    @Schema(description = "용량 초과로 제거된 건수")
+    private long evictionCount;
+
+    @Schema(description = "제거 후 삭제 유예 중인 파일 수")
+    private int pendingDeletionCount;
+
+    @Schema(description = "적중률 (0~1)")
+    private double hitRate;
+}
@@ -0,0 +1,96 @@
+package com.colon.mattfolio.common.storage;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.common.enumType.StorageType;
+import com.colon.mattfolio.common.exception.PhotoException;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 사진 파일 저장소 인터페이스<br/>
+ * <br/>
+ * storage.type 설정에 따라 구현체가 하나만 빈으로 등록됩니다.<br/>
+ * - azure (기본값): BlobStorageService - Azure Blob Storage<br/>
+ * - local: LocalPhotoStorage - 로컬 파일 시스템 (네트워크 없는 부하 테스트/CI, 온프레미스 설치용)
+ */
+public interface PhotoStorage {
+
+    /**
+     * 저장소 구분을 반환합니다.
+     *
+     * @return 저장소 구분
+     */
+    StorageType getType();
+
+    /**
+     * 로컬 파일을 저장소에 저장합니다. - 논블로킹
+     *
+     * @param containerType 저장할 컨테이너
+     * @param faceId 파일 키 앞에 붙일 식별자 (없으면 빈 문자열)
+     * @param originalFilename 원본 파일명
+     * @param source 저장할 로컬 파일 경로
+     * @param contentType Content-Type (없으면 null)
+     * @return 저장된 파일 정보를 발행하는 Mono
+     */
+    Mono<StoredFile> storeAsync(BlobContainerType containerType, String faceId, String originalFilename, Path source, String contentType);
+
+    /**
+     * 로컬 파일을 저장소에 저장합니다.
+     *
+     * @see #storeAsync(BlobContainerType, String, String, Path, String)
+     */
+    default StoredFile store(BlobContainerType containerType, String faceId, String originalFilename, Path source, String contentType) {
+        return storeAsync(containerType, faceId, originalFilename, source, contentType).block();
+    }
+
+    /**
+     * 로컬 파일을 지정한 키로 저장소에 저장합니다. - 논블로킹<br/>
+     * 썸네일 등 파생 이미지를 원본과 같은 위치(원본 키 기반)에 저장할 때 사용하며, 같은 키가 있으면 덮어씁니다.
+     *
+     * @param containerType 저장할 컨테이너
+     * @param key 파일 키
+     * @param source 저장할 로컬 파일 경로
+     * @param contentType Content-Type (없으면 null)
+     * @return 저장된 파일 정보를 발행하는 Mono
+     */
+    Mono<StoredFile> storeAtAsync(BlobContainerType containerType, String key, Path source, String contentType);
+
+    /**
+     * 저장된 파일의 메타데이터를 조회합니다.
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @return 파일 메타데이터
+     * @throws PhotoException 파일이 존재하지 않는 경우 발생하는 예외 (FILE_NOT_FOUND)
+     */
+    StoredFileMetadata stat(BlobContainerType containerType, String key);
+
+    /**
+     * 저장된 파일의 지정한 구간을 출력 스트림으로 전송합니다.<br/>
+     * 파일 전체를 메모리에 올리지 않고 스트리밍합니다.
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @param offset 시작 위치 (byte)
+     * @param length 전송할 길이 (byte)
+     * @param out 출력 스트림 (이 메서드에서 닫지 않음)
+     * @throws IOException 전송 중 발생하는 예외
+     */
+    void read(BlobContainerType containerType, String key, long offset, long length, OutputStream out) throws IOException;
+
+    /**
+     * 저장된 파일의 로컬 경로를 반환합니다.<br/>
+     * 로컬 파일 시스템 저장소인 경우 웹 서버의 sendfile(커널 내 전송)을 사용할 수 있도록 경로를 제공합니다.
+     *
+     * @param containerType 컨테이너
+     * @param key 파일 키
+     * @return 로컬 파일 경로 (원격 저장소인 경우 null)
+     */
+    default Path getLocalPath(BlobContainerType containerType, String key) {
+        return null;
+    }
+}
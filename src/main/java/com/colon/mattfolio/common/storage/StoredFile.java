@@ -0,0 +1,28 @@
+package com.colon.mattfolio.common.storage;
+
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장소에 저장된 파일 정보
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoredFile {
+
+    // 저장된 컨테이너
+    private final BlobContainerType containerType;
+
+    // 컨테이너 내 파일 키 (Blob 이름 / 로컬 파일명)
+    private final String key;
+
+    // 저장된 파일 URL
+    private final String url;
+
+    // 파일 크기 (byte)
+    private final long size;
+}
@@ -0,0 +1,21 @@
+package com.colon.mattfolio.common.storage;
+
+import java.nio.file.Path;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 다운로드할 파일의 메타데이터와 로컬 경로<br/>
+ * 로컬 경로가 있으면(로컬 저장소 또는 디스크 캐시) 웹 서버 sendfile 등 파일 기반 전송을 사용할 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StoredFileHandle {
+
+    // 파일 메타데이터
+    private final StoredFileMetadata metadata;
+
+    // 로컬 파일 경로 (원격 저장소에서 직접 전송해야 하는 경우 null)
+    private final Path localPath;
+}
@@ -0,0 +1,26 @@
+package com.colon.mattfolio.common.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 저장소에 저장된 파일의 메타데이터
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoredFileMetadata {
+
+    // 파일 크기 (byte)
+    private final long size;
+
+    // 파일 버전 식별자 (따옴표 포함 ETag 형식)
+    private final String eTag;
+
+    // Content-Type (알 수 없는 경우 null)
+    private final String contentType;
+
+    // 마지막 수정 일시 (epoch millis)
+    private final long lastModified;
+}
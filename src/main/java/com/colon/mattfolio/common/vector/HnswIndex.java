@@ -0,0 +1,632 @@
+package com.colon.mattfolio.common.vector;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.Getter;
+
+/**
+ * 코사인 유사도 기반 근사 최근접 이웃(ANN) 검색용 HNSW(Hierarchical Navigable Small World) 인덱스<br/>
+ * <br/>
+ * 저장 구조:<br/>
+ * - 벡터는 L2 정규화하여 블록(1024개 x 차원) 단위 float[]에 연속 저장하므로 객체 오버헤드와 GC 부담이 적음<br/>
+ * - 벡터 블록은 노드가 채워질 때 할당하므로 메모리는 등록된 벡터 수에 비례하여 늘어남<br/>
+ * - 노드별 레벨 연결 목록은 int[] ([0]: 이웃 수, [1..]: 이웃 노드 번호)로 저장<br/>
+ * - 용량(maxElements)은 최대 등록 수 상한이며, 초과하면 삽입이 거절됨<br/>
+ * <br/>
+ * 동시성:<br/>
+ * - 삽입은 여러 스레드에서 동시에 수행할 수 있으며, 이웃 목록은 노드별(스트라이프) 잠금으로 보호<br/>
+ * - 최상위 레벨을 갱신하는 삽입만 진입점 잠금을 끝까지 점유<br/>
+ * - 검색은 잠금 없이 진행하고 이웃 목록을 읽을 때만 해당 노드 잠금으로 복사<br/>
+ * - 스냅샷은 진행 중인 삽입이 끝나기를 기다린 뒤 일관된 상태를 저장<br/>
+ * <br/>
+ * 삭제는 지원하지 않습니다.
+ */
+public class HnswIndex {
+
+    // 스냅샷 파일 식별자 ("HNSW") 및 형식 버전
+    private static final int MAGIC = 0x484E5357;
+
+    private static final int VERSION = 1;
+
+    // 이웃 목록 잠금 스트라이프 수
+    private static final int LOCK_STRIPES = 1024;
+
+    // 레벨 상한 (확률적으로 도달하지 않는 높이)
+    private static final int MAX_LEVEL = 16;
+
+    // 벡터 블록 하나에 담는 노드 수 (2^10)
+    private static final int BLOCK_SHIFT = 10;
+
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    // 라벨은 등록했지만 노드가 아직 할당되지 않은 상태
+    private static final int RESERVED = -1;
+
+    // 벡터를 생성한 특징 추출 모델 이름 (다른 모델의 스냅샷을 섞어 쓰지 않기 위함)
+    @Getter
+    private final String model;
+
+    @Getter
+    private final int dimension;
+
+    @Getter
+    private final int maxElements;
+
+    // 레벨 1 이상 노드당 최대 이웃 수 (레벨 0은 2배)
+    @Getter
+    private final int m;
+
+    private final int maxM0;
+
+    // 삽입 시 탐색할 후보 수
+    @Getter
+    private final int efConstruction;
+
+    // 검색 시 탐색할 후보 수 (클수록 정확하고 느림)
+    @Getter
+    private volatile int efSearch;
+
+    private final double levelMultiplier;
+
+    private final AtomicReferenceArray<float[]> vectorBlocks;
+
+    private final String[] labels;
+
+    private final int[] levels;
+
+    private final int[][][] links;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final Map<String, Integer> labelToNode = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    // 최상위 레벨 갱신과 진입점 변경을 직렬화
+    private final ReentrantLock entryLock = new ReentrantLock();
+
+    // 삽입(공유)과 스냅샷(배타)을 구분
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    private volatile EntryPoint entryPoint;
+
+    public HnswIndex(String model, int dimension, int maxElements, int m, int efConstruction, int efSearch) {
+        if (dimension < 1 || maxElements < 1 || m < 2) {
+            throw new IllegalArgumentException("dimension, maxElements는 1 이상, m은 2 이상이어야 합니다.");
+        }
+
+        this.model = model;
+        this.dimension = dimension;
+        this.maxElements = maxElements;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = Math.max(efConstruction, m);
+        this.efSearch = Math.max(1, efSearch);
+        this.levelMultiplier = 1 / Math.log(m);
+        this.vectorBlocks = new AtomicReferenceArray<>((maxElements + BLOCK_SIZE - 1) >>> BLOCK_SHIFT);
+        this.labels = new String[maxElements];
+        this.levels = new int[maxElements];
+        this.links = new int[maxElements][][];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 벡터를 추가합니다.
+     *
+     * @param label 벡터를 식별하는 라벨 (검색 결과로 반환)
+     * @param vector 추가할 벡터 (정규화하여 복사 저장하므로 호출한 쪽 배열은 변경되지 않음)
+     * @return 추가되면 true, 같은 라벨이 이미 있으면 false
+     * @throws IllegalStateException 용량을 초과한 경우
+     */
+    public boolean add(String label, float[] vector) {
+        float[] query = normalize(vector);
+
+        snapshotLock.readLock()
+            .lock();
+        try {
+            if (labelToNode.putIfAbsent(label, RESERVED) != null) {
+                return false;
+            }
+
+            int node;
+            try {
+                node = allocate();
+            } catch (IllegalStateException e) {
+                labelToNode.remove(label);
+                throw e;
+            }
+
+            int level = randomLevel();
+            writeVector(node, query);
+            labels[node] = label;
+            levels[node] = level;
+            int[][] nodeLinks = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                nodeLinks[l] = new int[maxNeighbors(l) + 1];
+            }
+            links[node] = nodeLinks;
+
+            insert(node, query, level);
+            labelToNode.put(label, node);
+            return true;
+        } finally {
+            snapshotLock.readLock()
+                .unlock();
+        }
+    }
+
+    /**
+     * 라벨이 등록되어 있는지 확인합니다.
+     */
+    public boolean contains(String label) {
+        return labelToNode.containsKey(label);
+    }
+
+    /**
+     * 라벨로 등록된 벡터를 반환합니다.
+     *
+     * @param label 벡터 라벨
+     * @return 정규화된 벡터의 복사본 (등록되지 않았거나 등록 중이면 null)
+     */
+    public float[] getVector(String label) {
+        Integer node = labelToNode.get(label);
+        if (node == null || node == RESERVED) {
+            return null;
+        }
+
+        int offset = offset(node);
+        return Arrays.copyOfRange(block(node), offset, offset + dimension);
+    }
+
+    /**
+     * 질의 벡터와 가장 유사한 벡터를 찾습니다.
+     *
+     * @param vector 질의 벡터
+     * @param k 반환할 최대 결과 수
+     * @return 유사도가 높은 순서의 결과 목록
+     */
+    public List<VectorSearchResult> search(float[] vector, int k) {
+        EntryPoint entry = entryPoint;
+        if (entry == null || k < 1) {
+            return Collections.emptyList();
+        }
+
+        float[] query = normalize(vector);
+        Candidate closest = greedyClosest(query, new Candidate(entry.node, distance(query, entry.node)), entry.level, 0);
+        List<Candidate> found = searchLayer(query, closest, Math.max(efSearch, k), 0);
+
+        List<VectorSearchResult> results = new ArrayList<>(Math.min(k, found.size()));
+        for (int i = 0; i < found.size() && i < k; i++) {
+            Candidate candidate = found.get(i);
+            results.add(new VectorSearchResult(labels[candidate.node], 1 - candidate.distance));
+        }
+        return results;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public void setEfSearch(int efSearch) {
+        this.efSearch = Math.max(1, efSearch);
+    }
+
+    /**
+     * 현재 최상위 레벨을 반환합니다. (비어 있으면 -1)
+     */
+    public int getMaxLevel() {
+        EntryPoint entry = entryPoint;
+        return entry == null ? -1 : entry.level;
+    }
+
+    /**
+     * 인덱스를 파일로 저장합니다. 임시 파일에 기록한 뒤 교체하므로 저장 도중 실패해도 기존 스냅샷은 유지됩니다.<br/>
+     * 저장하는 동안 새 삽입은 대기하며, 검색은 계속 진행됩니다.
+     *
+     * @param path 저장할 파일 경로
+     */
+    public void save(Path path) throws IOException {
+        Path parent = path.toAbsolutePath()
+            .getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName()
+            .toString(), ".tmp");
+
+        snapshotLock.writeLock()
+            .lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            int count = size.get();
+            EntryPoint entry = entryPoint;
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(model);
+            out.writeInt(dimension);
+            out.writeInt(m);
+            out.writeInt(efConstruction);
+            out.writeInt(count);
+            out.writeInt(entry == null ? -1 : entry.node);
+            out.writeInt(entry == null ? -1 : entry.level);
+
+            for (int node = 0; node < count; node++) {
+                out.writeUTF(labels[node]);
+                out.writeInt(levels[node]);
+                float[] block = block(node);
+                int offset = offset(node);
+                for (int i = 0; i < dimension; i++) {
+                    out.writeFloat(block[offset + i]);
+                }
+                for (int[] list : links[node]) {
+                    out.writeInt(list[0]);
+                    for (int i = 1; i <= list[0]; i++) {
+                        out.writeInt(list[i]);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            snapshotLock.writeLock()
+                .unlock();
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 파일로 저장된 인덱스를 복원합니다.
+     *
+     * @param path 스냅샷 파일 경로
+     * @param maxElements 복원할 인덱스의 용량 (저장된 벡터 수보다 작으면 저장된 벡터 수를 사용)
+     * @param efSearch 검색 시 탐색할 후보 수
+     * @return 복원된 인덱스
+     * @throws IOException 파일을 읽을 수 없거나 형식이 올바르지 않은 경우
+     */
+    public static HnswIndex load(Path path, int maxElements, int efSearch) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("HNSW 스냅샷 형식이 아닙니다: " + path);
+            }
+
+            String model = in.readUTF();
+            int dimension = in.readInt();
+            int m = in.readInt();
+            int efConstruction = in.readInt();
+            int count = in.readInt();
+            int entryNode = in.readInt();
+            int entryLevel = in.readInt();
+
+            HnswIndex index = new HnswIndex(model, dimension, Math.max(maxElements, count), m, efConstruction, efSearch);
+            for (int node = 0; node < count; node++) {
+                String label = in.readUTF();
+                int level = in.readInt();
+                index.labels[node] = label;
+                index.levels[node] = level;
+                float[] vector = new float[dimension];
+                for (int i = 0; i < dimension; i++) {
+                    vector[i] = in.readFloat();
+                }
+                index.writeVector(node, vector);
+
+                int[][] nodeLinks = new int[level + 1][];
+                for (int l = 0; l <= level; l++) {
+                    int[] list = new int[index.maxNeighbors(l) + 1];
+                    list[0] = in.readInt();
+                    for (int i = 1; i <= list[0]; i++) {
+                        list[i] = in.readInt();
+                    }
+                    nodeLinks[l] = list;
+                }
+                index.links[node] = nodeLinks;
+                index.labelToNode.put(label, node);
+            }
+            index.size.set(count);
+            index.entryPoint = entryNode < 0 ? null : new EntryPoint(entryNode, entryLevel);
+            return index;
+        }
+    }
+
+    /**
+     * 새 노드를 각 레벨의 이웃과 연결합니다.
+     */
+    private void insert(int node, float[] query, int level) {
+        // 최상위 레벨보다 높은 노드는 진입점을 바꾸므로 연결이 끝날 때까지 진입점 잠금을 유지
+        entryLock.lock();
+        EntryPoint entry = entryPoint;
+        boolean ownsEntry = entry == null || level > entry.level;
+        if (!ownsEntry) {
+            entryLock.unlock();
+        }
+
+        try {
+            if (entry == null) {
+                entryPoint = new EntryPoint(node, level);
+                return;
+            }
+
+            Candidate closest = greedyClosest(query, new Candidate(entry.node, distance(query, entry.node)), entry.level, level);
+
+            for (int l = Math.min(level, entry.level); l >= 0; l--) {
+                List<Candidate> found = searchLayer(query, closest, efConstruction, l);
+                int[] neighbors = selectNeighbors(found, m);
+
+                synchronized (lock(node)) {
+                    int[] list = links[node][l];
+                    list[0] = neighbors.length;
+                    System.arraycopy(neighbors, 0, list, 1, neighbors.length);
+                }
+                for (int neighbor : neighbors) {
+                    connect(neighbor, node, l);
+                }
+                closest = found.get(0);
+            }
+
+            if (ownsEntry) {
+                entryPoint = new EntryPoint(node, level);
+            }
+        } finally {
+            if (ownsEntry) {
+                entryLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 이웃 노드의 연결 목록에 새 노드를 추가합니다. 목록이 가득 차면 휴리스틱으로 다시 선택합니다.
+     */
+    private void connect(int neighbor, int node, int level) {
+        synchronized (lock(neighbor)) {
+            int[] list = links[neighbor][level];
+            int count = list[0];
+            if (count < list.length - 1) {
+                list[count + 1] = node;
+                list[0] = count + 1;
+                return;
+            }
+
+            List<Candidate> candidates = new ArrayList<>(count + 1);
+            candidates.add(new Candidate(node, distance(neighbor, node)));
+            for (int i = 1; i <= count; i++) {
+                candidates.add(new Candidate(list[i], distance(neighbor, list[i])));
+            }
+            candidates.sort(Comparator.comparingDouble(Candidate::distance));
+
+            int[] selected = selectNeighbors(candidates, list.length - 1);
+            list[0] = selected.length;
+            System.arraycopy(selected, 0, list, 1, selected.length);
+        }
+    }
+
+    /**
+     * 상위 레벨에서 질의와 가장 가까운 노드를 탐욕적으로 찾으며 내려갑니다.
+     *
+     * @param fromLevel 시작 레벨
+     * @param toLevel 이 레벨보다 높은 레벨까지만 탐색 (해당 레벨은 탐색하지 않음)
+     */
+    private Candidate greedyClosest(float[] query, Candidate start, int fromLevel, int toLevel) {
+        Candidate closest = start;
+        for (int l = fromLevel; l > toLevel; l--) {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (int neighbor : neighbors(closest.node, l)) {
+                    float d = distance(query, neighbor);
+                    if (d < closest.distance) {
+                        closest = new Candidate(neighbor, d);
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * 한 레벨에서 질의와 가까운 후보를 ef개까지 찾습니다.
+     *
+     * @return 거리가 가까운 순서의 후보 목록
+     */
+    private List<Candidate> searchLayer(float[] query, Candidate start, int ef, int level) {
+        BitSet visited = new BitSet(size.get());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance));
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance)
+            .reversed());
+
+        visited.set(start.node);
+        candidates.add(start);
+        results.add(start);
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (results.size() >= ef && current.distance > results.peek().distance) {
+                break;
+            }
+
+            for (int neighbor : neighbors(current.node, level)) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+
+                float d = distance(query, neighbor);
+                if (results.size() < ef || d < results.peek().distance) {
+                    Candidate candidate = new Candidate(neighbor, d);
+                    candidates.add(candidate);
+                    results.add(candidate);
+                    if (results.size() > ef) {
+                        results.poll();
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Candidate::distance));
+        return sorted;
+    }
+
+    /**
+     * 거리순 후보 중에서 이웃을 선택합니다. (HNSW 휴리스틱: 이미 선택한 이웃보다 질의에 더 가까운 후보만 선택)<br/>
+     * 같은 방향의 후보가 몰리지 않아 그래프 연결성이 좋아집니다.
+     */
+    private int[] selectNeighbors(List<Candidate> sortedCandidates, int max) {
+        if (sortedCandidates.size() <= max) {
+            return sortedCandidates.stream()
+                .mapToInt(Candidate::node)
+                .toArray();
+        }
+
+        int[] selected = new int[max];
+        int count = 0;
+        for (Candidate candidate : sortedCandidates) {
+            if (count >= max) {
+                break;
+            }
+
+            boolean diverse = true;
+            for (int i = 0; i < count; i++) {
+                if (distance(candidate.node, selected[i]) < candidate.distance) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected[count++] = candidate.node;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    /**
+     * 노드의 이웃 목록을 복사하여 반환합니다.
+     */
+    private int[] neighbors(int node, int level) {
+        synchronized (lock(node)) {
+            int[] list = links[node][level];
+            return Arrays.copyOfRange(list, 1, list[0] + 1);
+        }
+    }
+
+    private int allocate() {
+        while (true) {
+            int node = size.get();
+            if (node >= maxElements) {
+                throw new IllegalStateException("HNSW 인덱스 용량을 초과했습니다: " + maxElements);
+            }
+            if (size.compareAndSet(node, node + 1)) {
+                return node;
+            }
+        }
+    }
+
+    /**
+     * 노드의 벡터를 저장합니다. 노드가 속한 블록이 아직 없으면 할당합니다.<br/>
+     * 동시에 두 스레드가 같은 블록을 할당하려 하면 먼저 등록된 블록을 사용합니다.
+     */
+    private void writeVector(int node, float[] vector) {
+        int blockIndex = node >>> BLOCK_SHIFT;
+        float[] block = vectorBlocks.get(blockIndex);
+        if (block == null) {
+            vectorBlocks.compareAndSet(blockIndex, null, new float[BLOCK_SIZE * dimension]);
+            block = vectorBlocks.get(blockIndex);
+        }
+        System.arraycopy(vector, 0, block, offset(node), dimension);
+    }
+
+    private float[] block(int node) {
+        return vectorBlocks.get(node >>> BLOCK_SHIFT);
+    }
+
+    private int offset(int node) {
+        return (node & (BLOCK_SIZE - 1)) * dimension;
+    }
+
+    private int randomLevel() {
+        double random = 1 - ThreadLocalRandom.current()
+            .nextDouble();
+        return Math.min(MAX_LEVEL, (int) (-Math.log(random) * levelMultiplier));
+    }
+
+    private int maxNeighbors(int level) {
+        return level == 0 ? maxM0 : m;
+    }
+
+    private Object lock(int node) {
+        return locks[node % LOCK_STRIPES];
+    }
+
+    /**
+     * 정규화된 질의와 노드 사이의 코사인 거리 (1 - 코사인 유사도)
+     */
+    private float distance(float[] query, int node) {
+        float[] block = block(node);
+        int offset = offset(node);
+        float dot = 0;
+        for (int i = 0; i < dimension; i++) {
+            dot += query[i] * block[offset + i];
+        }
+        return 1 - dot;
+    }
+
+    private float distance(int a, int b) {
+        float[] blockA = block(a);
+        float[] blockB = block(b);
+        int offsetA = offset(a);
+        int offsetB = offset(b);
+        float dot = 0;
+        for (int i = 0; i < dimension; i++) {
+            dot += blockA[offsetA + i] * blockB[offsetB + i];
+        }
+        return 1 - dot;
+    }
+
+    private float[] normalize(float[] vector) {
+        if (vector == null || vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 올바르지 않습니다. (기대: " + dimension + ")");
+        }
+
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+
+        float[] normalized = new float[dimension];
+        if (norm > 0) {
+            for (int i = 0; i < dimension; i++) {
+                normalized[i] = (float) (vector[i] / norm);
+            }
+        }
+        return normalized;
+    }
+
+    private record Candidate(int node, float distance) {
+    }
+
+    private record EntryPoint(int node, int level) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.colon.mattfolio.common.vector;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 벡터 인덱스 검색 결과 한 건
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class VectorSearchResult {
+
+    // 벡터를 등록할 때 지정한 라벨
+    private final String label;
+
+    // 질의 벡터와의 코사인 유사도 (-1~1, 클수록 유사)
+    private final float similarity;
+}
@@ -97,4 +97,14 @@ public class AccountEntity extends BaseTimeEntity {
         this.name = name;
         return this;
     }
+
+    /**
+     * 기준 얼굴이 등록되어 얼굴 미등록(FACE_UNIDENTIFIED) 상태인 사용자를 정상(NORMAL) 상태로 변경합니다. <br/>
+     * 다른 상태(탈퇴, 정지 등)는 유지합니다.
+     */
+    public void identifyFace() {
+        if (this.status == AccountStatusType.FACE_UNIDENTIFIED) {
+            this.status = AccountStatusType.NORMAL;
+        }
+    }
 }
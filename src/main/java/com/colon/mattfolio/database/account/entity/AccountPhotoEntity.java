@@ -0,0 +1,69 @@
+package com.colon.mattfolio.database.account.entity;
+
+import java.time.LocalDateTime;
+
+import com.colon.mattfolio.database.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AccountPhotoEntity 클래스는 MF_ACCOUNT_PHOTO 테이블에 매핑되며, "내가 나온 사진" 조회 전용 읽기 모델입니다. <br/>
+ * 회원 얼굴 태그(MF_PHOTO_ACCOUNT_TAG)가 기록될 때 사진 정보를 함께 복사해 두므로, 조회 시 MF_PHOTO와 조인하지 않습니다. <br/>
+ * (ACCOUNT_ID, CAPTURED_AT, PHOTO_ID) 인덱스를 따라 키셋 페이징하므로 페이지 깊이와 관계없이 조회 비용이 일정합니다.
+ */
+@Getter
+@Builder
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MF_ACCOUNT_PHOTO", uniqueConstraints = @UniqueConstraint(name = "UK_ACCOUNT_PHOTO", columnNames = { "ACCOUNT_ID", "PHOTO_ID" }), indexes = @Index(name = "IDX_ACCOUNT_PHOTO_CAPTURED", columnList = "ACCOUNT_ID, CAPTURED_AT, PHOTO_ID"))
+public class AccountPhotoEntity extends BaseTimeEntity {
+
+    // 읽기 모델 고유 ID (PRIMARY KEY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ACCOUNT_PHOTO_ID")
+    private Long accountPhotoId;
+
+    // 회원 ID
+    @Column(name = "ACCOUNT_ID", nullable = false)
+    private Long accountId;
+
+    // 사진 ID
+    @Column(name = "PHOTO_ID", nullable = false)
+    private Long photoId;
+
+    // 촬영 시각 (정렬 기준, 사진 등록 시각)
+    @Column(name = "CAPTURED_AT", nullable = false)
+    private LocalDateTime capturedAt;
+
+    // 업로드된 파일 URL
+    @Column(name = "FILE_URL", nullable = true, length = 1000)
+    private String fileUrl;
+
+    // 크기(px)별 파생 이미지(썸네일 등) URL (JSON)
+    @Lob
+    @Column(name = "DERIVATIVE_URLS", nullable = true, columnDefinition = "LONGTEXT")
+    private String derivativeUrls;
+
+    // 회원 얼굴로 판단된 사진 내 얼굴 순번
+    @Column(name = "FACE_INDEX", nullable = false)
+    private Integer faceIndex;
+
+    // 기준 얼굴과의 유사도
+    @Column(name = "SIMILARITY", nullable = false)
+    private Float similarity;
+}
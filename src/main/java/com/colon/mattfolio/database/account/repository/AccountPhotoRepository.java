@@ -0,0 +1,67 @@
+package com.colon.mattfolio.database.account.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.colon.mattfolio.database.account.entity.AccountPhotoEntity;
+
+/**
+ * AccountPhotoRepository 인터페이스는 AccountPhotoEntity에 대한 데이터 접근 계층을 제공합니다. <br/>
+ * Spring Data JPA를 사용하여 기본 CRUD 및 사용자 정의 메서드를 자동으로 구현합니다.
+ */
+public interface AccountPhotoRepository extends JpaRepository<AccountPhotoEntity, Long> {
+
+    /**
+     * 회원이 나온 사진의 첫 페이지를 최근 촬영 순서로 조회합니다. <br/>
+     *
+     * @param accountId 회원 ID
+     * @param pageable 조회 건수 (페이지 번호는 항상 0)
+     * @return 사진 목록
+     */
+    List<AccountPhotoEntity> findByAccountIdOrderByCapturedAtDescPhotoIdDesc(Long accountId, Pageable pageable);
+
+    /**
+     * 이전 페이지의 마지막 사진(촬영 시각, 사진 ID) 다음부터 최근 촬영 순서로 조회합니다. (키셋 페이징) <br/>
+     * CAPTURED_AT &lt;= :capturedAt 조건으로 인덱스 범위를 먼저 좁히므로 OFFSET 없이 바로 다음 행부터 읽습니다.
+     *
+     * @param accountId 회원 ID
+     * @param capturedAt 이전 페이지 마지막 사진의 촬영 시각
+     * @param photoId 이전 페이지 마지막 사진의 ID
+     * @param pageable 조회 건수 (페이지 번호는 항상 0)
+     * @return 사진 목록
+     */
+    @Query("SELECT p FROM AccountPhotoEntity p WHERE p.accountId = :accountId AND p.capturedAt <= :capturedAt AND (p.capturedAt < :capturedAt OR p.photoId < :photoId) ORDER BY p.capturedAt DESC, p.photoId DESC")
+    List<AccountPhotoEntity> findNextPage(@Param("accountId") Long accountId, @Param("capturedAt") LocalDateTime capturedAt, @Param("photoId") Long photoId, Pageable pageable);
+
+    boolean existsByAccountIdAndPhotoId(Long accountId, Long photoId);
+
+    /**
+     * 읽기 모델에 없는 회원 얼굴 태그가 하나라도 있는지 확인합니다. (시작 시 이관 필요 여부 판단용) <br/>
+     * 테이블 전체 COUNT 대신 태그 ID 순서로 읽다가 첫 누락 행에서 멈추며, 누락 여부는 UK_ACCOUNT_PHOTO 인덱스로 확인합니다. <br/>
+     * 이관 대상(읽기 모델 도입 이전 태그)은 가장 오래된 태그이므로 이관 전에는 첫 행에서 바로 끝납니다.
+     *
+     * @return 읽기 모델에 없는 첫 태그 ID (없으면 null)
+     */
+    @Query(value = "SELECT t.TAG_ID FROM MF_PHOTO_ACCOUNT_TAG t "
+            + "WHERE NOT EXISTS (SELECT 1 FROM MF_ACCOUNT_PHOTO a WHERE a.ACCOUNT_ID = t.ACCOUNT_ID AND a.PHOTO_ID = t.PHOTO_ID) "
+            + "ORDER BY t.TAG_ID LIMIT 1", nativeQuery = true)
+    Long findFirstTagIdMissingFromReadModel();
+
+    /**
+     * 읽기 모델에 없는 회원 얼굴 태그를 MF_PHOTO 정보와 함께 일괄 복사합니다. (읽기 모델 도입 이전 태그 이관용) <br/>
+     *
+     * @return 복사된 행 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO MF_ACCOUNT_PHOTO (ACCOUNT_ID, PHOTO_ID, CAPTURED_AT, FILE_URL, DERIVATIVE_URLS, FACE_INDEX, SIMILARITY, CREATED_DATE) "
+            + "SELECT t.ACCOUNT_ID, t.PHOTO_ID, COALESCE(p.CREATED_DATE, t.CREATED_DATE, NOW()), p.FILE_URL, p.DERIVATIVE_URLS, t.FACE_INDEX, t.SIMILARITY, NOW() "
+            + "FROM MF_PHOTO_ACCOUNT_TAG t JOIN MF_PHOTO p ON p.PHOTO_ID = t.PHOTO_ID "
+            + "WHERE NOT EXISTS (SELECT 1 FROM MF_ACCOUNT_PHOTO a WHERE a.ACCOUNT_ID = t.ACCOUNT_ID AND a.PHOTO_ID = t.PHOTO_ID)", nativeQuery = true)
+    int copyMissingFromTags();
+}
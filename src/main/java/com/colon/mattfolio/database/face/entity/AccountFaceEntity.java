@@ -0,0 +1,57 @@
+package com.colon.mattfolio.database.face.entity;
+
+import com.colon.mattfolio.database.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AccountFaceEntity 클래스는 MF_ACCOUNT_FACE 테이블에 매핑되며, 회원이 등록한 기준 얼굴의 특징 벡터를 저장합니다. <br/>
+ * 새로 업로드된 사진의 얼굴은 이 기준 얼굴과 비교되어 회원 태그(MF_PHOTO_ACCOUNT_TAG)로 기록됩니다.
+ */
+@Getter
+@Builder
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MF_ACCOUNT_FACE", indexes = { @Index(name = "IDX_ACCOUNT_FACE_ACCOUNT", columnList = "ACCOUNT_ID"), @Index(name = "IDX_ACCOUNT_FACE_MODEL", columnList = "MODEL") })
+public class AccountFaceEntity extends BaseTimeEntity {
+
+    // 기준 얼굴 고유 ID (PRIMARY KEY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ACCOUNT_FACE_ID")
+    private Long accountFaceId;
+
+    // 회원 ID
+    @Column(name = "ACCOUNT_ID", nullable = false)
+    private Long accountId;
+
+    // 기준 얼굴 사진의 SHA-256 해시
+    @Column(name = "CONTENT_HASH", nullable = false, length = 64)
+    private String contentHash;
+
+    // 특징 추출 모델 이름 (모델이 바뀌면 기준 얼굴을 다시 등록해야 함)
+    @Column(name = "MODEL", nullable = false, length = 50)
+    private String model;
+
+    // 특징 벡터 차원
+    @Column(name = "DIMENSION", nullable = false)
+    private Integer dimension;
+
+    // 특징 벡터 (float32 big-endian 배열)
+    @Lob
+    @Column(name = "FEATURE", nullable = false, columnDefinition = "BLOB")
+    private byte[] feature;
+}
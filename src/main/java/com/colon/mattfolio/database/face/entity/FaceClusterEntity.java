@@ -0,0 +1,51 @@
+package com.colon.mattfolio.database.face.entity;
+
+import com.colon.mattfolio.database.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * FaceClusterEntity 클래스는 MF_FACE_CLUSTER 테이블에 매핑되며, 같은 인물로 판단된 얼굴 묶음(클러스터)을 저장합니다. <br/>
+ * 클러스터에 속한 얼굴은 MF_FACE_CLUSTER_MEMBER 테이블에 저장됩니다.
+ */
+@Getter
+@Builder
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MF_FACE_CLUSTER", indexes = @Index(name = "IDX_FACE_CLUSTER_NEEDS_REVIEW", columnList = "NEEDS_REVIEW"))
+public class FaceClusterEntity extends BaseTimeEntity {
+
+    // 클러스터 고유 ID (PRIMARY KEY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "CLUSTER_ID")
+    private Long clusterId;
+
+    // 대표 얼굴의 사진 ID (병합/분할 판단 기준)
+    @Column(name = "REPRESENTATIVE_PHOTO_ID", nullable = false)
+    private Long representativePhotoId;
+
+    // 대표 얼굴의 사진 내 순번
+    @Column(name = "REPRESENTATIVE_FACE_INDEX", nullable = false)
+    private Integer representativeFaceIndex;
+
+    // 소속 얼굴 수
+    @Column(name = "FACE_COUNT", nullable = false)
+    private Integer faceCount;
+
+    // 백그라운드 병합/분할 검토 필요 여부 (생성되거나 얼굴이 추가되면 true)
+    @Column(name = "NEEDS_REVIEW", nullable = false)
+    private Boolean needsReview;
+}
@@ -0,0 +1,63 @@
+package com.colon.mattfolio.database.face.entity;
+
+import com.colon.mattfolio.database.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * FaceClusterMemberEntity 클래스는 MF_FACE_CLUSTER_MEMBER 테이블에 매핑되며, 사진 속 얼굴 하나가 어느 클러스터에 속하는지 저장합니다. <br/>
+ * 얼굴은 (사진 ID, 사진 내 얼굴 순번)으로 식별하며, 한 얼굴은 하나의 클러스터에만 속합니다.
+ */
+@Getter
+@Builder
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MF_FACE_CLUSTER_MEMBER", uniqueConstraints = @UniqueConstraint(name = "UK_FACE_CLUSTER_MEMBER_FACE", columnNames = { "PHOTO_ID", "FACE_INDEX" }), indexes = @Index(name = "IDX_FACE_CLUSTER_MEMBER_CLUSTER", columnList = "CLUSTER_ID"))
+public class FaceClusterMemberEntity extends BaseTimeEntity {
+
+    // 소속 고유 ID (PRIMARY KEY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "MEMBER_ID")
+    private Long memberId;
+
+    // 소속 클러스터 ID
+    @Column(name = "CLUSTER_ID", nullable = false)
+    private Long clusterId;
+
+    // 얼굴이 있는 사진 ID
+    @Column(name = "PHOTO_ID", nullable = false)
+    private Long photoId;
+
+    // 사진 내 얼굴 순번 (Face API 감지 결과 순서)
+    @Column(name = "FACE_INDEX", nullable = false)
+    private Integer faceIndex;
+
+    // 배정 근거가 된 얼굴과의 유사도 (클러스터를 새로 만든 얼굴은 null)
+    @Column(name = "SIMILARITY", nullable = true)
+    private Float similarity;
+
+    /**
+     * 다른 클러스터로 옮깁니다.
+     *
+     * @param clusterId 옮길 클러스터 ID
+     * @param similarity 새 클러스터에 배정한 근거 유사도 (새로 만든 클러스터면 null)
+     */
+    public void moveTo(Long clusterId, Float similarity) {
+        this.clusterId = clusterId;
+        this.similarity = similarity;
+    }
+}
@@ -0,0 +1,47 @@
+package com.colon.mattfolio.database.face.entity;
+
+import com.colon.mattfolio.database.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * FaceDetectionCacheEntity 클래스는 MF_FACE_DETECTION_CACHE 테이블에 매핑되며, <br/>
+ * 이미지 내용 해시별 Face API 얼굴 감지 결과를 영구 캐시로 저장합니다.
+ */
+@Getter
+@Builder
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MF_FACE_DETECTION_CACHE")
+public class FaceDetectionCacheEntity extends BaseTimeEntity {
+
+    /**
+     * 이미지 내용의 SHA-256 해시 (PRIMARY KEY) <br/>
+     */
+    @Id
+    @Column(name = "CONTENT_HASH", nullable = false, length = 64)
+    private String contentHash;
+
+    /**
+     * 감지된 얼굴 수 <br/>
+     */
+    @Column(name = "FACE_COUNT", nullable = false)
+    private Integer faceCount;
+
+    /**
+     * Face API 얼굴 감지 결과 (JSON) <br/>
+     */
+    @Lob
+    @Column(name = "DETECTION_RESULT", nullable = false, columnDefinition = "LONGTEXT")
+    private String detectionResult;
+}
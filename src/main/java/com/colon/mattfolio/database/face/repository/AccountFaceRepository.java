@@ -0,0 +1,22 @@
+package com.colon.mattfolio.database.face.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.colon.mattfolio.database.face.entity.AccountFaceEntity;
+
+/**
+ * AccountFaceRepository 인터페이스는 AccountFaceEntity에 대한 데이터 접근 계층을 제공합니다. <br/>
+ * Spring Data JPA를 사용하여 기본 CRUD 및 사용자 정의 메서드를 자동으로 구현합니다.
+ */
+public interface AccountFaceRepository extends JpaRepository<AccountFaceEntity, Long> {
+
+    /**
+     * 지정한 특징 추출 모델로 등록된 기준 얼굴을 조회합니다. <br/>
+     *
+     * @param model 특징 추출 모델 이름
+     * @return 기준 얼굴 목록
+     */
+    List<AccountFaceEntity> findByModel(String model);
+}
@@ -0,0 +1,52 @@
+package com.colon.mattfolio.database.face.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.colon.mattfolio.database.face.entity.FaceClusterMemberEntity;
+
+/**
+ * FaceClusterMemberRepository 인터페이스는 FaceClusterMemberEntity에 대한 데이터 접근 계층을 제공합니다. <br/>
+ * Spring Data JPA를 사용하여 기본 CRUD 및 사용자 정의 메서드를 자동으로 구현합니다.
+ */
+public interface FaceClusterMemberRepository extends JpaRepository<FaceClusterMemberEntity, Long> {
+
+    /**
+     * 지정한 사진들의 얼굴 소속을 조회합니다. <br/>
+     *
+     * @param photoIds 사진 ID 목록
+     * @return 얼굴 소속 목록
+     */
+    List<FaceClusterMemberEntity> findByPhotoIdIn(Collection<Long> photoIds);
+
+    /**
+     * 얼굴이 이미 클러스터에 배정되었는지 확인합니다. <br/>
+     */
+    boolean existsByPhotoIdAndFaceIndex(Long photoId, Integer faceIndex);
+
+    /**
+     * 클러스터에 속한 얼굴을 조회합니다. <br/>
+     */
+    List<FaceClusterMemberEntity> findByClusterId(Long clusterId);
+
+    /**
+     * 클러스터에 속한 얼굴 수를 조회합니다. <br/>
+     */
+    long countByClusterId(Long clusterId);
+
+    /**
+     * 클러스터의 얼굴을 모두 다른 클러스터로 옮깁니다. (병합) <br/>
+     *
+     * @param sourceClusterId 흡수되는 클러스터 ID
+     * @param targetClusterId 흡수하는 클러스터 ID
+     * @return 옮긴 얼굴 수
+     */
+    @Modifying
+    @Query("UPDATE FaceClusterMemberEntity m SET m.clusterId = :targetClusterId WHERE m.clusterId = :sourceClusterId")
+    int moveCluster(@Param("sourceClusterId") Long sourceClusterId, @Param("targetClusterId") Long targetClusterId);
+}
@@ -0,0 +1,53 @@
+package com.colon.mattfolio.database.face.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.colon.mattfolio.database.face.entity.FaceClusterEntity;
+
+/**
+ * FaceClusterRepository 인터페이스는 FaceClusterEntity에 대한 데이터 접근 계층을 제공합니다. <br/>
+ * Spring Data JPA를 사용하여 기본 CRUD 및 사용자 정의 메서드를 자동으로 구현합니다.
+ */
+public interface FaceClusterRepository extends JpaRepository<FaceClusterEntity, Long> {
+
+    /**
+     * 병합/분할 검토가 필요한 클러스터를 오래된 순서로 조회합니다. <br/>
+     *
+     * @param pageable 조회 건수
+     * @return 검토 대상 클러스터 목록
+     */
+    List<FaceClusterEntity> findByNeedsReviewTrueOrderByClusterIdAsc(Pageable pageable);
+
+    /**
+     * 검토가 필요한 클러스터 수를 조회합니다. <br/>
+     */
+    long countByNeedsReviewTrue();
+
+    /**
+     * 클러스터의 얼굴 수를 변경하고 검토 대상으로 표시합니다. <br/>
+     * 동시 배정 시 갱신이 유실되지 않도록 DB에서 직접 더합니다.
+     *
+     * @param clusterId 클러스터 ID
+     * @param delta 변경할 얼굴 수 (음수면 감소)
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE FaceClusterEntity c SET c.faceCount = c.faceCount + :delta, c.needsReview = true WHERE c.clusterId = :clusterId")
+    int addFaceCount(@Param("clusterId") Long clusterId, @Param("delta") int delta);
+
+    /**
+     * 클러스터의 병합/분할 검토를 완료로 표시합니다. <br/>
+     *
+     * @param clusterId 클러스터 ID
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("UPDATE FaceClusterEntity c SET c.needsReview = false WHERE c.clusterId = :clusterId")
+    int markReviewed(@Param("clusterId") Long clusterId);
+}
@@ -0,0 +1,29 @@
+package com.colon.mattfolio.database.face.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.colon.mattfolio.database.face.entity.FaceDetectionCacheEntity;
+
+/**
+ * FaceDetectionCacheRepository 인터페이스는 FaceDetectionCacheEntity에 대한 데이터 접근 계층을 제공합니다. <br/>
+ * Spring Data JPA를 사용하여 기본 CRUD 및 사용자 정의 메서드를 자동으로 구현합니다.
+ */
+public interface FaceDetectionCacheRepository extends JpaRepository<FaceDetectionCacheEntity, String> {
+
+    /**
+     * 지정한 일시 이전에 생성된 캐시 항목을 일괄 삭제합니다. <br/>
+     * 
+     * @param expiredBefore 만료 기준 일시
+     * @return 삭제된 항목 수
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM FaceDetectionCacheEntity c WHERE c.createdDate < :expiredBefore")
+    int deleteExpired(@Param("expiredBefore") LocalDateTime expiredBefore);
+}
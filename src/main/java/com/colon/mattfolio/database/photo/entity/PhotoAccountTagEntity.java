@@ -0,0 +1,52 @@
+package com.colon.mattfolio.database.photo.entity;
+
+import com.colon.mattfolio.database.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PhotoAccountTagEntity 클래스는 MF_PHOTO_ACCOUNT_TAG 테이블에 매핑되며, 사진에 회원의 얼굴이 있음을 기록합니다. <br/>
+ * 회원 ID + 사진 ID 인덱스로 "내가 나온 사진"을 스캔 없이 조회합니다.
+ */
+@Getter
+@Builder
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MF_PHOTO_ACCOUNT_TAG", uniqueConstraints = @UniqueConstraint(name = "UK_PHOTO_ACCOUNT_TAG", columnNames = { "PHOTO_ID", "ACCOUNT_ID" }), indexes = @Index(name = "IDX_PHOTO_ACCOUNT_TAG_ACCOUNT", columnList = "ACCOUNT_ID, PHOTO_ID"))
+public class PhotoAccountTagEntity extends BaseTimeEntity {
+
+    // 태그 고유 ID (PRIMARY KEY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "TAG_ID")
+    private Long tagId;
+
+    // 사진 ID
+    @Column(name = "PHOTO_ID", nullable = false)
+    private Long photoId;
+
+    // 회원 ID
+    @Column(name = "ACCOUNT_ID", nullable = false)
+    private Long accountId;
+
+    // 회원 얼굴로 판단된 사진 내 얼굴 순번
+    @Column(name = "FACE_INDEX", nullable = false)
+    private Integer faceIndex;
+
+    // 기준 얼굴과의 유사도
+    @Column(name = "SIMILARITY", nullable = false)
+    private Float similarity;
+}
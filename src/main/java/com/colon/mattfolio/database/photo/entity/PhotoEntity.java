@@ -0,0 +1,65 @@
+package com.colon.mattfolio.database.photo.entity;
+
+import com.colon.mattfolio.database.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PhotoEntity 클래스는 MF_PHOTO 테이블에 매핑되는 엔티티로, 처리된 사진의 내용 해시와 처리 결과를 저장합니다. <br/>
+ * 동일한 내용의 파일이 다시 업로드되면 이 정보를 재사용하여 얼굴 감지와 Blob 업로드를 생략합니다. <br/>
+ */
+@Getter
+@Builder
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MF_PHOTO")
+public class PhotoEntity extends BaseTimeEntity {
+
+    // 사진의 고유 ID (PRIMARY KEY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "PHOTO_ID")
+    private Long photoId;
+
+    // 파일 내용의 SHA-256 해시 (16진수 64자, UNIQUE)
+    @Column(name = "CONTENT_HASH", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    // 최초 업로드 시 원본 파일명
+    @Column(name = "ORIGINAL_FILE_NAME", nullable = true)
+    private String originalFileName;
+
+    // 파일 크기 (byte)
+    @Column(name = "FILE_SIZE", nullable = false)
+    private Long fileSize;
+
+    // 업로드된 파일 URL (얼굴이 감지되지 않아 업로드하지 않은 경우 null)
+    @Column(name = "FILE_URL", nullable = true, length = 1000)
+    private String fileUrl;
+
+    // 감지된 얼굴 수
+    @Column(name = "FACE_COUNT", nullable = false)
+    private Integer faceCount;
+
+    // Face API 얼굴 감지 결과 (JSON)
+    @Lob
+    @Column(name = "DETECTION_RESULT", nullable = true, columnDefinition = "LONGTEXT")
+    private String detectionResult;
+
+    // 크기(px)별 파생 이미지(썸네일 등) URL (JSON)
+    @Lob
+    @Column(name = "DERIVATIVE_URLS", nullable = true, columnDefinition = "LONGTEXT")
+    private String derivativeUrls;
+}
@@ -0,0 +1,17 @@
+package com.colon.mattfolio.database.photo.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.colon.mattfolio.database.photo.entity.PhotoAccountTagEntity;
+
+/**
+ * PhotoAccountTagRepository 인터페이스는 PhotoAccountTagEntity에 대한 데이터 접근 계층을 제공합니다. <br/>
+ * Spring Data JPA를 사용하여 기본 CRUD 및 사용자 정의 메서드를 자동으로 구현합니다.
+ */
+public interface PhotoAccountTagRepository extends JpaRepository<PhotoAccountTagEntity, Long> {
+
+    /**
+     * 사진에 회원 태그가 이미 있는지 확인합니다. <br/>
+     */
+    boolean existsByPhotoIdAndAccountId(Long photoId, Long accountId);
+}
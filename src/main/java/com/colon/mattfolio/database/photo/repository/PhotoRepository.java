@@ -0,0 +1,22 @@
+package com.colon.mattfolio.database.photo.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.colon.mattfolio.database.photo.entity.PhotoEntity;
+
+/**
+ * PhotoRepository 인터페이스는 PhotoEntity에 대한 데이터 접근 계층을 제공합니다. <br/>
+ * Spring Data JPA를 사용하여 기본 CRUD 및 사용자 정의 메서드를 자동으로 구현합니다.
+ */
+public interface PhotoRepository extends JpaRepository<PhotoEntity, Long> {
+
+    /**
+     * 파일 내용 해시를 기반으로 PhotoEntity를 조회합니다. <br/>
+     * 
+     * @param contentHash 파일 내용의 SHA-256 해시
+     * @return 동일한 내용의 사진이 존재하면 Optional로 반환
+     */
+    Optional<PhotoEntity> findByContentHash(String contentHash);
+}
@@ -1,19 +1,57 @@
 package com.colon.mattfolio.external.blobStorage.service;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import com.azure.storage.blob.BlobClient;
+import com.azure.core.http.rest.Response;
+import com.azure.core.util.Context;
+import com.azure.storage.blob.BlobAsyncClient;
+import com.azure.storage.blob.BlobContainerAsyncClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceAsyncClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobStorageException;
+import com.azure.storage.blob.models.BlockBlobItem;
+import com.azure.storage.blob.models.ParallelTransferOptions;
+import com.azure.storage.blob.options.BlobUploadFromFileOptions;
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
+import com.colon.mattfolio.common.enumType.StorageType;
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.resilience.ResilienceRegistry;
+import com.colon.mattfolio.common.storage.PhotoStorage;
+import com.colon.mattfolio.common.storage.StoredFile;
+import com.colon.mattfolio.common.storage.StoredFileMetadata;
 
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Azure Blob Storage 업로드 서비스<br/>
+ * <br/>
+ * BlobServiceAsyncClient와 컨테이너별 BlobContainerAsyncClient를 애플리케이션 시작 시 한 번만 생성하여 재사용합니다.<br/>
+ * 업로드는 ParallelTransferOptions에 따라 블록 단위로 나누어 병렬로 스테이징(Put Block)한 뒤 커밋(Put Block List)되며,<br/>
+ * 단일 업로드 최대 크기 이하의 작은 파일은 한 번의 요청으로 업로드됩니다.<br/>
+ * PhotoStorage의 Azure 구현체로, storage.type이 azure이거나 지정되지 않은 경우 사용됩니다.<br/>
+ * 일시적 장애는 SDK의 기본 재시도 정책(요청 단위 지수 백오프)으로 재시도하며, ResilienceRegistry에서는 재시도하지 않습니다. (resilience.dependencies.azure-blob.max-attempts: 1)
+ */
+@ConditionalOnProperty(name = "storage.type", havingValue = "azure", matchIfMissing = true)
 @Service
-public class BlobStorageService {
+@Slf4j
+public class BlobStorageService implements PhotoStorage {
 
     @Value("${azure.blob.contection-string}")
     private String connectionString;
@@ -29,33 +67,155 @@ public class BlobStorageService {
     @Value("${azure.blob.container.photographer.token}")
     private String photographerContainerToken;
 
+    // 블록 크기 (byte)
+    @Value("${azure.blob.upload.block-size:8388608}")
+    private long blockSize;
+
+    // 파일 하나를 업로드할 때 동시에 전송하는 블록 수
+    @Value("${azure.blob.upload.max-concurrency:4}")
+    private int maxConcurrency;
+
+    // 이 크기(byte) 이하의 파일은 블록으로 나누지 않고 한 번에 업로드
+    @Value("${azure.blob.upload.max-single-upload-size:8388608}")
+    private long maxSingleUploadSize;
+
+    // 컨테이너별 클라이언트 (애플리케이션 수명 동안 재사용)
+    private final Map<BlobContainerType, BlobContainerAsyncClient> containerClients = new EnumMap<>(BlobContainerType.class);
+
+    // 컨테이너별 동기 클라이언트 (다운로드 스트리밍용, 애플리케이션 수명 동안 재사용)
+    private final Map<BlobContainerType, BlobContainerClient> syncContainerClients = new EnumMap<>(BlobContainerType.class);
+
+    private ParallelTransferOptions parallelTransferOptions;
+
+    // 의존 서비스별 Bulkhead, Circuit Breaker, 재시도
+    private final ResilienceRegistry resilienceRegistry;
+
+    public BlobStorageService(ResilienceRegistry resilienceRegistry) {
+        this.resilienceRegistry = resilienceRegistry;
+    }
+
     /**
-     * Blob Storage에 이미지 업로드
-     *
-     * @param file 업로드할 MultipartFile
-     * @return 업로드된 파일의 URL
-     * @throws IOException 파일 처리 중 발생할 수 있는 예외
+     * BlobServiceAsyncClient와 컨테이너별 클라이언트를 생성합니다.<br/>
+     * 클라이언트는 스레드 안전하며, 내부 HTTP 커넥션 풀을 공유합니다.
      */
-    public String uploadImage(String faceId, MultipartFile file) throws IOException {
-        // BlobServiceClient 생성
-        BlobServiceClient blobServiceClient = new BlobServiceClientBuilder().connectionString(connectionString)
-            .buildClient();
+    @PostConstruct
+    public void init() {
+        BlobServiceClientBuilder builder = new BlobServiceClientBuilder().connectionString(connectionString);
+        BlobServiceAsyncClient blobServiceClient = builder.buildAsyncClient();
+        BlobServiceClient syncBlobServiceClient = builder.buildClient();
 
-        // Blob ContainerClient 획득
-        BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(profileContainer);
+        containerClients.put(BlobContainerType.PROFILE, blobServiceClient.getBlobContainerAsyncClient(profileContainer));
+        containerClients.put(BlobContainerType.PHOTOGRAPHER, blobServiceClient.getBlobContainerAsyncClient(photographerContainer));
+        syncContainerClients.put(BlobContainerType.PROFILE, syncBlobServiceClient.getBlobContainerClient(profileContainer));
+        syncContainerClients.put(BlobContainerType.PHOTOGRAPHER, syncBlobServiceClient.getBlobContainerClient(photographerContainer));
 
-        // 고유한 blob 이름 생성 (예: UUID + 원본 파일명)
-        String blobName = generateUniqueBlobName(file.getOriginalFilename());
-        String uploadName = faceId.isEmpty() ? "" + blobName : faceId + "_" + blobName;
+        parallelTransferOptions = new ParallelTransferOptions().setBlockSizeLong(blockSize)
+            .setMaxConcurrency(maxConcurrency)
+            .setMaxSingleUploadSizeLong(maxSingleUploadSize);
 
-        // BlobClient 생성
-        BlobClient blobClient = containerClient.getBlobClient(uploadName);
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Blob 클라이언트 생성 - 블록 크기: {}, 동시 전송 블록 수: {}, 단일 업로드 최대 크기: {}", blockSize, maxConcurrency, maxSingleUploadSize);
+    }
+
+    @Override
+    public StorageType getType() {
+        return StorageType.AZURE;
+    }
+
+    @Override
+    public Mono<StoredFile> storeAsync(BlobContainerType containerType, String faceId, String originalFilename, Path source, String contentType) {
+        BlobAsyncClient blobClient = getBlobClient(containerType, faceId, originalFilename);
+
+        return uploadFromFile(blobClient, source, contentType).map(response -> StoredFile.builder()
+            .containerType(containerType)
+            .key(blobClient.getBlobName())
+            .url(blobClient.getBlobUrl())
+            .size(source.toFile()
+                .length())
+            .build());
+    }
+
+    @Override
+    public Mono<StoredFile> storeAtAsync(BlobContainerType containerType, String key, Path source, String contentType) {
+        BlobAsyncClient blobClient = containerClients.get(containerType)
+            .getBlobAsyncClient(key);
+
+        return uploadFromFile(blobClient, source, contentType).map(response -> StoredFile.builder()
+            .containerType(containerType)
+            .key(key)
+            .url(blobClient.getBlobUrl())
+            .size(source.toFile()
+                .length())
+            .build());
+    }
 
-        // 파일 업로드 (이미 동일한 이름이 있을 경우 덮어쓰기(true))
-        blobClient.upload(file.getInputStream(), file.getSize(), true);
+    @Override
+    public StoredFileMetadata stat(BlobContainerType containerType, String key) {
+        try {
+            BlobProperties properties = resilienceRegistry.execute(ExternalDependencyType.AZURE_BLOB, true, () -> syncContainerClients.get(containerType)
+                .getBlobClient(key)
+                .getProperties());
 
-        // 업로드된 파일의 URL 반환 (이 URL을 DB에 저장하는 등 후속 처리가 가능)
-        return blobClient.getBlobUrl();
+            return StoredFileMetadata.builder()
+                .size(properties.getBlobSize())
+                .eTag(properties.getETag())
+                .contentType(properties.getContentType())
+                .lastModified(properties.getLastModified()
+                    .toInstant()
+                    .toEpochMilli())
+                .build();
+        } catch (BlobStorageException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 지정한 구간만 Range 요청(x-ms-range)으로 다운로드하여 출력 스트림으로 바로 전송합니다.
+     */
+    @Override
+    public void read(BlobContainerType containerType, String key, long offset, long length, OutputStream out) throws IOException {
+        try {
+            // 출력 스트림에 일부가 이미 전송되었을 수 있으므로 재시도하지 않음
+            resilienceRegistry.execute(ExternalDependencyType.AZURE_BLOB, false, () -> syncContainerClients.get(containerType)
+                .getBlobClient(key)
+                .downloadStreamWithResponse(out, new BlobRange(offset, length), null, null, false, null, Context.NONE));
+        } catch (BlobStorageException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 로컬 파일을 블록 단위 병렬 업로드합니다.<br/>
+     * 같은 Blob 이름으로 다시 업로드하면 덮어쓰므로, 일시적 장애(연결 실패, 5xx) 시 재시도합니다.
+     */
+    private Mono<Response<BlockBlobItem>> uploadFromFile(BlobAsyncClient blobClient, Path filePath, String contentType) {
+        BlobUploadFromFileOptions options = new BlobUploadFromFileOptions(filePath.toString()).setParallelTransferOptions(parallelTransferOptions);
+        if (contentType != null) {
+            options.setHeaders(new BlobHttpHeaders().setContentType(contentType));
+        }
+
+        return resilienceRegistry.decorate(ExternalDependencyType.AZURE_BLOB, true, () -> blobClient.uploadFromFileWithResponse(options));
+    }
+
+    /**
+     * 업로드할 Blob의 클라이언트를 생성합니다. (Blob 이름 예: faceId_UUID_원본 파일명)<br/>
+     * Blob 클라이언트는 재사용 중인 컨테이너 클라이언트의 파이프라인을 공유하므로 생성 비용이 거의 없습니다.
+     */
+    private BlobAsyncClient getBlobClient(BlobContainerType containerType, String faceId, String originalFilename) {
+        String blobName = generateUniqueBlobName(originalFilename);
+        String uploadName = faceId == null || faceId.isEmpty() ? blobName : faceId + "_" + blobName;
+
+        return containerClients.get(containerType)
+            .getBlobAsyncClient(uploadName);
+    }
+
+    /**
+     * Blob이 존재하지 않는 경우(404)를 FILE_NOT_FOUND로 변환합니다.
+     */
+    private RuntimeException translate(BlobStorageException e) {
+        if (e.getStatusCode() == 404) {
+            return new PhotoException(PhotoException.Reason.FILE_NOT_FOUND);
+        }
+        return e;
     }
 
     /**
@@ -0,0 +1,60 @@
+package com.colon.mattfolio.external.faceApi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Face API Rate Limiter의 현재 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FaceApiRateLimiterStats {
+
+    @Schema(description = "Rate Limiter 사용 여부")
+    private boolean enabled;
+
+    @Schema(description = "초당 허용 요청 수")
+    private double permitsPerSecond;
+
+    @Schema(description = "토큰 버킷 크기 (한 번에 보낼 수 있는 최대 요청 수)")
+    private int burst;
+
+    @Schema(description = "현재 남은 토큰 수")
+    private double availableTokens;
+
+    @Schema(description = "토큰을 기다리는 요청 수")
+    private int queueDepth;
+
+    @Schema(description = "최대 대기 요청 수")
+    private int peakQueueDepth;
+
+    @Schema(description = "토큰을 얻은 요청 수")
+    private long acquiredCount;
+
+    @Schema(description = "토큰을 얻기 위해 기다린 요청 수")
+    private long waitedCount;
+
+    @Schema(description = "평균 대기 시간 (ms)")
+    private double averageWaitMillis;
+
+    @Schema(description = "최대 대기 시간 (ms)")
+    private long maxWaitMillis;
+
+    @Schema(description = "429(요청 한도 초과) 응답 수")
+    private long throttledCount;
+
+    @Schema(description = "대기열 최대 크기 (초과 시 즉시 거절)")
+    private int maxQueueDepth;
+
+    @Schema(description = "대기열이 가득 차 거절된 요청 수")
+    private long rejectedCount;
+
+    @Schema(description = "대기 시간을 넘겨 거절된 요청 수")
+    private long timedOutCount;
+
+    @Schema(description = "Retry-After로 요청을 멈춘 남은 시간 (ms)")
+    private long pausedMillis;
+}
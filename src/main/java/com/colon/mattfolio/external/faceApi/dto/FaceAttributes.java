@@ -0,0 +1,13 @@
+package com.colon.mattfolio.external.faceApi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class FaceAttributes {
+    private double age;
+    private String gender;
+    private double smile;
+    // 기타 속성이 필요하면 추가
+}
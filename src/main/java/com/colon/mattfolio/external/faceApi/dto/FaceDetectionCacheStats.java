@@ -0,0 +1,51 @@
+package com.colon.mattfolio.external.faceApi.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 얼굴 감지 결과 캐시의 현재 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FaceDetectionCacheStats {
+
+    @Schema(description = "메모리 캐시 항목 수")
+    private int size;
+
+    @Schema(description = "메모리 캐시 최대 항목 수")
+    private int maxSize;
+
+    @Schema(description = "메모리 캐시 유효 시간 (분)")
+    private long ttlMinutes;
+
+    @Schema(description = "영구 캐시(DB) 사용 여부")
+    private boolean persistentEnabled;
+
+    @Schema(description = "메모리 캐시 적중 건수")
+    private long hitCount;
+
+    @Schema(description = "메모리 캐시 미적중 건수")
+    private long missCount;
+
+    @Schema(description = "영구 캐시(DB) 적중 건수")
+    private long persistentHitCount;
+
+    @Schema(description = "Face API 호출 건수 (캐시 미적중으로 실제 감지한 건수)")
+    private long loadCount;
+
+    @Schema(description = "진행 중인 동일 요청에 합류한 건수")
+    private long coalescedCount;
+
+    @Schema(description = "크기 초과로 제거된 건수")
+    private long evictionCount;
+
+    @Schema(description = "유효 시간 만료로 제거된 건수")
+    private long expirationCount;
+
+    @Schema(description = "전체 적중률 (메모리 + 영구 캐시, 0~1)")
+    private double hitRate;
+}
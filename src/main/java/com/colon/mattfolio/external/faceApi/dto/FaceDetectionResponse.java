@@ -16,21 +16,3 @@ public class FaceDetectionResponse {
     @JsonProperty("faceAttributes")
     private FaceAttributes faceAttributes;
 }
-
-@Data
-@JsonIgnoreProperties(ignoreUnknown = true)
-class FaceRectangle {
-    private int top;
-    private int left;
-    private int width;
-    private int height;
-}
-
-@Data
-@JsonIgnoreProperties(ignoreUnknown = true)
-class FaceAttributes {
-    private double age;
-    private String gender;
-    private double smile;
-    // 기타 속성이 필요하면 추가
-}
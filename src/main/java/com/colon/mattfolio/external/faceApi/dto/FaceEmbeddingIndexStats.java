@@ -0,0 +1,50 @@
+package com.colon.mattfolio.external.faceApi.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 얼굴 임베딩 인덱스의 현재 상태 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class FaceEmbeddingIndexStats {
+
+    @Schema(description = "인덱스 사용 여부")
+    private boolean enabled;
+
+    @Schema(description = "특징 추출 모델", example = "pixel-hog-v1")
+    private String model;
+
+    @Schema(description = "특징 벡터 차원")
+    private int dimension;
+
+    @Schema(description = "등록된 얼굴 수")
+    private int size;
+
+    @Schema(description = "최대 등록 가능 얼굴 수")
+    private int maxElements;
+
+    @Schema(description = "그래프 최상위 레벨")
+    private int maxLevel;
+
+    @Schema(description = "검색 시 탐색 후보 수 (ef)")
+    private int efSearch;
+
+    @Schema(description = "누적 검색 건수")
+    private long searchCount;
+
+    @Schema(description = "평균 검색 시간 (ms)")
+    private double averageSearchMillis;
+
+    @Schema(description = "얼굴 특징 추출/등록 실패 건수")
+    private long failureCount;
+
+    @Schema(description = "마지막 스냅샷 저장 시각")
+    private LocalDateTime lastSnapshotAt;
+}
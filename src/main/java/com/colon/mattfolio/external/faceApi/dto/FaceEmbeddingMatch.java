@@ -0,0 +1,21 @@
+package com.colon.mattfolio.external.faceApi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 얼굴 임베딩 인덱스에서 찾은 얼굴 한 건 (사진 단위 검색에서는 사진에서 가장 유사한 얼굴)
+ */
+@Getter
+@AllArgsConstructor
+public class FaceEmbeddingMatch {
+
+    // 사진 ID (MF_PHOTO.PHOTO_ID)
+    private final Long photoId;
+
+    // 사진 내 얼굴 순번 (Face API 감지 결과 순서)
+    private final int faceIndex;
+
+    // 질의 얼굴과의 코사인 유사도
+    private final float similarity;
+}
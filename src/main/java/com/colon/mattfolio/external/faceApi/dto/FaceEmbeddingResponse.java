@@ -0,0 +1,9 @@
+package com.colon.mattfolio.external.faceApi.dto;
+
+import lombok.Data;
+
+@Data
+public class FaceEmbeddingResponse {
+    // 얼굴 인식 모델이 추출한 특징 벡터
+    private float[] embedding;
+}
@@ -0,0 +1,13 @@
+package com.colon.mattfolio.external.faceApi.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class FaceRectangle {
+    private int top;
+    private int left;
+    private int width;
+    private int height;
+}
@@ -0,0 +1,37 @@
+package com.colon.mattfolio.external.faceApi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Face API 전송용으로 전처리(축소/재인코딩)된 이미지<br/>
+ * 감지 결과 좌표를 원본 해상도로 되돌릴 수 있도록 원본 및 전송 이미지 크기를 함께 보관합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PreparedFaceImage {
+
+    // Face API로 전송할 이미지 데이터
+    private final byte[] bytes;
+
+    // 원본 이미지 너비 (px, 확인할 수 없는 경우 0)
+    private final int originalWidth;
+
+    // 원본 이미지 높이 (px, 확인할 수 없는 경우 0)
+    private final int originalHeight;
+
+    // 전송 이미지 너비 (px)
+    private final int width;
+
+    // 전송 이미지 높이 (px)
+    private final int height;
+
+    /**
+     * 원본을 그대로 전송하는지 여부를 반환합니다.
+     *
+     * @return 축소하지 않은 경우 true (좌표 변환 불필요)
+     */
+    public boolean isOriginal() {
+        return width == originalWidth && height == originalHeight;
+    }
+}
@@ -0,0 +1,160 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import com.colon.mattfolio.external.faceApi.dto.GroupResponse;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Azure Face API 그룹화(Group) 한도(요청당 1000개)를 넘는 대량의 얼굴 ID를 그룹화하는 청크 그룹화 엔진<br/>
+ * <br/>
+ * 처리 방식:<br/>
+ * 1. 얼굴 ID를 chunk-size개씩 나누어 Group API를 동시에(max-concurrency) 호출 - 호출은 Face API Rate Limiter를 거치므로 한도를 넘지 않음<br/>
+ * 2. 각 청크의 그룹 결과를 Union-Find로 합쳐 인물 후보 집합을 구성<br/>
+ * 3. 집합마다 대표 얼굴 하나와 분류되지 않은 얼굴을 모아 다시 청크로 나누어 그룹화하고, 같은 그룹이 된 대표의 집합을 합침<br/>
+ * 4. 대표 얼굴이 한 청크에 들어갈 때까지(모든 대표를 서로 비교) 반복하며, 최대 max-rounds 회로 제한<br/>
+ * <br/>
+ * 청크 경계로 나뉜 같은 인물은 대표 얼굴 비교 단계에서 합쳐지며, 호출 수는 라운드마다 대표 수 / chunk-size로 줄어들어 전체 처리 시간이 제한됩니다.<br/>
+ * 대표가 아직 한 청크를 넘는 중간 라운드에서는 대표 순서를 섞어, 이전 라운드와 다른 조합끼리 비교되도록 합니다.<br/>
+ * 청크 하나의 Group 요청은 생성 시 전달받은 함수(FaceApiService의 단일 요청 호출)로 보냅니다.
+ */
+@Slf4j
+class ChunkedFaceGrouper {
+
+    // Azure Face API Group 요청 하나의 최대 얼굴 수
+    static final int GROUP_API_LIMIT = 1000;
+
+    // 청크 하나를 Group API 한 번으로 그룹화하는 함수
+    private final Function<List<String>, Mono<GroupResponse>> groupChunk;
+
+    private final int chunkSize;
+
+    private final int maxConcurrency;
+
+    private final int maxRounds;
+
+    /**
+     * @param groupChunk 청크 하나를 Group API 한 번으로 그룹화하는 함수
+     * @param chunkSize Group 요청 하나에 담을 얼굴 수 (2 ~ 1000으로 제한)
+     * @param maxConcurrency 동시에 진행할 Group 요청 수
+     * @param maxRounds 대표 얼굴 비교 라운드를 포함한 최대 라운드 수
+     */
+    ChunkedFaceGrouper(Function<List<String>, Mono<GroupResponse>> groupChunk, int chunkSize, int maxConcurrency, int maxRounds) {
+        this.groupChunk = groupChunk;
+        this.chunkSize = Math.max(2, Math.min(chunkSize, GROUP_API_LIMIT));
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.maxRounds = Math.max(1, maxRounds);
+    }
+
+    /**
+     * 얼굴 ID를 그룹화합니다. - 논블로킹<br/>
+     * 한 청크 이하이면 Group API를 한 번만 호출하고, 넘으면 청크별 결과를 대표 얼굴로 합칩니다.
+     *
+     * @param faceIds 그룹화할 얼굴 ID 목록 (null과 중복은 제외)
+     * @return 그룹화 결과를 발행하는 Mono (유효한 얼굴 ID가 없으면 빈 Mono, 여러 청크인 경우 그룹은 큰 그룹 순)
+     */
+    Mono<GroupResponse> group(List<String> faceIds) {
+        List<String> distinct = faceIds.stream()
+            .filter(faceId -> faceId != null)
+            .distinct()
+            .toList();
+
+        if (distinct.isEmpty()) {
+            return Mono.empty();
+        }
+        if (distinct.size() <= chunkSize) {
+            return groupChunk.apply(distinct);
+        }
+
+        FaceIdUnionFind unionFind = new FaceIdUnionFind(distinct);
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 대량 얼굴 그룹화 시작 - 얼굴 수: {}, 청크 크기: {}", distinct.size(), chunkSize);
+
+        return runRound(unionFind, distinct, 1).then(Mono.fromCallable(() -> toResponse(unionFind)));
+    }
+
+    /**
+     * 한 라운드를 실행합니다. 대상 얼굴을 청크로 나누어 그룹화하고 결과를 합친 뒤, 대표 얼굴로 다음 라운드를 진행합니다.
+     *
+     * @param unionFind 라운드 간에 누적되는 집합
+     * @param faceIds 이번 라운드에서 그룹화할 얼굴 ID (첫 라운드는 전체, 이후는 집합별 대표)
+     * @param round 라운드 번호 (1부터 시작)
+     */
+    private Mono<Void> runRound(FaceIdUnionFind unionFind, List<String> faceIds, int round) {
+        List<List<String>> chunks = partition(faceIds);
+
+        return Flux.fromIterable(chunks)
+            .flatMap(groupChunk, maxConcurrency)
+            .collectList()
+            // 청크 결과는 모두 모은 뒤 한 스레드에서 합침
+            .flatMap(responses -> {
+                for (GroupResponse response : responses) {
+                    if (response.getGroups() != null) {
+                        response.getGroups()
+                            .forEach(unionFind::unionAll);
+                    }
+                }
+
+                List<String> representatives = unionFind.representatives();
+                log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 그룹화 라운드 {} 완료 - 요청 수: {}, 대상: {}, 남은 대표 수: {}", round, chunks.size(), faceIds.size(), representatives.size());
+
+                // 모든 대표를 한 청크에서 비교했거나 라운드 한도에 도달하면 종료
+                if (chunks.size() <= 1 || round >= maxRounds) {
+                    return Mono.<Void>empty();
+                }
+
+                if (representatives.size() > chunkSize) {
+                    Collections.shuffle(representatives, new Random(round));
+                }
+                return runRound(unionFind, representatives, round + 1);
+            });
+    }
+
+    /**
+     * 얼굴 ID를 청크 크기로 나눕니다. 얼굴이 하나뿐인 청크는 그룹화할 수 없으므로 제외합니다.
+     */
+    private List<List<String>> partition(List<String> faceIds) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < faceIds.size(); from += chunkSize) {
+            List<String> chunk = faceIds.subList(from, Math.min(from + chunkSize, faceIds.size()));
+            if (chunk.size() > 1) {
+                chunks.add(chunk);
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * 집합을 Group API 응답 형식으로 변환합니다. (얼굴이 2개 이상인 집합은 그룹, 1개인 집합은 분류되지 않은 얼굴)
+     */
+    private GroupResponse toResponse(FaceIdUnionFind unionFind) {
+        List<List<String>> groups = new ArrayList<>();
+        LinkedHashSet<String> messyGroup = new LinkedHashSet<>();
+
+        for (Map.Entry<String, List<String>> cluster : unionFind.clusters()
+            .entrySet()) {
+            if (cluster.getValue()
+                .size() > 1) {
+                groups.add(cluster.getValue());
+            } else {
+                messyGroup.add(cluster.getKey());
+            }
+        }
+        groups.sort(Comparator.comparingInt((List<String> group) -> group.size())
+            .reversed());
+
+        GroupResponse response = new GroupResponse();
+        response.setGroups(groups);
+        response.setMessyGroup(new ArrayList<>(messyGroup));
+        return response;
+    }
+}
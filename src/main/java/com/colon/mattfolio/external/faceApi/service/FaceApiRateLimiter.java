@@ -0,0 +1,342 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.colon.mattfolio.common.exception.ExternalApiException;
+import com.colon.mattfolio.external.faceApi.dto.FaceApiRateLimiterStats;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Azure Face API 호출 속도를 구독 한도(TPS) 이하로 제한하는 토큰 버킷 Rate Limiter<br/>
+ * <br/>
+ * - 초당 permits-per-second개의 토큰이 채워지며, 최대 burst개까지 쌓아 순간적인 요청을 한 번에 보낼 수 있습니다.<br/>
+ * - 토큰이 없으면 요청은 도착 순서(FIFO) 대기열에서 기다리므로, 특정 호출부가 토큰을 독점하지 않습니다.<br/>
+ * - 대기는 스레드를 점유하지 않으며, 다음 토큰이 채워지는 시점에 타이머로 대기열을 다시 처리합니다.<br/>
+ * - 429 응답을 받으면 Retry-After 동안 모든 요청을 멈추고, 해당 요청은 대기열 맨 앞에서 다시 시도합니다.<br/>
+ * - 대기열이 max-queue-depth만큼 차 있으면 새 요청은 기다리지 않고 즉시 거절합니다. (ExternalApiException.RATE_LIMIT_QUEUE_FULL)<br/>
+ * - max-wait-ms 안에 토큰을 얻지 못하거나 구독이 취소된 요청은 대기열에서 바로 제외합니다. (시간 초과 시 ExternalApiException.RATE_LIMIT_TIMEOUT)<br/>
+ * <br/>
+ * 부하가 몰려도 처리량이 한도에서 평탄하게 유지되고 429 오류로 업로드가 실패하지 않도록 합니다.
+ */
+@Component
+@Slf4j
+public class FaceApiRateLimiter {
+
+    // Rate Limiter 사용 여부
+    @Value("${face.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    // 초당 허용 요청 수 (구독 한도 TPS)
+    @Value("${face.rate-limit.permits-per-second:10}")
+    private double permitsPerSecond;
+
+    // 한 번에 보낼 수 있는 최대 요청 수 (토큰 버킷 크기)
+    @Value("${face.rate-limit.burst:10}")
+    private int burst;
+
+    // 429 응답 시 재시도 횟수
+    @Value("${face.rate-limit.max-retries:3}")
+    private int maxRetries;
+
+    // Retry-After 헤더가 없는 429 응답의 대기 시간 (ms)
+    @Value("${face.rate-limit.default-retry-after-ms:1000}")
+    private long defaultRetryAfterMs;
+
+    // 토큰을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 거절)
+    @Value("${face.rate-limit.max-queue-depth:1000}")
+    private int maxQueueDepth;
+
+    // 토큰을 기다리는 최대 시간 (ms)
+    @Value("${face.rate-limit.max-wait-ms:30000}")
+    private long maxWaitMillis;
+
+    // 토큰을 기다리는 요청 대기열, 모든 접근은 this로 동기화
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    // Retry-After로 요청을 멈추는 종료 시점 (System.nanoTime 기준)
+    private long pausedUntilNanos;
+
+    // 대기열 처리 타이머가 예약되어 있는지 여부
+    private boolean drainScheduled;
+
+    private int peakQueueDepth;
+
+    private final AtomicLong acquiredCount = new AtomicLong();
+
+    private final AtomicLong waitedCount = new AtomicLong();
+
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private final AtomicLong timedOutCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        burst = Math.max(1, burst);
+        maxQueueDepth = Math.max(1, maxQueueDepth);
+        tokens = burst;
+        lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰을 얻은 뒤 요청을 실행합니다.<br/>
+     * 429 응답을 받으면 Retry-After 동안 모든 요청을 멈춘 뒤, 대기열 맨 앞에서 최대 max-retries번 다시 시도합니다.
+     *
+     * @param call 실행할 요청 (구독할 때마다 새로 전송되어야 함)
+     * @return 요청 결과를 발행하는 Mono
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        if (!enabled) {
+            return Mono.defer(call);
+        }
+        return attempt(call, 0);
+    }
+
+    private <T> Mono<T> attempt(Supplier<Mono<T>> call, int retry) {
+        return acquire(retry > 0).then(Mono.defer(call))
+            .onErrorResume(WebClientResponseException.TooManyRequests.class, e -> {
+                throttledCount.incrementAndGet();
+                Duration retryAfter = parseRetryAfter(e.getHeaders());
+                pause(retryAfter);
+
+                if (retry >= maxRetries) {
+                    return Mono.error(e);
+                }
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ Face API 요청 한도 초과(429) - {}ms 후 재시도 ({}/{})", retryAfter.toMillis(), retry + 1, maxRetries);
+                return attempt(call, retry + 1);
+            });
+    }
+
+    /**
+     * 토큰을 하나 얻을 때까지 기다립니다.
+     *
+     * @param priority true이면 대기열 맨 앞에서 기다림 (429로 재시도하는 요청, 이미 대기열을 거친 요청이므로 대기열 크기 제한을 받지 않음)
+     * @return 토큰을 얻으면 완료되는 Mono (구독을 취소하거나 대기 시간을 넘기면 대기열에서 제외)
+     */
+    private Mono<Void> acquire(boolean priority) {
+        Mono<Void> acquire = Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink, System.nanoTime());
+            sink.onCancel(() -> remove(waiter));
+
+            synchronized (this) {
+                if (waiter.cancelled) {
+                    return;
+                }
+                if (!priority && waiters.size() >= maxQueueDepth) {
+                    rejectedCount.incrementAndGet();
+                    sink.error(new ExternalApiException(ExternalApiException.Reason.RATE_LIMIT_QUEUE_FULL));
+                    return;
+                }
+                if (priority) {
+                    waiters.addFirst(waiter);
+                } else {
+                    waiters.addLast(waiter);
+                }
+                peakQueueDepth = Math.max(peakQueueDepth, waiters.size());
+            }
+            drain();
+        });
+
+        // 대기 시간을 넘기면 구독이 취소되어 대기열에서 제외되고, 거절 예외로 대체됨
+        return acquire.timeout(Duration.ofMillis(maxWaitMillis), Mono.defer(() -> {
+            timedOutCount.incrementAndGet();
+            return Mono.error(new ExternalApiException(ExternalApiException.Reason.RATE_LIMIT_TIMEOUT));
+        }));
+    }
+
+    /**
+     * 구독이 취소된 요청을 대기열에서 제외합니다. (이미 토큰을 받은 요청이면 아무것도 하지 않음)
+     */
+    private void remove(Waiter waiter) {
+        synchronized (this) {
+            waiter.cancelled = true;
+            waiters.remove(waiter);
+        }
+    }
+
+    /**
+     * 채워진 토큰만큼 대기열 앞쪽 요청을 통과시키고, 남은 요청이 있으면 다음 토큰 시점에 다시 처리하도록 예약합니다.<br/>
+     * 통과한 요청의 실행은 동기화 블록 밖에서 시작합니다.
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        long delayNanos = 0;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+
+            while (!waiters.isEmpty()) {
+                if (now < pausedUntilNanos) {
+                    delayNanos = pausedUntilNanos - now;
+                    break;
+                }
+                if (tokens < 1) {
+                    delayNanos = (long) Math.ceil((1 - tokens) / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+                    break;
+                }
+
+                tokens -= 1;
+                granted.add(waiters.pollFirst());
+            }
+
+            if (delayNanos > 0 && !drainScheduled) {
+                drainScheduled = true;
+                Schedulers.parallel()
+                    .schedule(this::scheduledDrain, delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        long now = System.nanoTime();
+        for (Waiter waiter : granted) {
+            long waited = now - waiter.enqueuedNanos;
+            acquiredCount.incrementAndGet();
+            if (waited > TimeUnit.MILLISECONDS.toNanos(1)) {
+                waitedCount.incrementAndGet();
+            }
+            totalWaitNanos.addAndGet(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+
+            waiter.sink.success();
+        }
+    }
+
+    private void scheduledDrain() {
+        synchronized (this) {
+            drainScheduled = false;
+        }
+        drain();
+    }
+
+    /**
+     * 마지막으로 채운 시점 이후 경과 시간만큼 토큰을 채웁니다. (최대 burst개)
+     */
+    private void refill(long now) {
+        if (now > lastRefillNanos) {
+            tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+            lastRefillNanos = now;
+        }
+    }
+
+    /**
+     * 지정한 시간 동안 모든 요청을 멈추고, 남은 토큰을 비웁니다. (멈춘 동안에는 토큰이 채워지지 않음)
+     */
+    private void pause(Duration duration) {
+        synchronized (this) {
+            long until = System.nanoTime() + duration.toNanos();
+            if (until > pausedUntilNanos) {
+                pausedUntilNanos = until;
+            }
+            tokens = 0;
+            lastRefillNanos = Math.max(lastRefillNanos, pausedUntilNanos);
+        }
+    }
+
+    /**
+     * Retry-After 헤더(초 또는 HTTP 날짜)를 대기 시간으로 변환합니다.
+     */
+    private Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null && !retryAfter.isBlank()) {
+            try {
+                return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+            } catch (NumberFormatException e) {
+                try {
+                    Duration until = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                    return until.isNegative() ? Duration.ZERO : until;
+                } catch (DateTimeParseException ignored) {
+                    // 형식을 알 수 없으면 기본 대기 시간 사용
+                }
+            }
+        }
+        return Duration.ofMillis(defaultRetryAfterMs);
+    }
+
+    /**
+     * Rate Limiter의 현재 상태를 반환합니다.
+     *
+     * @return Rate Limiter 상태 DTO
+     */
+    public FaceApiRateLimiterStats getStats() {
+        int queueDepth;
+        int peak;
+        double available;
+        long pausedMillis;
+        synchronized (this) {
+            long now = System.nanoTime();
+            refill(now);
+            queueDepth = waiters.size();
+            peak = peakQueueDepth;
+            available = tokens;
+            pausedMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(pausedUntilNanos - now));
+        }
+
+        long acquired = acquiredCount.get();
+
+        return FaceApiRateLimiterStats.builder()
+            .enabled(enabled)
+            .permitsPerSecond(permitsPerSecond)
+            .burst(burst)
+            .availableTokens(available)
+            .queueDepth(queueDepth)
+            .peakQueueDepth(peak)
+            .acquiredCount(acquired)
+            .waitedCount(waitedCount.get())
+            .averageWaitMillis(acquired == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.get()) / 1000 / acquired)
+            .maxWaitMillis(TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()))
+            .throttledCount(throttledCount.get())
+            .maxQueueDepth(maxQueueDepth)
+            .rejectedCount(rejectedCount.get())
+            .timedOutCount(timedOutCount.get())
+            .pausedMillis(pausedMillis)
+            .build();
+    }
+
+    /**
+     * 토큰을 기다리는 요청
+     */
+    private static class Waiter {
+
+        private final MonoSink<Void> sink;
+
+        // 대기열에 들어온 시점 (System.nanoTime 기준)
+        private final long enqueuedNanos;
+
+        // 구독이 취소되었는지 여부 (취소된 요청은 대기열에 들어가지 않고 토큰을 받지 않음)
+        private boolean cancelled;
+
+        private Waiter(MonoSink<Void> sink, long enqueuedNanos) {
+            this.sink = sink;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
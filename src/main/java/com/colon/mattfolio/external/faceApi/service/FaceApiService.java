@@ -1,9 +1,11 @@
 package com.colon.mattfolio.external.faceApi.service;
 
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
@@ -12,8 +14,17 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
+import com.colon.mattfolio.common.http.WebClientRegistry;
+import com.colon.mattfolio.common.resilience.ResilienceRegistry;
 import com.colon.mattfolio.external.faceApi.dto.FaceDetectionResponse;
 import com.colon.mattfolio.external.faceApi.dto.GroupResponse;
+import com.colon.mattfolio.external.faceApi.dto.PreparedFaceImage;
+
+import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 public class FaceApiService {
@@ -24,57 +35,199 @@ public class FaceApiService {
     @Value("${azure.face.subscription-key}")
     private String subscriptionKey;
 
+    // Group 요청 하나에 담을 얼굴 수 (최대 1000, 초과하는 얼굴 목록은 청크로 나누어 그룹화)
+    @Value("${face.group.chunk-size:1000}")
+    private int groupChunkSize;
+
+    // 청크 그룹화 시 동시에 진행할 Group 요청 수
+    @Value("${face.group.max-concurrency:8}")
+    private int groupMaxConcurrency;
+
+    // 청크 그룹화 시 대표 얼굴 비교 라운드를 포함한 최대 라운드 수
+    @Value("${face.group.max-rounds:5}")
+    private int groupMaxRounds;
+
     private final WebClient webClient;
 
-    public FaceApiService(WebClient.Builder webClientBuilder) {
-        this.webClient = webClientBuilder.build();
+    // 이미지 내용 해시별 얼굴 감지 결과 캐시
+    private final FaceDetectionCache faceDetectionCache;
+
+    // Face API 전송 전 이미지 축소/재인코딩
+    private final FaceImagePreprocessor faceImagePreprocessor;
+
+    // Face API 구독 한도(TPS) 이하로 호출 속도를 제한하는 Rate Limiter
+    private final FaceApiRateLimiter faceApiRateLimiter;
+
+    // 의존 서비스별 Bulkhead, Circuit Breaker, 재시도
+    private final ResilienceRegistry resilienceRegistry;
+
+    // 진행 중인 해시별 감지 요청 (동일 이미지의 동시 요청은 Face API를 한 번만 호출)
+    private final Map<String, Mono<List<FaceDetectionResponse>>> inFlightDetections = new ConcurrentHashMap<>();
+
+    // Group 한도를 넘는 얼굴 목록을 청크로 나누어 그룹화하고 Union-Find로 합치는 엔진
+    private ChunkedFaceGrouper faceGrouper;
+
+    public FaceApiService(WebClientRegistry webClientRegistry, FaceDetectionCache faceDetectionCache, FaceImagePreprocessor faceImagePreprocessor, FaceApiRateLimiter faceApiRateLimiter,
+            ResilienceRegistry resilienceRegistry) {
+        // Azure Face 전용 커넥션 풀이 적용된 WebClient를 재사용
+        this.webClient = webClientRegistry.get(ExternalApiType.AZURE_FACE);
+        this.faceDetectionCache = faceDetectionCache;
+        this.faceImagePreprocessor = faceImagePreprocessor;
+        this.faceApiRateLimiter = faceApiRateLimiter;
+        this.resilienceRegistry = resilienceRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        faceGrouper = new ChunkedFaceGrouper(this::groupChunkAsync, groupChunkSize, groupMaxConcurrency, groupMaxRounds);
     }
 
     /**
-     * 얼굴 감지 API 호출 (Detect)
+     * 캐시를 적용한 얼굴 감지 API 호출 (Detect) - 파일 경로<br/>
+     * 동기 방식으로, 내부적으로 detectFacesAsync(contentHash, imagePath, size)의 결과를 기다립니다.
      */
-    public List<FaceDetectionResponse> detectFaces(byte[] imageBytes) {
-        String url = faceEndpoint + "/face/v1.0/detect";
-        // String url = faceEndpoint + "/face/v1.0/detect" //
-        // + "?returnFaceId=false" //
-        // + "&returnFaceLandmarks=false" //
-        // + "&returnFaceAttributes=age,gender,smile"
-        ;
+    public List<FaceDetectionResponse> detectFaces(String contentHash, Path imagePath, long size) {
+        return detectFacesAsync(contentHash, imagePath, size).block();
+    }
 
-        return webClient.post()
-            .uri(url)
-            .header("Ocp-Apim-Subscription-Key", subscriptionKey)
-            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
-            .bodyValue(imageBytes)
-            .retrieve()
-            .bodyToMono(new ParameterizedTypeReference<List<FaceDetectionResponse>>() {
-            })
-            .block();
+    /**
+     * 캐시를 적용한 얼굴 감지 API 호출 (Detect) - 파일 경로, 논블로킹<br/>
+     * 메모리 캐시 → 영구 캐시(설정 시) → Face API 순으로 조회하며, Face API 결과는 캐시에 저장합니다.<br/>
+     * 같은 이미지에 대한 감지 요청이 이미 진행 중이면 새로 호출하지 않고 해당 결과를 함께 사용합니다.<br/>
+     * 이미지를 파일에서 직접 디코딩/축소하여 전송하므로 원본 전체를 힙 메모리에 올리지 않으며, 반환되는 얼굴 좌표는 원본 해상도 기준입니다.<br/>
+     * 캐시에서 반환된 결과에는 faceId가 없습니다. (Face API faceId는 24시간 후 만료)
+     *
+     * @param contentHash 이미지 내용 해시 (null이면 캐시를 사용하지 않음)
+     * @param imagePath 얼굴을 감지할 이미지 파일 경로
+     * @param size 이미지 파일 크기 (byte)
+     * @return 감지된 얼굴 목록을 발행하는 Mono (캐시된 목록은 읽기 전용)
+     */
+    public Mono<List<FaceDetectionResponse>> detectFacesAsync(String contentHash, Path imagePath, long size) {
+        return detectCachedAsync(contentHash, () -> faceImagePreprocessor.prepare(imagePath, size));
+    }
+
+    /**
+     * 캐시 조회 후 미적중 시 전처리된 이미지로 Face API를 호출합니다.
+     *
+     * @param contentHash 이미지 내용 해시 (null이면 캐시를 사용하지 않음)
+     * @param preparer 전송 이미지를 생성하는 작업 (캐시 미적중 시에만 실행)
+     */
+    private Mono<List<FaceDetectionResponse>> detectCachedAsync(String contentHash, Callable<PreparedFaceImage> preparer) {
+        if (contentHash == null) {
+            return detectPreparedAsync(preparer);
+        }
+
+        return Mono.defer(() -> {
+            List<FaceDetectionResponse> cached = faceDetectionCache.getIfPresent(contentHash);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+
+            Mono<List<FaceDetectionResponse>> created = loadDetections(contentHash, preparer);
+            Mono<List<FaceDetectionResponse>> inFlight = inFlightDetections.putIfAbsent(contentHash, created);
+            if (inFlight != null) {
+                faceDetectionCache.recordCoalesced();
+                return inFlight;
+            }
+            return created;
+        });
     }
 
     /**
-     * 그룹화 API 호출 (Group)
+     * 영구 캐시 조회 후 없으면 Face API를 호출하여 캐시에 저장하는 Mono를 생성합니다.<br/>
+     * 결과를 여러 구독자가 공유할 수 있도록 cache()를 적용하며, 완료되면 진행 중 목록에서 제거합니다.
+     */
+    private Mono<List<FaceDetectionResponse>> loadDetections(String contentHash, Callable<PreparedFaceImage> preparer) {
+        Mono<List<FaceDetectionResponse>> persistent = faceDetectionCache.isPersistentEnabled() //
+                ? Mono.fromCallable(() -> faceDetectionCache.loadPersistent(contentHash))
+                    .subscribeOn(Schedulers.boundedElastic())
+                : Mono.empty();
+
+        return persistent.switchIfEmpty(Mono.defer(() -> detectPreparedAsync(preparer))
+            .flatMap(detections -> {
+                Mono<Void> store = Mono.fromRunnable(() -> faceDetectionCache.put(contentHash, detections));
+                // 영구 캐시 저장은 DB 작업이므로 블로킹 전용 스케줄러에서 수행
+                return (faceDetectionCache.isPersistentEnabled() ? store.subscribeOn(Schedulers.boundedElastic()) : store).thenReturn(detections);
+            }))
+            .doFinally(signal -> inFlightDetections.remove(contentHash))
+            .cache();
+    }
+
+    /**
+     * 이미지를 전처리(축소/재인코딩)하여 Face API를 호출하고, 감지 결과 좌표를 원본 해상도로 되돌립니다.<br/>
+     * 디코딩/인코딩은 CPU와 메모리를 사용하는 블로킹 작업이므로 boundedElastic 스케줄러에서 수행합니다.
+     */
+    private Mono<List<FaceDetectionResponse>> detectPreparedAsync(Callable<PreparedFaceImage> preparer) {
+        return Mono.fromCallable(preparer)
+            .subscribeOn(Schedulers.boundedElastic())
+            .flatMap(prepared -> detectFacesAsync(prepared.getBytes()).map(detections -> faceImagePreprocessor.toOriginalCoordinates(detections, prepared)));
+    }
+
+    /**
+     * 그룹화 API 호출 (Group)<br/>
+     * 기존 호출부를 위한 동기 방식으로, 내부적으로 groupFacesAsync의 결과를 기다립니다.
      */
     public GroupResponse groupFaces(List<String> faceIds) {
-        List<String> groupFaceIds = faceIds.stream()
-            .filter(id -> id != null)
-            .collect(Collectors.toList());
+        return groupFacesAsync(faceIds).block();
+    }
 
-        if (groupFaceIds.isEmpty()) {
-            return null;
-        }
+    /**
+     * 그룹화 API 호출 (Group) - 논블로킹<br/>
+     * 얼굴 ID가 Azure 한도(요청당 1000개, face.group.chunk-size) 이하이면 요청 하나로 전송하고,<br/>
+     * 넘으면 청크로 나누어 동시에 그룹화한 뒤 대표 얼굴 비교로 청크 간 같은 인물을 합칩니다. (ChunkedFaceGrouper)<br/>
+     * 얼굴 ID는 감지 후 24시간이 지나면 만료되므로, 캐시를 거치지 않고 새로 감지한 결과의 ID만 사용해야 합니다.
+     *
+     * @param faceIds 그룹화할 얼굴 ID 목록 (null과 중복은 제외)
+     * @return 그룹화 결과를 발행하는 Mono (유효한 얼굴 ID가 없으면 빈 Mono)
+     */
+    public Mono<GroupResponse> groupFacesAsync(List<String> faceIds) {
+        return faceGrouper.group(faceIds);
+    }
 
+    /**
+     * 그룹화 API 호출 (Group) - 요청 하나, 논블로킹<br/>
+     * 구독 시점에 Rate Limiter의 토큰을 얻은 뒤 요청이 전송됩니다.
+     *
+     * @param faceIds 그룹화할 얼굴 ID 목록 (Azure 한도 1000개 이하)
+     * @return 그룹화 결과를 발행하는 Mono
+     */
+    private Mono<GroupResponse> groupChunkAsync(List<String> faceIds) {
         String url = faceEndpoint + "/face/v1.0/group";
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("faceIds", faceIds);
 
-        return webClient.post()
+        return resilienceRegistry.decorate(ExternalDependencyType.AZURE_FACE, true, attempt -> faceApiRateLimiter.execute(() -> attempt), () -> webClient.post()
             .uri(url)
             .header("Ocp-Apim-Subscription-Key", subscriptionKey)
             .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
             .bodyValue(requestBody)
             .retrieve()
-            .bodyToMono(GroupResponse.class)
-            .block();
+            .bodyToMono(GroupResponse.class));
+    }
+
+    /**
+     * 얼굴 감지 API 호출 (Detect) - 논블로킹<br/>
+     * 응답을 기다리는 동안 스레드를 점유하지 않으며, 구독 시점에 Rate Limiter의 토큰을 얻은 뒤 요청이 전송됩니다.<br/>
+     * 감지는 서버 상태를 바꾸지 않으므로 일시적 장애(연결 실패, 5xx) 시 재시도하며, 재시도도 토큰을 새로 얻은 뒤 전송됩니다.
+     *
+     * @param imageBytes 얼굴을 감지할 이미지 데이터 (전처리된 전송 이미지)
+     * @return 감지된 얼굴 목록을 발행하는 Mono
+     */
+    private Mono<List<FaceDetectionResponse>> detectFacesAsync(byte[] imageBytes) {
+        String url = faceEndpoint + "/face/v1.0/detect";
+        // String url = faceEndpoint + "/face/v1.0/detect" //
+        // + "?returnFaceId=false" //
+        // + "&returnFaceLandmarks=false" //
+        // + "&returnFaceAttributes=age,gender,smile"
+        ;
+
+        return resilienceRegistry.decorate(ExternalDependencyType.AZURE_FACE, true, attempt -> faceApiRateLimiter.execute(() -> attempt), () -> webClient.post()
+            .uri(url)
+            .header("Ocp-Apim-Subscription-Key", subscriptionKey)
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE)
+            .bodyValue(imageBytes)
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<List<FaceDetectionResponse>>() {
+            }));
     }
 }
@@ -0,0 +1,300 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.database.face.entity.FaceDetectionCacheEntity;
+import com.colon.mattfolio.database.face.repository.FaceDetectionCacheRepository;
+import com.colon.mattfolio.external.faceApi.dto.FaceDetectionCacheStats;
+import com.colon.mattfolio.external.faceApi.dto.FaceDetectionResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 내용 해시별 Face API 얼굴 감지 결과 캐시<br/>
+ * <br/>
+ * 1차: 크기(LRU)와 유효 시간(TTL)으로 제한되는 메모리 캐시<br/>
+ * 2차: 설정 시 MF_FACE_DETECTION_CACHE 테이블을 사용하는 영구 캐시 (서버 재시작 및 다중 인스턴스 간 공유)<br/>
+ * <br/>
+ * Face API의 faceId는 감지 후 24시간이 지나면 만료되므로 캐시하지 않습니다. 캐시된 결과에는 얼굴 위치와 속성만 담기며 faceId는 null입니다.<br/>
+ * (faceId가 필요한 호출부는 캐시를 거치지 않고 새로 감지해야 합니다.)<br/>
+ * 캐시된 결과 목록은 여러 호출부가 공유하므로 수정하지 않고 읽기 전용으로 사용해야 합니다.<br/>
+ * 영구 캐시 조회/저장은 블로킹 작업이므로 논블로킹 흐름에서는 boundedElastic 스케줄러에서 호출합니다.
+ */
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class FaceDetectionCache {
+
+    private final FaceDetectionCacheRepository faceDetectionCacheRepository;
+
+    private final ObjectMapper objectMapper;
+
+    // 메모리 캐시 최대 항목 수
+    @Value("${face.detection-cache.max-size:10000}")
+    private int maxSize;
+
+    // 메모리 캐시 유효 시간 (분)
+    @Value("${face.detection-cache.ttl-minutes:1440}")
+    private long ttlMinutes;
+
+    // 영구 캐시(DB) 사용 여부
+    @Value("${face.detection-cache.persistent.enabled:false}")
+    private boolean persistentEnabled;
+
+    // 영구 캐시 유효 기간 (일)
+    @Value("${face.detection-cache.persistent.ttl-days:30}")
+    private long persistentTtlDays;
+
+    // 접근 순서(access-order)를 유지하는 LRU 저장소, 모든 접근은 store 객체로 동기화
+    private final Map<String, CacheEntry> store = new LinkedHashMap<>(256, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            if (size() > maxSize) {
+                evictionCount.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong persistentHitCount = new AtomicLong();
+
+    private final AtomicLong loadCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    private final AtomicLong expirationCount = new AtomicLong();
+
+    /**
+     * 메모리 캐시에서 감지 결과를 조회합니다.
+     *
+     * @param contentHash 이미지 내용 해시
+     * @return 캐시된 감지 결과 (없거나 만료된 경우 null)
+     */
+    public List<FaceDetectionResponse> getIfPresent(String contentHash) {
+        long now = System.currentTimeMillis();
+
+        synchronized (store) {
+            CacheEntry entry = store.get(contentHash);
+            if (entry != null && entry.expiresAt > now) {
+                hitCount.incrementAndGet();
+                return entry.detections;
+            }
+            if (entry != null) {
+                store.remove(contentHash);
+                expirationCount.incrementAndGet();
+            }
+        }
+
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 영구 캐시(DB)에서 감지 결과를 조회하고, 존재하면 메모리 캐시에 적재합니다.
+     *
+     * @param contentHash 이미지 내용 해시
+     * @return 캐시된 감지 결과 (영구 캐시를 사용하지 않거나, 없거나, 만료된 경우 null)
+     */
+    public List<FaceDetectionResponse> loadPersistent(String contentHash) {
+        if (!persistentEnabled) {
+            return null;
+        }
+
+        LocalDateTime expiredBefore = LocalDateTime.now()
+            .minusDays(persistentTtlDays);
+
+        List<FaceDetectionResponse> detections = faceDetectionCacheRepository.findById(contentHash)
+            .filter(cached -> cached.getCreatedDate() == null || cached.getCreatedDate()
+                .isAfter(expiredBefore))
+            .map(this::readDetections)
+            .orElse(null);
+
+        if (detections != null) {
+            persistentHitCount.incrementAndGet();
+            putMemory(contentHash, detections);
+        }
+
+        return detections;
+    }
+
+    /**
+     * Face API로 새로 감지한 결과를 faceId를 제외하고 캐시에 저장합니다.<br/>
+     * 영구 캐시를 사용하는 경우 DB에도 저장하며, 동시에 같은 해시가 저장되어 충돌하는 경우 먼저 저장된 결과를 유지합니다.
+     *
+     * @param contentHash 이미지 내용 해시
+     * @param detections Face API 얼굴 감지 결과
+     */
+    public void put(String contentHash, List<FaceDetectionResponse> detections) {
+        List<FaceDetectionResponse> value = withoutFaceIds(detections);
+
+        loadCount.incrementAndGet();
+        putMemory(contentHash, value);
+
+        if (!persistentEnabled) {
+            return;
+        }
+
+        try {
+            faceDetectionCacheRepository.save(FaceDetectionCacheEntity.builder()
+                .contentHash(contentHash)
+                .faceCount(value.size())
+                .detectionResult(objectMapper.writeValueAsString(value))
+                .build());
+        } catch (JsonProcessingException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 감지 결과 직렬화 실패 - 해시: {}", contentHash, e);
+        } catch (DataIntegrityViolationException e) {
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 이미 저장된 얼굴 감지 결과 - 해시: {}", contentHash);
+        }
+    }
+
+    /**
+     * 진행 중인 동일 해시 요청에 합류한 건수를 기록합니다.
+     */
+    public void recordCoalesced() {
+        coalescedCount.incrementAndGet();
+    }
+
+    /**
+     * 영구 캐시 사용 여부를 반환합니다.
+     *
+     * @return 영구 캐시(DB)를 사용하면 true
+     */
+    public boolean isPersistentEnabled() {
+        return persistentEnabled;
+    }
+
+    /**
+     * 메모리 캐시를 모두 비웁니다.
+     */
+    public void invalidateAll() {
+        synchronized (store) {
+            store.clear();
+        }
+    }
+
+    /**
+     * 캐시의 현재 상태를 반환합니다.
+     *
+     * @return 캐시 상태 DTO
+     */
+    public FaceDetectionCacheStats getStats() {
+        int size;
+        synchronized (store) {
+            size = store.size();
+        }
+
+        long hits = hitCount.get();
+        long misses = missCount.get();
+        long persistentHits = persistentHitCount.get();
+        long lookups = hits + misses;
+
+        return FaceDetectionCacheStats.builder()
+            .size(size)
+            .maxSize(maxSize)
+            .ttlMinutes(ttlMinutes)
+            .persistentEnabled(persistentEnabled)
+            .hitCount(hits)
+            .missCount(misses)
+            .persistentHitCount(persistentHits)
+            .loadCount(loadCount.get())
+            .coalescedCount(coalescedCount.get())
+            .evictionCount(evictionCount.get())
+            .expirationCount(expirationCount.get())
+            .hitRate(lookups == 0 ? 0 : (double) (hits + persistentHits) / lookups)
+            .build();
+    }
+
+    /**
+     * 유효 기간이 지난 영구 캐시 항목을 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${face.detection-cache.persistent.cleanup-interval-ms:3600000}")
+    public void evictExpiredPersistent() {
+        if (!persistentEnabled) {
+            return;
+        }
+
+        int deleted = faceDetectionCacheRepository.deleteExpired(LocalDateTime.now()
+            .minusDays(persistentTtlDays));
+        if (deleted > 0) {
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 만료된 얼굴 감지 캐시 정리: {}건", deleted);
+        }
+    }
+
+    private void putMemory(String contentHash, List<FaceDetectionResponse> detections) {
+        long expiresAt = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(ttlMinutes);
+
+        synchronized (store) {
+            store.put(contentHash, new CacheEntry(detections, expiresAt));
+        }
+    }
+
+    private List<FaceDetectionResponse> readDetections(FaceDetectionCacheEntity cached) {
+        try {
+            // 이전에 faceId와 함께 저장된 항목도 만료된 faceId를 돌려주지 않도록 제외
+            return withoutFaceIds(objectMapper.readValue(cached.getDetectionResult(), new TypeReference<List<FaceDetectionResponse>>() {
+            }));
+        } catch (JsonProcessingException e) {
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 감지 캐시 변환 실패 - 해시: {}", cached.getContentHash(), e);
+            return null;
+        }
+    }
+
+    /**
+     * faceId를 제외한(얼굴 위치와 속성만 담은) 읽기 전용 감지 결과 목록을 만듭니다.
+     */
+    private List<FaceDetectionResponse> withoutFaceIds(List<FaceDetectionResponse> detections) {
+        if (detections == null || detections.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<FaceDetectionResponse> stripped = new ArrayList<>(detections.size());
+        for (FaceDetectionResponse detection : detections) {
+            FaceDetectionResponse copy = new FaceDetectionResponse();
+            copy.setFaceRectangle(detection.getFaceRectangle());
+            copy.setFaceAttributes(detection.getFaceAttributes());
+            stripped.add(copy);
+        }
+        return Collections.unmodifiableList(stripped);
+    }
+
+    /**
+     * 메모리 캐시 항목
+     */
+    private static class CacheEntry {
+
+        private final List<FaceDetectionResponse> detections;
+
+        private final long expiresAt;
+
+        private CacheEntry(List<FaceDetectionResponse> detections, long expiresAt) {
+            this.detections = detections;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,381 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.common.vector.HnswIndex;
+import com.colon.mattfolio.common.vector.VectorSearchResult;
+import com.colon.mattfolio.external.faceApi.dto.FaceDetectionResponse;
+import com.colon.mattfolio.external.faceApi.dto.FaceEmbeddingIndexStats;
+import com.colon.mattfolio.external.faceApi.dto.FaceEmbeddingMatch;
+import com.colon.mattfolio.external.faceApi.dto.FaceRectangle;
+import com.colon.mattfolio.util.ImageUtil;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드된 사진의 얼굴 특징 벡터를 보관하는 프로세스 내 근사 최근접 이웃(HNSW) 인덱스<br/>
+ * <br/>
+ * 사진이 등록될 때 감지된 얼굴마다 FaceFeatureExtractor로 특징 벡터를 추출하여 "사진ID:얼굴순번" 라벨로 추가하고,<br/>
+ * "내 사진 찾기"는 질의 얼굴의 벡터로 인덱스를 검색하므로 Azure Group/Identify 호출 없이 수 ms 내에 응답합니다.<br/>
+ * 특징 추출용 이미지는 decode-min-dimension 기준으로 서브샘플링하여 디코딩하며, 등록과 질의가 같은 방식(extract)으로 벡터를 만듭니다.<br/>
+ * <br/>
+ * 인덱스는 주기적으로(snapshot-interval-ms) 그리고 종료 시 스냅샷 파일로 저장되며, 시작 시 복원합니다.<br/>
+ * 스냅샷의 특징 추출 모델이나 차원이 현재 추출기와 다르면 사용하지 않고 빈 인덱스로 시작합니다.
+ */
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class FaceEmbeddingIndex {
+
+    private final FaceFeatureExtractor faceFeatureExtractor;
+
+    // 인덱스 사용 여부
+    @Value("${face.index.enabled:true}")
+    private boolean enabled;
+
+    // 최대 등록 가능 얼굴 수 (벡터 저장 공간은 등록된 얼굴 수만큼 블록 단위로 할당)
+    @Value("${face.index.max-elements:100000}")
+    private int maxElements;
+
+    // 노드당 이웃 수
+    @Value("${face.index.m:16}")
+    private int m;
+
+    // 삽입 시 탐색 후보 수
+    @Value("${face.index.ef-construction:200}")
+    private int efConstruction;
+
+    // 검색 시 탐색 후보 수
+    @Value("${face.index.ef-search:64}")
+    private int efSearch;
+
+    // 특징 추출용 디코딩 시 긴 변 최소 크기 (px, 원본을 이 크기 이상으로 서브샘플링)
+    @Value("${face.index.decode-min-dimension:1920}")
+    private int decodeMinDimension;
+
+    // 같은 인물로 판단하는 최소 유사도
+    @Value("${face.index.min-similarity:0.8}")
+    private float minSimilarity;
+
+    // 스냅샷 파일 경로
+    @Value("${face.index.snapshot-path:./data/face-index.hnsw}")
+    private String snapshotPath;
+
+    private volatile HnswIndex index;
+
+    // 마지막 스냅샷 이후 추가된 얼굴이 있는지 여부
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    private final AtomicLong searchCount = new AtomicLong();
+
+    private final AtomicLong searchNanos = new AtomicLong();
+
+    private final AtomicLong failureCount = new AtomicLong();
+
+    private volatile LocalDateTime lastSnapshotAt;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+
+        index = restore();
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 임베딩 인덱스 준비 - 모델: {}, 차원: {}, 등록 얼굴 수: {}", index.getModel(), index.getDimension(), index.size());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사진에서 감지된 얼굴을 인덱스에 추가합니다.<br/>
+     * 인덱스 추가는 업로드 처리의 부가 작업이므로 실패해도 예외를 전파하지 않습니다.
+     *
+     * @param photoId 사진 ID
+     * @param imagePath 원본 이미지 파일 경로
+     * @param faceDetections 원본 해상도 기준 얼굴 감지 결과
+     * @return 추가된 얼굴 수
+     */
+    public int addFaces(Long photoId, Path imagePath, List<FaceDetectionResponse> faceDetections) {
+        if (!enabled || photoId == null || faceDetections == null || faceDetections.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            ImageUtil.SubsampledImage decoded = ImageUtil.readSubsampled(imagePath, decodeMinDimension);
+            if (decoded == null) {
+                return 0;
+            }
+
+            int added = 0;
+            for (int i = 0; i < faceDetections.size(); i++) {
+                FaceRectangle face = faceDetections.get(i)
+                    .getFaceRectangle();
+                if (face == null || face.getWidth() < 1 || face.getHeight() < 1) {
+                    continue;
+                }
+
+                if (index.add(label(photoId, i), extract(decoded, face))) {
+                    added++;
+                }
+            }
+
+            if (added > 0) {
+                dirty.set(true);
+            }
+            return added;
+        } catch (IOException | RuntimeException e) {
+            failureCount.incrementAndGet();
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 임베딩 인덱스 등록 실패 - photoId: {}", photoId, e);
+            return 0;
+        }
+    }
+
+    /**
+     * 이미지 파일의 얼굴 영역에서 특징 벡터를 추출합니다.<br/>
+     * 인덱스에 등록할 때와 같은 크기로 서브샘플링하여 디코딩하므로, 질의 벡터와 등록된 벡터를 같은 조건에서 비교할 수 있습니다.
+     *
+     * @param imagePath 이미지 파일 경로
+     * @param face 원본 해상도 기준 얼굴 영역
+     * @return 특징 벡터 (디코딩할 수 없는 형식인 경우 null)
+     * @throws IOException 파일을 읽는 중 발생하는 예외
+     */
+    public float[] extract(Path imagePath, FaceRectangle face) throws IOException {
+        ImageUtil.SubsampledImage decoded = ImageUtil.readSubsampled(imagePath, decodeMinDimension);
+        return decoded == null ? null : extract(decoded, face);
+    }
+
+    /**
+     * 질의 얼굴과 같은 인물로 보이는 얼굴이 있는 사진을 찾습니다.
+     *
+     * @param query 질의 얼굴의 특징 벡터 (extract로 추출)
+     * @param limit 반환할 최대 사진 수
+     * @return 유사도가 높은 순서의 사진 목록 (사진마다 가장 유사한 얼굴 기준, 최소 유사도 미만 제외)
+     */
+    public List<FaceEmbeddingMatch> findSimilarPhotos(float[] query, int limit) {
+        if (!enabled || query == null || limit < 1) {
+            return List.of();
+        }
+
+        long started = System.nanoTime();
+        // 한 사진에 비슷한 얼굴이 여러 개 있을 수 있으므로 여유 있게 조회한 뒤 사진 단위로 합침
+        List<VectorSearchResult> results = index.search(query, limit * 2);
+
+        Map<Long, FaceEmbeddingMatch> matches = new LinkedHashMap<>();
+        for (VectorSearchResult result : results) {
+            if (result.getSimilarity() < minSimilarity) {
+                break;
+            }
+
+            FaceEmbeddingMatch match = toMatch(result);
+            matches.putIfAbsent(match.getPhotoId(), match);
+        }
+
+        searchCount.incrementAndGet();
+        searchNanos.addAndGet(System.nanoTime() - started);
+
+        List<FaceEmbeddingMatch> photos = new ArrayList<>(matches.values());
+        return photos.size() > limit ? photos.subList(0, limit) : photos;
+    }
+
+    /**
+     * 얼굴이 인덱스에 등록되어 있는지 확인합니다.
+     */
+    public boolean contains(Long photoId, int faceIndex) {
+        return enabled && index.getVector(label(photoId, faceIndex)) != null;
+    }
+
+    /**
+     * 인덱스에 등록된 얼굴의 특징 벡터를 반환합니다.
+     *
+     * @return 정규화된 특징 벡터의 복사본 (등록되지 않은 얼굴이면 null)
+     */
+    public float[] getVector(Long photoId, int faceIndex) {
+        return enabled ? index.getVector(label(photoId, faceIndex)) : null;
+    }
+
+    /**
+     * 특징 벡터와 유사한 얼굴을 찾습니다. (최소 유사도 미만 제외)
+     *
+     * @param vector 질의 특징 벡터
+     * @param k 조회할 최대 얼굴 수
+     * @return 유사도가 높은 순서의 얼굴 목록
+     */
+    public List<FaceEmbeddingMatch> findSimilarFaces(float[] vector, int k) {
+        if (!enabled || vector == null || k < 1) {
+            return List.of();
+        }
+
+        List<FaceEmbeddingMatch> matches = new ArrayList<>();
+        for (VectorSearchResult result : index.search(vector, k)) {
+            if (result.getSimilarity() < minSimilarity) {
+                break;
+            }
+            matches.add(toMatch(result));
+        }
+        return matches;
+    }
+
+    /**
+     * 인덱스에 등록된 얼굴과 유사한 다른 사진의 얼굴을 찾습니다. (같은 사진의 얼굴은 다른 인물이므로 제외)
+     *
+     * @param photoId 사진 ID
+     * @param faceIndex 사진 내 얼굴 순번
+     * @param k 조회할 최대 이웃 수
+     * @return 유사도가 높은 순서의 얼굴 목록 (등록되지 않은 얼굴이면 빈 목록)
+     */
+    public List<FaceEmbeddingMatch> findSimilarFaces(Long photoId, int faceIndex, int k) {
+        float[] vector = enabled ? index.getVector(label(photoId, faceIndex)) : null;
+        if (vector == null) {
+            return List.of();
+        }
+
+        List<FaceEmbeddingMatch> matches = new ArrayList<>();
+        for (VectorSearchResult result : index.search(vector, k + 1)) {
+            FaceEmbeddingMatch match = toMatch(result);
+            if (!match.getPhotoId()
+                .equals(photoId)) {
+                matches.add(match);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 인덱스에 등록된 두 얼굴의 유사도를 계산합니다.
+     *
+     * @return 코사인 유사도 (둘 중 하나라도 등록되지 않았으면 NaN)
+     */
+    public float similarity(Long photoId, int faceIndex, Long otherPhotoId, int otherFaceIndex) {
+        if (!enabled) {
+            return Float.NaN;
+        }
+
+        float[] vector = index.getVector(label(photoId, faceIndex));
+        float[] other = index.getVector(label(otherPhotoId, otherFaceIndex));
+        if (vector == null || other == null) {
+            return Float.NaN;
+        }
+
+        float dot = 0;
+        for (int i = 0; i < vector.length; i++) {
+            dot += vector[i] * other[i];
+        }
+        return dot;
+    }
+
+    /**
+     * 마지막 스냅샷 이후 추가된 얼굴이 있으면 스냅샷을 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${face.index.snapshot-interval-ms:300000}", initialDelayString = "${face.index.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (!enabled || !dirty.getAndSet(false)) {
+            return;
+        }
+
+        Path path = Paths.get(snapshotPath);
+        try {
+            index.save(path);
+            lastSnapshotAt = LocalDateTime.now();
+            log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 임베딩 인덱스 스냅샷 저장 - 경로: {}, 등록 얼굴 수: {}", path, index.size());
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 임베딩 인덱스 스냅샷 저장 실패 - 경로: {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        snapshot();
+    }
+
+    /**
+     * 얼굴 임베딩 인덱스 상태를 반환합니다.
+     *
+     * @return 인덱스 상태
+     */
+    public FaceEmbeddingIndexStats getStats() {
+        HnswIndex current = index;
+        long searches = searchCount.get();
+
+        return FaceEmbeddingIndexStats.builder()
+            .enabled(enabled)
+            .model(faceFeatureExtractor.getModel())
+            .dimension(faceFeatureExtractor.getDimension())
+            .size(current == null ? 0 : current.size())
+            .maxElements(current == null ? maxElements : current.getMaxElements())
+            .maxLevel(current == null ? -1 : current.getMaxLevel())
+            .efSearch(current == null ? efSearch : current.getEfSearch())
+            .searchCount(searches)
+            .averageSearchMillis(searches == 0 ? 0 : searchNanos.get() / 1_000_000.0 / searches)
+            .failureCount(failureCount.get())
+            .lastSnapshotAt(lastSnapshotAt)
+            .build();
+    }
+
+    /**
+     * 스냅샷을 복원합니다. 스냅샷이 없거나 현재 특징 추출기와 호환되지 않으면 빈 인덱스를 생성합니다.
+     */
+    private HnswIndex restore() {
+        Path path = Paths.get(snapshotPath);
+        if (Files.isRegularFile(path)) {
+            try {
+                HnswIndex restored = HnswIndex.load(path, maxElements, efSearch);
+                if (restored.getModel()
+                    .equals(faceFeatureExtractor.getModel()) && restored.getDimension() == faceFeatureExtractor.getDimension()) {
+                    return restored;
+                }
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 임베딩 인덱스 스냅샷 모델 불일치 - 스냅샷: {}, 현재: {}", restored.getModel(), faceFeatureExtractor.getModel());
+            } catch (IOException | RuntimeException e) {
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 얼굴 임베딩 인덱스 스냅샷 복원 실패 - 경로: {}", path, e);
+            }
+        }
+
+        return new HnswIndex(faceFeatureExtractor.getModel(), faceFeatureExtractor.getDimension(), maxElements, m, efConstruction, efSearch);
+    }
+
+    /**
+     * 서브샘플링된 이미지에서 특징 벡터를 추출합니다. 원본 해상도 기준 얼굴 영역을 이미지 좌표로 환산합니다.
+     */
+    private float[] extract(ImageUtil.SubsampledImage decoded, FaceRectangle face) {
+        int subsampling = decoded.subsampling();
+        if (subsampling == 1) {
+            return faceFeatureExtractor.extract(decoded.image(), face);
+        }
+
+        FaceRectangle scaled = new FaceRectangle();
+        scaled.setLeft(face.getLeft() / subsampling);
+        scaled.setTop(face.getTop() / subsampling);
+        scaled.setWidth(Math.max(1, face.getWidth() / subsampling));
+        scaled.setHeight(Math.max(1, face.getHeight() / subsampling));
+        return faceFeatureExtractor.extract(decoded.image(), scaled);
+    }
+
+    private FaceEmbeddingMatch toMatch(VectorSearchResult result) {
+        String label = result.getLabel();
+        int separator = label.indexOf(':');
+        return new FaceEmbeddingMatch(Long.valueOf(label.substring(0, separator)), Integer.parseInt(label.substring(separator + 1)), result.getSimilarity());
+    }
+
+    private String label(Long photoId, int faceIndex) {
+        return photoId + ":" + faceIndex;
+    }
+}
@@ -0,0 +1,45 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.awt.image.BufferedImage;
+
+import com.colon.mattfolio.external.faceApi.dto.FaceRectangle;
+
+/**
+ * 감지된 얼굴 영역에서 특징 벡터를 추출하는 확장 지점<br/>
+ * <br/>
+ * 얼굴 임베딩 인덱스(FaceEmbeddingIndex)는 이 인터페이스로 추출한 벡터를 코사인 유사도로 비교합니다.<br/>
+ * 얼굴 인식 모델(ONNX 등)을 사용하는 구현을 @Primary 빈으로 등록하면 기본 구현을 대체할 수 있으며,<br/>
+ * 모델 이름이 바뀌면 기존 스냅샷은 사용하지 않고 새 인덱스를 만듭니다.<br/>
+ * <br/>
+ * 유사도만으로 회원을 태그하거나 같은 인물로 묶는 기능(회원 얼굴 매칭 등)은 얼굴 인식(신원 판별)용 모델에서만 동작하며,<br/>
+ * 그런 구현은 isIdentityModel에서 true를 반환해야 합니다. (외부 얼굴 인식 모델 서버를 사용하는 RemoteFaceFeatureExtractor 제공)
+ */
+public interface FaceFeatureExtractor {
+
+    /**
+     * 특징 추출 모델 이름 (인덱스 스냅샷 호환성 확인용)
+     */
+    String getModel();
+
+    /**
+     * 추출하는 특징 벡터의 차원
+     */
+    int getDimension();
+
+    /**
+     * 얼굴 인식(같은 인물 판별)용으로 학습된 모델인지 여부<br/>
+     * false인 추출기(밝기/기울기 기반 등)의 유사도는 다른 사람끼리도 높게 나오므로, 회원 태그 같은 신원 판단에 사용하지 않습니다.
+     */
+    default boolean isIdentityModel() {
+        return false;
+    }
+
+    /**
+     * 얼굴 영역의 특징 벡터를 추출합니다.
+     *
+     * @param image 얼굴이 포함된 이미지 (서브샘플링하여 디코딩한 이미지일 수 있음)
+     * @param face image 좌표 기준 얼굴 영역
+     * @return 특징 벡터 (길이는 getDimension)
+     */
+    float[] extract(BufferedImage image, FaceRectangle face);
+}
@@ -0,0 +1,110 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 얼굴 ID를 같은 인물끼리 묶는 Union-Find(Disjoint Set)<br/>
+ * <br/>
+ * 경로 압축과 랭크 기반 합치기를 사용하므로, 수만 개의 얼굴 ID도 거의 상수 시간에 합치고 조회합니다.<br/>
+ * 스레드 안전하지 않으므로 한 스레드에서만 사용합니다.
+ */
+class FaceIdUnionFind {
+
+    private final Map<String, String> parent = new HashMap<>();
+
+    private final Map<String, Integer> rank = new HashMap<>();
+
+    // 등록 순서를 유지하는 얼굴 ID 목록 (결과 순서를 요청 순서에 맞추기 위함)
+    private final List<String> faceIds = new ArrayList<>();
+
+    FaceIdUnionFind(Collection<String> faceIds) {
+        for (String faceId : faceIds) {
+            if (parent.putIfAbsent(faceId, faceId) == null) {
+                rank.put(faceId, 0);
+                this.faceIds.add(faceId);
+            }
+        }
+    }
+
+    /**
+     * 얼굴 ID가 속한 집합의 대표 ID를 반환합니다.
+     */
+    String find(String faceId) {
+        String root = faceId;
+        while (!root.equals(parent.get(root))) {
+            root = parent.get(root);
+        }
+
+        // 경로 압축
+        String current = faceId;
+        while (!current.equals(root)) {
+            String next = parent.get(current);
+            parent.put(current, root);
+            current = next;
+        }
+        return root;
+    }
+
+    /**
+     * 같은 인물로 판정된 얼굴 ID 목록을 하나의 집합으로 합칩니다. (등록되지 않은 ID는 무시)
+     */
+    void unionAll(List<String> group) {
+        String first = null;
+        for (String faceId : group) {
+            if (!parent.containsKey(faceId)) {
+                continue;
+            }
+            if (first == null) {
+                first = faceId;
+            } else {
+                union(first, faceId);
+            }
+        }
+    }
+
+    private void union(String a, String b) {
+        String rootA = find(a);
+        String rootB = find(b);
+        if (rootA.equals(rootB)) {
+            return;
+        }
+
+        int rankA = rank.get(rootA);
+        int rankB = rank.get(rootB);
+        if (rankA < rankB) {
+            parent.put(rootA, rootB);
+        } else if (rankA > rankB) {
+            parent.put(rootB, rootA);
+        } else {
+            parent.put(rootB, rootA);
+            rank.put(rootA, rankA + 1);
+        }
+    }
+
+    /**
+     * 집합별 대표 얼굴 ID 목록을 반환합니다. (각 집합에서 먼저 등록된 얼굴 ID)
+     */
+    List<String> representatives() {
+        return new ArrayList<>(clusters().values()
+            .stream()
+            .map(members -> members.get(0))
+            .toList());
+    }
+
+    /**
+     * 대표 ID별 집합 구성원 목록을 반환합니다. (등록 순서 유지)
+     */
+    Map<String, List<String>> clusters() {
+        Map<String, List<String>> clusters = new LinkedHashMap<>();
+        for (String faceId : faceIds) {
+            clusters.computeIfAbsent(find(faceId), key -> new ArrayList<>())
+                .add(faceId);
+        }
+        return clusters;
+    }
+}
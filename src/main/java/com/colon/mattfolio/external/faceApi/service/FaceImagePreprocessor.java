@@ -0,0 +1,189 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.external.faceApi.dto.FaceDetectionResponse;
+import com.colon.mattfolio.external.faceApi.dto.FaceRectangle;
+import com.colon.mattfolio.external.faceApi.dto.PreparedFaceImage;
+import com.colon.mattfolio.util.ImageUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Face API 전송 전 이미지 전처리기<br/>
+ * <br/>
+ * 얼굴 감지에는 수 메가픽셀이면 충분하므로, 고해상도 원본을 그대로 전송하지 않고 다음 단계를 거쳐 전송량과 응답 지연을 줄입니다.<br/>
+ * 1. 디코딩 시 서브샘플링(source subsampling)을 적용하여 원본 전체 픽셀을 메모리에 올리지 않음<br/>
+ * 2. 긴 변 기준 설정된 최대 크기로 축소<br/>
+ * 3. JPEG로 재인코딩<br/>
+ * <br/>
+ * 감지 결과의 faceRectangle은 toOriginalCoordinates로 원본 해상도 좌표로 되돌립니다.<br/>
+ * 디코딩할 수 없는 형식이거나 전처리 중 오류가 발생하면 원본을 그대로 전송합니다.<br/>
+ * 이미지는 임시 저장된 파일에서 직접 디코딩하므로 원본 전체를 힙 메모리에 올리지 않습니다.
+ */
+@Component
+@Slf4j
+public class FaceImagePreprocessor {
+
+    // 전처리 사용 여부
+    @Value("${face.preprocess.enabled:true}")
+    private boolean enabled;
+
+    // 전송 이미지의 긴 변 최대 크기 (px)
+    @Value("${face.preprocess.max-dimension:1920}")
+    private int maxDimension;
+
+    // 최대 크기 이하이면서 이 크기(byte) 이하인 이미지는 원본을 그대로 전송
+    @Value("${face.preprocess.max-bytes:4194304}")
+    private long maxBytes;
+
+    // JPEG 재인코딩 품질 (0~1)
+    @Value("${face.preprocess.jpeg-quality:0.85}")
+    private float jpegQuality;
+
+    // 전처리할 수 없어 원본을 전송해야 하는 경우 허용하는 최대 크기 (Face API 이미지 크기 제한, byte)
+    @Value("${face.preprocess.max-original-bytes:6291456}")
+    private long maxOriginalBytes;
+
+    /**
+     * 파일로 저장된 이미지를 Face API 전송용으로 전처리합니다.<br/>
+     * 원본을 그대로 전송하는 경우에만 파일을 메모리로 읽으며, 그 크기는 Face API 허용 크기 이하로 제한됩니다.
+     *
+     * @param imagePath 원본 이미지 파일 경로
+     * @param size 원본 크기 (byte)
+     * @return 전처리된 이미지 (전처리가 필요 없거나 불가능한 경우 원본)
+     * @throws IOException 파일 읽기 중 발생하는 예외
+     * @throws PhotoException 전처리할 수 없으면서 Face API 허용 크기를 초과하는 경우 발생하는 예외
+     */
+    public PreparedFaceImage prepare(Path imagePath, long size) throws IOException {
+        if (enabled) {
+            try (ImageInputStream input = ImageIO.createImageInputStream(imagePath.toFile())) {
+                PreparedFaceImage prepared = prepare(input, size);
+                if (prepared != null) {
+                    return prepared;
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 이미지 전처리 실패 - 원본으로 전송합니다: {}", imagePath, e);
+            }
+        }
+
+        if (size > maxOriginalBytes) {
+            throw new PhotoException(PhotoException.Reason.UNSUPPORTED_IMAGE);
+        }
+
+        return new PreparedFaceImage(Files.readAllBytes(imagePath), 0, 0, 0, 0);
+    }
+
+    /**
+     * 감지 결과의 얼굴 좌표를 원본 해상도 기준으로 변환합니다.<br/>
+     * 캐시 등에서 공유되는 결과를 보호하기 위해 원본 목록은 수정하지 않고 새 객체를 생성합니다.
+     *
+     * @param detections 전송 이미지 기준 감지 결과
+     * @param image 전처리된 이미지
+     * @return 원본 해상도 기준 감지 결과
+     */
+    public List<FaceDetectionResponse> toOriginalCoordinates(List<FaceDetectionResponse> detections, PreparedFaceImage image) {
+        if (detections == null || detections.isEmpty() || image.isOriginal() || image.getWidth() < 1 || image.getHeight() < 1) {
+            return detections;
+        }
+
+        double scaleX = (double) image.getOriginalWidth() / image.getWidth();
+        double scaleY = (double) image.getOriginalHeight() / image.getHeight();
+
+        List<FaceDetectionResponse> mapped = new ArrayList<>(detections.size());
+        for (FaceDetectionResponse detection : detections) {
+            FaceDetectionResponse copy = new FaceDetectionResponse();
+            copy.setFaceId(detection.getFaceId());
+            copy.setFaceAttributes(detection.getFaceAttributes());
+
+            FaceRectangle rectangle = detection.getFaceRectangle();
+            if (rectangle != null) {
+                FaceRectangle scaled = new FaceRectangle();
+                scaled.setLeft(clamp((int) Math.round(rectangle.getLeft() * scaleX), image.getOriginalWidth()));
+                scaled.setTop(clamp((int) Math.round(rectangle.getTop() * scaleY), image.getOriginalHeight()));
+                scaled.setWidth(Math.min((int) Math.round(rectangle.getWidth() * scaleX), image.getOriginalWidth() - scaled.getLeft()));
+                scaled.setHeight(Math.min((int) Math.round(rectangle.getHeight() * scaleY), image.getOriginalHeight() - scaled.getTop()));
+                copy.setFaceRectangle(scaled);
+            }
+            mapped.add(copy);
+        }
+
+        return mapped;
+    }
+
+    /**
+     * 이미지 스트림을 읽어 필요한 경우 축소 및 재인코딩합니다.
+     *
+     * @param input 이미지 입력 스트림
+     * @param size 원본 크기 (byte)
+     * @return 전처리된 이미지 (디코딩할 수 없거나 원본을 그대로 전송해야 하는 경우 null)
+     * @throws IOException 이미지 읽기/쓰기 중 발생하는 예외
+     */
+    private PreparedFaceImage prepare(ImageInputStream input, long size) throws IOException {
+        if (input == null) {
+            return null;
+        }
+
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+        if (!readers.hasNext()) {
+            log.debug("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 디코딩할 수 없는 이미지 형식 - 원본으로 전송합니다.");
+            return null;
+        }
+
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(input, true, true);
+            int originalWidth = reader.getWidth(0);
+            int originalHeight = reader.getHeight(0);
+            int longest = Math.max(originalWidth, originalHeight);
+
+            if (longest <= maxDimension && size <= maxBytes) {
+                // 충분히 작은 이미지는 화질 손실 없이 원본을 전송
+                return null;
+            }
+
+            // 서브샘플링 후에도 긴 변이 최대 크기 이상이 되도록 정수 배율을 사용하고, 나머지는 축소 단계에서 맞춤
+            int subsampling = Math.max(1, longest / maxDimension);
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+            BufferedImage resized = ImageUtil.resize(reader.read(0, param), maxDimension);
+            byte[] encoded = encodeJpeg(resized);
+
+            log.debug("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 이미지 전처리 - {}x{} ({} byte) → {}x{} ({} byte)", originalWidth, originalHeight, size, resized.getWidth(), resized.getHeight(), encoded.length);
+
+            return new PreparedFaceImage(encoded, originalWidth, originalHeight, resized.getWidth(), resized.getHeight());
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * 이미지를 설정된 품질의 JPEG로 인코딩합니다.
+     */
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageUtil.writeJpeg(image, jpegQuality, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
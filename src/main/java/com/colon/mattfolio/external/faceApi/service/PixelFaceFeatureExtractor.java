@@ -0,0 +1,119 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.external.faceApi.dto.FaceRectangle;
+
+/**
+ * 얼굴 영역의 밝기 분포를 특징 벡터로 사용하는 기본 특징 추출기<br/>
+ * <br/>
+ * 얼굴 영역을 흑백 32x32로 축소한 뒤 4x4 셀마다 밝기 기울기 방향 히스토그램(8방향)을 구하고,<br/>
+ * 셀별로 정규화하여 128차원 벡터를 만듭니다. 조명 변화에는 비교적 강하지만 인식 모델만큼 정확하지는 않으므로,<br/>
+ * 정확도가 필요하면 FaceFeatureExtractor 구현을 @Primary 빈으로 등록하여 교체합니다.<br/>
+ * 얼굴 인식 모델이 아니므로(isIdentityModel = false) 회원 얼굴 매칭에는 사용되지 않습니다.<br/>
+ * face.embedding.remote.enabled=true이면 RemoteFaceFeatureExtractor가 이 구현을 대체합니다.
+ */
+@Component
+public class PixelFaceFeatureExtractor implements FaceFeatureExtractor {
+
+    private static final String MODEL = "pixel-hog-v1";
+
+    // 얼굴 영역 축소 크기 (px)
+    private static final int SIZE = 32;
+
+    // 한 변의 셀 수 및 방향 구간 수
+    private static final int CELLS = 4;
+
+    private static final int BINS = 8;
+
+    // 얼굴 영역 주변 여백 비율 (턱/이마 포함)
+    private static final double MARGIN = 0.1;
+
+    @Override
+    public String getModel() {
+        return MODEL;
+    }
+
+    @Override
+    public int getDimension() {
+        return CELLS * CELLS * BINS;
+    }
+
+    @Override
+    public float[] extract(BufferedImage image, FaceRectangle face) {
+        float[][] gray = crop(image, face);
+        float[] feature = new float[getDimension()];
+        int cellSize = SIZE / CELLS;
+
+        for (int y = 1; y < SIZE - 1; y++) {
+            for (int x = 1; x < SIZE - 1; x++) {
+                float dx = gray[y][x + 1] - gray[y][x - 1];
+                float dy = gray[y + 1][x] - gray[y - 1][x];
+                double magnitude = Math.sqrt(dx * dx + dy * dy);
+                if (magnitude == 0) {
+                    continue;
+                }
+
+                // 방향은 0~π 범위(부호 없는 기울기)로 구간화
+                double angle = Math.atan2(dy, dx);
+                if (angle < 0) {
+                    angle += Math.PI;
+                }
+                int bin = Math.min(BINS - 1, (int) (angle / Math.PI * BINS));
+                int cell = (y / cellSize) * CELLS + (x / cellSize);
+                feature[cell * BINS + bin] += (float) magnitude;
+            }
+        }
+
+        // 셀별 L2 정규화 (국소 조명 차이 보정)
+        for (int cell = 0; cell < CELLS * CELLS; cell++) {
+            double norm = 0;
+            for (int bin = 0; bin < BINS; bin++) {
+                norm += feature[cell * BINS + bin] * feature[cell * BINS + bin];
+            }
+            norm = Math.sqrt(norm) + 1e-6;
+            for (int bin = 0; bin < BINS; bin++) {
+                feature[cell * BINS + bin] /= (float) norm;
+            }
+        }
+        return feature;
+    }
+
+    /**
+     * 여백을 포함한 얼굴 영역을 잘라 SIZE x SIZE 흑백(0~1) 배열로 변환합니다.
+     */
+    private float[][] crop(BufferedImage image, FaceRectangle face) {
+        int marginX = (int) Math.round(face.getWidth() * MARGIN);
+        int marginY = (int) Math.round(face.getHeight() * MARGIN);
+        int left = clamp(face.getLeft() - marginX, image.getWidth() - 1);
+        int top = clamp(face.getTop() - marginY, image.getHeight() - 1);
+        int right = clamp(face.getLeft() + face.getWidth() + marginX, image.getWidth());
+        int bottom = clamp(face.getTop() + face.getHeight() + marginY, image.getHeight());
+
+        BufferedImage scaled = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, SIZE, SIZE, left, top, Math.max(left + 1, right), Math.max(top + 1, bottom), null);
+        } finally {
+            graphics.dispose();
+        }
+
+        float[][] gray = new float[SIZE][SIZE];
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                gray[y][x] = (scaled.getRaster()
+                    .getSample(x, y, 0)) / 255f;
+            }
+        }
+        return gray;
+    }
+
+    private int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
@@ -0,0 +1,179 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
+import com.colon.mattfolio.common.http.WebClientRegistry;
+import com.colon.mattfolio.common.resilience.ResilienceRegistry;
+import com.colon.mattfolio.external.faceApi.dto.FaceEmbeddingResponse;
+import com.colon.mattfolio.external.faceApi.dto.FaceRectangle;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 얼굴 인식 모델 서버(ArcFace 등)로 특징 벡터를 추출하는 얼굴 인식용 특징 추출기 (face.embedding.remote.enabled=true)<br/>
+ * <br/>
+ * 여백을 포함한 얼굴 영역을 모델 입력 크기(input-size, 정사각형)로 축소하여 PNG로 전송하고, 응답의 특징 벡터를 L2 정규화하여 반환합니다.<br/>
+ * - 요청: POST {url}, Content-Type image/png, 본문은 얼굴 영역 이미지<br/>
+ * - 응답: {"embedding": [float, ...]} (길이는 dimension 설정과 같아야 함)<br/>
+ * <br/>
+ * 같은 얼굴 이미지는 항상 같은 벡터를 반환하므로 일시적 장애는 재시도하며, 호출은 face-embedding 전용 커넥션 풀과 장애 격리(resilience.dependencies.face-embedding)를 거칩니다.<br/>
+ * 얼굴 인식 모델이므로(isIdentityModel = true) @Primary로 기본 특징 추출기(pixel-hog-v1)를 대체하여, 얼굴로 사진 찾기, 인물 클러스터링, 회원 얼굴 매칭을 사용할 수 있게 합니다.<br/>
+ * 모델 이름(model)을 바꾸면 기존 인덱스 스냅샷과 회원 기준 얼굴은 사용하지 않고 새 모델로 다시 만듭니다.
+ */
+@ConditionalOnProperty(name = "face.embedding.remote.enabled", havingValue = "true")
+@Primary
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RemoteFaceFeatureExtractor implements FaceFeatureExtractor {
+
+    private final WebClientRegistry webClientRegistry;
+
+    private final ResilienceRegistry resilienceRegistry;
+
+    // 특징 벡터 추출 API URL
+    @Value("${face.embedding.remote.url:}")
+    private String url;
+
+    // 모델 이름 (인덱스 스냅샷과 회원 기준 얼굴의 호환성 확인용)
+    @Value("${face.embedding.remote.model:arcface-r100-v1}")
+    private String model;
+
+    // 특징 벡터 차원
+    @Value("${face.embedding.remote.dimension:512}")
+    private int dimension;
+
+    // 모델 입력 이미지 크기 (px, 정사각형)
+    @Value("${face.embedding.remote.input-size:112}")
+    private int inputSize;
+
+    // 얼굴 영역 주변 여백 비율
+    @Value("${face.embedding.remote.margin:0.2}")
+    private double margin;
+
+    // 호출 하나의 최대 대기 시간 (ms)
+    @Value("${face.embedding.remote.timeout-ms:5000}")
+    private long timeoutMillis;
+
+    @PostConstruct
+    public void init() {
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("face.embedding.remote.url is required when face.embedding.remote.enabled is true");
+        }
+        log.info("▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎▶︎ 외부 얼굴 인식 모델 사용 - 모델: {}, 차원: {}, 입력 크기: {}", model, dimension, inputSize);
+    }
+
+    @Override
+    public String getModel() {
+        return model;
+    }
+
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    @Override
+    public boolean isIdentityModel() {
+        return true;
+    }
+
+    /**
+     * 얼굴 영역을 모델 서버로 보내 특징 벡터를 추출합니다. - 블로킹 (최대 timeout-ms)
+     *
+     * @throws IllegalStateException 응답이 없거나 벡터 차원이 설정과 다른 경우
+     */
+    @Override
+    public float[] extract(BufferedImage image, FaceRectangle face) {
+        byte[] body = encode(crop(image, face));
+
+        FaceEmbeddingResponse response = resilienceRegistry.decorate(ExternalDependencyType.FACE_EMBEDDING, true, () -> webClientRegistry.get(ExternalApiType.FACE_EMBEDDING)
+            .post()
+            .uri(url)
+            .contentType(MediaType.IMAGE_PNG)
+            .accept(MediaType.APPLICATION_JSON)
+            .bodyValue(body)
+            .retrieve()
+            .bodyToMono(FaceEmbeddingResponse.class))
+            .block(Duration.ofMillis(timeoutMillis));
+
+        if (response == null || response.getEmbedding() == null || response.getEmbedding().length != dimension) {
+            throw new IllegalStateException("Unexpected face embedding response from " + url + " (expected dimension " + dimension + ")");
+        }
+        return normalize(response.getEmbedding());
+    }
+
+    /**
+     * 여백을 포함한 얼굴 영역을 잘라 input-size x input-size RGB 이미지로 축소합니다.
+     */
+    private BufferedImage crop(BufferedImage image, FaceRectangle face) {
+        int marginX = (int) Math.round(face.getWidth() * margin);
+        int marginY = (int) Math.round(face.getHeight() * margin);
+        int left = clamp(face.getLeft() - marginX, image.getWidth() - 1);
+        int top = clamp(face.getTop() - marginY, image.getHeight() - 1);
+        int right = clamp(face.getLeft() + face.getWidth() + marginX, image.getWidth());
+        int bottom = clamp(face.getTop() + face.getHeight() + marginY, image.getHeight());
+
+        BufferedImage scaled = new BufferedImage(inputSize, inputSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, inputSize, inputSize, left, top, Math.max(left + 1, right), Math.max(top + 1, bottom), null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    /**
+     * 얼굴 이미지를 무손실(PNG)로 인코딩합니다.
+     */
+    private byte[] encode(BufferedImage face) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(face, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 코사인 유사도 비교를 위해 벡터를 L2 정규화합니다.
+     */
+    private float[] normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm) + 1e-12;
+
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    private int clamp(int value, int max) {
+        return Math.max(0, Math.min(value, max));
+    }
+}
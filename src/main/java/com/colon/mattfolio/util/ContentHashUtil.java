@@ -0,0 +1,77 @@
+package com.colon.mattfolio.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 파일 내용 기반 해시(지문) 유틸리티 클래스
+ * 
+ * 동일한 파일의 재업로드 여부를 판별하기 위해 SHA-256 해시를 사용합니다.<br/>
+ * 스트림을 읽는 동안 해시를 계산할 수 있도록 MessageDigest를 제공하며, DigestInputStream과 함께 사용합니다.
+ * 
+ * 사용 예:<br/>
+ * MessageDigest digest = ContentHashUtil.newDigest();<br/>
+ * try (InputStream in = new DigestInputStream(source, digest)) { ... }<br/>
+ * String contentHash = ContentHashUtil.toHex(digest.digest());
+ */
+public final class ContentHashUtil {
+
+    // 해시 알고리즘
+    public static final String ALGORITHM = "SHA-256";
+
+    private ContentHashUtil() {
+    }
+
+    /**
+     * SHA-256 MessageDigest를 생성합니다.<br/>
+     * MessageDigest는 스레드 안전하지 않으므로 파일마다 새로 생성하여 사용합니다.
+     *
+     * @return SHA-256 MessageDigest
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM에서 SHA-256 지원이 보장되므로 발생하지 않습니다.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 해시 결과를 소문자 16진수 문자열로 변환합니다.
+     *
+     * @param hash 해시 결과 바이트 배열
+     * @return 16진수 문자열 (SHA-256 기준 64자)
+     */
+    public static String toHex(byte[] hash) {
+        return HexFormat.of()
+            .formatHex(hash);
+    }
+
+    /**
+     * 파일 내용의 SHA-256 해시를 계산합니다.<br/>
+     * 고정 크기 버퍼로 읽으므로 파일 전체를 힙 메모리에 올리지 않습니다.
+     *
+     * @param path 해시를 계산할 파일 경로
+     * @return 16진수 해시 문자열
+     * @throws IOException 파일 읽기 중 발생하는 예외
+     */
+    public static String hash(Path path) throws IOException {
+        MessageDigest digest = newDigest();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return toHex(digest.digest());
+    }
+}
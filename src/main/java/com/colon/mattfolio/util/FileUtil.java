@@ -1,5 +1,13 @@
 package com.colon.mattfolio.util;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 
@@ -11,7 +19,8 @@ import org.springframework.util.StringUtils;
  * 
  * 주요 기능: <br/>
  * - 파일 확장자를 기반으로 MediaType 결정<br/>
- * - 특정 MediaType이 미리보기 가능한지 확인
+ * - 특정 MediaType이 미리보기 가능한지 확인<br/>
+ * - 파일의 지정 구간을 출력 스트림으로 전송
  */
 public class FileUtil {
 
@@ -93,4 +102,30 @@ public class FileUtil {
                 || mediaType.equals(MediaType.valueOf("audio/ogg")) //
                 || mediaType.equals(MediaType.valueOf("audio/mp4")); //
     }
-}
\ No newline at end of file
+
+    /**
+     * 파일의 지정한 구간을 FileChannel.transferTo로 출력 스트림에 전송하는 메서드
+     * 
+     * 대상이 소켓/파일 채널인 경우 커널 내 복사가 사용되며, 그 외에는 JDK 내부 버퍼로 나누어 전송하므로 파일 전체를 힙에 올리지 않습니다.
+     * 
+     * @param path 전송할 파일 경로
+     * @param offset 시작 위치 (byte)
+     * @param length 전송할 길이 (byte)
+     * @param out 출력 스트림 (이 메서드에서 닫지 않음)
+     * @throws IOException 전송 중 발생하는 예외
+     */
+    public static void transferTo(Path path, long offset, long length, OutputStream out) throws IOException {
+        try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = offset;
+            long end = offset + length;
+            while (position < end) {
+                long transferred = in.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+            }
+        }
+    }
+}
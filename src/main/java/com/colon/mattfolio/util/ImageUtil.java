@@ -0,0 +1,138 @@
+package com.colon.mattfolio.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 이미지 축소/인코딩 유틸리티 클래스
+ * 
+ * Face API 전송용 전처리와 썸네일 등 파생 이미지 생성에서 공통으로 사용합니다.<br/>
+ * 
+ * 주요 기능: <br/>
+ * - 긴 변 기준 최소 크기 이상이 되도록 정수 배율로 서브샘플링하여 디코딩<br/>
+ * - 긴 변 기준 최대 크기로 축소하고 JPEG 인코딩이 가능한 RGB 이미지로 변환<br/>
+ * - 지정한 품질의 JPEG로 인코딩
+ */
+public final class ImageUtil {
+
+    private ImageUtil() {
+    }
+
+    /**
+     * 이미지 파일을 서브샘플링하여 디코딩합니다.<br/>
+     * 긴 변이 minDimension 이상으로 남는 가장 큰 정수 배율로 읽으므로 원본 전체 픽셀을 메모리에 올리지 않습니다.
+     *
+     * @param source 이미지 파일 경로
+     * @param minDimension 디코딩 결과의 긴 변 최소 크기 (px, 원본이 더 작으면 원본 크기)
+     * @return 디코딩된 이미지와 적용한 배율 (디코딩할 수 없는 형식인 경우 null)
+     * @throws IOException 파일을 읽는 중 발생하는 예외
+     */
+    public static SubsampledImage readSubsampled(Path source, int minDimension) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                return null;
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longest / Math.max(1, minDimension));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return new SubsampledImage(reader.read(0, param), subsampling);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 최대 크기 이하가 되도록 축소하고, JPEG 인코딩이 가능한 RGB 이미지로 변환합니다.<br/>
+     * 원본 이미지는 수정하지 않으므로 같은 원본에서 여러 크기를 동시에 생성할 수 있습니다.
+     *
+     * @param source 원본 이미지
+     * @param maxDimension 긴 변 최대 크기 (px)
+     * @return 축소된 이미지 (축소가 필요 없고 이미 RGB인 경우 원본)
+     */
+    public static BufferedImage resize(BufferedImage source, int maxDimension) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        if (ratio == 1.0 && source.getType() == BufferedImage.TYPE_INT_RGB) {
+            return source;
+        }
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // 투명 배경(PNG 등)은 흰색으로 채움
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, targetWidth, targetHeight);
+            graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        return target;
+    }
+
+    /**
+     * 이미지를 지정한 품질의 JPEG로 인코딩하여 출력 스트림에 기록합니다.
+     *
+     * @param image 인코딩할 이미지 (RGB)
+     * @param quality JPEG 품질 (0~1)
+     * @param out 출력 스트림 (이 메서드에서 닫지 않음)
+     * @throws IOException 인코딩 중 발생하는 예외
+     */
+    public static void writeJpeg(BufferedImage image, float quality, OutputStream out) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg")
+            .next();
+
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 서브샘플링하여 디코딩한 이미지
+     *
+     * @param image 디코딩된 이미지
+     * @param subsampling 원본 대비 축소 배율 (원본 좌표 / 배율 = 이미지 좌표)
+     */
+    public record SubsampledImage(BufferedImage image, int subsampling) {
+    }
+}
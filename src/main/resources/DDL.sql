@@ -23,4 +23,110 @@ CREATE TABLE `MF_TOKEN` (
   `MODIFIED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
   `MODIFIED_DATE` datetime(6) DEFAULT NULL,
   PRIMARY KEY (`ACCOUNT_ID`)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8;
\ No newline at end of file
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+CREATE TABLE `MF_PHOTO` (
+  `PHOTO_ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `CONTENT_HASH` varchar(64) NOT NULL,
+  `ORIGINAL_FILE_NAME` varchar(255) DEFAULT NULL,
+  `FILE_SIZE` bigint(20) NOT NULL,
+  `FILE_URL` varchar(1000) DEFAULT NULL,
+  `FACE_COUNT` int(11) NOT NULL,
+  `DETECTION_RESULT` longtext DEFAULT NULL,
+  `DERIVATIVE_URLS` longtext DEFAULT NULL,
+  `CREATED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `CREATED_DATE` datetime(6) DEFAULT NULL,
+  `MODIFIED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `MODIFIED_DATE` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`PHOTO_ID`),
+  UNIQUE KEY `UK_MF_PHOTO_CONTENT_HASH` (`CONTENT_HASH`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+CREATE TABLE `MF_FACE_DETECTION_CACHE` (
+  `CONTENT_HASH` varchar(64) NOT NULL,
+  `FACE_COUNT` int(11) NOT NULL,
+  `DETECTION_RESULT` longtext NOT NULL,
+  `CREATED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `CREATED_DATE` datetime(6) DEFAULT NULL,
+  `MODIFIED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `MODIFIED_DATE` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`CONTENT_HASH`),
+  KEY `IX_MF_FACE_DETECTION_CACHE_CREATED_DATE` (`CREATED_DATE`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+CREATE TABLE `MF_FACE_CLUSTER` (
+  `CLUSTER_ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `REPRESENTATIVE_PHOTO_ID` bigint(20) NOT NULL,
+  `REPRESENTATIVE_FACE_INDEX` int(11) NOT NULL,
+  `FACE_COUNT` int(11) NOT NULL,
+  `NEEDS_REVIEW` bit(1) NOT NULL,
+  `CREATED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `CREATED_DATE` datetime(6) DEFAULT NULL,
+  `MODIFIED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `MODIFIED_DATE` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`CLUSTER_ID`),
+  KEY `IDX_FACE_CLUSTER_NEEDS_REVIEW` (`NEEDS_REVIEW`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+CREATE TABLE `MF_FACE_CLUSTER_MEMBER` (
+  `MEMBER_ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `CLUSTER_ID` bigint(20) NOT NULL,
+  `PHOTO_ID` bigint(20) NOT NULL,
+  `FACE_INDEX` int(11) NOT NULL,
+  `SIMILARITY` float DEFAULT NULL,
+  `CREATED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `CREATED_DATE` datetime(6) DEFAULT NULL,
+  `MODIFIED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `MODIFIED_DATE` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`MEMBER_ID`),
+  UNIQUE KEY `UK_FACE_CLUSTER_MEMBER_FACE` (`PHOTO_ID`,`FACE_INDEX`),
+  KEY `IDX_FACE_CLUSTER_MEMBER_CLUSTER` (`CLUSTER_ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+CREATE TABLE `MF_ACCOUNT_FACE` (
+  `ACCOUNT_FACE_ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `ACCOUNT_ID` bigint(20) NOT NULL,
+  `CONTENT_HASH` varchar(64) NOT NULL,
+  `MODEL` varchar(50) NOT NULL,
+  `DIMENSION` int(11) NOT NULL,
+  `FEATURE` blob NOT NULL,
+  `CREATED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `CREATED_DATE` datetime(6) DEFAULT NULL,
+  `MODIFIED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `MODIFIED_DATE` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`ACCOUNT_FACE_ID`),
+  KEY `IDX_ACCOUNT_FACE_ACCOUNT` (`ACCOUNT_ID`),
+  KEY `IDX_ACCOUNT_FACE_MODEL` (`MODEL`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+CREATE TABLE `MF_PHOTO_ACCOUNT_TAG` (
+  `TAG_ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `PHOTO_ID` bigint(20) NOT NULL,
+  `ACCOUNT_ID` bigint(20) NOT NULL,
+  `FACE_INDEX` int(11) NOT NULL,
+  `SIMILARITY` float NOT NULL,
+  `CREATED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `CREATED_DATE` datetime(6) DEFAULT NULL,
+  `MODIFIED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `MODIFIED_DATE` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`TAG_ID`),
+  UNIQUE KEY `UK_PHOTO_ACCOUNT_TAG` (`PHOTO_ID`,`ACCOUNT_ID`),
+  KEY `IDX_PHOTO_ACCOUNT_TAG_ACCOUNT` (`ACCOUNT_ID`,`PHOTO_ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+CREATE TABLE `MF_ACCOUNT_PHOTO` (
+  `ACCOUNT_PHOTO_ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `ACCOUNT_ID` bigint(20) NOT NULL,
+  `PHOTO_ID` bigint(20) NOT NULL,
+  `CAPTURED_AT` datetime(6) NOT NULL,
+  `FILE_URL` varchar(1000) DEFAULT NULL,
+  `DERIVATIVE_URLS` longtext DEFAULT NULL,
+  `FACE_INDEX` int(11) NOT NULL,
+  `SIMILARITY` float NOT NULL,
+  `CREATED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `CREATED_DATE` datetime(6) DEFAULT NULL,
+  `MODIFIED_ACCOUNT_ID` bigint(20) DEFAULT NULL,
+  `MODIFIED_DATE` datetime(6) DEFAULT NULL,
+  PRIMARY KEY (`ACCOUNT_PHOTO_ID`),
+  UNIQUE KEY `UK_ACCOUNT_PHOTO` (`ACCOUNT_ID`,`PHOTO_ID`),
+  KEY `IDX_ACCOUNT_PHOTO_CAPTURED` (`ACCOUNT_ID`,`CAPTURED_AT`,`PHOTO_ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
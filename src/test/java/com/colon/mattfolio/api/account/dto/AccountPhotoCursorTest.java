@@ -0,0 +1,53 @@
+package com.colon.mattfolio.api.account.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AccountPhotoCursorTest {
+
+    @Test
+    @DisplayName("커서는 인코딩 후 디코딩하면 나노초까지 같은 값으로 복원된다")
+    void encodeDecodeRoundTrip() {
+        AccountPhotoCursor cursor = new AccountPhotoCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123456789), 42L);
+
+        assertThat(AccountPhotoCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("초 단위가 0인 시각도 복원된다")
+    void encodeDecodeWholeMinute() {
+        AccountPhotoCursor cursor = new AccountPhotoCursor(LocalDateTime.of(2024, 5, 1, 12, 30), Long.MAX_VALUE);
+
+        assertThat(AccountPhotoCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("인코딩된 커서는 URL에 그대로 쓸 수 있다")
+    void encodedCursorIsUrlSafe() {
+        String encoded = new AccountPhotoCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15), 42L).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서는 IllegalArgumentException으로 거절된다")
+    void decodeRejectsMalformedCursor() {
+        assertThatThrownBy(() -> AccountPhotoCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountPhotoCursor.decode(encode("2024-05-01T12:30"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountPhotoCursor.decode(encode("yesterday|42"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> AccountPhotoCursor.decode(encode("2024-05-01T12:30|abc"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String encode(String value) {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
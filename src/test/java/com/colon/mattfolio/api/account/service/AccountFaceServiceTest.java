@@ -0,0 +1,126 @@
+package com.colon.mattfolio.api.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.colon.mattfolio.api.account.dto.AccountFacePhotoResponse;
+import com.colon.mattfolio.api.account.dto.AccountPhotoCursor;
+import com.colon.mattfolio.api.account.dto.AccountPhotoResult;
+import com.colon.mattfolio.api.account.exception.AccountException;
+import com.colon.mattfolio.common.face.AccountFaceRegistry;
+import com.colon.mattfolio.common.file.FileSpoolService;
+import com.colon.mattfolio.common.file.PhotoHashIndexService;
+import com.colon.mattfolio.database.account.entity.AccountPhotoEntity;
+import com.colon.mattfolio.database.account.repository.AccountPhotoRepository;
+import com.colon.mattfolio.database.account.repository.AccountRepository;
+import com.colon.mattfolio.external.faceApi.service.FaceApiService;
+import com.colon.mattfolio.external.faceApi.service.FaceEmbeddingIndex;
+
+class AccountFaceServiceTest {
+
+    private static final Long ACCOUNT_ID = 1L;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private AccountPhotoRepository accountPhotoRepository;
+
+    private AccountFaceService accountFaceService;
+
+    @BeforeEach
+    void setUp() {
+        AccountFaceRegistry accountFaceRegistry = mock(AccountFaceRegistry.class);
+        when(accountFaceRegistry.isEnabled()).thenReturn(true);
+        accountPhotoRepository = mock(AccountPhotoRepository.class);
+
+        accountFaceService = new AccountFaceService(mock(AccountRepository.class), mock(FileSpoolService.class), mock(FaceApiService.class), mock(FaceEmbeddingIndex.class),
+                accountFaceRegistry, accountPhotoRepository, mock(PhotoHashIndexService.class));
+        ReflectionTestUtils.setField(accountFaceService, "maxPageSize", 200);
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 한 건 더 조회하여 다음 페이지가 있으면 마지막 사진의 (촬영 시각, 사진 ID)를 커서로 돌려준다")
+    void firstPageReturnsCursorOfLastRow() {
+        when(accountPhotoRepository.findByAccountIdOrderByCapturedAtDescPhotoIdDesc(eq(ACCOUNT_ID), any())).thenReturn(rows(10, 9, 8, 7));
+
+        AccountFacePhotoResponse response = accountFaceService.findMyPhotos(ACCOUNT_ID, null, 3);
+
+        assertThat(photoIds(response)).containsExactly(10L, 9L, 8L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(AccountPhotoCursor.decode(response.getNextCursor())).isEqualTo(new AccountPhotoCursor(capturedAt(8), 8L));
+        verify(accountPhotoRepository).findByAccountIdOrderByCapturedAtDescPhotoIdDesc(ACCOUNT_ID, PageRequest.of(0, 4));
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 OFFSET 없이 커서 이후부터 조회하고, 마지막 페이지에는 커서가 없다")
+    void nextPageSeeksAfterCursor() {
+        AccountPhotoCursor cursor = new AccountPhotoCursor(capturedAt(8), 8L);
+        when(accountPhotoRepository.findNextPage(eq(ACCOUNT_ID), eq(cursor.capturedAt()), eq(8L), any())).thenReturn(rows(7, 6));
+
+        AccountFacePhotoResponse response = accountFaceService.findMyPhotos(ACCOUNT_ID, cursor.encode(), 3);
+
+        assertThat(photoIds(response)).containsExactly(7L, 6L);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        verify(accountPhotoRepository).findNextPage(ACCOUNT_ID, cursor.capturedAt(), 8L, PageRequest.of(0, 4));
+        verify(accountPhotoRepository, never()).findByAccountIdOrderByCapturedAtDescPhotoIdDesc(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 이상 최대 페이지 크기 이하로 제한된다")
+    void pageSizeIsClamped() {
+        when(accountPhotoRepository.findByAccountIdOrderByCapturedAtDescPhotoIdDesc(eq(ACCOUNT_ID), any())).thenReturn(List.of());
+
+        accountFaceService.findMyPhotos(ACCOUNT_ID, null, 0);
+        accountFaceService.findMyPhotos(ACCOUNT_ID, null, 10_000);
+
+        verify(accountPhotoRepository).findByAccountIdOrderByCapturedAtDescPhotoIdDesc(ACCOUNT_ID, PageRequest.of(0, 2));
+        verify(accountPhotoRepository).findByAccountIdOrderByCapturedAtDescPhotoIdDesc(ACCOUNT_ID, PageRequest.of(0, 201));
+    }
+
+    @Test
+    @DisplayName("형식이 올바르지 않은 커서는 잘못된 요청으로 거절된다")
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> accountFaceService.findMyPhotos(ACCOUNT_ID, "not a cursor", 3)).isInstanceOf(AccountException.class);
+    }
+
+    private List<AccountPhotoEntity> rows(long... photoIds) {
+        return LongStream.of(photoIds)
+            .mapToObj(photoId -> AccountPhotoEntity.builder()
+                .accountId(ACCOUNT_ID)
+                .photoId(photoId)
+                .capturedAt(capturedAt(photoId))
+                .faceIndex(0)
+                .similarity(0.9f)
+                .build())
+            .toList();
+    }
+
+    private LocalDateTime capturedAt(long photoId) {
+        return NOW.minusMinutes(100 - photoId);
+    }
+
+    private List<Long> photoIds(AccountFacePhotoResponse response) {
+        return response.getPhotos()
+            .stream()
+            .map(AccountPhotoResult::getPhotoId)
+            .toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.colon.mattfolio.api.photo.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.colon.mattfolio.api.photo.dto.PhotoUploadSessionResponse;
+
+class PhotoUploadSessionTest {
+
+    @Test
+    @DisplayName("떨어진 구간은 따로 보관하고, 사이를 채우면 하나로 병합한다")
+    void mergesAdjacentRanges() {
+        PhotoUploadSession session = newSession(300);
+
+        session.markReceived(0, 100);
+        session.markReceived(200, 300);
+        assertThat(ranges(session)).containsExactly(range(0, 99), range(200, 299));
+        assertThat(session.isReceived()).isFalse();
+
+        session.markReceived(100, 200);
+
+        assertThat(ranges(session)).containsExactly(range(0, 299));
+        assertThat(session.toResponse(100, 60)
+            .getReceivedBytes()).isEqualTo(300);
+        assertThat(session.isReceived()).isTrue();
+    }
+
+    @Test
+    @DisplayName("겹치는 구간은 병합하며 수신 바이트를 중복 집계하지 않는다")
+    void mergesOverlappingRangesWithoutDoubleCounting() {
+        PhotoUploadSession session = newSession(1000);
+
+        session.markReceived(100, 200);
+        session.markReceived(300, 400);
+        session.markReceived(500, 600);
+        session.markReceived(150, 550);
+
+        assertThat(ranges(session)).containsExactly(range(100, 599));
+        assertThat(session.toResponse(100, 60)
+            .getReceivedBytes()).isEqualTo(500);
+
+        // 이미 수신된 구간 안쪽을 다시 받아도 변하지 않음
+        session.markReceived(200, 300);
+        assertThat(ranges(session)).containsExactly(range(100, 599));
+        assertThat(session.toResponse(100, 60)
+            .getReceivedBytes()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("청크는 임의 순서로 받아도 전체 수신 여부를 판단한다")
+    void receivesChunksOutOfOrder() {
+        PhotoUploadSession session = newSession(1000);
+
+        for (long start : new long[] { 900, 0, 500, 300, 100, 700, 200, 800, 400, 600 }) {
+            assertThat(session.isReceived()).isFalse();
+            session.markReceived(start, start + 100);
+        }
+
+        assertThat(ranges(session)).containsExactly(range(0, 999));
+        assertThat(session.isReceived()).isTrue();
+    }
+
+    @Test
+    @DisplayName("겹침은 수신 구간과 한 바이트라도 겹칠 때만이며, 맞닿기만 한 구간은 겹치지 않는다")
+    void overlapsReceived() {
+        PhotoUploadSession session = newSession(1000);
+        session.markReceived(100, 200);
+        session.markReceived(400, 500);
+
+        assertThat(session.overlapsReceived(0, 100)).isFalse();
+        assertThat(session.overlapsReceived(200, 400)).isFalse();
+        assertThat(session.overlapsReceived(500, 600)).isFalse();
+
+        assertThat(session.overlapsReceived(0, 101)).isTrue();
+        assertThat(session.overlapsReceived(199, 300)).isTrue();
+        assertThat(session.overlapsReceived(120, 150)).isTrue();
+        assertThat(session.overlapsReceived(300, 401)).isTrue();
+        assertThat(session.overlapsReceived(0, 1000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("완료 요청은 한 번만 접수된다")
+    void beginCompleteOnce() {
+        PhotoUploadSession session = newSession(100);
+
+        assertThat(session.isCompleting()).isFalse();
+        assertThat(session.beginComplete()).isTrue();
+        assertThat(session.beginComplete()).isFalse();
+        assertThat(session.isCompleting()).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션은 생성한 회원만 사용할 수 있으며, 인증 없는 요청자는 어떤 세션의 소유자도 아니다")
+    void ownedOnlyByCreator() {
+        PhotoUploadSession session = newSession(100);
+
+        assertThat(session.isOwnedBy("member")).isTrue();
+        assertThat(session.isOwnedBy("other")).isFalse();
+        assertThat(session.isOwnedBy(null)).isFalse();
+        assertThat(new PhotoUploadSession("session", null, "photo.jpg", "image/jpeg", 100, null, Path.of("session.part")).isOwnedBy(null)).isFalse();
+    }
+
+    private PhotoUploadSession newSession(long size) {
+        return new PhotoUploadSession("session", "member", "photo.jpg", "image/jpeg", size, null, Path.of("session.part"));
+    }
+
+    private List<String> ranges(PhotoUploadSession session) {
+        PhotoUploadSessionResponse response = session.toResponse(100, 60);
+        return response.getReceivedRanges()
+            .stream()
+            .map(range -> range(range.getStart(), range.getEnd()))
+            .toList();
+    }
+
+    /**
+     * 응답과 같은 양 끝 포함 구간 표기
+     */
+    private String range(long start, long end) {
+        return start + "-" + end;
+    }
+}
@@ -0,0 +1,211 @@
+package com.colon.mattfolio.api.storage.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.colon.mattfolio.api.storage.service.StorageService;
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+import com.colon.mattfolio.common.storage.StoredFileHandle;
+import com.colon.mattfolio.common.storage.StoredFileMetadata;
+
+class StorageControllerTest {
+
+    private static final String KEY = "photo.jpg";
+
+    private static final String ETAG = "\"v1\"";
+
+    // 마지막 수정 일시 (초 단위로 맞춤, HTTP 날짜 헤더는 초 단위)
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    private static final byte[] CONTENT = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    private StorageService storageService;
+
+    private StorageController storageController;
+
+    private StoredFileMetadata metadata;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storageService = mock(StorageService.class);
+        metadata = StoredFileMetadata.builder()
+            .size(CONTENT.length)
+            .eTag(ETAG)
+            .contentType("image/jpeg")
+            .lastModified(LAST_MODIFIED)
+            .build();
+
+        when(storageService.findContainerType("photographer")).thenReturn(BlobContainerType.PHOTOGRAPHER);
+        when(storageService.stat(BlobContainerType.PHOTOGRAPHER, KEY)).thenReturn(metadata);
+        when(storageService.open(BlobContainerType.PHOTOGRAPHER, KEY, metadata)).thenReturn(new StoredFileHandle(metadata, null));
+        // 요청 구간만큼 원본을 씀
+        doAnswer(invocation -> {
+            long offset = invocation.getArgument(3);
+            long length = invocation.getArgument(4);
+            OutputStream out = invocation.getArgument(5);
+            out.write(Arrays.copyOfRange(CONTENT, (int) offset, (int) (offset + length)));
+            return null;
+        }).when(storageService)
+            .write(eq(BlobContainerType.PHOTOGRAPHER), eq(KEY), any(), anyLong(), anyLong(), any());
+
+        storageController = new StorageController(storageService);
+        ReflectionTestUtils.setField(storageController, "maxAgeSeconds", 86400L);
+    }
+
+    @Test
+    @DisplayName("Range 헤더가 없으면 전체를 200으로 전송한다")
+    void sendsWholeFileWithoutRange() throws Exception {
+        MockHttpServletResponse response = download(get());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(response.getHeader(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    }
+
+    @Test
+    @DisplayName("단일 구간 Range는 해당 구간만 206으로 전송한다")
+    void sendsSingleRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentLengthLong()).isEqualTo(4);
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    @DisplayName("끝에서부터의 구간(bytes=-N)은 마지막 N 바이트를 전송한다")
+    void sendsSuffixRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=-3");
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 7-9/10");
+        assertThat(response.getContentAsString()).isEqualTo("789");
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어나는 구간은 416과 전체 크기를 응답하고 파일을 열지 않는다")
+    void rejectsUnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = get();
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-30");
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */10");
+        verify(storageService, never()).open(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 구간이나 형식이 올바르지 않은 Range는 무시하고 전체를 전송한다")
+    void ignoresMultipleOrMalformedRanges() throws Exception {
+        MockHttpServletRequest multiple = get();
+        multiple.addHeader(HttpHeaders.RANGE, "bytes=0-1,4-5");
+        MockHttpServletRequest malformed = get();
+        malformed.addHeader(HttpHeaders.RANGE, "items=0-1");
+
+        assertThat(download(multiple).getStatus()).isEqualTo(200);
+        assertThat(download(malformed).getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("If-Range ETag가 현재 버전과 같으면 구간을, 다르면 전체를 전송한다")
+    void appliesRangeOnlyForMatchingIfRangeETag() throws Exception {
+        MockHttpServletRequest matching = get();
+        matching.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        matching.addHeader(HttpHeaders.IF_RANGE, ETAG);
+        MockHttpServletRequest stale = get();
+        stale.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        stale.addHeader(HttpHeaders.IF_RANGE, "\"v0\"");
+
+        assertThat(download(matching).getContentAsString()).isEqualTo("01");
+
+        MockHttpServletResponse response = download(stale);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("If-Range 날짜가 마지막 수정 이후이면 구간을, 이전이면 전체를 전송한다")
+    void appliesRangeOnlyForUnmodifiedIfRangeDate() throws Exception {
+        MockHttpServletRequest unmodified = get();
+        unmodified.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        unmodified.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED));
+        MockHttpServletRequest modified = get();
+        modified.addHeader(HttpHeaders.RANGE, "bytes=0-1");
+        modified.addHeader(HttpHeaders.IF_RANGE, httpDate(LAST_MODIFIED - 60_000));
+
+        assertThat(download(unmodified).getStatus()).isEqualTo(206);
+        assertThat(download(modified).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag(약한 비교 포함)와 같으면 파일을 열지 않고 304를 응답한다")
+    void answersNotModifiedWithoutOpening() throws Exception {
+        MockHttpServletRequest strong = get();
+        strong.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", " + ETAG);
+        MockHttpServletRequest weak = get();
+        weak.addHeader(HttpHeaders.IF_NONE_MATCH, "W/" + ETAG);
+
+        assertThat(download(strong).getStatus()).isEqualTo(304);
+        MockHttpServletResponse response = download(weak);
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        verify(storageService, never()).open(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("HEAD 요청은 길이와 헤더만 응답하고 파일을 열지 않는다")
+    void answersHeadFromMetadata() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/storage/photographer/" + KEY);
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-4");
+
+        MockHttpServletResponse response = download(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        verify(storageService, never()).open(any(), any(), any());
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/storage/photographer/" + KEY);
+    }
+
+    private MockHttpServletResponse download(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        storageController.download("photographer", KEY, request, response);
+        return response;
+    }
+
+    private String httpDate(long epochMillis) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setDate(HttpHeaders.IF_RANGE, epochMillis);
+        return headers.getFirst(HttpHeaders.IF_RANGE);
+    }
+}
@@ -0,0 +1,111 @@
+package com.colon.mattfolio.common.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ByteBudgetTest {
+
+    @Test
+    @DisplayName("예산은 KiB 단위로 내림하고, 최소 1KiB를 보장한다")
+    void budgetRoundsDownToUnits() {
+        assertThat(new ByteBudget(10_000).getBudgetBytes()).isEqualTo(9 * 1024);
+        assertThat(new ByteBudget(100).getBudgetBytes()).isEqualTo(1024);
+    }
+
+    @Test
+    @DisplayName("요청 크기는 KiB 단위로 올림하여 집계하고, 반환하면 0으로 돌아간다")
+    void acquireAndReleaseTracksInFlightBytes() throws InterruptedException {
+        ByteBudget budget = new ByteBudget(10 * 1024);
+
+        assertThat(budget.tryAcquire(1500, 0)).isTrue();
+        assertThat(budget.tryAcquire(0, 0)).isTrue();
+        assertThat(budget.getInFlightBytes()).isEqualTo(3 * 1024);
+        assertThat(budget.getInFlightRequests()).isEqualTo(2);
+
+        budget.release(1500);
+        budget.release(0);
+
+        assertThat(budget.getInFlightBytes()).isZero();
+        assertThat(budget.getInFlightRequests()).isZero();
+        assertThat(budget.getPeakInFlightBytes()).isEqualTo(3 * 1024);
+    }
+
+    @Test
+    @DisplayName("남은 예산보다 큰 요청은 대기 시간이 0이면 바로 거절된다")
+    void rejectsWithoutWaitingWhenExhausted() throws InterruptedException {
+        ByteBudget budget = new ByteBudget(10 * 1024);
+
+        assertThat(budget.tryAcquire(8 * 1024, 0)).isTrue();
+        assertThat(budget.tryAcquire(4 * 1024, 0)).isFalse();
+        assertThat(budget.tryAcquire(2 * 1024, 0)).isTrue();
+
+        assertThat(budget.getInFlightBytes()).isEqualTo(10 * 1024);
+        assertThat(budget.getWaitingRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("예산보다 큰 요청은 예산 전체를 사용하여 혼자 처리된다")
+    void oversizedRequestUsesWholeBudget() throws InterruptedException {
+        ByteBudget budget = new ByteBudget(10 * 1024);
+
+        assertThat(budget.tryAcquire(1L << 30, 0)).isTrue();
+        assertThat(budget.getInFlightBytes()).isEqualTo(budget.getBudgetBytes());
+        assertThat(budget.tryAcquire(1, 0)).isFalse();
+
+        budget.release(1L << 30);
+
+        assertThat(budget.getInFlightBytes()).isZero();
+        assertThat(budget.tryAcquire(1L << 30, 0)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기다리는 요청은 예산이 반환되면 허가를 받는다")
+    void waiterAcquiresAfterRelease() throws Exception {
+        ByteBudget budget = new ByteBudget(4 * 1024);
+        assertThat(budget.tryAcquire(4 * 1024, 0)).isTrue();
+
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return budget.tryAcquire(2 * 1024, 5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                    .interrupt();
+                return false;
+            }
+        });
+        awaitWaiting(budget, 1);
+
+        budget.release(4 * 1024);
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(budget.getInFlightBytes()).isEqualTo(2 * 1024);
+        assertThat(budget.getWaitingRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 예산을 얻지 못하면 거절된다")
+    void timesOutWhenBudgetNotReleased() throws InterruptedException {
+        ByteBudget budget = new ByteBudget(4 * 1024);
+        assertThat(budget.tryAcquire(4 * 1024, 0)).isTrue();
+
+        long started = System.nanoTime();
+        assertThat(budget.tryAcquire(1024, 50)).isFalse();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(50);
+        assertThat(budget.getInFlightRequests()).isEqualTo(1);
+        assertThat(budget.getWaitingRequests()).isZero();
+    }
+
+    private void awaitWaiting(ByteBudget budget, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (budget.getWaitingRequests() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(budget.getWaitingRequests()).isEqualTo(expected);
+    }
+}
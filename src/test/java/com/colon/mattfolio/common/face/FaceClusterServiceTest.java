@@ -0,0 +1,229 @@
+package com.colon.mattfolio.common.face;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.colon.mattfolio.database.face.entity.FaceClusterEntity;
+import com.colon.mattfolio.database.face.entity.FaceClusterMemberEntity;
+import com.colon.mattfolio.database.face.repository.FaceClusterMemberRepository;
+import com.colon.mattfolio.database.face.repository.FaceClusterRepository;
+import com.colon.mattfolio.external.faceApi.dto.FaceEmbeddingMatch;
+import com.colon.mattfolio.external.faceApi.service.FaceEmbeddingIndex;
+import com.colon.mattfolio.external.faceApi.service.FaceFeatureExtractor;
+
+class FaceClusterServiceTest {
+
+    private FaceEmbeddingIndex faceEmbeddingIndex;
+
+    private FaceFeatureExtractor faceFeatureExtractor;
+
+    private FaceClusterRepository faceClusterRepository;
+
+    private FaceClusterMemberRepository faceClusterMemberRepository;
+
+    private FaceClusterService faceClusterService;
+
+    @BeforeEach
+    void setUp() {
+        faceEmbeddingIndex = mock(FaceEmbeddingIndex.class);
+        faceFeatureExtractor = mock(FaceFeatureExtractor.class);
+        faceClusterRepository = mock(FaceClusterRepository.class);
+        faceClusterMemberRepository = mock(FaceClusterMemberRepository.class);
+
+        when(faceEmbeddingIndex.isEnabled()).thenReturn(true);
+        when(faceFeatureExtractor.isIdentityModel()).thenReturn(true);
+
+        faceClusterService = new FaceClusterService(faceEmbeddingIndex, faceFeatureExtractor, faceClusterRepository, faceClusterMemberRepository,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(faceClusterService, "enabled", true);
+        ReflectionTestUtils.setField(faceClusterService, "neighbors", 10);
+        ReflectionTestUtils.setField(faceClusterService, "assignSimilarity", 0.8f);
+        ReflectionTestUtils.setField(faceClusterService, "mergeSimilarity", 0.85f);
+        ReflectionTestUtils.setField(faceClusterService, "splitSimilarity", 0.6f);
+        ReflectionTestUtils.setField(faceClusterService, "reviewBatchSize", 100);
+        ReflectionTestUtils.setField(faceClusterService, "maxSplitMembers", 500);
+    }
+
+    @Test
+    @DisplayName("이웃 유사도 합이 가장 큰 클러스터에 배정한다")
+    void assignVotesForDominantCluster() {
+        when(faceEmbeddingIndex.contains(100L, 0)).thenReturn(true);
+        when(faceEmbeddingIndex.findSimilarFaces(100L, 0, 10)).thenReturn(List.of( //
+                new FaceEmbeddingMatch(10L, 0, 0.9f), //
+                new FaceEmbeddingMatch(11L, 0, 0.85f), //
+                new FaceEmbeddingMatch(12L, 0, 0.82f), //
+                new FaceEmbeddingMatch(13L, 0, 0.5f)));
+        when(faceClusterMemberRepository.findByPhotoIdIn(any())).thenReturn(List.of(member(1L, 10L, 0), member(2L, 11L, 0), member(2L, 12L, 0), member(1L, 13L, 0)));
+
+        assertThat(faceClusterService.assign(100L, 1)).isEqualTo(1);
+
+        FaceClusterMemberEntity saved = savedMember();
+        assertThat(saved.getClusterId()).isEqualTo(2L);
+        assertThat(saved.getSimilarity()).isEqualTo(0.85f);
+        verify(faceClusterRepository).addFaceCount(2L, 1);
+        verify(faceClusterRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("배정 기준 이상인 이웃이 없으면 이 얼굴을 대표로 하는 새 클러스터를 만든다")
+    void assignCreatesClusterWithoutCloseNeighbours() {
+        when(faceEmbeddingIndex.contains(100L, 1)).thenReturn(true);
+        when(faceEmbeddingIndex.findSimilarFaces(100L, 1, 10)).thenReturn(List.of(new FaceEmbeddingMatch(10L, 0, 0.7f)));
+        when(faceClusterRepository.save(any())).thenReturn(cluster(7L, 100L, 1));
+
+        assertThat(faceClusterService.assign(100L, 2)).isEqualTo(1);
+
+        ArgumentCaptor<FaceClusterEntity> created = ArgumentCaptor.forClass(FaceClusterEntity.class);
+        verify(faceClusterRepository).save(created.capture());
+        assertThat(created.getValue()
+            .getRepresentativePhotoId()).isEqualTo(100L);
+        assertThat(created.getValue()
+            .getRepresentativeFaceIndex()).isEqualTo(1);
+        assertThat(savedMember().getClusterId()).isEqualTo(7L);
+        verify(faceClusterMemberRepository, never()).findByPhotoIdIn(any());
+    }
+
+    @Test
+    @DisplayName("이미 배정된 얼굴은 다시 배정하지 않는다")
+    void assignSkipsAssignedFace() {
+        when(faceEmbeddingIndex.contains(100L, 0)).thenReturn(true);
+        when(faceClusterMemberRepository.existsByPhotoIdAndFaceIndex(100L, 0)).thenReturn(true);
+
+        assertThat(faceClusterService.assign(100L, 1)).isZero();
+
+        verify(faceClusterMemberRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("얼굴 인식 모델이 아니면 클러스터링하지 않는다")
+    void assignDisabledWithoutIdentityModel() {
+        when(faceFeatureExtractor.isIdentityModel()).thenReturn(false);
+
+        assertThat(faceClusterService.isEnabled()).isFalse();
+        assertThat(faceClusterService.assign(100L, 3)).isZero();
+
+        verifyNoInteractions(faceClusterRepository, faceClusterMemberRepository);
+    }
+
+    @Test
+    @DisplayName("검토 시 대표 얼굴과 매우 유사한 더 큰 클러스터가 있으면 그 클러스터에 흡수된다")
+    void reviewMergesIntoLargerCluster() {
+        reviewTarget(cluster(1L, 100L, 0));
+        when(faceClusterMemberRepository.findByClusterId(1L)).thenReturn(List.of(member(1L, 100L, 0)));
+        when(faceEmbeddingIndex.findSimilarFaces(100L, 0, 10)).thenReturn(List.of(new FaceEmbeddingMatch(200L, 0, 0.9f)));
+        when(faceClusterMemberRepository.findByPhotoIdIn(any())).thenReturn(List.of(member(2L, 200L, 0)));
+        when(faceClusterMemberRepository.countByClusterId(1L)).thenReturn(3L);
+        when(faceClusterMemberRepository.countByClusterId(2L)).thenReturn(5L);
+        when(faceClusterMemberRepository.moveCluster(1L, 2L)).thenReturn(3);
+
+        faceClusterService.review();
+
+        verify(faceClusterMemberRepository).moveCluster(1L, 2L);
+        verify(faceClusterRepository).addFaceCount(2L, 3);
+        verify(faceClusterRepository).deleteById(1L);
+        verify(faceClusterRepository, never()).markReviewed(anyLong());
+    }
+
+    @Test
+    @DisplayName("검토 시 더 작은 클러스터를 흡수하고 검토 완료로 표시한다")
+    void reviewAbsorbsSmallerCluster() {
+        reviewTarget(cluster(1L, 100L, 0));
+        when(faceClusterMemberRepository.findByClusterId(1L)).thenReturn(List.of(member(1L, 100L, 0)));
+        when(faceEmbeddingIndex.findSimilarFaces(100L, 0, 10)).thenReturn(List.of(new FaceEmbeddingMatch(200L, 0, 0.9f)));
+        when(faceClusterMemberRepository.findByPhotoIdIn(any())).thenReturn(List.of(member(2L, 200L, 0)));
+        when(faceClusterMemberRepository.countByClusterId(1L)).thenReturn(5L);
+        when(faceClusterMemberRepository.countByClusterId(2L)).thenReturn(2L);
+        when(faceClusterMemberRepository.moveCluster(2L, 1L)).thenReturn(2);
+
+        faceClusterService.review();
+
+        verify(faceClusterMemberRepository).moveCluster(2L, 1L);
+        verify(faceClusterRepository).deleteById(2L);
+        verify(faceClusterRepository).markReviewed(1L);
+    }
+
+    @Test
+    @DisplayName("검토 시 대표 얼굴과 다른 얼굴은 근거가 없으면 새 클러스터로 분리한다")
+    void reviewSplitsDissimilarFace() {
+        FaceClusterMemberEntity outlier = member(1L, 300L, 2);
+        reviewTarget(cluster(1L, 100L, 0));
+        when(faceClusterMemberRepository.countByClusterId(1L)).thenReturn(2L);
+        when(faceClusterMemberRepository.findByClusterId(1L)).thenReturn(List.of(member(1L, 100L, 0), outlier));
+        when(faceEmbeddingIndex.similarity(300L, 2, 100L, 0)).thenReturn(0.4f);
+        when(faceEmbeddingIndex.findSimilarFaces(300L, 2, 10)).thenReturn(List.of());
+        when(faceEmbeddingIndex.findSimilarFaces(100L, 0, 10)).thenReturn(List.of());
+        when(faceClusterRepository.save(any())).thenReturn(cluster(9L, 300L, 2));
+
+        faceClusterService.review();
+
+        assertThat(outlier.getClusterId()).isEqualTo(9L);
+        assertThat(outlier.getSimilarity()).isNull();
+        verify(faceClusterRepository).addFaceCount(1L, -1);
+        verify(faceClusterRepository).markReviewed(1L);
+    }
+
+    @Test
+    @DisplayName("검토 시 대표 얼굴과 충분히 유사한 얼굴은 그대로 둔다")
+    void reviewKeepsSimilarFace() {
+        FaceClusterMemberEntity member = member(1L, 300L, 0);
+        reviewTarget(cluster(1L, 100L, 0));
+        when(faceClusterMemberRepository.countByClusterId(1L)).thenReturn(2L);
+        when(faceClusterMemberRepository.findByClusterId(1L)).thenReturn(List.of(member));
+        when(faceEmbeddingIndex.similarity(300L, 0, 100L, 0)).thenReturn(0.7f);
+        when(faceEmbeddingIndex.findSimilarFaces(100L, 0, 10)).thenReturn(List.of());
+
+        faceClusterService.review();
+
+        assertThat(member.getClusterId()).isEqualTo(1L);
+        verify(faceEmbeddingIndex, never()).findSimilarFaces(300L, 0, 10);
+        verify(faceClusterRepository, never()).addFaceCount(anyLong(), anyInt());
+        verify(faceClusterRepository).markReviewed(1L);
+    }
+
+    private void reviewTarget(FaceClusterEntity cluster) {
+        when(faceClusterRepository.findByNeedsReviewTrueOrderByClusterIdAsc(any(Pageable.class))).thenReturn(List.of(cluster));
+        when(faceClusterRepository.findById(cluster.getClusterId())).thenReturn(Optional.of(cluster));
+    }
+
+    private FaceClusterMemberEntity savedMember() {
+        ArgumentCaptor<FaceClusterMemberEntity> captor = ArgumentCaptor.forClass(FaceClusterMemberEntity.class);
+        verify(faceClusterMemberRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private FaceClusterEntity cluster(Long clusterId, Long photoId, int faceIndex) {
+        return FaceClusterEntity.builder()
+            .clusterId(clusterId)
+            .representativePhotoId(photoId)
+            .representativeFaceIndex(faceIndex)
+            .faceCount(1)
+            .needsReview(true)
+            .build();
+    }
+
+    private FaceClusterMemberEntity member(Long clusterId, Long photoId, int faceIndex) {
+        return FaceClusterMemberEntity.builder()
+            .clusterId(clusterId)
+            .photoId(photoId)
+            .faceIndex(faceIndex)
+            .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.colon.mattfolio.common.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.exception.UploadBusyException;
+import com.colon.mattfolio.common.pipeline.PipelineStage;
+import com.colon.mattfolio.common.property.Message;
+
+class PhotoProcessingStagesTest {
+
+    // 작업 스레드를 붙잡아 두는 작업이 기다리는 신호
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PhotoProcessingStages stages;
+
+    @BeforeAll
+    static void setUpMessages() {
+        Message.setMessageSourceAccessor(new MessageSourceAccessor(new StaticMessageSource()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        stages = new PhotoProcessingStages();
+        ReflectionTestUtils.setField(stages, "offerTimeoutMillis", 50L);
+        ReflectionTestUtils.setField(stages, "awaitTimeoutMillis", 200L);
+        ReflectionTestUtils.setField(stages, "lookupThreads", 1);
+        ReflectionTestUtils.setField(stages, "lookupQueueCapacity", 1);
+        ReflectionTestUtils.setField(stages, "detectThreads", 1);
+        ReflectionTestUtils.setField(stages, "detectQueueCapacity", 1);
+        ReflectionTestUtils.setField(stages, "storeThreads", 1);
+        ReflectionTestUtils.setField(stages, "storeQueueCapacity", 1);
+        ReflectionTestUtils.setField(stages, "deriveThreads", 1);
+        ReflectionTestUtils.setField(stages, "deriveQueueCapacity", 1);
+        ReflectionTestUtils.setField(stages, "registerThreads", 1);
+        ReflectionTestUtils.setField(stages, "registerQueueCapacity", 1);
+        stages.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        stages.destroy();
+    }
+
+    @Test
+    @DisplayName("단계의 큐가 가득 차 거절된 작업은 업로드 혼잡 예외로 변환한다")
+    void translatesStageRejectionToUploadBusy() {
+        PipelineStage lookup = stages.getLookup();
+        lookup.submit(this::holdWorker);
+        lookup.submit(() -> "queued");
+
+        CompletableFuture<String> rejected = lookup.submit(() -> "rejected");
+
+        assertThatThrownBy(() -> stages.await(rejected)).isInstanceOf(UploadBusyException.class)
+            .hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    @DisplayName("다음 단계로 넘기다 거절된 경우에도 감싼 예외를 풀어 업로드 혼잡 예외로 변환한다")
+    void translatesRejectionFromLaterStage() {
+        PipelineStage derive = stages.getDerive();
+        derive.submit(this::holdWorker);
+        derive.submit(() -> "queued");
+
+        CompletableFuture<String> result = stages.getLookup()
+            .submit(() -> "looked-up")
+            .thenCompose(value -> derive.submit(() -> value + "-derived"));
+
+        assertThatThrownBy(() -> stages.await(result)).isInstanceOf(UploadBusyException.class);
+        assertThat(derive.getStats()
+            .getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 처리가 끝나지 않으면 기다리지 않고 처리 시간 초과 예외를 던진다")
+    void timesOutWaitingForResult() {
+        CompletableFuture<String> result = stages.getRegister()
+            .submit(this::holdWorker);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> stages.await(result)).isInstanceOfSatisfying(PhotoException.class,
+                e -> assertThat(e.getReason()).isEqualTo(PhotoException.Reason.PROCESSING_TIMEOUT));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(5000);
+        // 진행 중인 단계는 시간 초과와 관계없이 계속 처리됨
+        assertThat(result).isNotDone();
+    }
+
+    @Test
+    @DisplayName("단계에서 발생한 입출력 예외와 실행 예외는 감싸지 않고 그대로 던진다")
+    void rethrowsStageFailuresUnwrapped() {
+        IOException ioFailure = new IOException("read failed");
+        CompletableFuture<String> io = stages.getStore()
+            .submit(() -> {
+                throw ioFailure;
+            });
+        CompletableFuture<String> runtime = stages.getDetect()
+            .submit(() -> "detected")
+            .thenApply(value -> {
+                throw new IllegalStateException(value);
+            });
+
+        assertThatThrownBy(() -> stages.await(io)).isSameAs(ioFailure);
+        assertThatThrownBy(() -> stages.await(runtime)).isInstanceOf(IllegalStateException.class)
+            .hasMessage("detected");
+    }
+
+    @Test
+    @DisplayName("기다리는 중 중단되면 InterruptedIOException을 던지고 중단 상태를 유지한다")
+    void keepsInterruptFlag() {
+        Thread.currentThread()
+            .interrupt();
+        try {
+            assertThatThrownBy(() -> stages.await(new CompletableFuture<String>())).isInstanceOf(InterruptedIOException.class);
+            assertThat(Thread.currentThread()
+                .isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @DisplayName("거절 외의 예외는 변환하지 않는다")
+    void translatesOnlyRejection() {
+        IllegalStateException failure = new IllegalStateException();
+
+        assertThat(stages.translate(failure)).isSameAs(failure);
+        assertThat(stages.translate(new RejectedExecutionException())).isInstanceOf(UploadBusyException.class);
+    }
+
+    private String holdWorker() throws InterruptedException {
+        release.await(5, TimeUnit.SECONDS);
+        return "held";
+    }
+}
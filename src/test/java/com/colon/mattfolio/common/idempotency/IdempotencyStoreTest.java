@@ -0,0 +1,204 @@
+package com.colon.mattfolio.common.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.colon.mattfolio.common.exception.PhotoException;
+import com.colon.mattfolio.common.property.Message;
+
+class IdempotencyStoreTest {
+
+    private IdempotencyStore store;
+
+    // 실제로 작업을 실행한 횟수
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeAll
+    static void setUpMessages() {
+        Message.setMessageSourceAccessor(new MessageSourceAccessor(new StaticMessageSource()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore();
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "ttlMinutes", 10L);
+        ReflectionTestUtils.setField(store, "waitTimeoutMillis", 5000L);
+        ReflectionTestUtils.setField(store, "maxEntries", 100);
+        ReflectionTestUtils.setField(store, "maxKeyLength", 16);
+    }
+
+    @Test
+    @DisplayName("같은 키와 같은 요청의 재시도는 작업을 다시 실행하지 않고 처음 결과를 반환한다")
+    void replaysCompletedResult() throws IOException {
+        assertThat(store.execute("1:upload", "key-1", () -> "files-a", this::countedRun)).isEqualTo("result-1");
+        assertThat(store.execute("1:upload", "key-1", () -> "files-a", this::countedRun)).isEqualTo("result-1");
+
+        assertThat(runs).hasValue(1);
+        IdempotencyStats stats = store.getStats();
+        assertThat(stats.getExecutedCount()).isEqualTo(1);
+        assertThat(stats.getReplayedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청이 들어오면 실행하지 않고 거절한다")
+    void rejectsMismatchedRequest() throws IOException {
+        store.execute("1:upload", "key-1", () -> "files-a", this::countedRun);
+
+        assertThatThrownBy(() -> store.execute("1:upload", "key-1", () -> "files-b", this::countedRun)).isInstanceOfSatisfying(PhotoException.class,
+                e -> assertThat(e.getReason()).isEqualTo(PhotoException.Reason.IDEMPOTENCY_KEY_MISMATCH));
+        assertThat(runs).hasValue(1);
+        assertThat(store.getStats()
+            .getConflictCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키라도 요청자(범위)가 다르면 따로 실행한다")
+    void separatesKeysByScope() throws IOException {
+        store.execute("1:upload", "key-1", () -> "files-a", this::countedRun);
+        store.execute("2:upload", "key-1", () -> "files-b", this::countedRun);
+
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("요청자를 알 수 없는 요청은 멱등 키를 받지 않고, 키가 없으면 그대로 실행한다")
+    void requiresScopeOnlyWithKey() throws IOException {
+        assertThatThrownBy(() -> store.execute(null, "key-1", () -> "files-a", this::countedRun)).isInstanceOfSatisfying(PhotoException.class,
+                e -> assertThat(e.getReason()).isEqualTo(PhotoException.Reason.IDEMPOTENCY_KEY_UNAUTHENTICATED));
+
+        // 키가 없으면 지문도 계산하지 않음
+        assertThat(store.execute(null, null, () -> {
+            throw new IllegalStateException("fingerprint must not run");
+        }, this::countedRun)).isEqualTo("result-1");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("너무 길거나 ASCII가 아닌 키는 거절한다")
+    void rejectsInvalidKey() {
+        assertThatThrownBy(() -> store.execute("1:upload", "k".repeat(17), () -> "files-a", this::countedRun)).isInstanceOfSatisfying(PhotoException.class,
+                e -> assertThat(e.getReason()).isEqualTo(PhotoException.Reason.INVALID_IDEMPOTENCY_KEY));
+        assertThatThrownBy(() -> store.execute("1:upload", "키", () -> "files-a", this::countedRun)).isInstanceOf(PhotoException.class);
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 결과를 보관하지 않으므로 같은 키로 다시 실행할 수 있다")
+    void retriesAfterFailure() throws IOException {
+        assertThatThrownBy(() -> store.execute("1:upload", "key-1", () -> "files-a", () -> {
+            throw new IOException("store failed");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(store.execute("1:upload", "key-1", () -> "files-a", this::countedRun)).isEqualTo("result-1");
+        assertThat(store.getStats()
+            .getEntryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중에 들어온 재시도는 처음 요청에 합류하여 같은 결과를 받는다")
+    void joinsInProgressRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.execute("1:upload", "key-1", () -> "files-a", () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    return countedRun();
+                });
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> retry = CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.execute("1:upload", "key-1", () -> "files-a", this::countedRun);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(retry).isNotDone();
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+        assertThat(runs).hasValue(1);
+        assertThat(store.getStats()
+            .getJoinedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처음 요청이 제한 시간 안에 끝나지 않으면 합류한 재시도는 처리 중 예외를 받는다")
+    void timesOutJoiningSlowRequest() throws Exception {
+        ReflectionTestUtils.setField(store, "waitTimeoutMillis", 50L);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return store.execute("1:upload", "key-1", () -> "files-a", () -> {
+                    started.countDown();
+                    awaitQuietly(release);
+                    return countedRun();
+                });
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> store.execute("1:upload", "key-1", () -> "files-a", this::countedRun)).isInstanceOfSatisfying(PhotoException.class,
+                    e -> assertThat(e.getReason()).isEqualTo(PhotoException.Reason.IDEMPOTENCY_IN_PROGRESS));
+        } finally {
+            release.countDown();
+        }
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("result-1");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 결과는 정리되고, 같은 키로 다시 실행한다")
+    void expiresCompletedResult() throws IOException {
+        ReflectionTestUtils.setField(store, "ttlMinutes", 0L);
+        store.execute("1:upload", "key-1", () -> "files-a", this::countedRun);
+
+        store.evictExpiredEntries();
+
+        assertThat(store.getStats()
+            .getEntryCount()).isZero();
+        assertThat(store.execute("1:upload", "key-1", () -> "files-b", this::countedRun)).isEqualTo("result-2");
+    }
+
+    private String countedRun() {
+        return "result-" + runs.incrementAndGet();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                .interrupt();
+        }
+    }
+}
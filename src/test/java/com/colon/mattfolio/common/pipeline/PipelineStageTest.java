@@ -0,0 +1,103 @@
+package com.colon.mattfolio.common.pipeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PipelineStageTest {
+
+    // 작업 스레드를 붙잡아 두는 작업이 기다리는 신호
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PipelineStage stage;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (stage != null) {
+            stage.shutdown(1000);
+        }
+    }
+
+    @Test
+    @DisplayName("큐가 offer-timeout 동안 가득 차 있으면 작업을 거절하고 거절 예외로 완료한다")
+    void rejectsWhenQueueStaysFull() throws Exception {
+        stage = new PipelineStage("test", 1, 1, 50);
+        stage.submit(this::holdWorker);
+        stage.submit(() -> "queued");
+
+        CompletableFuture<String> rejected = stage.submit(() -> "rejected");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected).failsWithin(0, TimeUnit.MILLISECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(RejectedExecutionException.class);
+
+        PipelineStageStats stats = stage.getStats();
+        assertThat(stats.getRejectedCount()).isEqualTo(1);
+        assertThat(stats.getBlockedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 넘기는 쪽이 기다리다가, 자리가 나면 작업을 넣는다 (backpressure)")
+    void waitsForQueueSpace() throws Exception {
+        stage = new PipelineStage("test", 1, 1, 5000);
+        stage.submit(this::holdWorker);
+        stage.submit(() -> "queued");
+
+        CompletableFuture<CompletableFuture<String>> submitted = CompletableFuture.supplyAsync(() -> stage.submit(() -> "waited"));
+        Thread.sleep(100);
+        assertThat(submitted).isNotDone();
+
+        release.countDown();
+
+        assertThat(submitted.get(5, TimeUnit.SECONDS)
+            .get(5, TimeUnit.SECONDS)).isEqualTo("waited");
+        PipelineStageStats stats = stage.getStats();
+        assertThat(stats.getBlockedCount()).isEqualTo(1);
+        assertThat(stats.getRejectedCount()).isZero();
+        assertThat(stats.getCompletedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("작업에서 발생한 예외는 결과를 예외로 완료하고 실패로 집계한다")
+    void completesExceptionallyOnTaskFailure() {
+        stage = new PipelineStage("test", 1, 1, 50);
+
+        CompletableFuture<String> failed = stage.submit(() -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(failed).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(stage.getStats()
+            .getFailedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료된 단계는 기다리지 않고 작업을 거절한다")
+    void rejectsAfterShutdown() {
+        stage = new PipelineStage("test", 1, 1, 5000);
+        stage.shutdown(1000);
+
+        CompletableFuture<String> rejected = stage.submit(() -> "late");
+
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(stage.getStats()
+            .getBlockedCount()).isZero();
+    }
+
+    private String holdWorker() throws InterruptedException {
+        release.await(5, TimeUnit.SECONDS);
+        return "held";
+    }
+}
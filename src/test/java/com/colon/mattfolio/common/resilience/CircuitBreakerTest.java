@@ -0,0 +1,137 @@
+package com.colon.mattfolio.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.colon.mattfolio.common.enumType.CircuitBreakerStateType;
+
+class CircuitBreakerTest {
+
+    @Test
+    @DisplayName("최소 호출 수를 채우고 실패율이 기준 이상이면 OPEN으로 전환되어 호출을 거절한다")
+    void opensAfterMinimumCallsAtThreshold() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 50, 10, 5, 60000, 2);
+
+        for (int i = 0; i < 4; i++) {
+            call(circuitBreaker, false);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.CLOSED);
+
+        call(circuitBreaker, false);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.OPEN);
+        assertThat(circuitBreaker.getOpenedCount()).isEqualTo(1);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+        assertThat(circuitBreaker.getNotPermittedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패율이 기준 미만이면 CLOSED를 유지한다")
+    void staysClosedBelowThreshold() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 50, 10, 5, 60000, 2);
+
+        for (int i = 0; i < 6; i++) {
+            call(circuitBreaker, true);
+        }
+        for (int i = 0; i < 4; i++) {
+            call(circuitBreaker, false);
+        }
+
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(40.0);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.CLOSED);
+    }
+
+    @Test
+    @DisplayName("슬라이딩 윈도우를 넘어선 오래된 결과는 실패율에서 빠진다")
+    void slidingWindowEvictsOldestResults() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 50, 4, 4, 60000, 2);
+
+        call(circuitBreaker, false);
+        call(circuitBreaker, false);
+        call(circuitBreaker, true);
+        call(circuitBreaker, true);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(50.0);
+
+        // 가장 오래된 실패 두 건이 성공/실패로 교체되어 4건 중 1건만 실패로 남음
+        call(circuitBreaker, true);
+        call(circuitBreaker, false);
+
+        assertThat(circuitBreaker.getBufferedCalls()).isEqualTo(4);
+        assertThat(circuitBreaker.getFailedCalls()).isEqualTo(1);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.CLOSED);
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 HALF_OPEN에서 정해진 수의 시험 호출만 허용하고, 모두 성공하면 CLOSED로 돌아간다")
+    void halfOpenClosesAfterSuccessfulTrials() {
+        CircuitBreaker circuitBreaker = opened(2);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.HALF_OPEN);
+        circuitBreaker.onSuccess();
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.CLOSED);
+        assertThat(circuitBreaker.getBufferedCalls()).isZero();
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN에서 시험 호출이 하나라도 실패하면 다시 OPEN으로 전환된다")
+    void halfOpenReopensOnFailure() {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 50, 4, 2, 60000, 2);
+        call(circuitBreaker, false);
+        call(circuitBreaker, false);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.OPEN);
+
+        // 차단 시간이 남아 있으면 HALF_OPEN으로 넘어가지 않음
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        CircuitBreaker expired = opened(2);
+        assertThat(expired.tryAcquirePermission()).isTrue();
+        expired.onError();
+
+        assertThat(expired.getState()).isEqualTo(CircuitBreakerStateType.OPEN);
+        assertThat(expired.getOpenedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("결과를 알 수 없는 시험 호출은 허가만 반환하여 다른 시험 호출을 허용한다")
+    void ignoredCallReleasesHalfOpenPermission() {
+        CircuitBreaker circuitBreaker = opened(1);
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onIgnored();
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.HALF_OPEN);
+    }
+
+    /**
+     * 차단 시간이 0인 OPEN 상태의 Circuit Breaker를 만듭니다. (다음 허가 요청에서 바로 HALF_OPEN으로 전환)
+     */
+    private CircuitBreaker opened(int halfOpenCalls) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker("test", 50, 4, 2, 0, halfOpenCalls);
+        call(circuitBreaker, false);
+        call(circuitBreaker, false);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateType.OPEN);
+        return circuitBreaker;
+    }
+
+    private void call(CircuitBreaker circuitBreaker, boolean success) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        if (success) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onError();
+        }
+    }
+}
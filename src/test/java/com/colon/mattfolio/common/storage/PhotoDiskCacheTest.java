@@ -0,0 +1,191 @@
+package com.colon.mattfolio.common.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.colon.mattfolio.common.enumType.BlobContainerType;
+
+class PhotoDiskCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PhotoStorage storage;
+
+    private PhotoDiskCache cache;
+
+    // 저장소에서 파일을 내려받은 횟수
+    private final AtomicInteger reads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        storage = mock(PhotoStorage.class);
+        // 요청한 길이만큼 키의 첫 글자로 채움
+        doAnswer(invocation -> {
+            reads.incrementAndGet();
+            String key = invocation.getArgument(1);
+            long length = invocation.getArgument(3);
+            OutputStream out = invocation.getArgument(4);
+            for (long i = 0; i < length; i++) {
+                out.write(key.charAt(0));
+            }
+            return null;
+        }).when(storage)
+            .read(any(), anyString(), anyLong(), anyLong(), any());
+
+        cache = newCache(300, 200, 60_000);
+    }
+
+    @Test
+    @DisplayName("처음 조회는 저장소에서 내려받아 채우고, 이후 조회는 캐시된 파일을 사용한다")
+    void fillsOnceThenHits() throws IOException {
+        StoredFileHandle first = cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(100), storage);
+        StoredFileHandle second = cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(100), storage);
+
+        assertThat(second.getLocalPath()).isEqualTo(first.getLocalPath());
+        assertThat(Files.size(first.getLocalPath())).isEqualTo(100);
+        assertThat(reads).hasValue(1);
+        assertThat(cache.getStats()
+            .getHitCount()).isEqualTo(1);
+        assertThat(cache.peek(BlobContainerType.PHOTOGRAPHER, "a")
+            .getETag()).isEqualTo("\"100\"");
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 파일부터 제거한다")
+    void evictsLeastRecentlyUsed() throws IOException {
+        cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(100), storage);
+        cache.get(BlobContainerType.PHOTOGRAPHER, "b", metadata(100), storage);
+        cache.get(BlobContainerType.PHOTOGRAPHER, "c", metadata(100), storage);
+        // a를 다시 사용하여 b가 가장 오래된 항목이 됨
+        cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(100), storage);
+
+        cache.get(BlobContainerType.PHOTOGRAPHER, "d", metadata(100), storage);
+
+        assertThat(cache.peek(BlobContainerType.PHOTOGRAPHER, "b")).isNull();
+        assertThat(cache.peek(BlobContainerType.PHOTOGRAPHER, "a")).isNotNull();
+        assertThat(cache.peek(BlobContainerType.PHOTOGRAPHER, "c")).isNotNull();
+        assertThat(cache.peek(BlobContainerType.PHOTOGRAPHER, "d")).isNotNull();
+
+        PhotoDiskCacheStats stats = cache.getStats();
+        assertThat(stats.getUsedBytes()).isEqualTo(300);
+        assertThat(stats.getEvictionCount()).isEqualTo(1);
+        assertThat(stats.getPendingDeletionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제거된 파일은 유예 시간이 지나기 전에는 정리해도 지우지 않는다")
+    void deletesEvictedFileOnlyAfterGracePeriod() throws IOException {
+        Path evicted = cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(200), storage)
+            .getLocalPath();
+        cache.get(BlobContainerType.PHOTOGRAPHER, "b", metadata(200), storage);
+
+        // 유예 시간 전에는 전송 중일 수 있으므로 지우지 않음
+        cache.sweepEvictedFiles();
+
+        assertThat(cache.peek(BlobContainerType.PHOTOGRAPHER, "a")).isNull();
+        assertThat(evicted).exists();
+        assertThat(cache.getStats()
+            .getPendingDeletionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 0이면 다음 정리에서 제거된 파일을 지운다")
+    void deletesEvictedFileWithoutGrace() throws IOException {
+        cache = newCache(300, 200, 0);
+        Path evicted = cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(200), storage)
+            .getLocalPath();
+        Path kept = cache.get(BlobContainerType.PHOTOGRAPHER, "b", metadata(200), storage)
+            .getLocalPath();
+
+        cache.sweepEvictedFiles();
+
+        assertThat(evicted).doesNotExist();
+        assertThat(kept).exists();
+        assertThat(cache.getStats()
+            .getPendingDeletionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 채운 파일은 삭제 대기 중인 이전 파일과 다른 경로를 사용한다")
+    void refillUsesNewPath() throws IOException {
+        cache = newCache(300, 200, 0);
+        Path previous = cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(100), storage)
+            .getLocalPath();
+        cache.invalidateAll();
+
+        Path refilled = cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(100), storage)
+            .getLocalPath();
+        cache.sweepEvictedFiles();
+
+        assertThat(refilled).isNotEqualTo(previous)
+            .exists();
+        assertThat(previous).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("파일 하나의 최대 크기를 넘는 파일은 캐시하지 않는다")
+    void bypassesLargeFiles() throws IOException {
+        assertThat(cache.get(BlobContainerType.PHOTOGRAPHER, "a", metadata(250), storage)).isNull();
+
+        assertThat(cache.getStats()
+            .getBypassCount()).isEqualTo(1);
+        verify(storage, times(0)).read(any(), anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("내려받은 크기가 메타데이터와 다르면 실패하고 임시 파일을 남기지 않는다")
+    void rejectsIncompleteFill() throws IOException {
+        doAnswer(invocation -> null).when(storage)
+            .read(any(), eq("short"), anyLong(), anyLong(), any());
+
+        assertThatThrownBy(() -> cache.get(BlobContainerType.PHOTOGRAPHER, "short", metadata(100), storage)).isInstanceOf(IOException.class);
+
+        assertThat(cache.peek(BlobContainerType.PHOTOGRAPHER, "short")).isNull();
+        assertThat(cache.getStats()
+            .getFillFailureCount()).isEqualTo(1);
+        try (var files = Files.walk(tempDir)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    private PhotoDiskCache newCache(long maxSizeBytes, long maxFileSizeBytes, long evictionGraceMillis) throws IOException {
+        PhotoDiskCache photoDiskCache = new PhotoDiskCache();
+        ReflectionTestUtils.setField(photoDiskCache, "enabled", true);
+        ReflectionTestUtils.setField(photoDiskCache, "cacheDir", tempDir.toString());
+        ReflectionTestUtils.setField(photoDiskCache, "maxSizeBytes", maxSizeBytes);
+        ReflectionTestUtils.setField(photoDiskCache, "maxFileSizeBytes", maxFileSizeBytes);
+        ReflectionTestUtils.setField(photoDiskCache, "evictionGraceMillis", evictionGraceMillis);
+        photoDiskCache.init();
+        return photoDiskCache;
+    }
+
+    private StoredFileMetadata metadata(long size) {
+        return StoredFileMetadata.builder()
+            .size(size)
+            .eTag("\"" + size + "\"")
+            .contentType("image/jpeg")
+            .lastModified(0)
+            .build();
+    }
+}
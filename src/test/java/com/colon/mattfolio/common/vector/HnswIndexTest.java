@@ -0,0 +1,189 @@
+package com.colon.mattfolio.common.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class HnswIndexTest {
+
+    private static final int DIMENSION = 32;
+
+    @Test
+    @DisplayName("등록된 벡터로 검색하면 자기 자신이 유사도 1로 가장 먼저 반환된다")
+    void searchReturnsExactMatchFirst() {
+        HnswIndex index = newIndex(2000);
+        List<float[]> vectors = addRandomVectors(index, 2000, new Random(1));
+
+        for (int i = 0; i < vectors.size(); i += 97) {
+            List<VectorSearchResult> results = index.search(vectors.get(i), 1);
+
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0)
+                .getLabel()).isEqualTo(label(i));
+            assertThat(results.get(0)
+                .getSimilarity()).isCloseTo(1f, offset(1e-4f));
+        }
+    }
+
+    @Test
+    @DisplayName("근사 검색 결과는 전수 비교 결과와 대부분 일치한다")
+    void searchRecallAgainstBruteForce() {
+        Random random = new Random(2);
+        HnswIndex index = newIndex(3000);
+        List<float[]> vectors = addRandomVectors(index, 3000, random);
+
+        int k = 10;
+        int hits = 0;
+        int queries = 50;
+        for (int q = 0; q < queries; q++) {
+            float[] query = randomVector(random);
+            Set<String> expected = bruteForce(vectors, query, k);
+            hits += (int) index.search(query, k)
+                .stream()
+                .filter(result -> expected.contains(result.getLabel()))
+                .count();
+        }
+
+        assertThat((double) hits / (queries * k)).isGreaterThanOrEqualTo(0.9);
+    }
+
+    @Test
+    @DisplayName("같은 라벨은 한 번만 등록된다")
+    void addRejectsDuplicateLabel() {
+        HnswIndex index = newIndex(10);
+
+        assertThat(index.add("a", randomVector(new Random(3)))).isTrue();
+        assertThat(index.add("a", randomVector(new Random(4)))).isFalse();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 삽입은 거절되고 라벨도 남지 않는다")
+    void addFailsBeyondCapacity() {
+        HnswIndex index = newIndex(2);
+        Random random = new Random(5);
+        index.add("a", randomVector(random));
+        index.add("b", randomVector(random));
+
+        assertThatThrownBy(() -> index.add("c", randomVector(random))).isInstanceOf(IllegalStateException.class);
+        assertThat(index.contains("c")).isFalse();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("차원이 다른 벡터는 거절된다")
+    void addRejectsWrongDimension() {
+        HnswIndex index = newIndex(10);
+
+        assertThatThrownBy(() -> index.add("a", new float[DIMENSION + 1])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("첫 블록(1024개)을 넘어 등록된 벡터도 정규화된 값으로 조회된다")
+    void getVectorAcrossBlocks() {
+        HnswIndex index = newIndex(1500);
+        List<float[]> vectors = addRandomVectors(index, 1500, new Random(6));
+
+        for (int i : new int[] { 0, 1023, 1024, 1499 }) {
+            float[] stored = index.getVector(label(i));
+            float[] expected = normalize(vectors.get(i));
+
+            assertThat(stored).containsExactly(expected, offset(1e-6f));
+        }
+        assertThat(index.getVector("missing")).isNull();
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 뒤 복원하면 같은 검색 결과를 반환한다")
+    void saveAndLoad(@TempDir Path directory) throws IOException {
+        Random random = new Random(7);
+        HnswIndex index = newIndex(500);
+        addRandomVectors(index, 500, random);
+        Path snapshot = directory.resolve("index.hnsw");
+
+        index.save(snapshot);
+        HnswIndex loaded = HnswIndex.load(snapshot, 1000, 64);
+
+        assertThat(loaded.getModel()).isEqualTo("test-model");
+        assertThat(loaded.size()).isEqualTo(500);
+        assertThat(loaded.getMaxElements()).isEqualTo(1000);
+        for (int q = 0; q < 20; q++) {
+            float[] query = randomVector(random);
+            assertThat(labels(loaded.search(query, 5))).isEqualTo(labels(index.search(query, 5)));
+        }
+        assertThat(loaded.add("new", randomVector(random))).isTrue();
+    }
+
+    private HnswIndex newIndex(int maxElements) {
+        return new HnswIndex("test-model", DIMENSION, maxElements, 16, 200, 64);
+    }
+
+    private List<float[]> addRandomVectors(HnswIndex index, int count, Random random) {
+        List<float[]> vectors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float[] vector = randomVector(random);
+            index.add(label(i), vector);
+            vectors.add(vector);
+        }
+        return vectors;
+    }
+
+    private Set<String> bruteForce(List<float[]> vectors, float[] query, int k) {
+        float[] normalizedQuery = normalize(query);
+        return IntStream.range(0, vectors.size())
+            .boxed()
+            .sorted(Comparator.comparingDouble(i -> -dot(normalize(vectors.get(i)), normalizedQuery)))
+            .limit(k)
+            .map(HnswIndexTest::label)
+            .collect(Collectors.toSet());
+    }
+
+    private List<String> labels(List<VectorSearchResult> results) {
+        return results.stream()
+            .map(VectorSearchResult::getLabel)
+            .toList();
+    }
+
+    private static String label(int i) {
+        return "v" + i;
+    }
+
+    private float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+
+    private float[] normalize(float[] vector) {
+        double norm = Math.sqrt(dot(vector, vector));
+        float[] normalized = new float[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    private double dot(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+}
@@ -0,0 +1,118 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.colon.mattfolio.external.faceApi.dto.GroupResponse;
+
+import reactor.core.publisher.Mono;
+
+class ChunkedFaceGrouperTest {
+
+    // Group 요청별로 전달된 얼굴 ID 목록
+    private final List<List<String>> requests = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    @DisplayName("한 청크 이하이면 null과 중복을 제외하고 Group API를 한 번만 호출한다")
+    void singleChunkPassesThrough() {
+        ChunkedFaceGrouper grouper = new ChunkedFaceGrouper(this::groupByPerson, 4, 2, 5);
+
+        GroupResponse response = grouper.group(Arrays.asList("a0", null, "b0", "a1", "a0"))
+            .block(Duration.ofSeconds(1));
+
+        assertThat(requests).containsExactly(List.of("a0", "b0", "a1"));
+        assertThat(response.getGroups()).containsExactly(List.of("a0", "a1"));
+        assertThat(response.getMessyGroup()).containsExactly("b0");
+    }
+
+    @Test
+    @DisplayName("유효한 얼굴 ID가 없으면 Group API를 호출하지 않고 빈 결과를 반환한다")
+    void emptyWithoutFaceIds() {
+        ChunkedFaceGrouper grouper = new ChunkedFaceGrouper(this::groupByPerson, 4, 2, 5);
+
+        assertThat(grouper.group(Arrays.asList(null, null))
+            .block(Duration.ofSeconds(1))).isNull();
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    @DisplayName("청크 경계로 나뉜 같은 인물은 대표 얼굴 비교 라운드에서 하나의 그룹으로 합쳐진다")
+    void mergesAcrossChunksThroughRepresentatives() {
+        ChunkedFaceGrouper grouper = new ChunkedFaceGrouper(this::groupByPerson, 4, 2, 5);
+
+        GroupResponse response = grouper.group(List.of("a0", "b0", "a1", "b1", "a2", "b2"))
+            .block(Duration.ofSeconds(1));
+
+        assertThat(response.getGroups()).containsExactlyInAnyOrder(List.of("a0", "a1", "a2"), List.of("b0", "b1", "b2"));
+        assertThat(response.getMessyGroup()).isEmpty();
+        // 1라운드 2청크 + 2라운드 대표 4개 1청크
+        assertThat(requests).hasSize(3);
+        assertThat(requests).allSatisfy(request -> assertThat(request).hasSizeLessThanOrEqualTo(4));
+    }
+
+    @Test
+    @DisplayName("라운드 한도에 도달하면 더 합치지 않고, 합쳐지지 않은 얼굴은 분류되지 않은 얼굴로 반환한다")
+    void stopsAtMaxRounds() {
+        ChunkedFaceGrouper grouper = new ChunkedFaceGrouper(this::groupByPerson, 4, 2, 1);
+
+        GroupResponse response = grouper.group(List.of("a0", "b0", "a1", "b1", "a2", "b2"))
+            .block(Duration.ofSeconds(1));
+
+        assertThat(response.getGroups()).containsExactlyInAnyOrder(List.of("a0", "a1"), List.of("b0", "b1"));
+        assertThat(response.getMessyGroup()).containsExactly("a2", "b2");
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("청크 크기는 Azure 한도(1000)를 넘지 않는다")
+    void chunkSizeCappedAtApiLimit() {
+        ChunkedFaceGrouper grouper = new ChunkedFaceGrouper(this::groupByPerson, 5000, 4, 1);
+        List<String> faceIds = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            faceIds.add("x" + i);
+        }
+
+        grouper.group(faceIds)
+            .block(Duration.ofSeconds(5));
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests).allSatisfy(request -> assertThat(request).hasSizeLessThanOrEqualTo(ChunkedFaceGrouper.GROUP_API_LIMIT));
+    }
+
+    /**
+     * 얼굴 ID의 첫 글자를 인물로 보고 그룹화하는 가짜 Group API (2개 이상인 인물만 그룹)
+     */
+    private Mono<GroupResponse> groupByPerson(List<String> faceIds) {
+        requests.add(List.copyOf(faceIds));
+
+        Map<Character, List<String>> byPerson = new LinkedHashMap<>();
+        for (String faceId : faceIds) {
+            byPerson.computeIfAbsent(faceId.charAt(0), key -> new ArrayList<>())
+                .add(faceId);
+        }
+
+        GroupResponse response = new GroupResponse();
+        response.setGroups(new ArrayList<>());
+        response.setMessyGroup(new ArrayList<>());
+        for (List<String> members : byPerson.values()) {
+            if (members.size() > 1) {
+                response.getGroups()
+                    .add(members);
+            } else {
+                response.getMessyGroup()
+                    .addAll(members);
+            }
+        }
+        return Mono.just(response);
+    }
+}
@@ -0,0 +1,160 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.colon.mattfolio.common.exception.ExternalApiException;
+import com.colon.mattfolio.common.property.Message;
+import com.colon.mattfolio.external.faceApi.dto.FaceApiRateLimiterStats;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class FaceApiRateLimiterTest {
+
+    @BeforeAll
+    static void setUpMessages() {
+        Message.setMessageSourceAccessor(new MessageSourceAccessor(new StaticMessageSource()));
+    }
+
+    @Test
+    @DisplayName("burst개까지는 기다리지 않고 통과하고, 이후 요청은 토큰이 채워질 때까지 기다린다")
+    void burstThenRefill() {
+        FaceApiRateLimiter limiter = newLimiter(20, 3, 100, 5000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.execute(() -> Mono.just("ok"))
+                .block(Duration.ofMillis(100))).isEqualTo("ok");
+        }
+
+        long started = System.nanoTime();
+        assertThat(limiter.execute(() -> Mono.just("ok"))
+            .block(Duration.ofSeconds(2))).isEqualTo("ok");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(30));
+
+        FaceApiRateLimiterStats stats = limiter.getStats();
+        assertThat(stats.getAcquiredCount()).isEqualTo(4);
+        assertThat(stats.getWaitedCount()).isEqualTo(1);
+        assertThat(stats.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 새 요청은 기다리지 않고 거절된다")
+    void rejectsWhenQueueFull() {
+        FaceApiRateLimiter limiter = newLimiter(0.1, 1, 1, 60000);
+        limiter.execute(() -> Mono.just("first"))
+            .block(Duration.ofMillis(100));
+        Disposable waiting = limiter.execute(() -> Mono.just("second"))
+            .subscribe();
+
+        assertThatThrownBy(() -> limiter.execute(() -> Mono.just("third"))
+            .block(Duration.ofMillis(100))).isInstanceOfSatisfying(ExternalApiException.class,
+                    e -> assertThat(e.getReason()).isEqualTo(ExternalApiException.Reason.RATE_LIMIT_QUEUE_FULL));
+        assertThat(limiter.getStats()
+            .getRejectedCount()).isEqualTo(1);
+
+        waiting.dispose();
+    }
+
+    @Test
+    @DisplayName("구독을 취소한 요청은 즉시 대기열에서 제외된다")
+    void cancelRemovesWaiter() {
+        FaceApiRateLimiter limiter = newLimiter(0.1, 1, 10, 60000);
+        limiter.execute(() -> Mono.just("first"))
+            .block(Duration.ofMillis(100));
+
+        Disposable second = limiter.execute(() -> Mono.just("second"))
+            .subscribe();
+        Disposable third = limiter.execute(() -> Mono.just("third"))
+            .subscribe();
+        assertThat(limiter.getStats()
+            .getQueueDepth()).isEqualTo(2);
+
+        // 대기열 맨 앞이 아닌 요청도 취소하면 바로 제외
+        third.dispose();
+        assertThat(limiter.getStats()
+            .getQueueDepth()).isEqualTo(1);
+
+        second.dispose();
+        assertThat(limiter.getStats()
+            .getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 안에 토큰을 얻지 못하면 대기열에서 제외되고 거절된다")
+    void timesOutWaiting() {
+        FaceApiRateLimiter limiter = newLimiter(0.1, 1, 10, 100);
+        limiter.execute(() -> Mono.just("first"))
+            .block(Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> limiter.execute(() -> Mono.just("second"))
+            .block(Duration.ofSeconds(2))).isInstanceOfSatisfying(ExternalApiException.class,
+                    e -> assertThat(e.getReason()).isEqualTo(ExternalApiException.Reason.RATE_LIMIT_TIMEOUT));
+
+        FaceApiRateLimiterStats stats = limiter.getStats();
+        assertThat(stats.getQueueDepth()).isZero();
+        assertThat(stats.getTimedOutCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("429 응답을 받으면 Retry-After 후 다시 시도한다")
+    void retriesAfterTooManyRequests() {
+        FaceApiRateLimiter limiter = newLimiter(20, 1, 10, 5000);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = limiter.execute(() -> calls.incrementAndGet() == 1 ? Mono.error(tooManyRequests("0")) : Mono.just("ok"))
+            .block(Duration.ofSeconds(2));
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(limiter.getStats()
+            .getThrottledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘긴 429 응답은 그대로 전달된다")
+    void givesUpAfterMaxRetries() {
+        FaceApiRateLimiter limiter = newLimiter(100, 1, 10, 5000);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> limiter.execute(() -> {
+            calls.incrementAndGet();
+            return Mono.error(tooManyRequests("0"));
+        })
+            .block(Duration.ofSeconds(2))).isInstanceOf(WebClientResponseException.TooManyRequests.class);
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    private FaceApiRateLimiter newLimiter(double permitsPerSecond, int burst, int maxQueueDepth, long maxWaitMillis) {
+        FaceApiRateLimiter limiter = new FaceApiRateLimiter();
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "permitsPerSecond", permitsPerSecond);
+        ReflectionTestUtils.setField(limiter, "burst", burst);
+        ReflectionTestUtils.setField(limiter, "maxRetries", 3);
+        ReflectionTestUtils.setField(limiter, "defaultRetryAfterMs", 1000L);
+        ReflectionTestUtils.setField(limiter, "maxQueueDepth", maxQueueDepth);
+        ReflectionTestUtils.setField(limiter, "maxWaitMillis", maxWaitMillis);
+        limiter.init();
+        return limiter;
+    }
+
+    private WebClientResponseException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.colon.mattfolio.external.faceApi.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.colon.mattfolio.common.enumType.ExternalApiType;
+import com.colon.mattfolio.common.enumType.ExternalDependencyType;
+import com.colon.mattfolio.common.http.WebClientRegistry;
+import com.colon.mattfolio.common.resilience.ResilienceRegistry;
+import com.colon.mattfolio.external.faceApi.dto.FaceRectangle;
+
+import reactor.core.publisher.Mono;
+
+class RemoteFaceFeatureExtractorTest {
+
+    // 모델 서버로 전송된 요청
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    @Test
+    @DisplayName("얼굴 영역을 모델 서버로 보내고, 응답 벡터를 L2 정규화하여 반환한다")
+    void extractsNormalizedEmbedding() {
+        RemoteFaceFeatureExtractor extractor = extractor("{\"embedding\":[3.0,0.0,4.0,0.0]}");
+
+        float[] embedding = extractor.extract(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), face(10, 10, 30, 30));
+
+        assertThat(embedding).containsExactly(new float[] { 0.6f, 0f, 0.8f, 0f }, Offset.offset(1e-5f));
+        assertThat(requests).singleElement()
+            .satisfies(request -> {
+                assertThat(request.method()).isEqualTo(HttpMethod.POST);
+                assertThat(request.headers()
+                    .getContentType()).isEqualTo(MediaType.IMAGE_PNG);
+            });
+        assertThat(extractor.isIdentityModel()).isTrue();
+    }
+
+    @Test
+    @DisplayName("응답 벡터의 차원이 설정과 다르면 예외를 던진다")
+    void rejectsUnexpectedDimension() {
+        RemoteFaceFeatureExtractor extractor = extractor("{\"embedding\":[1.0,2.0]}");
+
+        assertThatThrownBy(() -> extractor.extract(new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB), face(0, 0, 64, 64))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("이미지 밖으로 벗어나는 얼굴 영역도 이미지 안으로 잘라 추출한다")
+    void clampsFaceToImage() {
+        RemoteFaceFeatureExtractor extractor = extractor("{\"embedding\":[1.0,1.0,1.0,1.0]}");
+
+        float[] embedding = extractor.extract(new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB), face(20, 20, 40, 40));
+
+        assertThat(embedding).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("URL 없이 사용하도록 설정하면 시작 시 실패한다")
+    void requiresUrl() {
+        RemoteFaceFeatureExtractor extractor = extractor("{}");
+        ReflectionTestUtils.setField(extractor, "url", " ");
+
+        assertThatThrownBy(extractor::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RemoteFaceFeatureExtractor extractor(String responseBody) {
+        WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                requests.add(request);
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(responseBody)
+                    .build());
+            })
+            .build();
+
+        WebClientRegistry webClientRegistry = mock(WebClientRegistry.class);
+        when(webClientRegistry.get(ExternalApiType.FACE_EMBEDDING)).thenReturn(webClient);
+
+        // 장애 격리는 호출을 그대로 통과시킴
+        ResilienceRegistry resilienceRegistry = mock(ResilienceRegistry.class);
+        when(resilienceRegistry.decorate(eq(ExternalDependencyType.FACE_EMBEDDING), eq(true), any(Supplier.class))).thenAnswer(invocation -> invocation.<Supplier<Mono<?>>>getArgument(2)
+            .get());
+
+        RemoteFaceFeatureExtractor extractor = new RemoteFaceFeatureExtractor(webClientRegistry, resilienceRegistry);
+        ReflectionTestUtils.setField(extractor, "url", "http://face-embedding.local/embed");
+        ReflectionTestUtils.setField(extractor, "model", "arcface-test");
+        ReflectionTestUtils.setField(extractor, "dimension", 4);
+        ReflectionTestUtils.setField(extractor, "inputSize", 16);
+        ReflectionTestUtils.setField(extractor, "margin", 0.2);
+        ReflectionTestUtils.setField(extractor, "timeoutMillis", 1000L);
+        return extractor;
+    }
+
+    private FaceRectangle face(int left, int top, int width, int height) {
+        FaceRectangle face = new FaceRectangle();
+        face.setLeft(left);
+        face.setTop(top);
+        face.setWidth(width);
+        face.setHeight(height);
+        return face;
+    }
+}